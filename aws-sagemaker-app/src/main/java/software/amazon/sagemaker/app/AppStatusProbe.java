@@ -0,0 +1,46 @@
+package software.amazon.sagemaker.app;
+
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.AppStatus;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Reads the status of an app for the stabilizers of the Create and Delete handlers.
+ */
+interface AppStatusProbe {
+
+    /**
+     * Describes the app on every call.
+     */
+    AppStatusProbe DESCRIBE = new AppStatusProbe() {
+        @Override
+        public AppStatus status(final ResourceHandlerRequest<ResourceModel> request, final ResourceModel model,
+                                final ProxyClient<SageMakerClient> proxyClient) {
+            return proxyClient.injectCredentialsAndInvokeV2(TranslatorForRequest.translateToReadRequest(model),
+                    proxyClient.client()::describeApp).status();
+        }
+
+        @Override
+        public void changed(final ResourceHandlerRequest<ResourceModel> request, final ResourceModel model) {
+        }
+    };
+
+    /**
+     * @param request handler request, scoping the status to the account and region of the caller
+     * @param model resource model identifying the app
+     * @param proxyClient the aws service client to make the calls
+     * @return the status of the app
+     * @throws software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException if the app does not exist
+     */
+    AppStatus status(ResourceHandlerRequest<ResourceModel> request, ResourceModel model,
+                     ProxyClient<SageMakerClient> proxyClient);
+
+    /**
+     * Tells the probe that the handler changed the app, so statuses read before the change are not returned.
+     *
+     * @param request handler request
+     * @param model resource model identifying the app
+     */
+    void changed(ResourceHandlerRequest<ResourceModel> request, ResourceModel model);
+}
@@ -0,0 +1,147 @@
+package software.amazon.sagemaker.app;
+
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.AppDetails;
+import software.amazon.awssdk.services.sagemaker.model.AppStatus;
+import software.amazon.awssdk.services.sagemaker.model.ListAppsResponse;
+import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reads app statuses from snapshots of all apps of a user profile, built from paged ListApps results. The snapshots
+ * are shared by the handlers of a process and refreshed at most once per refresh interval, so apps of one user
+ * profile that stabilize together cost a ListApps page walk per interval instead of a DescribeApp call per app and
+ * poll. A snapshot taken before a handler changed one of the apps is not used any more.
+ *
+ * <p>ListApps keeps the Deleted record of an app for about a day, so an app created again under the same name is
+ * listed twice. The snapshot keeps the newest record of every name.
+ */
+final class AppStatusSnapshot implements AppStatusProbe {
+
+    static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
+    /**
+     * Snapshots shared by the Create and Delete handlers of this process.
+     */
+    static final AppStatusSnapshot SHARED = new AppStatusSnapshot(DEFAULT_REFRESH_INTERVAL, Clock.systemUTC());
+
+    private final Duration refreshInterval;
+    private final Clock clock;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final Map<String, Scope> scopes = new ConcurrentHashMap<>();
+
+    AppStatusSnapshot(final Duration refreshInterval, final Clock clock) {
+        this.refreshInterval = refreshInterval;
+        this.clock = clock;
+    }
+
+    @Override
+    public AppStatus status(final ResourceHandlerRequest<ResourceModel> request, final ResourceModel model,
+                            final ProxyClient<SageMakerClient> proxyClient) {
+        final AppStatus status = scope(request, model).statuses(model, proxyClient)
+                .get(appKey(model.getAppType(), model.getAppName()));
+        if (status == null) {
+            throw ResourceNotFoundException.builder()
+                    .message(String.format("App %s of %s does not exist.", model.getAppName(),
+                            model.getUserProfileName()))
+                    .build();
+        }
+        return status;
+    }
+
+    @Override
+    public void changed(final ResourceHandlerRequest<ResourceModel> request, final ResourceModel model) {
+        scope(request, model).changedSequence = sequence.incrementAndGet();
+    }
+
+    /**
+     * @return the number of snapshots taken, each of them a ListApps page walk
+     */
+    long getRefreshes() {
+        return refreshes.get();
+    }
+
+    private Scope scope(final ResourceHandlerRequest<ResourceModel> request, final ResourceModel model) {
+        final String key = String.join("|", String.valueOf(request.getAwsAccountId()),
+                String.valueOf(request.getRegion()), model.getDomainId(), model.getUserProfileName());
+        return scopes.computeIfAbsent(key, k -> new Scope());
+    }
+
+    /**
+     * Picks the newer of two records of the same app, the one listed first when their creation times tie, as
+     * ListApps returns the newest apps first.
+     */
+    private static AppDetails newer(final AppDetails listed, final AppDetails other) {
+        if (other.creationTime() != null
+                && (listed.creationTime() == null || other.creationTime().isAfter(listed.creationTime()))) {
+            return other;
+        }
+        return listed;
+    }
+
+    private static String appKey(final String appType, final String appName) {
+        return appType + "/" + appName;
+    }
+
+    /**
+     * Apps of one user profile in one account and region.
+     */
+    private final class Scope {
+
+        private volatile Snapshot snapshot;
+        private volatile long changedSequence;
+
+        // Callers arriving during a refresh wait for it and read its result
+        synchronized Map<String, AppStatus> statuses(final ResourceModel model,
+                                                     final ProxyClient<SageMakerClient> proxyClient) {
+            final long now = clock.millis();
+            final Snapshot current = snapshot;
+            if (current != null && current.sequence > changedSequence
+                    && now - current.takenAtMillis < refreshInterval.toMillis()) {
+                return current.statuses;
+            }
+
+            final long snapshotSequence = sequence.incrementAndGet();
+            final Map<String, AppDetails> newest = new HashMap<>();
+            String nextToken = null;
+            do {
+                final ListAppsResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                        TranslatorForRequest.translateToListRequest(model, nextToken),
+                        proxyClient.client()::listApps);
+                Translator.streamOfOrEmpty(response.apps())
+                        .forEach(app -> newest.merge(appKey(app.appTypeAsString(), app.appName()), app,
+                                AppStatusSnapshot::newer));
+                nextToken = response.nextToken();
+            } while (nextToken != null);
+            refreshes.incrementAndGet();
+
+            final Map<String, AppStatus> statuses = new HashMap<>();
+            newest.forEach((key, app) -> statuses.put(key, app.status()));
+
+            snapshot = new Snapshot(statuses, snapshotSequence, now);
+            return statuses;
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final Map<String, AppStatus> statuses;
+        private final long sequence;
+        private final long takenAtMillis;
+
+        private Snapshot(final Map<String, AppStatus> statuses, final long sequence, final long takenAtMillis) {
+            this.statuses = statuses;
+            this.sequence = sequence;
+            this.takenAtMillis = takenAtMillis;
+        }
+    }
+}
@@ -14,13 +14,28 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 public class CreateHandler extends BaseHandlerStd {
 
     private static final String OPERATION = "AWS-SageMaker-App::Create";
     private static final String READ_ONLY_PROPERTY_ERROR_MESSAGE = "The following property '%s' is not allowed to configured.";
 
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
+    private final AppStatusProbe appStatusProbe;
+
     private Logger logger;
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    public CreateHandler() {
+        this(AppStatusSnapshot.SHARED);
+    }
+
+    CreateHandler(final AppStatusProbe appStatusProbe) {
+        this.appStatusProbe = appStatusProbe;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -30,6 +45,7 @@ public class CreateHandler extends BaseHandlerStd {
             final Logger logger) {
 
         this.logger = logger;
+        this.request = request;
 
         final ResourceModel model = request.getDesiredResourceState();
 
@@ -43,11 +59,14 @@ public class CreateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
-                        proxy.initiate(OPERATION, proxyClient, model, callbackContext)
-                                .translateToServiceRequest(TranslatorForRequest::translateToCreateRequest)
-                                .makeServiceCall(this::createResource)
-                                .stabilize(this::stabilizedOnCreate)
-                                .done(createResponse -> constructResourceModelFromResponse(model, createResponse))
+                        StabilizationMetrics.emf(logger).track(OPERATION,
+                                callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(TranslatorForRequest::translateToCreateRequest)
+                                    .makeServiceCall(this::createResource)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnCreate))
+                                    .done(createResponse -> constructResourceModelFromResponse(model, createResponse)))
                 );
     }
 
@@ -65,6 +84,7 @@ public class CreateHandler extends BaseHandlerStd {
         try {
             response = proxyClient.injectCredentialsAndInvokeV2(
                     createRequest, proxyClient.client()::createApp);
+            appStatusProbe.changed(request, request.getDesiredResourceState());
         } catch (final AwsServiceException e) {
             Translator.throwCfnException(Action.CREATE.toString(), ResourceModel.TYPE_NAME, createRequest.appName(), e);
         }
@@ -94,13 +114,12 @@ public class CreateHandler extends BaseHandlerStd {
 
         final AppStatus AppStatus;
         try {
-            AppStatus = proxyClient.injectCredentialsAndInvokeV2(
-                    TranslatorForRequest.translateToReadRequest(model),
-                    proxyClient.client()::describeApp).status();
+            AppStatus = appStatusProbe.status(request, model, proxyClient);
         } catch (ResourceNotFoundException rnfe) {
             logger.log(String.format("Resource not found for %s, stabilizing.", model.getPrimaryIdentifier()));
             return false;
         }
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), AppStatus.toString());
 
         switch (AppStatus) {
             case IN_SERVICE:
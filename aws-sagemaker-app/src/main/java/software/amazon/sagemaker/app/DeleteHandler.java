@@ -4,26 +4,53 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
 import software.amazon.awssdk.services.sagemaker.model.AppStatus;
 import software.amazon.awssdk.services.sagemaker.model.DeleteAppRequest;
-import software.amazon.awssdk.services.sagemaker.model.DeleteAppResponse;
-import software.amazon.awssdk.services.sagemaker.model.DescribeAppRequest;
 import software.amazon.awssdk.services.sagemaker.model.ResourceInUseException;
 import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
 import software.amazon.cloudformation.Action;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.BackoffProfile;
+import software.amazon.sagemaker.common.StabilizationHistory;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
+
+import java.time.Duration;
 
 public class DeleteHandler extends BaseHandlerStd {
 
     private static final String OPERATION = "AWS-SageMaker-App::Delete";
 
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder()
+            .profile(AppStatus.PENDING.toString(), BackoffProfile.SHORT_POLL)
+            .profile(AppStatus.DELETING.toString(), BackoffProfile.LONG_POLL)
+            .build();
+
+    private final AppStatusProbe appStatusProbe;
+    private final StabilizationScheduler stabilizationScheduler;
+
     private Logger logger;
+    private ResourceHandlerRequest<ResourceModel> request;
+
+    public DeleteHandler() {
+        this(AppStatusSnapshot.SHARED);
+    }
+
+    DeleteHandler(final AppStatusProbe appStatusProbe) {
+        this(appStatusProbe, STABILIZATION_SCHEDULER);
+    }
+
+    DeleteHandler(final AppStatusProbe appStatusProbe, final StabilizationScheduler stabilizationScheduler) {
+        this.appStatusProbe = appStatusProbe;
+        this.stabilizationScheduler = stabilizationScheduler;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -33,49 +60,109 @@ public class DeleteHandler extends BaseHandlerStd {
             final Logger logger) {
 
         this.logger = logger;
+        this.request = request;
 
         final ResourceModel model = request.getDesiredResourceState();
 
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress ->
-                        proxy.initiate(OPERATION, proxyClient, model, callbackContext)
-                                .translateToServiceRequest(TranslatorForRequest::translateToDeleteRequest)
-                                .makeServiceCall((_awsRequest, _proxyClient) ->
-                                        deleteResource(TranslatorForRequest.translateToReadRequest(model), _awsRequest, _proxyClient))
-                                .stabilize(this::stabilizedOnDelete)
-                                .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                        .status(OperationStatus.SUCCESS)
-                                        .build()));
+                .then(progress -> StabilizationMetrics.emf(logger).track(OPERATION,
+                        callbackContext.getStabilizationHistory(), () -> deleteStep(proxyClient, progress)));
     }
 
     /**
-     * Client invocation of the delete request through the proxyClient.
+     * One step of the deletion. A single status read decides whether the app is deleted, waited for or done, and
+     * the statuses seen by earlier steps, kept in the callback context, tell an app that is gone after this
+     * operation saw it apart from one that never existed.
      *
-     * @param deleteRequest the aws service delete resource request
+     * @param proxyClient the aws service client to make the calls
+     * @param progress event of the preceding step
+     * @return progressEvent indicating success, or waiting for a callback
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> deleteStep(
+            final ProxyClient<SageMakerClient> proxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        final StabilizationHistory history = callbackContext.getStabilizationHistory();
+        final boolean seen = history.getStatus() != null;
+
+        final AppStatus status = readStatus(model, proxyClient, history);
+        switch (status) {
+            case DELETED:
+                // Deleted Apps stay present for 24 hours with a Deleted status.
+                // Deleted resources are expected to throw CfnNotFoundException.
+                if (!seen) {
+                    throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getAppName());
+                }
+                stabilizationScheduler.complete(history);
+                logger.log(String.format("%s with name [%s] is stabilized.",
+                        ResourceModel.TYPE_NAME, model.getPrimaryIdentifier()));
+                return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                        .status(OperationStatus.SUCCESS)
+                        .build();
+            case FAILED:
+                if (!seen) {
+                    throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getAppName());
+                }
+                throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getAppName());
+            case IN_SERVICE:
+                stabilizationScheduler.observe(history, status.toString());
+                deleteResource(TranslatorForRequest.translateToDeleteRequest(model), proxyClient);
+                // the app is Deleting once DeleteApp returns, the first poll waits as long as that status lasts
+                stabilizationScheduler.observe(history, AppStatus.DELETING.toString());
+                return waitForStatus(model, callbackContext);
+            case PENDING:
+            case DELETING:
+                stabilizationScheduler.observe(history, status.toString());
+                logger.log(String.format("%s with name [%s] is stabilizing while delete, status %s.",
+                        ResourceModel.TYPE_NAME, model.getPrimaryIdentifier(), status));
+                return waitForStatus(model, callbackContext);
+            default:
+                throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getAppName());
+        }
+    }
+
+    /**
+     * Reads the status of the app, an app that no longer exists reads as Deleted.
+     *
+     * @param model resource model
      * @param proxyClient the aws service client to make the call
-     * @return delete resource response
+     * @param history stabilization history counting throttled reads
+     * @return status of the app
      */
-    private DeleteAppResponse deleteResource(
-            final DescribeAppRequest describeRequest,
-            final DeleteAppRequest deleteRequest,
-            final ProxyClient<SageMakerClient> proxyClient) {
-        AppStatus appStatus = null;
+    private AppStatus readStatus(
+            final ResourceModel model,
+            final ProxyClient<SageMakerClient> proxyClient,
+            final StabilizationHistory history) {
         try {
-            appStatus = proxyClient.injectCredentialsAndInvokeV2(describeRequest, proxyClient.client()::describeApp).status();
+            return appStatusProbe.status(request, model, proxyClient);
+        } catch (final ResourceNotFoundException e) {
+            return AppStatus.DELETED;
+        } catch (final CfnThrottlingException e) {
+            // the rate limited proxy client surfaces throttles of the service as well
+            history.setThrottledCalls(history.getThrottledCalls() + 1);
+            throw e;
         } catch (final AwsServiceException e) {
-            Translator.throwCfnException(Action.READ.toString(), ResourceModel.TYPE_NAME,
-                    deleteRequest.appName(), e);
-        }
-
-        // Deleted Apps stay present for 24 hours with a Deleted status.
-        // Deleted resources are expected to throw CfnNotFoundException.
-        if (appStatus.equals(AppStatus.DELETED) || appStatus.equals(AppStatus.FAILED)) {
-            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, deleteRequest.appName());
+            if (e.isThrottlingException()) {
+                history.setThrottledCalls(history.getThrottledCalls() + 1);
+            }
+            throw Translator.getCfnException(Action.DELETE.toString(), ResourceModel.TYPE_NAME,
+                    model.getAppName(), e);
         }
+    }
 
-        DeleteAppResponse response = null;
+    /**
+     * Client invocation of the delete request through the proxyClient.
+     *
+     * @param deleteRequest the aws service delete resource request
+     * @param proxyClient the aws service client to make the call
+     */
+    private void deleteResource(
+            final DeleteAppRequest deleteRequest,
+            final ProxyClient<SageMakerClient> proxyClient) {
         try {
-            response = proxyClient.injectCredentialsAndInvokeV2(deleteRequest, proxyClient.client()::deleteApp);
+            proxyClient.injectCredentialsAndInvokeV2(deleteRequest, proxyClient.client()::deleteApp);
+            appStatusProbe.changed(request, request.getDesiredResourceState());
         } catch (final ResourceInUseException riue) {
             // ResourceInUseException is handled differently for deletes
             final String primaryIdentifier = String.format("%s|%s|%s|%s",
@@ -88,45 +175,23 @@ public class DeleteHandler extends BaseHandlerStd {
             Translator.throwCfnException(Action.DELETE.toString(), ResourceModel.TYPE_NAME,
                     deleteRequest.appName(), e);
         }
-
-        return response;
     }
 
     /**
-     * Ensure resource has moved from pending to terminal state.
+     * Asks for a callback after the backoff of the last observed status.
      *
-     * @param awsRequest the aws service delete resource request
-     * @param awsResponse the aws service delete resource response
-     * @param proxyClient the aws service client to make the call
      * @param model resource model
-     * @param callbackContext callback context
-     * @return boolean to indicate if the deletion is stabilized
+     * @param callbackContext callback context carrying the stabilization history
+     * @return progressEvent waiting for a callback
      */
-    private boolean stabilizedOnDelete(
-            final DeleteAppRequest awsRequest,
-            final DeleteAppResponse awsResponse,
-            final ProxyClient<SageMakerClient> proxyClient,
+    private ProgressEvent<ResourceModel, CallbackContext> waitForStatus(
             final ResourceModel model,
             final CallbackContext callbackContext) {
-        try {
-            final AppStatus AppStatus =
-                    proxyClient.injectCredentialsAndInvokeV2(TranslatorForRequest.translateToReadRequest(model),
-                            proxyClient.client()::describeApp).status();
-
-            switch (AppStatus) {
-                case DELETED:
-                    logger.log(String.format("%s with name [%s] is stabilized.",
-                            ResourceModel.TYPE_NAME, model.getPrimaryIdentifier()));
-                    return true;
-                case DELETING:
-                    logger.log(String.format("%s with name [%s] is stabilizing while delete.",
-                            ResourceModel.TYPE_NAME, model.getPrimaryIdentifier()));
-                    return false;
-                default:
-                    throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getAppName());
-            }
-        } catch (ResourceNotFoundException e) {
-            return true;
+        final StabilizationHistory history = callbackContext.getStabilizationHistory();
+        final Duration delay = stabilizationScheduler.delay(history).nextDelay(history.getTotalPolls());
+        if (delay.isZero()) {
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getAppName());
         }
+        return ProgressEvent.defaultInProgressHandler(callbackContext, (int) Math.max(1, delay.getSeconds()), model);
     }
 }
@@ -20,6 +20,12 @@ public class ReadHandler extends BaseHandlerStd {
     private Logger logger;
 
 
+    @Override
+    protected boolean reschedulesOnThrottle() {
+        // Read has no callbacks, so it still fails when throttled
+        return false;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
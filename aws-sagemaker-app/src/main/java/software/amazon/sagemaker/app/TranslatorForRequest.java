@@ -10,6 +10,9 @@ import java.util.stream.Collectors;
 
 final class TranslatorForRequest {
 
+    // Largest page size accepted by ListApps
+    private static final int MAX_LIST_PAGE_SIZE = 100;
+
     private TranslatorForRequest() {}
 
     /**
@@ -74,6 +77,22 @@ final class TranslatorForRequest {
         return ListAppsRequest.builder().nextToken(nextToken).build();
     }
 
+    /**
+     * Translates ResourceModel input to an aws sdk list request for the apps of the same user profile.
+     *
+     * @param model resource model
+     * @param nextToken token passed to the aws service list resource request
+     * @return list resource request
+     */
+    static ListAppsRequest translateToListRequest(final ResourceModel model, final String nextToken) {
+        return ListAppsRequest.builder()
+                .domainIdEquals(model.getDomainId())
+                .userProfileNameEquals(model.getUserProfileName())
+                .maxResults(MAX_LIST_PAGE_SIZE)
+                .nextToken(nextToken)
+                .build();
+    }
+
     private static software.amazon.awssdk.services.sagemaker.model.ResourceSpec translateResourceSpec(
             ResourceSpec origin) {
         if (origin == null) {
@@ -0,0 +1,138 @@
+package software.amazon.sagemaker.app;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.AppStatus;
+import software.amazon.awssdk.services.sagemaker.model.CreateAppRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteAppRequest;
+import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AppStatusSnapshotTest extends AbstractTestBase {
+
+    private static final Duration REFRESH_INTERVAL = Duration.ofSeconds(5);
+    private static final int APPS = 150;
+
+    private FakeSageMakerService service;
+    private FakeSageMakerClient sageMakerClient;
+    private ProxyClient<SageMakerClient> proxyClient;
+    private AppStatusSnapshot snapshot;
+
+    @BeforeEach
+    public void setup() {
+        service = new FakeSageMakerService();
+        sageMakerClient = new FakeSageMakerClient(service);
+        proxyClient = service.newProxy().newProxy(() -> sageMakerClient);
+        snapshot = new AppStatusSnapshot(REFRESH_INTERVAL, service.clock());
+        for (int i = 0; i < APPS; i++) {
+            sageMakerClient.createApp(CreateAppRequest.builder()
+                    .domainId(TEST_DOMAIN_ID)
+                    .userProfileName(TEST_USER_PROFILE_NAME)
+                    .appType(TEST_APP_TYPE)
+                    .appName(appName(i))
+                    .build());
+        }
+        service.resetCounts();
+    }
+
+    @Test
+    public void testStatus_AppsShareOneListing() {
+        for (int i = 0; i < APPS; i++) {
+            assertThat(snapshot.status(request("123456789012"), model(appName(i)), proxyClient))
+                    .isEqualTo(AppStatus.PENDING);
+        }
+
+        // two pages of 100 apps for all 150 statuses
+        assertThat(service.calls("ListApps")).isEqualTo(2);
+        assertThat(service.calls("DescribeApp")).isZero();
+        assertThat(snapshot.getRefreshes()).isEqualTo(1);
+    }
+
+    @Test
+    public void testStatus_RefreshesOncePerInterval() {
+        assertThat(snapshot.status(request("123456789012"), model(appName(0)), proxyClient))
+                .isEqualTo(AppStatus.PENDING);
+
+        service.advance(FakeSageMakerClient.TRANSITION_TIME);
+        assertThat(snapshot.status(request("123456789012"), model(appName(0)), proxyClient))
+                .isEqualTo(AppStatus.IN_SERVICE);
+        assertThat(snapshot.status(request("123456789012"), model(appName(1)), proxyClient))
+                .isEqualTo(AppStatus.IN_SERVICE);
+        assertThat(snapshot.getRefreshes()).isEqualTo(2);
+    }
+
+    @Test
+    public void testStatus_RefreshesAfterChange() {
+        assertThat(snapshot.status(request("123456789012"), model(appName(0)), proxyClient))
+                .isEqualTo(AppStatus.PENDING);
+
+        snapshot.changed(request("123456789012"), model(appName(0)));
+        snapshot.status(request("123456789012"), model(appName(0)), proxyClient);
+
+        assertThat(snapshot.getRefreshes()).isEqualTo(2);
+    }
+
+    @Test
+    public void testStatus_ScopedByAccount() {
+        snapshot.status(request("123456789012"), model(appName(0)), proxyClient);
+        snapshot.status(request("210987654321"), model(appName(0)), proxyClient);
+
+        assertThat(snapshot.getRefreshes()).isEqualTo(2);
+    }
+
+    @Test
+    public void testStatus_RecreatedAppReadsNewestRecord() {
+        service.advance(FakeSageMakerClient.TRANSITION_TIME);
+        sageMakerClient.deleteApp(DeleteAppRequest.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .userProfileName(TEST_USER_PROFILE_NAME)
+                .appType(TEST_APP_TYPE)
+                .appName(appName(0))
+                .build());
+        service.advance(FakeSageMakerClient.TRANSITION_TIME);
+        sageMakerClient.createApp(CreateAppRequest.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .userProfileName(TEST_USER_PROFILE_NAME)
+                .appType(TEST_APP_TYPE)
+                .appName(appName(0))
+                .build());
+
+        // the Deleted record of the first app is still listed, after the new one
+        assertThat(snapshot.status(request("123456789012"), model(appName(0)), proxyClient))
+                .isEqualTo(AppStatus.PENDING);
+    }
+
+    @Test
+    public void testStatus_AppNotListed() {
+        assertThrows(ResourceNotFoundException.class,
+                () -> snapshot.status(request("123456789012"), model("missing"), proxyClient));
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final String accountId) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(accountId)
+                .region("us-west-2")
+                .build();
+    }
+
+    private static ResourceModel model(final String appName) {
+        return ResourceModel.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .userProfileName(TEST_USER_PROFILE_NAME)
+                .appType(TEST_APP_TYPE)
+                .appName(appName)
+                .build();
+    }
+
+    private static String appName(final int i) {
+        return "app-" + i;
+    }
+}
@@ -331,7 +331,7 @@ public class CreateHandlerTest extends software.amazon.sagemaker.app.AbstractTes
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> invokeHandleRequest(ResourceHandlerRequest<ResourceModel> request) {
-        final CreateHandler handler = new CreateHandler();
+        final CreateHandler handler = new CreateHandler(AppStatusProbe.DESCRIBE);
         return handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
 import software.amazon.awssdk.services.sagemaker.model.AppStatus;
@@ -21,12 +22,15 @@ import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.BackoffProfile;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 import java.time.Duration;
 
@@ -34,6 +38,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -195,13 +202,8 @@ public class DeleteHandlerTest extends software.amazon.sagemaker.app.AbstractTes
                         .status(AppStatus.DELETING)
                         .build();
 
-        final DeleteAppResponse deleteAppResponse = DeleteAppResponse.builder()
-                .build();
-
         when(proxyClient.client().describeApp(any(DescribeAppRequest.class)))
                 .thenReturn(firstDescribeResponse).thenThrow(ResourceNotFoundException.class);
-        when(proxyClient.client().deleteApp(any(DeleteAppRequest.class)))
-                .thenReturn(deleteAppResponse);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(getRequestResourceModel())
@@ -214,6 +216,7 @@ public class DeleteHandlerTest extends software.amazon.sagemaker.app.AbstractTes
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(sdkClient, never()).deleteApp(any(DeleteAppRequest.class));
     }
 
     @Test
@@ -226,13 +229,8 @@ public class DeleteHandlerTest extends software.amazon.sagemaker.app.AbstractTes
                 .status(AppStatus.DELETED)
                 .build();
 
-        final DeleteAppResponse deleteAppResponse = DeleteAppResponse.builder()
-                .build();
-
         when(proxyClient.client().describeApp(any(DescribeAppRequest.class)))
                 .thenReturn(firstDescribeResponse).thenReturn(secondDescribeResponse);
-        when(proxyClient.client().deleteApp(any(DeleteAppRequest.class)))
-                .thenReturn(deleteAppResponse);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(getRequestResourceModel())
@@ -245,6 +243,7 @@ public class DeleteHandlerTest extends software.amazon.sagemaker.app.AbstractTes
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(sdkClient, never()).deleteApp(any(DeleteAppRequest.class));
     }
 
     @Test
@@ -257,13 +256,8 @@ public class DeleteHandlerTest extends software.amazon.sagemaker.app.AbstractTes
                 .status(AppStatus.FAILED)
                         .build();
 
-        final DeleteAppResponse deleteAppResponse = DeleteAppResponse.builder()
-                .build();
-
         when(proxyClient.client().describeApp(any(DescribeAppRequest.class)))
                 .thenReturn(firstDescribeResponse).thenReturn(secondDescribeResponse);
-        when(proxyClient.client().deleteApp(any(DeleteAppRequest.class)))
-                .thenReturn(deleteAppResponse);
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .desiredResourceState(getRequestResourceModel())
@@ -273,10 +267,134 @@ public class DeleteHandlerTest extends software.amazon.sagemaker.app.AbstractTes
 
         assertThat(exception.getMessage()).isEqualTo(String.format(HandlerErrorCode.NotStabilized.getMessage(),
                 ResourceModel.TYPE_NAME, TEST_APP_NAME));
+        verify(sdkClient, never()).deleteApp(any(DeleteAppRequest.class));
+    }
+
+    @Test
+    public void testDeleteHandler_DeletingApp_WaitsWithoutDelete() {
+        final DescribeAppResponse describeAppResponse = DescribeAppResponse.builder()
+                .status(AppStatus.DELETING)
+                .build();
+
+        when(proxyClient.client().describeApp(any(DescribeAppRequest.class)))
+                .thenReturn(describeAppResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getRequestResourceModel())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = newHandler()
+                .handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        // Deleting is polled with the long poll profile, 15 seconds less up to 20% jitter
+        assertThat(response.getCallbackDelaySeconds()).isBetween(12, 15);
+        assertThat(response.getCallbackContext().getStabilizationHistory().getStatus())
+                .isEqualTo(AppStatus.DELETING.toString());
+        verify(sdkClient, times(1)).describeApp(any(DescribeAppRequest.class));
+        verify(sdkClient, never()).deleteApp(any(DeleteAppRequest.class));
+    }
+
+    @Test
+    public void testDeleteHandler_PendingApp_DeletedOnceInService() {
+        when(proxyClient.client().describeApp(any(DescribeAppRequest.class)))
+                .thenReturn(DescribeAppResponse.builder().status(AppStatus.PENDING).build())
+                .thenReturn(DescribeAppResponse.builder().status(AppStatus.IN_SERVICE).build())
+                .thenReturn(DescribeAppResponse.builder().status(AppStatus.DELETED).build());
+        when(proxyClient.client().deleteApp(any(DeleteAppRequest.class)))
+                .thenReturn(DeleteAppResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getRequestResourceModel())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(request);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(sdkClient, times(3)).describeApp(any(DescribeAppRequest.class));
+        verify(sdkClient, times(1)).deleteApp(any(DeleteAppRequest.class));
+    }
+
+    @Test
+    public void testDeleteHandler_ThrottledDescribe_CountsThrottle() {
+        when(proxyClient.client().describeApp(any(DescribeAppRequest.class)))
+                .thenThrow(SageMakerException.builder()
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getRequestResourceModel())
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        assertThrows(CfnThrottlingException.class,
+                () -> newHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+
+        assertThat(callbackContext.getStabilizationHistory().getThrottledCalls()).isEqualTo(1);
+        verify(sdkClient, never()).deleteApp(any(DeleteAppRequest.class));
+    }
+
+    @Test
+    public void testDeleteHandler_RateLimitedDescribe_CountsThrottle() {
+        when(proxyClient.client().describeApp(any(DescribeAppRequest.class)))
+                .thenThrow(new CfnThrottlingException("DescribeApp"));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getRequestResourceModel())
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        assertThrows(CfnThrottlingException.class,
+                () -> newHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+
+        assertThat(callbackContext.getStabilizationHistory().getThrottledCalls()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDeleteHandler_DescribeFails_NoThrottleCounted() {
+        when(proxyClient.client().describeApp(any(DescribeAppRequest.class)))
+                .thenThrow(SageMakerException.builder().message(TEST_ERROR_MESSAGE).statusCode(500).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getRequestResourceModel())
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        assertThrows(CfnGeneralServiceException.class,
+                () -> newHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+
+        assertThat(callbackContext.getStabilizationHistory().getThrottledCalls()).isZero();
+    }
+
+    @Test
+    public void testDeleteHandler_UnknownStatus_NotStabilized() {
+        when(proxyClient.client().describeApp(any(DescribeAppRequest.class)))
+                .thenReturn(DescribeAppResponse.builder().status("Archived").build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getRequestResourceModel())
+                .build();
+
+        assertThrows(CfnNotStabilizedException.class, () -> invokeHandleRequest(request));
+        verify(sdkClient, never()).deleteApp(any(DeleteAppRequest.class));
+    }
+
+    private DeleteHandler newHandler() {
+        return new DeleteHandler(AppStatusProbe.DESCRIBE, StabilizationScheduler.builder()
+                .profile(AppStatus.DELETING.toString(), BackoffProfile.LONG_POLL)
+                .build());
     }
 
+    /**
+     * Invokes the handler again with the returned callback context for as long as it is in progress.
+     */
     private ProgressEvent<ResourceModel, CallbackContext> invokeHandleRequest(ResourceHandlerRequest<ResourceModel> request) {
-        final DeleteHandler handler = new DeleteHandler();
-        return handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final DeleteHandler handler = newHandler();
+        ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        while (response.isInProgress()) {
+            response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+        }
+        return response;
     }
 }
@@ -0,0 +1,111 @@
+package software.amazon.sagemaker.app;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.AppStatus;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.BackoffProfile;
+import software.amazon.sagemaker.common.StabilizationScheduler;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs the handlers against the in-memory {@link FakeSageMakerService} instead of call by call mocks.
+ */
+public class EndToEndTest extends AbstractTestBase {
+
+    private FakeSageMakerService service;
+    private FakeSageMakerClient sageMakerClient;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<SageMakerClient> proxyClient;
+    private AppStatusSnapshot appStatusSnapshot;
+    private StabilizationScheduler deleteScheduler;
+
+    @BeforeEach
+    public void setup() {
+        service = new FakeSageMakerService();
+        sageMakerClient = new FakeSageMakerClient(service);
+        proxy = service.newProxy();
+        proxyClient = proxy.newProxy(() -> sageMakerClient);
+        // snapshots age on the virtual clock the apps transition on
+        appStatusSnapshot = new AppStatusSnapshot(AppStatusSnapshot.DEFAULT_REFRESH_INTERVAL, service.clock());
+        deleteScheduler = StabilizationScheduler.builder()
+                .profile(AppStatus.DELETING.toString(), BackoffProfile.LONG_POLL)
+                .clock(service.clock())
+                .build();
+    }
+
+    @Test
+    public void testLifecycle() {
+        final ProgressEvent<ResourceModel, CallbackContext> created =
+                run(new CreateHandler(appStatusSnapshot), getRequestResourceModel());
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(created.getResourceModel().getAppArn()).isNotNull();
+        assertThat(run(new ReadHandler(), getRequestResourceModel()).getResourceModel().getAppName())
+                .isEqualTo(TEST_APP_NAME);
+        assertThat(run(new ListHandler(), getRequestResourceModel()).getResourceModels()).hasSize(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted =
+                run(new DeleteHandler(appStatusSnapshot, deleteScheduler), getRequestResourceModel());
+
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(sageMakerClient.getApps().list()).extracting(app -> app.getStatus()).containsExactly("Deleted");
+        assertThrows(CfnNotFoundException.class, () -> run(new ReadHandler(), getRequestResourceModel()));
+        assertThrows(CfnNotFoundException.class,
+                () -> run(new DeleteHandler(appStatusSnapshot, deleteScheduler), getRequestResourceModel()));
+        assertThat(run(new ListHandler(), getRequestResourceModel()).getResourceModels()).isEmpty();
+
+        assertThat(run(new CreateHandler(appStatusSnapshot), getRequestResourceModel()).getStatus())
+                .isEqualTo(OperationStatus.SUCCESS);
+        assertThat(service.calls("CreateApp")).isEqualTo(2);
+        assertThat(appStatusSnapshot.getRefreshes()).isPositive();
+    }
+
+    @Test
+    public void testRecreateAfterDelete() {
+        for (int i = 0; i < 2; i++) {
+            assertThat(run(new CreateHandler(appStatusSnapshot), getRequestResourceModel()).getStatus())
+                    .isEqualTo(OperationStatus.SUCCESS);
+            assertThat(run(new DeleteHandler(appStatusSnapshot, deleteScheduler), getRequestResourceModel())
+                    .getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        }
+
+        // the second delete waited for the app it deleted, not for the Deleted record of the first one
+        assertThat(service.calls("DeleteApp")).isEqualTo(2);
+        assertThat(sageMakerClient.listApps(TranslatorForRequest.translateToListRequest(getRequestResourceModel(),
+                null)).apps()).extracting(app -> app.statusAsString()).containsExactly("Deleted", "Deleted");
+    }
+
+    @Test
+    public void testDelete_OneStatusReadPerInvocation() {
+        run(new CreateHandler(AppStatusProbe.DESCRIBE), getRequestResourceModel());
+        service.resetCounts();
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted =
+                run(new DeleteHandler(AppStatusProbe.DESCRIBE, deleteScheduler), getRequestResourceModel());
+
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(service.calls("DeleteApp")).isEqualTo(1);
+        assertThat(service.calls("DescribeApp")).isEqualTo(service.handlerInvocations());
+        // a describe ahead of the delete and one every 5 seconds while Deleting took 26 calls
+        assertThat(service.calls("DescribeApp")).isLessThanOrEqualTo(6);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceModel model) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        return service.drive(context -> handler.handleRequest(proxy, request, context, proxyClient, logger),
+                new CallbackContext());
+    }
+}
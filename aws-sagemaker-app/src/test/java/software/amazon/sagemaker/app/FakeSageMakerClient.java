@@ -0,0 +1,147 @@
+package software.amazon.sagemaker.app;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import software.amazon.awssdk.services.sagemaker.model.AppDetails;
+import software.amazon.awssdk.services.sagemaker.model.AppStatus;
+import software.amazon.awssdk.services.sagemaker.model.CreateAppRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateAppResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteAppRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteAppResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeAppRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeAppResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListAppsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListAppsResponse;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for apps: Pending settles into InService, Deleting into Deleted, which stays describable and
+ * can be created again. As in the service, the Deleted record of a recreated app is still listed by ListApps, which
+ * returns the newest apps first.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    static final Duration TRANSITION_TIME = Duration.ofMinutes(2);
+
+    // Page size of ListApps without MaxResults, as in the service
+    static final int DEFAULT_PAGE_SIZE = 10;
+
+    private final FakeResourceTable<DescribeAppResponse> apps;
+
+    // Deleted records of apps that were created again under the same name
+    private final List<DescribeAppResponse> retiredApps = new CopyOnWriteArrayList<>();
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.apps = new FakeResourceTable<>(service, "App", TRANSITION_TIME);
+    }
+
+    public FakeResourceTable<DescribeAppResponse> getApps() {
+        return apps;
+    }
+
+    /**
+     * @return the key of an app in the table
+     */
+    static String key(final String domainId, final String userProfileName, final String appType,
+                      final String appName) {
+        return String.join("/", domainId, userProfileName, appType, appName);
+    }
+
+    @Override
+    public CreateAppResponse createApp(final CreateAppRequest request) {
+        return service.call("CreateApp", () -> {
+            final String key = key(request.domainId(), request.userProfileName(), request.appTypeAsString(),
+                    request.appName());
+            retireIfDeleted(key);
+            final String arn = "arn:aws:sagemaker:us-west-2:123456789012:app/" + key.toLowerCase();
+            apps.create(key, arn, DescribeAppResponse.builder()
+                    .appArn(arn)
+                    .appName(request.appName())
+                    .appType(request.appType())
+                    .domainId(request.domainId())
+                    .userProfileName(request.userProfileName())
+                    .resourceSpec(request.resourceSpec())
+                    .build(), AppStatus.PENDING.toString(), AppStatus.IN_SERVICE.toString());
+            service.tag(arn, tagMap(request.tags()));
+            return CreateAppResponse.builder().appArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeAppResponse describeApp(final DescribeAppRequest request) {
+        return service.call("DescribeApp", () -> toDescribeResponse(apps.describe(key(request.domainId(),
+                request.userProfileName(), request.appTypeAsString(), request.appName()))));
+    }
+
+    @Override
+    public DeleteAppResponse deleteApp(final DeleteAppRequest request) {
+        return service.call("DeleteApp", () -> {
+            final String key = key(request.domainId(), request.userProfileName(), request.appTypeAsString(),
+                    request.appName());
+            final String status = apps.describe(key).getStatus();
+            if (!AppStatus.IN_SERVICE.toString().equals(status)) {
+                throw FakeSageMakerService.resourceInUse(String.format("App %s is %s.", key, status));
+            }
+            apps.delete(key, AppStatus.DELETING.toString(), AppStatus.DELETED.toString());
+            return DeleteAppResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListAppsResponse listApps(final ListAppsRequest request) {
+        return service.call("ListApps", () -> {
+            final List<AppDetails> matching = Stream.concat(
+                            apps.list().stream().map(FakeSageMakerClient::toDescribeResponse),
+                            retiredApps.stream())
+                    .sorted(Comparator.comparing(DescribeAppResponse::creationTime).reversed())
+                    .filter(app -> request.domainIdEquals() == null
+                            || Objects.equals(request.domainIdEquals(), app.domainId()))
+                    .filter(app -> request.userProfileNameEquals() == null
+                            || Objects.equals(request.userProfileNameEquals(), app.userProfileName()))
+                    .map(app -> AppDetails.builder()
+                            .appName(app.appName())
+                            .appType(app.appType())
+                            .domainId(app.domainId())
+                            .userProfileName(app.userProfileName())
+                            .status(app.status())
+                            .creationTime(app.creationTime())
+                            .build())
+                    .collect(Collectors.toList());
+            final int from = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+            final int to = Math.min(matching.size(),
+                    from + (request.maxResults() == null ? DEFAULT_PAGE_SIZE : request.maxResults()));
+            return ListAppsResponse.builder()
+                    .apps(matching.subList(from, to))
+                    .nextToken(to < matching.size() ? String.valueOf(to) : null)
+                    .build();
+        });
+    }
+
+    private void retireIfDeleted(final String key) {
+        apps.list().stream()
+                .filter(app -> app.getName().equals(key) && AppStatus.DELETED.toString().equals(app.getStatus()))
+                .findFirst()
+                .ifPresent(app -> {
+                    retiredApps.add(toDescribeResponse(app));
+                    apps.remove(key);
+                });
+    }
+
+    private static DescribeAppResponse toDescribeResponse(final FakeResource<DescribeAppResponse> app) {
+        return app.getState().toBuilder()
+                .status(app.getStatus())
+                .creationTime(app.getCreationTime())
+                .lastUserActivityTimestamp(app.getLastModifiedTime())
+                .build();
+    }
+}
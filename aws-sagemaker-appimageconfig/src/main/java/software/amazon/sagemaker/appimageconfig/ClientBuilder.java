@@ -1,9 +1,19 @@
 package software.amazon.sagemaker.appimageconfig;
 
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.sagemaker.common.SageMakerClientProvider;
 
+/**
+ * Provides APIs to build the service client.
+ */
 public class ClientBuilder {
+
+    /**
+     * Returns the client shared by every handler running in this process.
+     *
+     * @return SageMaker client
+     */
     public static SageMakerClient getClient() {
-        return SageMakerClient.builder().build();
+        return SageMakerClientProvider.getClient();
     }
 }
@@ -0,0 +1,166 @@
+package software.amazon.sagemaker.appimageconfig;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Runs the handlers against the in-memory {@link FakeSageMakerService} instead of call by call mocks.
+ */
+public class EndToEndTest extends AbstractTestBase {
+
+    private FakeSageMakerService service;
+    private FakeSageMakerClient sageMakerClient;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<SageMakerClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        service = new FakeSageMakerService();
+        sageMakerClient = new FakeSageMakerClient(service);
+        proxy = service.newProxy();
+        proxyClient = proxy.newProxy(() -> sageMakerClient);
+    }
+
+    @Test
+    public void testLifecycle() {
+        final ResourceModel created = run(new CreateHandler(), request(desiredModel())).getResourceModel();
+
+        assertThat(created.getAppImageConfigArn()).endsWith("app-image-config/" + TEST_APP_IMAGE_CONFIG_NAME);
+        assertThat(service.tags(created.getAppImageConfigArn())).containsEntry("key", "value");
+
+        final ResourceModel updatedModel = desiredModel();
+        updatedModel.setKernelGatewayImageConfig(KernelGatewayImageConfig.builder()
+                .kernelSpecs(Collections.singletonList(KernelSpec.builder().name("updatedKernel").build()))
+                .build());
+        assertThat(run(new UpdateHandler(), request(updatedModel)).getResourceModel().getAppImageConfigArn())
+                .isEqualTo(created.getAppImageConfigArn());
+
+        final ResourceModel read = run(new ReadHandler(), request(updatedModel)).getResourceModel();
+        assertThat(read.getKernelGatewayImageConfig().getKernelSpecs()).extracting(KernelSpec::getName)
+                .containsExactly("updatedKernel");
+        assertThat(read.getKernelGatewayImageConfig().getFileSystemConfig()).isNull();
+
+        assertThat(run(new ListHandler(), request(ResourceModel.builder().build())).getResourceModels())
+                .extracting(ResourceModel::getAppImageConfigName)
+                .containsExactly(TEST_APP_IMAGE_CONFIG_NAME);
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = run(new DeleteHandler(), request(updatedModel));
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThrows(CfnNotFoundException.class, () -> run(new ReadHandler(), request(updatedModel)));
+        assertThat(run(new ListHandler(), request(ResourceModel.builder().build())).getResourceModels()).isEmpty();
+        assertThat(service.callCounts())
+                .containsEntry("CreateAppImageConfig", 1L)
+                .containsEntry("UpdateAppImageConfig", 1L)
+                .containsEntry("DeleteAppImageConfig", 1L);
+    }
+
+    @Test
+    public void testCreate_AlreadyExists() {
+        run(new CreateHandler(), request(desiredModel()));
+
+        assertThrows(ResourceAlreadyExistsException.class, () -> run(new CreateHandler(), request(desiredModel())));
+    }
+
+    @Test
+    public void testUpdate_NotFound() {
+        assertThrows(CfnNotFoundException.class, () -> run(new UpdateHandler(), request(desiredModel())));
+    }
+
+    @Test
+    public void testCreate_ThrottledInvocationIsRescheduled() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(desiredModel());
+        final AmazonWebServicesClientProxy entryProxy = entryProxy();
+        service.throttleNextCalls(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> throttled =
+                new CreateHandler().handleRequest(entryProxy, request, null, logger);
+
+        assertThat(throttled.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(throttled.getCallbackDelaySeconds()).isPositive();
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress = service.drive(
+                context -> new CreateHandler().handleRequest(entryProxy, request, context, logger),
+                throttled.getCallbackContext());
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(service.throttledCalls()).isEqualTo(1);
+        assertThat(service.calls("CreateAppImageConfig")).isEqualTo(2);
+    }
+
+    @Test
+    public void testList_ThrottledInvocationFails() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(ResourceModel.builder().build());
+        service.throttleNextCalls(1);
+
+        assertThrows(CfnThrottlingException.class,
+                () -> new ListHandler().handleRequest(entryProxy(), request, null, logger));
+    }
+
+    /**
+     * A proxy handing the fake client to the handlers' entry point, which builds its proxy client from
+     * {@link ClientBuilder}, so throttles pass through the rate limiter and the reschedule of {@link BaseHandlerStd}.
+     */
+    private AmazonWebServicesClientProxy entryProxy() {
+        final AmazonWebServicesClientProxy entryProxy = spy(proxy);
+        doReturn(proxyClient).when(entryProxy).newProxy(any());
+        return entryProxy;
+    }
+
+    /**
+     * @return a request of its own account, so that the rate limiter buckets of other tests do not interfere
+     */
+    private static ResourceHandlerRequest<ResourceModel> throttledAccountRequest(final ResourceModel desired) {
+        final ResourceHandlerRequest<ResourceModel> request = request(desired);
+        request.setAwsAccountId("throttled-" + System.nanoTime());
+        request.setRegion("us-west-2");
+        return request;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request) {
+        return service.drive(context -> handler.handleRequest(proxy, request, context, proxyClient, logger),
+                new CallbackContext());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .build();
+    }
+
+    private static ResourceModel desiredModel() {
+        return ResourceModel.builder()
+                .appImageConfigName(TEST_APP_IMAGE_CONFIG_NAME)
+                .kernelGatewayImageConfig(KernelGatewayImageConfig.builder()
+                        .kernelSpecs(Collections.singletonList(KernelSpec.builder()
+                                .name(TEST_KERNEL_NAME)
+                                .displayName(TEST_KERNEL_DISPLAY)
+                                .build()))
+                        .fileSystemConfig(FileSystemConfig.builder()
+                                .mountPath(TEST_MOUNT_PATH)
+                                .defaultGid(TEST_DEFAULT_GID)
+                                .defaultUid(TEST_DEFAULT_UID)
+                                .build())
+                        .build())
+                .tags(Collections.singletonList(Tag.builder().key("key").value("value").build()))
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package software.amazon.sagemaker.appimageconfig;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.sagemaker.model.AppImageConfigDetails;
+import software.amazon.awssdk.services.sagemaker.model.CreateAppImageConfigRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateAppImageConfigResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteAppImageConfigRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteAppImageConfigResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeAppImageConfigRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeAppImageConfigResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListAppImageConfigsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListAppImageConfigsResponse;
+import software.amazon.awssdk.services.sagemaker.model.UpdateAppImageConfigRequest;
+import software.amazon.awssdk.services.sagemaker.model.UpdateAppImageConfigResponse;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for app image configs, which have no status: they change as soon as they are created or
+ * updated and are not found as soon as they are deleted.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    private final FakeResourceTable<DescribeAppImageConfigResponse> appImageConfigs;
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.appImageConfigs = new FakeResourceTable<>(service, "AppImageConfig", Duration.ZERO);
+    }
+
+    public FakeResourceTable<DescribeAppImageConfigResponse> getAppImageConfigs() {
+        return appImageConfigs;
+    }
+
+    @Override
+    public CreateAppImageConfigResponse createAppImageConfig(final CreateAppImageConfigRequest request) {
+        return service.call("CreateAppImageConfig", () -> {
+            final String arn = "arn:aws:sagemaker:us-west-2:123456789012:app-image-config/"
+                    + request.appImageConfigName();
+            appImageConfigs.create(request.appImageConfigName(), arn, DescribeAppImageConfigResponse.builder()
+                    .appImageConfigArn(arn)
+                    .appImageConfigName(request.appImageConfigName())
+                    .kernelGatewayImageConfig(request.kernelGatewayImageConfig())
+                    .build(), null, null);
+            service.tag(arn, tagMap(request.tags()));
+            return CreateAppImageConfigResponse.builder().appImageConfigArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeAppImageConfigResponse describeAppImageConfig(final DescribeAppImageConfigRequest request) {
+        return service.call("DescribeAppImageConfig",
+                () -> toDescribeResponse(appImageConfigs.describe(request.appImageConfigName())));
+    }
+
+    @Override
+    public UpdateAppImageConfigResponse updateAppImageConfig(final UpdateAppImageConfigRequest request) {
+        return service.call("UpdateAppImageConfig", () -> {
+            final FakeResource<DescribeAppImageConfigResponse> appImageConfig = appImageConfigs.update(
+                    request.appImageConfigName(),
+                    state -> state.toBuilder().kernelGatewayImageConfig(request.kernelGatewayImageConfig()).build(),
+                    null, null);
+            return UpdateAppImageConfigResponse.builder().appImageConfigArn(appImageConfig.getArn()).build();
+        });
+    }
+
+    @Override
+    public DeleteAppImageConfigResponse deleteAppImageConfig(final DeleteAppImageConfigRequest request) {
+        return service.call("DeleteAppImageConfig", () -> {
+            appImageConfigs.delete(request.appImageConfigName(), null, null);
+            return DeleteAppImageConfigResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListAppImageConfigsResponse listAppImageConfigs(final ListAppImageConfigsRequest request) {
+        return service.call("ListAppImageConfigs", () -> ListAppImageConfigsResponse.builder()
+                .appImageConfigs(appImageConfigs.list().stream()
+                        .map(FakeSageMakerClient::toDescribeResponse)
+                        .map(appImageConfig -> AppImageConfigDetails.builder()
+                                .appImageConfigArn(appImageConfig.appImageConfigArn())
+                                .appImageConfigName(appImageConfig.appImageConfigName())
+                                .kernelGatewayImageConfig(appImageConfig.kernelGatewayImageConfig())
+                                .creationTime(appImageConfig.creationTime())
+                                .lastModifiedTime(appImageConfig.lastModifiedTime())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    private static DescribeAppImageConfigResponse toDescribeResponse(
+            final FakeResource<DescribeAppImageConfigResponse> appImageConfig) {
+        return appImageConfig.getState().toBuilder()
+                .creationTime(appImageConfig.getCreationTime())
+                .lastModifiedTime(appImageConfig.getLastModifiedTime())
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package software.amazon.sagemaker.appimageconfig;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.model.CreateAppImageConfigRequest;
+import software.amazon.awssdk.services.sagemaker.model.UpdateAppImageConfigRequest;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TranslatorForRequestTest extends AbstractTestBase {
+
+    @Test
+    public void testTranslateToCreateRequest_WithFileSystemConfig() {
+        final ResourceModel model = ResourceModel.builder()
+                .appImageConfigName(TEST_APP_IMAGE_CONFIG_NAME)
+                .kernelGatewayImageConfig(KernelGatewayImageConfig.builder()
+                        .fileSystemConfig(FileSystemConfig.builder()
+                                .defaultGid(TEST_DEFAULT_GID)
+                                .defaultUid(TEST_DEFAULT_UID)
+                                .mountPath(TEST_MOUNT_PATH)
+                                .build())
+                        .kernelSpecs(Collections.singletonList(KernelSpec.builder()
+                                .name(TEST_KERNEL_NAME)
+                                .displayName(TEST_KERNEL_DISPLAY)
+                                .build()))
+                        .build())
+                .build();
+
+        final CreateAppImageConfigRequest request = TranslatorForRequest.translateToCreateRequest(model);
+
+        assertThat(request.appImageConfigName()).isEqualTo(TEST_APP_IMAGE_CONFIG_NAME);
+        assertThat(request.kernelGatewayImageConfig().fileSystemConfig().defaultGid()).isEqualTo(TEST_DEFAULT_GID);
+        assertThat(request.kernelGatewayImageConfig().fileSystemConfig().defaultUid()).isEqualTo(TEST_DEFAULT_UID);
+        assertThat(request.kernelGatewayImageConfig().fileSystemConfig().mountPath()).isEqualTo(TEST_MOUNT_PATH);
+        assertThat(request.kernelGatewayImageConfig().kernelSpecs().get(0).name()).isEqualTo(TEST_KERNEL_NAME);
+        assertThat(request.kernelGatewayImageConfig().kernelSpecs().get(0).displayName())
+                .isEqualTo(TEST_KERNEL_DISPLAY);
+    }
+
+    @Test
+    public void testTranslateToUpdateRequest_WithoutFileSystemConfig() {
+        final ResourceModel model = ResourceModel.builder()
+                .appImageConfigName(TEST_APP_IMAGE_CONFIG_NAME)
+                .kernelGatewayImageConfig(KernelGatewayImageConfig.builder()
+                        .kernelSpecs(Collections.singletonList(KernelSpec.builder()
+                                .name(TEST_KERNEL_NAME)
+                                .build()))
+                        .build())
+                .build();
+
+        final UpdateAppImageConfigRequest request = TranslatorForRequest.translateToUpdateRequest(model);
+
+        assertThat(request.kernelGatewayImageConfig().fileSystemConfig()).isNull();
+        assertThat(request.kernelGatewayImageConfig().kernelSpecs().get(0).name()).isEqualTo(TEST_KERNEL_NAME);
+    }
+
+    @Test
+    public void testTranslateToUpdateRequest_WithoutKernelGatewayImageConfig() {
+        final ResourceModel model = ResourceModel.builder()
+                .appImageConfigName(TEST_APP_IMAGE_CONFIG_NAME)
+                .build();
+
+        assertThat(TranslatorForRequest.translateToUpdateRequest(model).kernelGatewayImageConfig()).isNull();
+    }
+}
@@ -0,0 +1,64 @@
+package software.amazon.sagemaker.appimageconfig;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.model.DescribeAppImageConfigResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TranslatorForResponseTest extends AbstractTestBase {
+
+    @Test
+    public void testTranslateFromReadResponse_WithFileSystemConfig() {
+        final DescribeAppImageConfigResponse response = DescribeAppImageConfigResponse.builder()
+                .appImageConfigArn(TEST_APP_IMAGE_CONFIG_ARN)
+                .appImageConfigName(TEST_APP_IMAGE_CONFIG_NAME)
+                .kernelGatewayImageConfig(kernelGatewayImageConfig -> kernelGatewayImageConfig
+                        .fileSystemConfig(fileSystemConfig -> fileSystemConfig
+                                .defaultGid(TEST_DEFAULT_GID)
+                                .defaultUid(TEST_DEFAULT_UID)
+                                .mountPath(TEST_MOUNT_PATH))
+                        .kernelSpecs(software.amazon.awssdk.services.sagemaker.model.KernelSpec.builder()
+                                .name(TEST_KERNEL_NAME)
+                                .displayName(TEST_KERNEL_DISPLAY)
+                                .build()))
+                .build();
+
+        final ResourceModel model = TranslatorForResponse.translateFromReadResponse(response);
+
+        assertThat(model.getAppImageConfigArn()).isEqualTo(TEST_APP_IMAGE_CONFIG_ARN);
+        assertThat(model.getKernelGatewayImageConfig().getFileSystemConfig()).isEqualTo(FileSystemConfig.builder()
+                .defaultGid(TEST_DEFAULT_GID)
+                .defaultUid(TEST_DEFAULT_UID)
+                .mountPath(TEST_MOUNT_PATH)
+                .build());
+        assertThat(model.getKernelGatewayImageConfig().getKernelSpecs()).containsExactly(KernelSpec.builder()
+                .name(TEST_KERNEL_NAME)
+                .displayName(TEST_KERNEL_DISPLAY)
+                .build());
+    }
+
+    @Test
+    public void testTranslateFromReadResponse_WithoutFileSystemConfig() {
+        final DescribeAppImageConfigResponse response = DescribeAppImageConfigResponse.builder()
+                .appImageConfigName(TEST_APP_IMAGE_CONFIG_NAME)
+                .kernelGatewayImageConfig(kernelGatewayImageConfig -> kernelGatewayImageConfig
+                        .kernelSpecs(software.amazon.awssdk.services.sagemaker.model.KernelSpec.builder()
+                                .name(TEST_KERNEL_NAME)
+                                .build()))
+                .build();
+
+        final ResourceModel model = TranslatorForResponse.translateFromReadResponse(response);
+
+        assertThat(model.getKernelGatewayImageConfig().getFileSystemConfig()).isNull();
+        assertThat(model.getKernelGatewayImageConfig().getKernelSpecs()).hasSize(1);
+    }
+
+    @Test
+    public void testTranslateFromReadResponse_WithoutKernelGatewayImageConfig() {
+        final DescribeAppImageConfigResponse response = DescribeAppImageConfigResponse.builder()
+                .appImageConfigName(TEST_APP_IMAGE_CONFIG_NAME)
+                .build();
+
+        assertThat(TranslatorForResponse.translateFromReadResponse(response).getKernelGatewayImageConfig()).isNull();
+    }
+}
@@ -0,0 +1,91 @@
+package software.amazon.sagemaker.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.services.sagemaker.model.AddTagsRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteTagsRequest;
+import software.amazon.awssdk.services.sagemaker.model.Tag;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares {@link TagDiff} with the set/list based reconciliation the resource providers used before,
+ * for a resource carrying the maximum of 50 tags on both sides of an update.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagDiffBenchmark {
+
+    private static final String RESOURCE_ARN = "arn:aws:sagemaker:us-west-2:123456789012:image/benchmark";
+    private static final int MAX_TAGS = 50;
+
+    /** Number of the 50 desired tags whose key or value differs from the attached ones. */
+    @Param({"0", "5", "50"})
+    public int changedTags;
+
+    private List<Tag> existingTags;
+    private List<Tag> desiredTags;
+
+    @Setup
+    public void setup() {
+        existingTags = new ArrayList<>(MAX_TAGS);
+        desiredTags = new ArrayList<>(MAX_TAGS);
+        for (int i = 0; i < MAX_TAGS; i++) {
+            existingTags.add(Tag.builder().key("key-" + i).value("value-" + i).build());
+            // Alternate between changed values and replaced keys so both removals and additions show up.
+            final boolean changed = i < changedTags;
+            desiredTags.add(Tag.builder()
+                    .key(changed && i % 2 == 1 ? "new-key-" + i : "key-" + i)
+                    .value(changed ? "new-value-" + i : "value-" + i)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void tagDiff(final Blackhole blackhole) {
+        final TagDiff tagDiff = TagDiff.between(existingTags, desiredTags);
+        blackhole.consume(tagDiff.toDeleteTagsRequests(RESOURCE_ARN));
+        blackhole.consume(tagDiff.toAddTagsRequests(RESOURCE_ARN));
+    }
+
+    @Benchmark
+    public void legacySetDiff(final Blackhole blackhole) {
+        final Set<Tag> newTags = new HashSet<>(desiredTags);
+        final Set<Tag> oldTags = new HashSet<>(existingTags);
+        final List<Tag> tagsToAdd = newTags.stream()
+                .filter(tag -> !oldTags.contains(tag))
+                .collect(Collectors.toList());
+        final List<String> tagsToAddKeys = tagsToAdd.stream()
+                .map(Tag::key)
+                .collect(Collectors.toList());
+        final List<String> tagsToRemove = oldTags.stream()
+                .filter(tag -> !newTags.contains(tag) && !tagsToAddKeys.contains(tag.key()))
+                .map(Tag::key)
+                .collect(Collectors.toList());
+        if (!tagsToRemove.isEmpty()) {
+            blackhole.consume(DeleteTagsRequest.builder().resourceArn(RESOURCE_ARN).tagKeys(tagsToRemove).build());
+        }
+        if (!tagsToAdd.isEmpty()) {
+            blackhole.consume(AddTagsRequest.builder().resourceArn(RESOURCE_ARN).tags(tagsToAdd).build());
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package software.amazon.sagemaker.common;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Client side rate limiter for the SageMaker API of one account and region, with an adaptive {@link TokenBucket}
+ * per {@link ApiFamily}.
+ *
+ * <p>{@link #limit(ProxyClient)} makes every call wait for a token of its family, for at most
+ * {@link #MAX_WAIT_MILLIS} before failing with {@link CfnThrottlingException}, and slows the family down whenever
+ * the service throttles it; a throttled call fails with {@link CfnThrottlingException} as well.
+ * {@link #rescheduleOnThrottle} turns throttling failures of a handler into an {@code IN_PROGRESS} event, so
+ * CloudFormation calls the handler back once the buckets had time to refill.
+ */
+public final class ApiRateLimiter {
+
+    /**
+     * Longest a single call waits for a token before the invocation gives up and is rescheduled.
+     */
+    public static final long MAX_WAIT_MILLIS = 5_000L;
+
+    static final int MIN_CALLBACK_DELAY_SECONDS = 5;
+    static final int MAX_CALLBACK_DELAY_SECONDS = 60;
+
+    private static final ConcurrentMap<String, ApiRateLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    /**
+     * Groups the SageMaker operations that share a bucket.
+     */
+    public enum ApiFamily {
+        DESCRIBE(10, 5.0),
+        LIST(5, 2.0),
+        MUTATING(4, 1.0);
+
+        private static final ClassValue<ApiFamily> FAMILIES = new ClassValue<ApiFamily>() {
+            @Override
+            protected ApiFamily computeValue(final Class<?> requestType) {
+                final String operation = requestType.getSimpleName();
+                if (operation.startsWith("Describe") || operation.startsWith("Get")) {
+                    return DESCRIBE;
+                }
+                if (operation.startsWith("List") || operation.startsWith("Search")) {
+                    return LIST;
+                }
+                return MUTATING;
+            }
+        };
+
+        private final int capacity;
+        private final double refillPerSecond;
+
+        ApiFamily(final int capacity, final double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+
+        /**
+         * @param request an SDK request
+         * @return the family of the operation, derived from the request class name
+         */
+        public static ApiFamily of(final AwsRequest request) {
+            return FAMILIES.get(request.getClass());
+        }
+    }
+
+    private final Map<ApiFamily, TokenBucket> buckets = new EnumMap<>(ApiFamily.class);
+    private final LongSupplier nanoClock;
+    private final LongConsumer sleeper;
+
+    ApiRateLimiter(final LongSupplier nanoClock, final LongConsumer sleeper) {
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+        final long now = nanoClock.getAsLong();
+        for (final ApiFamily family : ApiFamily.values()) {
+            buckets.put(family, new TokenBucket(family.capacity, family.refillPerSecond, now));
+        }
+    }
+
+    /**
+     * @param request the handler request
+     * @return the process-wide limiter of the account and region the request targets
+     */
+    public static ApiRateLimiter forRequest(final ResourceHandlerRequest<?> request) {
+        return LIMITERS.computeIfAbsent(request.getAwsAccountId() + "/" + request.getRegion(),
+                key -> new ApiRateLimiter(System::nanoTime, ApiRateLimiter::sleepNanos));
+    }
+
+    /**
+     * Wraps a proxy client so that its calls pass through this limiter.
+     *
+     * @param proxyClient the proxy client to wrap
+     * @param <ClientT> service client type
+     * @return the rate limited proxy client
+     */
+    public <ClientT> ProxyClient<ClientT> limit(final ProxyClient<ClientT> proxyClient) {
+        return new RateLimitedProxyClient<>(proxyClient, this);
+    }
+
+    /**
+     * Runs a handler and reschedules it when it fails because of throttling, either client side or by the service.
+     *
+     * @param handler runs the handler
+     * @param model the resource model to hand to the next invocation
+     * @param callbackContext the callback context to hand to the next invocation
+     * @param logger the handler logger
+     * @param <ModelT> resource model type
+     * @param <CallbackT> callback context type
+     * @return the handler result, or an in progress event with a callback delay if the handler was throttled
+     */
+    public <ModelT, CallbackT extends StdCallbackContext> ProgressEvent<ModelT, CallbackT> rescheduleOnThrottle(
+            final Supplier<ProgressEvent<ModelT, CallbackT>> handler,
+            final ModelT model,
+            final CallbackT callbackContext,
+            final Logger logger) {
+        final ProgressEvent<ModelT, CallbackT> progress;
+        try {
+            progress = handler.get();
+        } catch (final CfnThrottlingException e) {
+            return reschedule(model, callbackContext, logger, e.getMessage());
+        } catch (final AwsServiceException e) {
+            if (!e.isThrottlingException()) {
+                throw e;
+            }
+            return reschedule(model, callbackContext, logger, e.getMessage());
+        }
+        if (progress != null && progress.isFailed() && progress.getErrorCode() == HandlerErrorCode.Throttling) {
+            return reschedule(model, callbackContext, logger, progress.getMessage());
+        }
+        return progress;
+    }
+
+    /**
+     * Picks the delay after which a throttled handler is called back: the time the slowest bucket needs to refill
+     * half of its capacity, with up to 50% jitter so that throttled resources of one stack do not retry in lockstep.
+     *
+     * @return callback delay in seconds
+     */
+    public int callbackDelaySeconds() {
+        double seconds = 0;
+        for (final TokenBucket bucket : buckets.values()) {
+            seconds = Math.max(seconds, bucket.halfRefillSeconds());
+        }
+        seconds *= 1 + ThreadLocalRandom.current().nextDouble(0.5);
+        return (int) Math.max(MIN_CALLBACK_DELAY_SECONDS, Math.min(MAX_CALLBACK_DELAY_SECONDS, Math.ceil(seconds)));
+    }
+
+    /**
+     * @param family API family
+     * @return current refill rate of the family, in calls per second
+     */
+    public double refillPerSecond(final ApiFamily family) {
+        return buckets.get(family).refillPerSecond();
+    }
+
+    <RequestT extends AwsRequest, ResultT> ResultT invoke(final RequestT request,
+                                                          final Function<RequestT, ResultT> call) {
+        final TokenBucket bucket = buckets.get(ApiFamily.of(request));
+        acquire(bucket, request);
+        final ResultT result;
+        try {
+            result = call.apply(request);
+        } catch (final AwsServiceException e) {
+            if (e.isThrottlingException()) {
+                bucket.onThrottle(nanoClock.getAsLong());
+            }
+            throw e;
+        }
+        bucket.onSuccess();
+        return result;
+    }
+
+    private void acquire(final TokenBucket bucket, final AwsRequest request) {
+        final long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MILLIS);
+        long waitedNanos = 0;
+        long waitNanos;
+        while ((waitNanos = bucket.tryAcquire(nanoClock.getAsLong())) > 0) {
+            if (waitedNanos + waitNanos > maxWaitNanos) {
+                throw new CfnThrottlingException(request.getClass().getSimpleName());
+            }
+            sleeper.accept(waitNanos);
+            waitedNanos += waitNanos;
+        }
+    }
+
+    private <ModelT, CallbackT extends StdCallbackContext> ProgressEvent<ModelT, CallbackT> reschedule(
+            final ModelT model,
+            final CallbackT callbackContext,
+            final Logger logger,
+            final String reason) {
+        final int delaySeconds = callbackDelaySeconds();
+        if (logger != null) {
+            logger.log(String.format("Throttled, calling back in %d seconds: %s", delaySeconds, reason));
+        }
+        return ProgressEvent.defaultInProgressHandler(callbackContext, delaySeconds, model);
+    }
+
+    private static void sleepNanos(final long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CfnThrottlingException(e);
+        }
+    }
+
+    /**
+     * Proxy client taking a token before each call of the wrapped client.
+     */
+    private static final class RateLimitedProxyClient<ClientT> implements ProxyClient<ClientT> {
+
+        private final ProxyClient<ClientT> delegate;
+        private final ApiRateLimiter rateLimiter;
+
+        RateLimitedProxyClient(final ProxyClient<ClientT> delegate, final ApiRateLimiter rateLimiter) {
+            this.delegate = delegate;
+            this.rateLimiter = rateLimiter;
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+                final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+            return invoke(request,
+                    limitedRequest -> delegate.injectCredentialsAndInvokeV2(limitedRequest, requestFunction));
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+        CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+                final RequestT request, final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+            return invoke(request,
+                    limitedRequest -> delegate.injectCredentialsAndInvokeV2Async(limitedRequest, requestFunction));
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+        IterableT injectCredentialsAndInvokeIterableV2(
+                final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+            // Pages are fetched lazily, so only the first page is rate limited
+            return invoke(request,
+                    limitedRequest -> delegate.injectCredentialsAndInvokeIterableV2(limitedRequest, requestFunction));
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+        ResponseInputStream<ResponseT> injectCredentialsAndInvokeV2InputStream(
+                final RequestT request, final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+            return invoke(request,
+                    limitedRequest -> delegate.injectCredentialsAndInvokeV2InputStream(limitedRequest, requestFunction));
+        }
+
+        @Override
+        public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+        ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+                final RequestT request, final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+            return invoke(request,
+                    limitedRequest -> delegate.injectCredentialsAndInvokeV2Bytes(limitedRequest, requestFunction));
+        }
+
+        @Override
+        public ClientT client() {
+            return delegate.client();
+        }
+
+        private <RequestT extends AwsRequest, ResultT> ResultT invoke(final RequestT request,
+                                                                      final Function<RequestT, ResultT> call) {
+            try {
+                return rateLimiter.invoke(request, call);
+            } catch (final AwsServiceException e) {
+                // Left to the call graph, the 400 status of a throttle fails the handler with InvalidRequest
+                if (e.isThrottlingException()) {
+                    throw new CfnThrottlingException(request.getClass().getSimpleName(), e);
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package software.amazon.sagemaker.common;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Polling cadence used while a resource stays in one transitional status.
+ */
+@Value
+@Builder(toBuilder = true)
+public class BackoffProfile {
+
+    /**
+     * Short polls for statuses that usually clear within a minute, e.g. Pending.
+     */
+    public static final BackoffProfile SHORT_POLL = BackoffProfile.builder()
+            .initialDelay(Duration.ofSeconds(2))
+            .maxDelay(Duration.ofSeconds(15))
+            .multiplier(1.5)
+            .jitter(0.2)
+            .build();
+
+    /**
+     * Long polls for statuses that usually take several minutes, e.g. Deleting.
+     */
+    public static final BackoffProfile LONG_POLL = BackoffProfile.builder()
+            .initialDelay(Duration.ofSeconds(15))
+            .maxDelay(Duration.ofSeconds(90))
+            .multiplier(2.0)
+            .jitter(0.2)
+            .build();
+
+    /**
+     * Cadence for statuses without a dedicated profile, starting at the framework default of 5 seconds.
+     */
+    public static final BackoffProfile DEFAULT = BackoffProfile.builder()
+            .initialDelay(Duration.ofSeconds(5))
+            .maxDelay(Duration.ofSeconds(60))
+            .multiplier(1.5)
+            .jitter(0.2)
+            .build();
+
+    /**
+     * Delay before the first poll in the status.
+     */
+    @NonNull
+    Duration initialDelay;
+
+    /**
+     * Upper bound of a single delay.
+     */
+    @NonNull
+    Duration maxDelay;
+
+    /**
+     * Growth factor applied for every poll spent in the same status.
+     */
+    @Builder.Default
+    double multiplier = 1.0;
+
+    /**
+     * Fraction of each delay that is randomized, between 0 and 1.
+     */
+    @Builder.Default
+    double jitter = 0.0;
+
+    /**
+     * Typical time spent in the status, used until the scheduler has learned its own estimate.
+     */
+    Duration expectedDuration;
+
+    /**
+     * Returns a profile polling at a fixed rate without jitter.
+     *
+     * @param delay delay between polls
+     * @return fixed profile
+     */
+    public static BackoffProfile fixed(final Duration delay) {
+        return BackoffProfile.builder().initialDelay(delay).maxDelay(delay).build();
+    }
+
+    /**
+     * Returns the exponential delay for the given number of polls already spent in the status, before jitter.
+     *
+     * @param polls polls already spent in the status
+     * @return delay capped at the max delay
+     */
+    Duration backoff(final int polls) {
+        final double millis = initialDelay.toMillis() * Math.pow(multiplier, polls);
+        return millis >= maxDelay.toMillis() ? maxDelay : Duration.ofMillis((long) millis);
+    }
+}
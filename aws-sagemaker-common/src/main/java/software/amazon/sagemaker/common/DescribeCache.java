@@ -0,0 +1,75 @@
+package software.amazon.sagemaker.common;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Describe responses of one handler invocation, keyed by the describe request.
+ *
+ * <p>Handlers keep an instance in a {@code @JsonIgnore} field of their callback context, so the cache never outlives
+ * the invocation: a re-invoked handler deserializes a context with an empty cache. Reads before a mutation and the
+ * final read after stabilization use {@link #describe}, stabilization polls use {@link #refresh}, and every
+ * mutating call is preceded by {@link #invalidate}.
+ *
+ * <p>Not thread safe; one invocation runs its call chain on a single thread.
+ */
+public final class DescribeCache {
+
+    private final Map<Object, Object> responses = new HashMap<>();
+
+    private int hits;
+
+    /**
+     * Returns the cached response for the request, describing the resource only on a miss. Exceptions thrown by
+     * the describe call are not cached.
+     *
+     * @param request the describe request
+     * @param describe invokes the describe call
+     * @param <RequestT> describe request type
+     * @param <ResponseT> describe response type
+     * @return the describe response
+     */
+    @SuppressWarnings("unchecked")
+    public <RequestT, ResponseT> ResponseT describe(final RequestT request,
+                                                    final Function<RequestT, ResponseT> describe) {
+        final ResponseT cached = (ResponseT) responses.get(request);
+        if (cached != null) {
+            hits++;
+            return cached;
+        }
+        return refresh(request, describe);
+    }
+
+    /**
+     * Describes the resource and caches the response, replacing any cached one.
+     *
+     * @param request the describe request
+     * @param describe invokes the describe call
+     * @param <RequestT> describe request type
+     * @param <ResponseT> describe response type
+     * @return the describe response
+     */
+    public <RequestT, ResponseT> ResponseT refresh(final RequestT request,
+                                                   final Function<RequestT, ResponseT> describe) {
+        final ResponseT response = describe.apply(request);
+        if (response != null) {
+            responses.put(request, response);
+        }
+        return response;
+    }
+
+    /**
+     * Drops all cached responses. Called before any call that changes the described state of the resource.
+     */
+    public void invalidate() {
+        responses.clear();
+    }
+
+    /**
+     * @return describe calls served from the cache so far
+     */
+    public int getHits() {
+        return hits;
+    }
+}
@@ -0,0 +1,168 @@
+package software.amazon.sagemaker.common;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDomainRequest;
+import software.amazon.awssdk.services.sagemaker.model.DomainStatus;
+import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Checks the parent domain of a user profile or space before it is created. The domain status is described at most
+ * once per max age for each account, region and domain, and concurrent creates in the same domain wait for a single
+ * DescribeDomain call. A create is held with backoff while the domain is Pending or Updating and fails right away
+ * when the domain does not exist or is Failed, Deleting or DeleteFailed. Any other status lets the create proceed.
+ */
+public final class DomainPreflight {
+
+    /**
+     * Age after which a cached domain status is described again.
+     */
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofSeconds(10);
+
+    // Creating or updating a domain takes minutes, dependents wait for it rather than for their own stabilization
+    private static final StabilizationScheduler HOLD_SCHEDULER = StabilizationScheduler.builder()
+            .timeout(Duration.ofMinutes(30))
+            .profile(DomainStatus.PENDING.toString(), BackoffProfile.LONG_POLL)
+            .profile(DomainStatus.UPDATING.toString(), BackoffProfile.LONG_POLL)
+            .build();
+
+    private static final DomainPreflight SHARED = new DomainPreflight(DEFAULT_MAX_AGE, Clock.systemUTC(),
+            HOLD_SCHEDULER);
+
+    private final Duration maxAge;
+    private final Clock clock;
+    private final StabilizationScheduler holdScheduler;
+    private final Map<String, CachedStatus> statuses = new ConcurrentHashMap<>();
+    private final AtomicLong describes = new AtomicLong();
+
+    public DomainPreflight(final Duration maxAge, final Clock clock, final StabilizationScheduler holdScheduler) {
+        this.maxAge = maxAge;
+        this.clock = clock;
+        this.holdScheduler = holdScheduler;
+    }
+
+    /**
+     * @return the pre-flight check shared by the handlers of this process
+     */
+    public static DomainPreflight shared() {
+        return SHARED;
+    }
+
+    /**
+     * Checks the parent domain of the resource about to be created.
+     *
+     * @param request the handler request, scoping the cached status to its account and region
+     * @param domainId the parent domain
+     * @param proxyClient the aws service client to make the calls
+     * @param progress event of the preceding step
+     * @param history hold history of the operation, kept in the callback context
+     * @param typeName type of the resource about to be created
+     * @param logger the handler logger
+     * @param <ModelT> resource model type
+     * @param <CallbackT> callback context type
+     * @return the given event when the create can proceed, or an in progress event with a callback delay
+     * @throws CfnInvalidRequestException if the domain does not exist
+     * @throws CfnResourceConflictException if the domain is Failed, Deleting or DeleteFailed
+     * @throws CfnNotStabilizedException if the domain did not become usable within the hold timeout
+     */
+    public <ModelT, CallbackT extends StdCallbackContext> ProgressEvent<ModelT, CallbackT> check(
+            final ResourceHandlerRequest<?> request,
+            final String domainId,
+            final ProxyClient<SageMakerClient> proxyClient,
+            final ProgressEvent<ModelT, CallbackT> progress,
+            final StabilizationHistory history,
+            final String typeName,
+            final Logger logger) {
+        final CachedStatus cached = statuses.computeIfAbsent(
+                String.join("/", request.getAwsAccountId(), request.getRegion(), domainId),
+                key -> new CachedStatus());
+        final DomainStatus status;
+        try {
+            status = cached.get(domainId, proxyClient);
+        } catch (final AwsServiceException e) {
+            if (e.isThrottlingException()) {
+                throw e;
+            }
+            // the check only saves calls, the create reports the actual error
+            logger.log(String.format("Skipping the check of domain %s: %s", domainId, e.getMessage()));
+            return progress;
+        }
+
+        if (status == null) {
+            throw new CfnInvalidRequestException(String.format("Domain %s does not exist", domainId));
+        }
+        switch (status) {
+            case PENDING:
+            case UPDATING:
+                holdScheduler.observe(history, status.toString());
+                final Duration delay = holdScheduler.delay(history).nextDelay(history.getTotalPolls());
+                if (delay.isZero()) {
+                    throw new CfnNotStabilizedException(typeName, domainId);
+                }
+                logger.log(String.format("Holding the create of %s while domain %s is %s",
+                        typeName, domainId, status));
+                return ProgressEvent.defaultInProgressHandler(progress.getCallbackContext(),
+                        (int) Math.max(1, delay.getSeconds()), progress.getResourceModel());
+            case FAILED:
+            case DELETING:
+            case DELETE_FAILED:
+                throw new CfnResourceConflictException(typeName, domainId,
+                        String.format("Domain %s is %s", domainId, status));
+            default:
+                if (history.getStatus() != null) {
+                    holdScheduler.complete(history);
+                }
+                return progress;
+        }
+    }
+
+    /**
+     * @return the DescribeDomain calls made so far
+     */
+    public long getDescribes() {
+        return describes.get();
+    }
+
+    /**
+     * Status of one domain, null once the domain was found not to exist.
+     */
+    private final class CachedStatus {
+
+        private DomainStatus status;
+        private long describedAt;
+        private boolean described;
+
+        // Creates arriving during a describe wait for it and read its result
+        synchronized DomainStatus get(final String domainId, final ProxyClient<SageMakerClient> proxyClient) {
+            final long now = clock.millis();
+            if (described && now - describedAt < maxAge.toMillis()) {
+                return status;
+            }
+            describes.incrementAndGet();
+            try {
+                status = proxyClient.injectCredentialsAndInvokeV2(
+                        DescribeDomainRequest.builder().domainId(domainId).build(),
+                        proxyClient.client()::describeDomain).status();
+            } catch (final ResourceNotFoundException e) {
+                status = null;
+            }
+            describedAt = now;
+            described = true;
+            return status;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package software.amazon.sagemaker.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes stabilization metrics and single operation counts as CloudWatch embedded metric format (EMF) lines to the
+ * handler logger, so CloudWatch extracts them from the provider's log group without extra API calls.
+ */
+public class EmfMetricsSink implements MetricsSink {
+
+    public static final String NAMESPACE = "AWS/SageMaker/ResourceProviders";
+    public static final String DIMENSION = "CallChain";
+    public static final String POLLS = "StabilizationPolls";
+    public static final String WALL_TIME = "StabilizationTime";
+    public static final String THROTTLED_CALLS = "StabilizationThrottledCalls";
+    public static final String TIME_IN_STATUS_PREFIX = "StabilizationTimeIn";
+    public static final String SKIPPED_TAG_CALLS = "SkippedTagCalls";
+
+    private static final String COUNT = "Count";
+    private static final String MILLISECONDS = "Milliseconds";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Logger logger;
+
+    public EmfMetricsSink(final Logger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public void publish(final StabilizationRecord record) {
+        logger.log(toEmf(record));
+    }
+
+    /**
+     * Publishes one count of a call chain that does not stabilize, e.g. tag API calls an update did not make.
+     *
+     * @param callChain name of the call chain
+     * @param name metric name
+     * @param count metric value
+     */
+    public void publishCount(final String callChain, final String name, final long count) {
+        logger.log(toEmf(callChain, Instant.now(), name, count));
+    }
+
+    /**
+     * Renders the record as one EMF document.
+     *
+     * @param record stabilization metrics
+     * @return EMF JSON line
+     */
+    static String toEmf(final StabilizationRecord record) {
+        final List<Map<String, String>> definitions = new ArrayList<>();
+        final Map<String, Object> document = new LinkedHashMap<>();
+        document.put(DIMENSION, record.getCallChain());
+
+        addMetric(document, definitions, POLLS, COUNT, record.getPolls());
+        addMetric(document, definitions, WALL_TIME, MILLISECONDS, record.getWallTime().toMillis());
+        addMetric(document, definitions, THROTTLED_CALLS, COUNT, record.getThrottledCalls());
+        record.getStatusTimes().forEach((status, time) ->
+                addMetric(document, definitions, TIME_IN_STATUS_PREFIX + status, MILLISECONDS, time.toMillis()));
+        record.getCounts().forEach((name, count) -> addMetric(document, definitions, name, COUNT, count));
+
+        return render(record.getTimestamp(), document, definitions);
+    }
+
+    /**
+     * Renders a single count as one EMF document.
+     *
+     * @param callChain name of the call chain
+     * @param timestamp time at which the count was taken
+     * @param name metric name
+     * @param count metric value
+     * @return EMF JSON line
+     */
+    static String toEmf(final String callChain, final Instant timestamp, final String name, final long count) {
+        final List<Map<String, String>> definitions = new ArrayList<>();
+        final Map<String, Object> document = new LinkedHashMap<>();
+        document.put(DIMENSION, callChain);
+        addMetric(document, definitions, name, COUNT, count);
+        return render(timestamp, document, definitions);
+    }
+
+    private static String render(
+            final Instant timestamp,
+            final Map<String, Object> document,
+            final List<Map<String, String>> definitions) {
+        final Map<String, Object> directive = new LinkedHashMap<>();
+        directive.put("Namespace", NAMESPACE);
+        directive.put("Dimensions", Collections.singletonList(Collections.singletonList(DIMENSION)));
+        directive.put("Metrics", definitions);
+
+        final Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("Timestamp", timestamp.toEpochMilli());
+        metadata.put("CloudWatchMetrics", Collections.singletonList(directive));
+
+        final Map<String, Object> emf = new LinkedHashMap<>();
+        emf.put("_aws", metadata);
+        emf.putAll(document);
+        try {
+            return MAPPER.writeValueAsString(emf);
+        } catch (final JsonProcessingException e) {
+            // only maps of strings and numbers are written, so this cannot happen
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void addMetric(
+            final Map<String, Object> document,
+            final List<Map<String, String>> definitions,
+            final String name,
+            final String unit,
+            final Number value) {
+        final Map<String, String> definition = new LinkedHashMap<>();
+        definition.put("Name", name);
+        definition.put("Unit", unit);
+        definitions.add(definition);
+        document.put(name, value);
+    }
+}
@@ -0,0 +1,176 @@
+package software.amazon.sagemaker.common;
+
+import org.apache.commons.lang3.StringUtils;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.sagemaker.model.ResourceInUseException;
+import software.amazon.awssdk.services.sagemaker.model.ResourceLimitExceededException;
+import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
+
+/**
+ * Maps SageMaker service exceptions to the CloudFormation handler exceptions.
+ */
+public final class ExceptionTranslator {
+
+    // The exception thrown due to validation failure does not have error code set,
+    // hence we need to check it using error message
+    private static final String VALIDATION_ERROR_MESSAGE = "validation error detected";
+
+    private ExceptionTranslator() {}
+
+    /**
+     * Throws a Cfn exception for the corresponding modeled exception or error code of the given exception.
+     *
+     * @param operation operation
+     * @param resourceType resource type
+     * @param resourceName resource name
+     * @param e exception
+     */
+    public static void throwCfnException(
+            final String operation,
+            final String resourceType,
+            final String resourceName,
+            final AwsServiceException e
+    ) {
+
+        if (e instanceof ResourceInUseException) {
+            throw new ResourceAlreadyExistsException(resourceType, resourceName, e);
+        }
+
+        if (e instanceof ResourceNotFoundException) {
+            throw new CfnNotFoundException(resourceType, resourceName, e);
+        }
+
+        if (e instanceof ResourceLimitExceededException) {
+            throw new CfnServiceLimitExceededException(resourceType, e.getMessage(), e);
+        }
+
+        if (hasErrorCode(e)) {
+            final String errorMessage = e.awsErrorDetails().errorMessage();
+            switch (e.awsErrorDetails().errorCode()) {
+                case "UnauthorizedOperation":
+                    throw new CfnAccessDeniedException(errorMessage, e);
+                case "InvalidParameter":
+                case "InvalidParameterValue":
+                case "ValidationError":
+                case "ValidationException":
+                    throw new CfnInvalidRequestException(errorMessage, e);
+                case "InternalError":
+                case "ServiceUnavailable":
+                    throw new CfnServiceInternalErrorException(errorMessage, e);
+                case "ThrottlingException":
+                    throw new CfnThrottlingException(errorMessage, e);
+                default:
+                    throw new CfnGeneralServiceException(errorMessage, e);
+            }
+        }
+
+        throw new CfnGeneralServiceException(operation, e);
+    }
+
+    /**
+     * Throws a Cfn exception corresponding to error code of the given exception.
+     *
+     * @param operation operation
+     * @param e exception
+     */
+    public static void throwCfnException(final String operation, final AwsServiceException e) {
+        if (isValidationFailure(e)) {
+            throw new CfnInvalidRequestException(operation, e);
+        }
+
+        if (hasErrorCode(e)) {
+            switch (e.awsErrorDetails().errorCode()) {
+                case "UnauthorizedOperation":
+                    throw new CfnAccessDeniedException(operation, e);
+                case "InvalidParameter":
+                case "InvalidParameterValue":
+                case "ValidationError":
+                    throw new CfnInvalidRequestException(operation, e);
+                case "InternalError":
+                case "ServiceUnavailable":
+                    throw new CfnServiceInternalErrorException(operation, e);
+                case "ResourceLimitExceeded":
+                    throw new CfnServiceLimitExceededException(e);
+                case "ResourceNotFound":
+                    throw new CfnNotFoundException(e);
+                case "ThrottlingException":
+                    throw new CfnThrottlingException(operation, e);
+                default:
+                    throw new CfnGeneralServiceException(operation, e);
+            }
+        }
+
+        throw new CfnGeneralServiceException(operation, e);
+    }
+
+    /**
+     * Returns a Cfn exception corresponding to error code of the given exception.
+     *
+     * @param operation CFN operation being invoked
+     * @param resourceType resource type
+     * @param resourceName resource name
+     * @param e exception the service exception caught in handler
+     * @return CFN exception mapped from the service exception
+     */
+    public static BaseHandlerException getCfnException(
+            final String operation,
+            final String resourceType,
+            final String resourceName,
+            final AwsServiceException e) {
+
+        if (isValidationFailure(e)) {
+            throw new CfnInvalidRequestException(operation, e);
+        }
+
+        if (hasErrorCode(e)) {
+            switch (e.awsErrorDetails().errorCode()) {
+                case "UnauthorizedOperation":
+                    return new CfnAccessDeniedException(operation, e);
+                case "InvalidParameter":
+                case "InvalidParameterValue":
+                case "ValidationError":
+                    return new CfnInvalidRequestException(
+                            formatExceptionMessage(operation, resourceType, resourceName), e);
+                case "InternalError":
+                case "ServiceUnavailable":
+                    return new CfnServiceInternalErrorException(operation, e);
+                case "ResourceLimitExceeded":
+                    return new CfnServiceLimitExceededException(resourceType, "ResourceLimitExceeded", e);
+                case "ResourceNotFound":
+                    return new CfnNotFoundException(resourceType, resourceName, e);
+                case "ResourceInUseException":
+                    return new ResourceAlreadyExistsException(resourceType, resourceName, e);
+                case "ThrottlingException":
+                    return new CfnThrottlingException(operation, e);
+                default:
+                    return new CfnGeneralServiceException(operation, e);
+            }
+        }
+        throw new CfnGeneralServiceException(operation, e);
+    }
+
+    private static boolean isValidationFailure(final AwsServiceException e) {
+        return StringUtils.isNotBlank(e.getMessage()) && e.getMessage().contains(VALIDATION_ERROR_MESSAGE);
+    }
+
+    private static boolean hasErrorCode(final AwsServiceException e) {
+        return e.awsErrorDetails() != null && StringUtils.isNotBlank(e.awsErrorDetails().errorCode());
+    }
+
+    private static String formatExceptionMessage(
+            final String operation,
+            final String resourceType,
+            final String resourceName) {
+        return String.format("Exception caught for resource type: [%s] with name: [%s] during operation: [%s]",
+                resourceType, resourceName, operation);
+    }
+}
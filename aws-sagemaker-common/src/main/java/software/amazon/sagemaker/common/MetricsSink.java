@@ -0,0 +1,16 @@
+package software.amazon.sagemaker.common;
+
+/**
+ * Destination of stabilization metrics. Handlers publish through {@link EmfMetricsSink}; tests can plug in a
+ * sink that keeps the records in memory.
+ */
+@FunctionalInterface
+public interface MetricsSink {
+
+    /**
+     * Publishes the metrics of one stabilized call chain.
+     *
+     * @param record stabilization metrics
+     */
+    void publish(StabilizationRecord record);
+}
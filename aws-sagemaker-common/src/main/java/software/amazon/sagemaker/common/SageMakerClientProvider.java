@@ -0,0 +1,60 @@
+package software.amazon.sagemaker.common;
+
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+
+import java.time.Duration;
+
+/**
+ * Provides the SageMaker client shared by every handler running in the same process.
+ */
+public final class SageMakerClientProvider {
+
+    private static final int MAX_CONNECTIONS = 50;
+    private static final Duration CONNECTION_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration SOCKET_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration CONNECTION_MAX_IDLE_TIME = Duration.ofSeconds(60);
+
+    private SageMakerClientProvider() {}
+
+    /**
+     * Returns the shared client. The client and its connection pool are built on first use and reused
+     * across handler invocations; caller credentials are injected per request by the proxy client.
+     *
+     * @return SageMaker client
+     */
+    public static SageMakerClient getClient() {
+        return LazyHolder.CLIENT;
+    }
+
+    /**
+     * Returns the HTTP client behind the shared SageMaker client, so that clients of other services a handler
+     * needs draw from the same connection pool instead of opening their own. Clients built with it do not own it
+     * and must not close it.
+     *
+     * @return shared HTTP client
+     */
+    public static SdkHttpClient getHttpClient() {
+        return HttpClientHolder.HTTP_CLIENT;
+    }
+
+    /**
+     * Initialization-on-demand holder, so the client is created lazily and exactly once.
+     */
+    private static final class LazyHolder {
+        private static final SageMakerClient CLIENT = SageMakerClient.builder()
+                .httpClient(getHttpClient())
+                .build();
+    }
+
+    private static final class HttpClientHolder {
+        private static final SdkHttpClient HTTP_CLIENT = ApacheHttpClient.builder()
+                .maxConnections(MAX_CONNECTIONS)
+                .connectionTimeout(CONNECTION_TIMEOUT)
+                .socketTimeout(SOCKET_TIMEOUT)
+                .connectionMaxIdleTime(CONNECTION_MAX_IDLE_TIME)
+                .tcpKeepAlive(true)
+                .build();
+    }
+}
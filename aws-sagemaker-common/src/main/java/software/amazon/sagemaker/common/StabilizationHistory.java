@@ -0,0 +1,66 @@
+package software.amazon.sagemaker.common;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Statuses observed while a resource stabilizes. Kept in the callback context, so it survives re-invocations
+ * of the handler for the same operation.
+ */
+@Data
+@NoArgsConstructor
+public class StabilizationHistory {
+
+    /**
+     * Epoch millis of the first observation.
+     */
+    private Long startedAt;
+
+    /**
+     * Last observed status.
+     */
+    private String status;
+
+    /**
+     * Epoch millis at which the last observed status was first seen.
+     */
+    private Long statusSince;
+
+    /**
+     * Polls that observed the current status after the first one.
+     */
+    private int statusPolls;
+
+    /**
+     * Polls observed in total.
+     */
+    private int totalPolls;
+
+    /**
+     * Millis spent in every status that has already been left, in the order the statuses were observed.
+     */
+    private Map<String, Long> statusMillis = new LinkedHashMap<>();
+
+    /**
+     * Polls that failed because the Describe call was throttled.
+     */
+    private int throttledCalls;
+
+    /**
+     * Operation specific counts published with the metrics, e.g. the pipeline executions scanned while waiting.
+     */
+    private Map<String, Long> counters = new LinkedHashMap<>();
+
+    /**
+     * Adds to a counter.
+     *
+     * @param name counter name
+     * @param amount amount to add
+     */
+    public void count(final String name, final long amount) {
+        counters.merge(name, amount, Long::sum);
+    }
+}
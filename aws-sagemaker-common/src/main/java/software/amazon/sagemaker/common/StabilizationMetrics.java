@@ -0,0 +1,125 @@
+package software.amazon.sagemaker.common;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.CallChain;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Records how a call chain stabilized: number of polls, wall time, time per observed status and throttled polls.
+ * The record is published once the chain stops waiting for a callback, so a stabilization spanning several
+ * handler invocations is reported once with its totals.
+ */
+public class StabilizationMetrics {
+
+    private final MetricsSink sink;
+    private final Clock clock;
+
+    public StabilizationMetrics(final MetricsSink sink) {
+        this(sink, Clock.systemUTC());
+    }
+
+    public StabilizationMetrics(final MetricsSink sink, final Clock clock) {
+        this.sink = sink;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns metrics written as EMF lines to the handler logger.
+     *
+     * @param logger handler logger
+     * @return stabilization metrics
+     */
+    public static StabilizationMetrics emf(final Logger logger) {
+        return new StabilizationMetrics(new EmfMetricsSink(logger));
+    }
+
+    /**
+     * Runs the call chain and publishes its stabilization metrics when it completes or fails.
+     *
+     * @param callChain name of the call chain
+     * @param history stabilization history filled by the chain's stabilizer
+     * @param chain call chain
+     * @param <ModelT> resource model type
+     * @param <CallbackT> callback context type
+     * @return progress event returned by the chain
+     */
+    public <ModelT, CallbackT> ProgressEvent<ModelT, CallbackT> track(
+            final String callChain,
+            final StabilizationHistory history,
+            final Supplier<ProgressEvent<ModelT, CallbackT>> chain) {
+        final ProgressEvent<ModelT, CallbackT> event;
+        try {
+            event = chain.get();
+        } catch (final RuntimeException e) {
+            publish(callChain, history);
+            throw e;
+        }
+        if (!event.isInProgressCallbackDelay()) {
+            publish(callChain, history);
+        }
+        return event;
+    }
+
+    /**
+     * Wraps a stabilizer so that throttled Describe calls are counted in the history, whether the service throttled
+     * them or the {@link ApiRateLimiter} did, which also surfaces service throttles as {@link CfnThrottlingException}.
+     *
+     * @param history stabilization history of the call chain
+     * @param stabilizer stabilizer of the call chain
+     * @param <RequestT> request type
+     * @param <ResponseT> response type
+     * @param <ClientT> client type
+     * @param <ModelT> resource model type
+     * @param <CallbackT> callback context type
+     * @return counting stabilizer
+     */
+    public static <RequestT, ResponseT, ClientT, ModelT, CallbackT extends StdCallbackContext>
+    CallChain.Callback<RequestT, ResponseT, ClientT, ModelT, CallbackT, Boolean> countThrottles(
+            final StabilizationHistory history,
+            final CallChain.Callback<RequestT, ResponseT, ClientT, ModelT, CallbackT, Boolean> stabilizer) {
+        return (request, response, client, model, context) -> {
+            try {
+                return stabilizer.invoke(request, response, client, model, context);
+            } catch (final CfnThrottlingException e) {
+                history.setThrottledCalls(history.getThrottledCalls() + 1);
+                throw e;
+            } catch (final AwsServiceException e) {
+                if (e.isThrottlingException()) {
+                    history.setThrottledCalls(history.getThrottledCalls() + 1);
+                }
+                throw e;
+            }
+        };
+    }
+
+    private void publish(final String callChain, final StabilizationHistory history) {
+        if (history.getStartedAt() == null) {
+            // the chain failed before its first poll, there is nothing to report
+            return;
+        }
+        final long now = clock.millis();
+        final StabilizationRecord.StabilizationRecordBuilder record = StabilizationRecord.builder()
+                .callChain(callChain)
+                .timestamp(Instant.ofEpochMilli(now))
+                .polls(history.getTotalPolls())
+                .wallTime(Duration.ofMillis(now - history.getStartedAt()))
+                .throttledCalls(history.getThrottledCalls());
+        final Map<String, Long> statusMillis = new LinkedHashMap<>(history.getStatusMillis());
+        if (history.getStatus() != null && history.getStatusSince() != null) {
+            statusMillis.merge(history.getStatus(), now - history.getStatusSince(), Long::sum);
+        }
+        statusMillis.forEach((status, millis) -> record.statusTime(status, Duration.ofMillis(millis)));
+        history.getCounters().forEach(record::count);
+        sink.publish(record.build());
+    }
+}
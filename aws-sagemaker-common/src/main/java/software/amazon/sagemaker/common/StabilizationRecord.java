@@ -0,0 +1,58 @@
+package software.amazon.sagemaker.common;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Metrics of the stabilization of one call chain, e.g. {@code AWS-SageMaker-Domain::Delete}.
+ */
+@Value
+@Builder
+public class StabilizationRecord {
+
+    /**
+     * Name of the call chain passed to {@code proxy.initiate(...)}.
+     */
+    @NonNull
+    String callChain;
+
+    /**
+     * Time at which the record was taken.
+     */
+    @NonNull
+    Instant timestamp;
+
+    /**
+     * Describe calls issued while stabilizing.
+     */
+    int polls;
+
+    /**
+     * Wall time from the first to the last poll.
+     */
+    @NonNull
+    Duration wallTime;
+
+    /**
+     * Time spent in every observed status.
+     */
+    @Singular
+    Map<String, Duration> statusTimes;
+
+    /**
+     * Polls that were throttled.
+     */
+    int throttledCalls;
+
+    /**
+     * Operation specific counts, by counter name.
+     */
+    @Singular
+    Map<String, Long> counts;
+}
@@ -0,0 +1,151 @@
+package software.amazon.sagemaker.common;
+
+import lombok.Builder;
+import lombok.Singular;
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Schedules the stabilization polls of one resource operation. The delay before the next Describe call depends on the
+ * status last observed: every status has its own backoff profile, the delay grows while the status does not
+ * change, and polling is pulled forward when the status is expected to clear sooner. Expected durations start
+ * from the profile and are learned from the histories of operations completed in this process.
+ */
+public final class StabilizationScheduler {
+
+    /**
+     * Weight of the newest sample in the learned duration of a status.
+     */
+    private static final double LEARNING_RATE = 0.3;
+
+    /**
+     * Lower bound of a delay in millis. A zero delay would be read by the framework as the timeout signal.
+     */
+    private static final long MIN_DELAY_MILLIS = 1L;
+
+    /**
+     * Same overall wait as the default backoff of the CloudFormation framework.
+     */
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(20);
+
+    private final Duration timeout;
+    private final BackoffProfile defaultProfile;
+    private final Map<String, BackoffProfile> profiles;
+    private final Clock clock;
+    private final Map<String, Long> learnedDurations = new ConcurrentHashMap<>();
+
+    @Builder
+    private StabilizationScheduler(
+            final Duration timeout,
+            final BackoffProfile defaultProfile,
+            @Singular final Map<String, BackoffProfile> profiles,
+            final Clock clock) {
+        this.timeout = timeout == null ? DEFAULT_TIMEOUT : timeout;
+        this.defaultProfile = defaultProfile == null ? BackoffProfile.DEFAULT : defaultProfile;
+        this.profiles = profiles;
+        this.clock = clock == null ? Clock.systemUTC() : clock;
+    }
+
+    /**
+     * Records a status returned by a Describe call. A status change completes the previous status, whose
+     * duration is added to the history and learned for later operations.
+     *
+     * @param history stabilization history of the operation
+     * @param status observed status
+     */
+    public void observe(final StabilizationHistory history, final String status) {
+        final long now = clock.millis();
+        if (history.getStartedAt() == null) {
+            history.setStartedAt(now);
+        }
+        if (status.equals(history.getStatus())) {
+            history.setStatusPolls(history.getStatusPolls() + 1);
+        } else {
+            closeStatus(history, now);
+            history.setStatus(status);
+            history.setStatusSince(now);
+            history.setStatusPolls(0);
+        }
+        history.setTotalPolls(history.getTotalPolls() + 1);
+    }
+
+    /**
+     * Records that the resource reached its target state, e.g. the resource is gone after a delete.
+     *
+     * @param history stabilization history of the operation
+     */
+    public void complete(final StabilizationHistory history) {
+        closeStatus(history, clock.millis());
+        history.setStatus(null);
+        history.setStatusSince(null);
+        history.setStatusPolls(0);
+    }
+
+    /**
+     * Returns the backoff strategy of one call chain. The returned delay reads the history on every attempt,
+     * so it always reflects the status observed by the last poll.
+     *
+     * @param history stabilization history of the operation
+     * @return delay to pass to the call chain
+     */
+    public Delay delay(final StabilizationHistory history) {
+        return attempt -> nextDelay(history);
+    }
+
+    /**
+     * Returns the time the given status is expected to last, or null when it is unknown.
+     *
+     * @param status status
+     * @return expected duration
+     */
+    public Duration expectedDuration(final String status) {
+        final Long learned = learnedDurations.get(status);
+        return learned != null ? Duration.ofMillis(learned) : profileFor(status).getExpectedDuration();
+    }
+
+    Duration nextDelay(final StabilizationHistory history) {
+        final long now = clock.millis();
+        final long elapsed = history.getStartedAt() == null ? 0 : now - history.getStartedAt();
+        final long remaining = timeout.toMillis() - elapsed;
+        if (remaining <= 0) {
+            // the framework reports NotStabilized for exactly this instance
+            return Duration.ZERO;
+        }
+
+        final BackoffProfile profile = profileFor(history.getStatus());
+        long delay = profile.backoff(history.getStatusPolls()).toMillis();
+
+        final Duration expected = history.getStatus() == null ? null : expectedDuration(history.getStatus());
+        if (expected != null && history.getStatusSince() != null) {
+            final long untilExpected = expected.toMillis() - (now - history.getStatusSince());
+            if (untilExpected > 0 && untilExpected < delay) {
+                delay = Math.max(untilExpected, profile.getInitialDelay().toMillis());
+            }
+        }
+
+        if (profile.getJitter() > 0) {
+            delay -= (long) (delay * profile.getJitter() * ThreadLocalRandom.current().nextDouble());
+        }
+
+        return Duration.ofMillis(Math.max(Math.min(delay, remaining), MIN_DELAY_MILLIS));
+    }
+
+    private BackoffProfile profileFor(final String status) {
+        return status == null ? defaultProfile : profiles.getOrDefault(status, defaultProfile);
+    }
+
+    private void closeStatus(final StabilizationHistory history, final long now) {
+        if (history.getStatus() == null || history.getStatusSince() == null) {
+            return;
+        }
+        final long sample = now - history.getStatusSince();
+        history.getStatusMillis().merge(history.getStatus(), sample, Long::sum);
+        learnedDurations.merge(history.getStatus(), sample,
+                (previous, current) -> (long) (previous + LEARNING_RATE * (current - previous)));
+    }
+}
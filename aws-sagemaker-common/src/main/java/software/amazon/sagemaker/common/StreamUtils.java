@@ -0,0 +1,23 @@
+package software.amazon.sagemaker.common;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+/**
+ * Null-safe stream helpers used by the request and response translators.
+ */
+public final class StreamUtils {
+
+    private StreamUtils() {}
+
+    /**
+     * Streams the given collection, treating null as an empty collection.
+     *
+     * @param collection collection to stream, may be null
+     * @param <T> element type
+     * @return stream over the collection elements
+     */
+    public static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
+        return collection == null ? Stream.empty() : collection.stream();
+    }
+}
@@ -0,0 +1,212 @@
+package software.amazon.sagemaker.common;
+
+import lombok.Getter;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.AddTagsRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteTagsRequest;
+import software.amazon.awssdk.services.sagemaker.model.Tag;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Computes the difference between the previously attached and the desired resource tags, and applies it
+ * with {@code DeleteTags}/{@code AddTags} calls of at most {@link #MAX_TAGS_PER_CALL} tags each.
+ *
+ * <p>Tags whose value changed are only re-added: {@code AddTags} overwrites the value of an existing key.
+ */
+@Getter
+public final class TagDiff {
+
+    /**
+     * Maximum number of tags or tag keys accepted by a single {@code AddTags} or {@code DeleteTags} call.
+     */
+    public static final int MAX_TAGS_PER_CALL = 50;
+
+    private static final TagDiff EMPTY = new TagDiff(Collections.emptyMap(), Collections.emptyList());
+
+    /**
+     * Tags whose key is new or whose value changed, in desired order.
+     */
+    private final Map<String, String> tagsToAdd;
+
+    /**
+     * Keys that are no longer desired, in previous order.
+     */
+    private final List<String> tagsToRemove;
+
+    private TagDiff(final Map<String, String> tagsToAdd, final List<String> tagsToRemove) {
+        this.tagsToAdd = tagsToAdd;
+        this.tagsToRemove = tagsToRemove;
+    }
+
+    /**
+     * Diffs two tag maps, visiting each entry once.
+     *
+     * @param previousTags tags attached before the update, may be null
+     * @param desiredTags tags requested by the update, may be null
+     * @return the tag difference
+     */
+    public static TagDiff between(final Map<String, String> previousTags, final Map<String, String> desiredTags) {
+        final Map<String, String> previous = previousTags == null ? Collections.emptyMap() : previousTags;
+        final Map<String, String> desired = desiredTags == null ? Collections.emptyMap() : desiredTags;
+
+        Map<String, String> toAdd = Collections.emptyMap();
+        for (final Map.Entry<String, String> tag : desired.entrySet()) {
+            final String key = tag.getKey();
+            if (!Objects.equals(previous.get(key), tag.getValue()) || !previous.containsKey(key)) {
+                if (toAdd.isEmpty()) {
+                    toAdd = new LinkedHashMap<>(capacity(desired.size()));
+                }
+                toAdd.put(key, tag.getValue());
+            }
+        }
+
+        List<String> toRemove = Collections.emptyList();
+        for (final String key : previous.keySet()) {
+            if (!desired.containsKey(key)) {
+                if (toRemove.isEmpty()) {
+                    toRemove = new ArrayList<>(previous.size());
+                }
+                toRemove.add(key);
+            }
+        }
+
+        return toAdd.isEmpty() && toRemove.isEmpty() ? EMPTY : new TagDiff(toAdd, toRemove);
+    }
+
+    /**
+     * Diffs two collections of SDK tags, e.g. a {@code ListTags} response and the translated resource model tags.
+     *
+     * @param previousTags tags attached before the update, may be null
+     * @param desiredTags tags requested by the update, may be null
+     * @return the tag difference
+     */
+    public static TagDiff between(final Collection<Tag> previousTags, final Collection<Tag> desiredTags) {
+        return between(toMap(previousTags), toMap(desiredTags));
+    }
+
+    /**
+     * Indexes SDK tags by key into a map sized for the collection; the last value of a duplicated key wins.
+     *
+     * @param tags SDK tags, may be null
+     * @return tag key to tag value
+     */
+    public static Map<String, String> toMap(final Collection<Tag> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, String> tagMap = new HashMap<>(capacity(tags.size()));
+        for (final Tag tag : tags) {
+            tagMap.put(tag.key(), tag.value());
+        }
+        return tagMap;
+    }
+
+    /**
+     * @return true when neither tags to add nor tags to remove exist
+     */
+    public boolean isEmpty() {
+        return tagsToAdd.isEmpty() && tagsToRemove.isEmpty();
+    }
+
+    /**
+     * Builds the {@code AddTags} calls for the tags to add, {@link #MAX_TAGS_PER_CALL} tags per call.
+     *
+     * @param resourceArn arn of the tagged resource
+     * @return add tags requests, empty when there is nothing to add
+     */
+    public List<AddTagsRequest> toAddTagsRequests(final String resourceArn) {
+        if (tagsToAdd.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<AddTagsRequest> requests = new ArrayList<>(batchCount(tagsToAdd.size()));
+        int remaining = tagsToAdd.size();
+        List<Tag> batch = new ArrayList<>(Math.min(remaining, MAX_TAGS_PER_CALL));
+        for (final Map.Entry<String, String> tag : tagsToAdd.entrySet()) {
+            batch.add(Tag.builder().key(tag.getKey()).value(tag.getValue()).build());
+            remaining--;
+            if (batch.size() == MAX_TAGS_PER_CALL || remaining == 0) {
+                requests.add(AddTagsRequest.builder().resourceArn(resourceArn).tags(batch).build());
+                batch = new ArrayList<>(Math.min(remaining, MAX_TAGS_PER_CALL));
+            }
+        }
+        return requests;
+    }
+
+    /**
+     * Builds the {@code DeleteTags} calls for the keys to remove, {@link #MAX_TAGS_PER_CALL} keys per call.
+     *
+     * @param resourceArn arn of the tagged resource
+     * @return delete tags requests, empty when there is nothing to remove
+     */
+    public List<DeleteTagsRequest> toDeleteTagsRequests(final String resourceArn) {
+        if (tagsToRemove.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<DeleteTagsRequest> requests = new ArrayList<>(batchCount(tagsToRemove.size()));
+        for (int from = 0; from < tagsToRemove.size(); from += MAX_TAGS_PER_CALL) {
+            requests.add(DeleteTagsRequest.builder()
+                    .resourceArn(resourceArn)
+                    .tagKeys(tagsToRemove.subList(from, Math.min(from + MAX_TAGS_PER_CALL, tagsToRemove.size())))
+                    .build());
+        }
+        return requests;
+    }
+
+    /**
+     * Removes and then adds tags on the resource. Service exceptions are left to the caller to translate.
+     *
+     * @param proxyClient the aws service client to make the calls
+     * @param resourceArn arn of the tagged resource
+     */
+    public void apply(final ProxyClient<SageMakerClient> proxyClient, final String resourceArn) {
+        for (final DeleteTagsRequest request : toDeleteTagsRequests(resourceArn)) {
+            proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::deleteTags);
+        }
+        for (final AddTagsRequest request : toAddTagsRequests(resourceArn)) {
+            proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::addTags);
+        }
+    }
+
+    /**
+     * Determines the tags the customer desired to define or redefine.
+     *
+     * @param previousTags tags attached before the update
+     * @param desiredTags tags requested by the update
+     * @return tags whose key is new or whose value changed
+     */
+    public static Map<String, String> tagsToAdd(final Map<String, String> previousTags,
+                                                final Map<String, String> desiredTags) {
+        return between(previousTags, desiredTags).getTagsToAdd();
+    }
+
+    /**
+     * Determines the tag keys the customer desired to remove from the resource.
+     *
+     * @param previousTags tags attached before the update
+     * @param desiredTags tags requested by the update
+     * @return keys that are no longer desired
+     */
+    public static Set<String> tagsToRemove(final Map<String, String> previousTags,
+                                           final Map<String, String> desiredTags) {
+        return new LinkedHashSet<>(between(previousTags, desiredTags).getTagsToRemove());
+    }
+
+    private static int capacity(final int expectedSize) {
+        return expectedSize < 3 ? expectedSize + 1 : (int) (expectedSize / 0.75f) + 1;
+    }
+
+    private static int batchCount(final int size) {
+        return (size + MAX_TAGS_PER_CALL - 1) / MAX_TAGS_PER_CALL;
+    }
+}
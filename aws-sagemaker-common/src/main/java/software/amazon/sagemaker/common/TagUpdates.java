@@ -0,0 +1,74 @@
+package software.amazon.sagemaker.common;
+
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Decides from the handler request alone whether an update touches tags, so that property-only and no-op updates
+ * can skip the {@code ListTags}/{@code AddTags}/{@code DeleteTags} round trips.
+ */
+public final class TagUpdates {
+
+    private TagUpdates() {}
+
+    /**
+     * Compares the previously attached tags with the desired ones, each being the stack level tags overlaid
+     * with the resource level tags of the corresponding resource state.
+     *
+     * @param request the handler request
+     * @param resourceTags extracts the resource level tags of a resource state, may return null
+     * @param <ModelT> resource model type
+     * @return false only when the previous state is known and its tags equal the desired tags
+     */
+    public static <ModelT> boolean shouldUpdateTags(final ResourceHandlerRequest<ModelT> request,
+                                                    final Function<ModelT, Map<String, String>> resourceTags) {
+        if (request.getPreviousResourceState() == null) {
+            return true;
+        }
+        final Map<String, String> previousTags = attachedTags(
+                request.getPreviousResourceTags(), resourceTags.apply(request.getPreviousResourceState()));
+        final Map<String, String> desiredTags = attachedTags(
+                request.getDesiredResourceTags(), resourceTags.apply(request.getDesiredResourceState()));
+        return !previousTags.equals(desiredTags);
+    }
+
+    /**
+     * Overlays the resource level tags on the stack level tags.
+     *
+     * @param stackTags stack level tags, may be null
+     * @param resourceTags resource level tags, may be null
+     * @return merged tags
+     */
+    public static Map<String, String> attachedTags(final Map<String, String> stackTags,
+                                                   final Map<String, String> resourceTags) {
+        final int size = (stackTags == null ? 0 : stackTags.size()) + (resourceTags == null ? 0 : resourceTags.size());
+        if (size == 0) {
+            return Collections.emptyMap();
+        }
+        final Map<String, String> tags = new HashMap<>((int) (size / 0.75f) + 1);
+        if (stackTags != null) {
+            tags.putAll(stackTags);
+        }
+        if (resourceTags != null) {
+            tags.putAll(resourceTags);
+        }
+        return tags;
+    }
+
+    /**
+     * Publishes the tag API calls an update did not have to make as the {@link EmfMetricsSink#SKIPPED_TAG_CALLS}
+     * metric of the call chain.
+     *
+     * @param logger handler logger
+     * @param callChain name of the call chain
+     * @param calls number of skipped calls
+     */
+    public static void recordSkippedCalls(final Logger logger, final String callChain, final int calls) {
+        new EmfMetricsSink(logger).publishCount(callChain, EmfMetricsSink.SKIPPED_TAG_CALLS, calls);
+    }
+}
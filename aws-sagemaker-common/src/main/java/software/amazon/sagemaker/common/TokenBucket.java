@@ -0,0 +1,83 @@
+package software.amazon.sagemaker.common;
+
+/**
+ * Token bucket whose refill rate adapts to throttling: it is halved on every throttled call, down to an eighth of
+ * the configured rate, and grows back by a twentieth of the configured rate on every successful call.
+ */
+final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    private static final int MIN_RATE_DIVISOR = 8;
+    private static final int RECOVERY_STEPS = 20;
+
+    private final double capacity;
+    private final double maxRefillPerNano;
+    private final double minRefillPerNano;
+
+    private double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * @param capacity maximum burst of calls
+     * @param refillPerSecond configured, and maximum, steady state calls per second
+     * @param nowNanos current time of the limiter clock
+     */
+    TokenBucket(final int capacity, final double refillPerSecond, final long nowNanos) {
+        this.capacity = capacity;
+        this.maxRefillPerNano = refillPerSecond / NANOS_PER_SECOND;
+        this.minRefillPerNano = maxRefillPerNano / MIN_RATE_DIVISOR;
+        this.refillPerNano = maxRefillPerNano;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @param nowNanos current time of the limiter clock
+     * @return 0 if a token was taken, otherwise the nanos until the next token is available
+     */
+    synchronized long tryAcquire(final long nowNanos) {
+        refill(nowNanos);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerNano));
+    }
+
+    synchronized void onSuccess() {
+        refillPerNano = Math.min(maxRefillPerNano, refillPerNano + maxRefillPerNano / RECOVERY_STEPS);
+    }
+
+    /**
+     * Halves the refill rate and drains the bucket, so the next call waits for a fresh token.
+     *
+     * @param nowNanos current time of the limiter clock
+     */
+    synchronized void onThrottle(final long nowNanos) {
+        refill(nowNanos);
+        refillPerNano = Math.max(minRefillPerNano, refillPerNano / 2);
+        tokens = 0;
+    }
+
+    /**
+     * @return seconds the bucket needs at its current rate to refill half of its capacity
+     */
+    synchronized double halfRefillSeconds() {
+        return capacity / 2 / refillPerNano / NANOS_PER_SECOND;
+    }
+
+    synchronized double refillPerSecond() {
+        return refillPerNano * NANOS_PER_SECOND;
+    }
+
+    private void refill(final long nowNanos) {
+        final long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
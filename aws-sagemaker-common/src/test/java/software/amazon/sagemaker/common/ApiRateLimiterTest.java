@@ -0,0 +1,199 @@
+package software.amazon.sagemaker.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.sagemaker.model.CreateImageRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeImageRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeImageResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListTagsRequest;
+import software.amazon.awssdk.services.sagemaker.model.SageMakerException;
+import software.amazon.awssdk.services.sagemaker.model.SearchRequest;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ApiRateLimiterTest {
+
+    private static final DescribeImageRequest DESCRIBE = DescribeImageRequest.builder().imageName("test").build();
+    private static final DescribeImageResponse DESCRIBED = DescribeImageResponse.builder().imageName("test").build();
+    private static final CreateImageRequest CREATE = CreateImageRequest.builder().imageName("test").build();
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicLong slept = new AtomicLong();
+    private final ApiRateLimiter rateLimiter = new ApiRateLimiter(now::get, nanos -> {
+        slept.addAndGet(nanos);
+        now.addAndGet(nanos);
+    });
+
+    @Test
+    public void testApiFamily() {
+        assertThat(ApiRateLimiter.ApiFamily.of(DESCRIBE)).isEqualTo(ApiRateLimiter.ApiFamily.DESCRIBE);
+        assertThat(ApiRateLimiter.ApiFamily.of(ListTagsRequest.builder().build())).isEqualTo(ApiRateLimiter.ApiFamily.LIST);
+        assertThat(ApiRateLimiter.ApiFamily.of(SearchRequest.builder().build())).isEqualTo(ApiRateLimiter.ApiFamily.LIST);
+        assertThat(ApiRateLimiter.ApiFamily.of(CREATE)).isEqualTo(ApiRateLimiter.ApiFamily.MUTATING);
+    }
+
+    @Test
+    public void testInvoke_BurstThenWaitsForRefill() {
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.invoke(DESCRIBE, request -> DESCRIBED);
+        }
+        assertThat(slept.get()).isZero();
+
+        rateLimiter.invoke(DESCRIBE, request -> DESCRIBED);
+
+        // Describe refills 5 tokens per second
+        assertThat(slept.get()).isCloseTo(TimeUnit.MILLISECONDS.toNanos(200), within(1_000L));
+    }
+
+    @Test
+    public void testInvoke_FamiliesDoNotShareTokens() {
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.invoke(DESCRIBE, request -> DESCRIBED);
+        }
+
+        rateLimiter.invoke(CREATE, request -> null);
+
+        assertThat(slept.get()).isZero();
+    }
+
+    @Test
+    public void testInvoke_GivesUpAfterMaxWait() {
+        throttle(CREATE, 3);
+        slept.set(0);
+
+        // A token takes 8 seconds at the eighth of the configured rate
+        assertThrows(CfnThrottlingException.class, () -> rateLimiter.invoke(CREATE, request -> null));
+        assertThat(slept.get()).isZero();
+    }
+
+    @Test
+    public void testInvoke_ThrottleSlowsFamilyDownUntilCallsSucceed() {
+        throttle(DESCRIBE, 1);
+        assertThat(rateLimiter.refillPerSecond(ApiRateLimiter.ApiFamily.DESCRIBE)).isCloseTo(2.5, within(1e-9));
+        assertThat(rateLimiter.refillPerSecond(ApiRateLimiter.ApiFamily.LIST)).isEqualTo(2.0);
+
+        rateLimiter.invoke(DESCRIBE, request -> DESCRIBED);
+
+        // The drained bucket waits for a token at the halved rate
+        assertThat(slept.get()).isCloseTo(TimeUnit.MILLISECONDS.toNanos(400), within(1_000L));
+        assertThat(rateLimiter.refillPerSecond(ApiRateLimiter.ApiFamily.DESCRIBE)).isCloseTo(2.75, within(1e-9));
+
+        for (int i = 0; i < 20; i++) {
+            rateLimiter.invoke(DESCRIBE, request -> DESCRIBED);
+        }
+        assertThat(rateLimiter.refillPerSecond(ApiRateLimiter.ApiFamily.DESCRIBE)).isCloseTo(5.0, within(1e-9));
+    }
+
+    @Test
+    public void testInvoke_RateIsBoundedByEighthOfConfiguredRate() {
+        throttle(CREATE, 10);
+
+        assertThat(rateLimiter.refillPerSecond(ApiRateLimiter.ApiFamily.MUTATING)).isCloseTo(0.125, within(1e-9));
+    }
+
+    @Test
+    public void testLimit_ServiceThrottlingFailsWithCfnThrottlingException() {
+        @SuppressWarnings("unchecked")
+        final ProxyClient<Object> proxyClient = mock(ProxyClient.class);
+        when(proxyClient.injectCredentialsAndInvokeV2(any(), any())).thenThrow(throttlingException());
+
+        final ProxyClient<Object> limited = rateLimiter.limit(proxyClient);
+
+        final CfnThrottlingException e = assertThrows(CfnThrottlingException.class,
+                () -> limited.injectCredentialsAndInvokeV2(DESCRIBE, request -> DESCRIBED));
+        assertThat(e.getCause()).isInstanceOf(AwsServiceException.class);
+        assertThat(rateLimiter.refillPerSecond(ApiRateLimiter.ApiFamily.DESCRIBE)).isCloseTo(2.5, within(1e-9));
+    }
+
+    @Test
+    public void testRescheduleOnThrottle_ClientSideThrottling() {
+        final StdCallbackContext callbackContext = new StdCallbackContext();
+
+        final ProgressEvent<String, StdCallbackContext> progress = rateLimiter.rescheduleOnThrottle(() -> {
+            throw new CfnThrottlingException("CreateImage");
+        }, "model", callbackContext, null);
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(progress.getResourceModel()).isEqualTo("model");
+        assertThat(progress.getCallbackContext()).isSameAs(callbackContext);
+        assertThat(progress.getCallbackDelaySeconds())
+                .isBetween(ApiRateLimiter.MIN_CALLBACK_DELAY_SECONDS, ApiRateLimiter.MAX_CALLBACK_DELAY_SECONDS);
+    }
+
+    @Test
+    public void testRescheduleOnThrottle_ServiceThrottling() {
+        final ProgressEvent<String, StdCallbackContext> progress = rateLimiter.rescheduleOnThrottle(() -> {
+            throw throttlingException();
+        }, "model", new StdCallbackContext(), null);
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    }
+
+    @Test
+    public void testRescheduleOnThrottle_ThrottlingFailureEvent() {
+        final ProgressEvent<String, StdCallbackContext> progress = rateLimiter.rescheduleOnThrottle(
+                () -> ProgressEvent.failed("model", null, HandlerErrorCode.Throttling, "Rate exceeded"),
+                "model", new StdCallbackContext(), null);
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    }
+
+    @Test
+    public void testRescheduleOnThrottle_OtherFailuresPassThrough() {
+        final ProgressEvent<String, StdCallbackContext> failed =
+                ProgressEvent.failed("model", null, HandlerErrorCode.NotFound, "Not found");
+
+        assertThat(rateLimiter.rescheduleOnThrottle(() -> failed, "model", new StdCallbackContext(), null))
+                .isSameAs(failed);
+        assertThrows(CfnNotFoundException.class, () -> rateLimiter.rescheduleOnThrottle(() -> {
+            throw new CfnNotFoundException("AWS::SageMaker::Image", "test");
+        }, "model", new StdCallbackContext(), null));
+    }
+
+    @Test
+    public void testCallbackDelaySeconds_GrowsWithThrottling() {
+        assertThat(rateLimiter.callbackDelaySeconds()).isEqualTo(ApiRateLimiter.MIN_CALLBACK_DELAY_SECONDS);
+
+        throttle(CREATE, 3);
+
+        // Mutating calls refill half of their 4 tokens at 0.125 calls per second in 16 seconds
+        assertThat(rateLimiter.callbackDelaySeconds()).isBetween(16, 24);
+    }
+
+    private <RequestT extends AwsRequest> void throttle(final RequestT request, final int times) {
+        for (int i = 0; i < times; i++) {
+            // Leave enough time to refill a token even at the lowest rate
+            now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+            assertThrows(AwsServiceException.class, () -> rateLimiter.invoke(request, limitedRequest -> {
+                throw throttlingException();
+            }));
+        }
+    }
+
+    private static AwsServiceException throttlingException() {
+        return SageMakerException.builder()
+                .statusCode(400)
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode("ThrottlingException")
+                        .errorMessage("Rate exceeded")
+                        .build())
+                .build();
+    }
+}
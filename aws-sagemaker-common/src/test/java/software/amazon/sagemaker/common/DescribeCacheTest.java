@@ -0,0 +1,83 @@
+package software.amazon.sagemaker.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.model.DescribeImageRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeImageResponse;
+import software.amazon.awssdk.services.sagemaker.model.ImageStatus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DescribeCacheTest {
+
+    private static final DescribeImageRequest REQUEST = DescribeImageRequest.builder().imageName("test").build();
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final Function<DescribeImageRequest, DescribeImageResponse> describe = request ->
+            DescribeImageResponse.builder()
+                    .imageName(request.imageName())
+                    .imageStatus(calls.incrementAndGet() == 1 ? ImageStatus.UPDATING : ImageStatus.CREATED)
+                    .build();
+
+    @Test
+    public void testDescribe_ReusesResponseForEqualRequest() {
+        final DescribeCache cache = new DescribeCache();
+
+        final DescribeImageResponse first = cache.describe(REQUEST, describe);
+        final DescribeImageResponse second = cache.describe(
+                DescribeImageRequest.builder().imageName("test").build(), describe);
+
+        assertThat(second).isSameAs(first);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(cache.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDescribe_DistinctRequests() {
+        final DescribeCache cache = new DescribeCache();
+
+        cache.describe(REQUEST, describe);
+        cache.describe(DescribeImageRequest.builder().imageName("other").build(), describe);
+
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(cache.getHits()).isZero();
+    }
+
+    @Test
+    public void testRefresh_ReplacesCachedResponse() {
+        final DescribeCache cache = new DescribeCache();
+
+        cache.describe(REQUEST, describe);
+        cache.refresh(REQUEST, describe);
+
+        assertThat(cache.describe(REQUEST, describe).imageStatus()).isEqualTo(ImageStatus.CREATED);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testInvalidate() {
+        final DescribeCache cache = new DescribeCache();
+
+        cache.describe(REQUEST, describe);
+        cache.invalidate();
+
+        assertThat(cache.describe(REQUEST, describe).imageStatus()).isEqualTo(ImageStatus.CREATED);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testDescribe_FailuresAreNotCached() {
+        final DescribeCache cache = new DescribeCache();
+
+        assertThrows(IllegalStateException.class, () -> cache.describe(REQUEST, request -> {
+            throw new IllegalStateException("throttled");
+        }));
+
+        assertThat(cache.describe(REQUEST, describe).imageName()).isEqualTo("test");
+        assertThat(calls.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,202 @@
+package software.amazon.sagemaker.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDomainRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDomainResponse;
+import software.amazon.awssdk.services.sagemaker.model.DomainStatus;
+import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.sagemaker.model.SageMakerException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DomainPreflightTest {
+
+    private static final String TYPE_NAME = "AWS::SageMaker::UserProfile";
+    private static final String DOMAIN_ID = "d-preflight";
+    private static final Duration MAX_AGE = Duration.ofSeconds(10);
+
+    private final AtomicLong nowMillis = new AtomicLong();
+    private SageMakerClient client;
+    private ProxyClient<SageMakerClient> proxyClient;
+    private DomainPreflight preflight;
+
+    @BeforeEach
+    public void setup() {
+        nowMillis.set(0);
+        client = mock(SageMakerClient.class);
+        proxyClient = proxyClient(client);
+        preflight = new DomainPreflight(MAX_AGE, clock(), StabilizationScheduler.builder()
+                .profile(DomainStatus.PENDING.toString(), BackoffProfile.LONG_POLL)
+                .clock(clock())
+                .build());
+    }
+
+    @Test
+    public void testCheck_InServiceProceeds() {
+        when(client.describeDomain(any(DescribeDomainRequest.class))).thenReturn(domain(DomainStatus.IN_SERVICE));
+
+        final ProgressEvent<String, StdCallbackContext> progress = progress();
+        assertThat(check(progress, new StabilizationHistory())).isSameAs(progress);
+        assertThat(check(progress, new StabilizationHistory())).isSameAs(progress);
+
+        assertThat(preflight.getDescribes()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCheck_PendingHoldsUntilInService() {
+        when(client.describeDomain(any(DescribeDomainRequest.class)))
+                .thenReturn(domain(DomainStatus.PENDING))
+                .thenReturn(domain(DomainStatus.IN_SERVICE));
+        final StabilizationHistory history = new StabilizationHistory();
+
+        final ProgressEvent<String, StdCallbackContext> held = check(progress(), history);
+        assertThat(held.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(held.getCallbackDelaySeconds()).isPositive();
+        assertThat(history.getStatus()).isEqualTo(DomainStatus.PENDING.toString());
+
+        // the cached status holds the create again until it is described anew
+        assertThat(check(progress(), history).getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        nowMillis.addAndGet(MAX_AGE.toMillis());
+        final ProgressEvent<String, StdCallbackContext> progress = progress();
+        assertThat(check(progress, history)).isSameAs(progress);
+        assertThat(history.getStatusMillis()).containsKey(DomainStatus.PENDING.toString());
+        assertThat(preflight.getDescribes()).isEqualTo(2);
+    }
+
+    @Test
+    public void testCheck_DeletingFails() {
+        when(client.describeDomain(any(DescribeDomainRequest.class))).thenReturn(domain(DomainStatus.DELETING));
+
+        final CfnResourceConflictException exception = assertThrows(CfnResourceConflictException.class,
+                () -> check(progress(), new StabilizationHistory()));
+
+        assertThat(exception.getMessage()).contains("Domain d-preflight is Deleting");
+    }
+
+    @Test
+    public void testCheck_MissingDomainFails() {
+        when(client.describeDomain(any(DescribeDomainRequest.class)))
+                .thenThrow(ResourceNotFoundException.builder().message("not found").build());
+
+        assertThrows(CfnInvalidRequestException.class, () -> check(progress(), new StabilizationHistory()));
+        assertThrows(CfnInvalidRequestException.class, () -> check(progress(), new StabilizationHistory()));
+
+        assertThat(preflight.getDescribes()).isEqualTo(1);
+    }
+
+    @Test
+    public void testCheck_DescribeErrorProceeds() {
+        when(client.describeDomain(any(DescribeDomainRequest.class))).thenThrow(SageMakerException.builder()
+                .statusCode(403)
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("AccessDeniedException").build())
+                .build());
+
+        final ProgressEvent<String, StdCallbackContext> progress = progress();
+        assertThat(check(progress, new StabilizationHistory())).isSameAs(progress);
+    }
+
+    @Test
+    public void testCheck_ConcurrentCreatesShareOneDescribe() throws Exception {
+        when(client.describeDomain(any(DescribeDomainRequest.class))).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return domain(DomainStatus.IN_SERVICE);
+        });
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<ProgressEvent<String, StdCallbackContext>>> creates = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                creates.add(() -> check(progress(), new StabilizationHistory()));
+            }
+            for (final Future<ProgressEvent<String, StdCallbackContext>> create : executor.invokeAll(creates)) {
+                assertThat(create.get().getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(preflight.getDescribes()).isEqualTo(1);
+    }
+
+    private ProgressEvent<String, StdCallbackContext> check(final ProgressEvent<String, StdCallbackContext> progress,
+                                                           final StabilizationHistory history) {
+        final ResourceHandlerRequest<String> request = ResourceHandlerRequest.<String>builder()
+                .awsAccountId("123456789012")
+                .region("us-west-2")
+                .build();
+        return preflight.check(request, DOMAIN_ID, proxyClient, progress, history, TYPE_NAME, new LoggerProxy());
+    }
+
+    private static ProgressEvent<String, StdCallbackContext> progress() {
+        return ProgressEvent.progress("model", new StdCallbackContext());
+    }
+
+    private static DescribeDomainResponse domain(final DomainStatus status) {
+        return DescribeDomainResponse.builder().domainId(DOMAIN_ID).status(status).build();
+    }
+
+    private Clock clock() {
+        return new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(final ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(nowMillis.get());
+            }
+        };
+    }
+
+    private static ProxyClient<SageMakerClient> proxyClient(final SageMakerClient client) {
+        return new ProxyClient<SageMakerClient>() {
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+                return requestFunction.apply(request);
+            }
+
+            @Override
+            public SageMakerClient client() {
+                return client;
+            }
+        };
+    }
+}
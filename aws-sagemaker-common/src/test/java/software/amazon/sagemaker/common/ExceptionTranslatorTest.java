@@ -0,0 +1,158 @@
+package software.amazon.sagemaker.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.sagemaker.model.ResourceInUseException;
+import software.amazon.awssdk.services.sagemaker.model.ResourceLimitExceededException;
+import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.sagemaker.model.SageMakerException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ExceptionTranslatorTest {
+
+    private static final String TEST_OPERATION = "testOperation";
+    private static final String TEST_RESOURCE_TYPE = "testResourceType";
+    private static final String TEST_RESOURCE_NAME = "testResourceName";
+    private static final String TEST_ERROR_MESSAGE = "testErrorMessage";
+
+    private static Stream<Arguments> provideResourceAwareExceptions() {
+        return Stream.of(
+                Arguments.of("UnauthorizedOperation", CfnAccessDeniedException.class),
+                Arguments.of("InvalidParameter", CfnInvalidRequestException.class),
+                Arguments.of("InvalidParameterValue", CfnInvalidRequestException.class),
+                Arguments.of("ValidationError", CfnInvalidRequestException.class),
+                Arguments.of("ValidationException", CfnInvalidRequestException.class),
+                Arguments.of("InternalError", CfnServiceInternalErrorException.class),
+                Arguments.of("ServiceUnavailable", CfnServiceInternalErrorException.class),
+                Arguments.of("ThrottlingException", CfnThrottlingException.class),
+                Arguments.of("UnknownException", CfnGeneralServiceException.class)
+        );
+    }
+
+    private static Stream<Arguments> provideErrorCodeExceptions() {
+        return Stream.of(
+                Arguments.of("UnauthorizedOperation", CfnAccessDeniedException.class),
+                Arguments.of("InvalidParameter", CfnInvalidRequestException.class),
+                Arguments.of("InvalidParameterValue", CfnInvalidRequestException.class),
+                Arguments.of("ValidationError", CfnInvalidRequestException.class),
+                Arguments.of("InternalError", CfnServiceInternalErrorException.class),
+                Arguments.of("ServiceUnavailable", CfnServiceInternalErrorException.class),
+                Arguments.of("ResourceLimitExceeded", CfnServiceLimitExceededException.class),
+                Arguments.of("ResourceNotFound", CfnNotFoundException.class),
+                Arguments.of("ThrottlingException", CfnThrottlingException.class),
+                Arguments.of("UnknownException", CfnGeneralServiceException.class)
+        );
+    }
+
+    private static Stream<Arguments> provideMappedExceptions() {
+        return Stream.of(
+                Arguments.of("UnauthorizedOperation", CfnAccessDeniedException.class),
+                Arguments.of("InvalidParameter", CfnInvalidRequestException.class),
+                Arguments.of("InvalidParameterValue", CfnInvalidRequestException.class),
+                Arguments.of("ValidationError", CfnInvalidRequestException.class),
+                Arguments.of("InternalError", CfnServiceInternalErrorException.class),
+                Arguments.of("ResourceLimitExceeded", CfnServiceLimitExceededException.class),
+                Arguments.of("ResourceNotFound", CfnNotFoundException.class),
+                Arguments.of("ResourceInUseException", ResourceAlreadyExistsException.class),
+                Arguments.of("ThrottlingException", CfnThrottlingException.class),
+                Arguments.of("UnknownException", CfnGeneralServiceException.class)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideResourceAwareExceptions")
+    public void testThrowCfnException_ResourceAware(
+            final String errorCode,
+            final Class<? extends BaseHandlerException> expectedCfnException) {
+        final AwsServiceException e = serviceException(errorCode);
+
+        assertThrows(expectedCfnException, () -> ExceptionTranslator.throwCfnException(
+                TEST_OPERATION, TEST_RESOURCE_TYPE, TEST_RESOURCE_NAME, e));
+    }
+
+    @Test
+    public void testThrowCfnException_ModeledExceptions() {
+        assertThrows(ResourceAlreadyExistsException.class, () -> ExceptionTranslator.throwCfnException(
+                TEST_OPERATION, TEST_RESOURCE_TYPE, TEST_RESOURCE_NAME,
+                ResourceInUseException.builder().message(TEST_ERROR_MESSAGE).build()));
+        assertThrows(CfnNotFoundException.class, () -> ExceptionTranslator.throwCfnException(
+                TEST_OPERATION, TEST_RESOURCE_TYPE, TEST_RESOURCE_NAME,
+                ResourceNotFoundException.builder().message(TEST_ERROR_MESSAGE).build()));
+        assertThrows(CfnServiceLimitExceededException.class, () -> ExceptionTranslator.throwCfnException(
+                TEST_OPERATION, TEST_RESOURCE_TYPE, TEST_RESOURCE_NAME,
+                ResourceLimitExceededException.builder().message(TEST_ERROR_MESSAGE).build()));
+        assertThrows(CfnGeneralServiceException.class, () -> ExceptionTranslator.throwCfnException(
+                TEST_OPERATION, TEST_RESOURCE_TYPE, TEST_RESOURCE_NAME,
+                SageMakerException.builder().message(TEST_ERROR_MESSAGE).build()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideErrorCodeExceptions")
+    public void testThrowCfnException_ErrorCode(
+            final String errorCode,
+            final Class<? extends BaseHandlerException> expectedCfnException) {
+        final AwsServiceException e = serviceException(errorCode);
+
+        assertThrows(expectedCfnException, () -> ExceptionTranslator.throwCfnException(TEST_OPERATION, e));
+    }
+
+    @Test
+    public void testThrowCfnException_ValidationMessage() {
+        final AwsServiceException e = SageMakerException.builder()
+                .message("1 validation error detected")
+                .statusCode(400)
+                .build();
+
+        assertThrows(CfnInvalidRequestException.class, () -> ExceptionTranslator.throwCfnException(TEST_OPERATION, e));
+        assertThrows(CfnGeneralServiceException.class, () -> ExceptionTranslator.throwCfnException(TEST_OPERATION,
+                SageMakerException.builder().message(TEST_ERROR_MESSAGE).build()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideMappedExceptions")
+    public void testGetCfnException(
+            final String errorCode,
+            final Class<? extends BaseHandlerException> expectedCfnException) {
+        final AwsServiceException e = serviceException(errorCode);
+
+        assertThrows(expectedCfnException, () -> {
+            throw ExceptionTranslator.getCfnException(TEST_OPERATION, TEST_RESOURCE_TYPE, TEST_RESOURCE_NAME, e);
+        });
+    }
+
+    @Test
+    public void testGetCfnException_ValidationMessage() {
+        final AwsServiceException e = SageMakerException.builder()
+                .message("validation error detected")
+                .statusCode(500)
+                .build();
+
+        assertThrows(CfnInvalidRequestException.class, () -> {
+            throw ExceptionTranslator.getCfnException(TEST_OPERATION, TEST_RESOURCE_TYPE, TEST_RESOURCE_NAME, e);
+        });
+    }
+
+    private static AwsServiceException serviceException(final String errorCode) {
+        return SageMakerException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(errorCode).errorMessage(TEST_ERROR_MESSAGE).build())
+                .message(TEST_ERROR_MESSAGE)
+                .statusCode(500)
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package software.amazon.sagemaker.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class SageMakerClientProviderTest {
+
+    @BeforeEach
+    public void setUp() {
+        // building the client only needs a region, no service call is made
+        System.setProperty("aws.region", "us-west-2");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty("aws.region");
+    }
+
+    @Test
+    public void testGetClient_ReturnsSharedInstance() {
+        assertNotNull(SageMakerClientProvider.getClient());
+        assertSame(SageMakerClientProvider.getClient(), SageMakerClientProvider.getClient());
+    }
+
+    @Test
+    public void testGetHttpClient_ReturnsSharedInstance() {
+        assertNotNull(SageMakerClientProvider.getHttpClient());
+        assertSame(SageMakerClientProvider.getHttpClient(), SageMakerClientProvider.getHttpClient());
+    }
+}
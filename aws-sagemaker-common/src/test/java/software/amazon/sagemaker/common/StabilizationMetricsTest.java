@@ -0,0 +1,159 @@
+package software.amazon.sagemaker.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.sagemaker.model.SageMakerException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.CallChain;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StabilizationMetricsTest {
+
+    private static final String CALL_CHAIN = "AWS-SageMaker-Domain::Delete";
+    private static final Instant NOW = Instant.parse("2024-01-01T00:10:00Z");
+
+    private final List<StabilizationRecord> records = new ArrayList<>();
+    private StabilizationMetrics metrics;
+    private StabilizationHistory history;
+
+    @BeforeEach
+    public void setup() {
+        records.clear();
+        metrics = new StabilizationMetrics(records::add, Clock.fixed(NOW, ZoneOffset.UTC));
+        history = new StabilizationHistory();
+        history.setStartedAt(NOW.minusSeconds(90).toEpochMilli());
+        history.getStatusMillis().put("Pending", 30_000L);
+        history.setStatus("Deleting");
+        history.setStatusSince(NOW.minusSeconds(60).toEpochMilli());
+        history.setTotalPolls(4);
+        history.setThrottledCalls(1);
+    }
+
+    @Test
+    public void testTrack_PublishesOnSuccess() {
+        final ProgressEvent<String, StdCallbackContext> event =
+                metrics.track(CALL_CHAIN, history, () -> ProgressEvent.success("model", null));
+
+        assertThat(event.isSuccess()).isTrue();
+        assertThat(records).hasSize(1);
+        final StabilizationRecord record = records.get(0);
+        assertThat(record.getCallChain()).isEqualTo(CALL_CHAIN);
+        assertThat(record.getTimestamp()).isEqualTo(NOW);
+        assertThat(record.getPolls()).isEqualTo(4);
+        assertThat(record.getWallTime()).isEqualTo(Duration.ofSeconds(90));
+        assertThat(record.getThrottledCalls()).isEqualTo(1);
+        assertThat(record.getStatusTimes()).containsExactly(
+                entry("Pending", Duration.ofSeconds(30)), entry("Deleting", Duration.ofSeconds(60)));
+    }
+
+    @Test
+    public void testTrack_PublishesCounters() throws Exception {
+        history.count("ExecutionsScanned", 100);
+        history.count("ExecutionsScanned", 20);
+        final List<String> lines = new ArrayList<>();
+        new StabilizationMetrics(record -> {
+            records.add(record);
+            lines.add(EmfMetricsSink.toEmf(record));
+        }, Clock.fixed(NOW, ZoneOffset.UTC)).track(CALL_CHAIN, history, () -> ProgressEvent.success("model", null));
+
+        assertThat(records.get(0).getCounts()).containsExactly(entry("ExecutionsScanned", 120L));
+        assertThat(new ObjectMapper().readTree(lines.get(0)).get("ExecutionsScanned").asLong()).isEqualTo(120L);
+    }
+
+    @Test
+    public void testTrack_PublishesWhenChainContinues() {
+        metrics.track(CALL_CHAIN, history, () -> ProgressEvent.progress("model", null));
+
+        assertThat(records).hasSize(1);
+    }
+
+    @Test
+    public void testTrack_PublishesOnFailure() {
+        assertThrows(CfnNotStabilizedException.class, () -> metrics.track(CALL_CHAIN, history, () -> {
+            throw new CfnNotStabilizedException("type", "name");
+        }));
+
+        assertThat(records).hasSize(1);
+    }
+
+    @Test
+    public void testTrack_WaitsWhileInProgress() {
+        metrics.track(CALL_CHAIN, history, () -> ProgressEvent.defaultInProgressHandler(null, 30, "model"));
+
+        assertThat(records).isEmpty();
+    }
+
+    @Test
+    public void testTrack_SkipsChainsThatNeverPolled() {
+        metrics.track(CALL_CHAIN, new StabilizationHistory(), () -> ProgressEvent.success("model", null));
+
+        assertThat(records).isEmpty();
+    }
+
+    @Test
+    public void testCountThrottles() {
+        final StabilizationHistory counted = new StabilizationHistory();
+        final CallChain.Callback<String, String, Object, String, StdCallbackContext, Boolean> stabilizer =
+                StabilizationMetrics.countThrottles(counted, (request, response, client, model, context) -> {
+                    throw SageMakerException.builder()
+                            .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                            .statusCode(400)
+                            .build();
+                });
+        final CallChain.Callback<String, String, Object, String, StdCallbackContext, Boolean> rateLimited =
+                StabilizationMetrics.countThrottles(counted, (request, response, client, model, context) -> {
+                    throw new CfnThrottlingException("DescribeApp");
+                });
+        final CallChain.Callback<String, String, Object, String, StdCallbackContext, Boolean> failing =
+                StabilizationMetrics.countThrottles(counted, (request, response, client, model, context) -> {
+                    throw SageMakerException.builder()
+                            .awsErrorDetails(AwsErrorDetails.builder().errorCode("InternalError").build())
+                            .statusCode(500)
+                            .build();
+                });
+
+        assertThrows(SageMakerException.class, () -> stabilizer.invoke(null, null, null, null, null));
+        assertThrows(SageMakerException.class, () -> stabilizer.invoke(null, null, null, null, null));
+        assertThrows(CfnThrottlingException.class, () -> rateLimited.invoke(null, null, null, null, null));
+        assertThrows(SageMakerException.class, () -> failing.invoke(null, null, null, null, null));
+
+        assertThat(counted.getThrottledCalls()).isEqualTo(3);
+    }
+
+    @Test
+    public void testEmfMetricsSink() throws Exception {
+        final List<String> lines = new ArrayList<>();
+        new StabilizationMetrics(new EmfMetricsSink(lines::add), Clock.fixed(NOW, ZoneOffset.UTC))
+                .track(CALL_CHAIN, history, () -> ProgressEvent.success("model", null));
+
+        assertThat(lines).hasSize(1);
+        final JsonNode emf = new ObjectMapper().readTree(lines.get(0));
+        final JsonNode directive = emf.get("_aws").get("CloudWatchMetrics").get(0);
+        assertThat(emf.get("_aws").get("Timestamp").asLong()).isEqualTo(NOW.toEpochMilli());
+        assertThat(directive.get("Namespace").asText()).isEqualTo(EmfMetricsSink.NAMESPACE);
+        assertThat(directive.get("Dimensions").get(0).get(0).asText()).isEqualTo(EmfMetricsSink.DIMENSION);
+        assertThat(directive.get("Metrics")).hasSize(5);
+        assertThat(emf.get(EmfMetricsSink.DIMENSION).asText()).isEqualTo(CALL_CHAIN);
+        assertThat(emf.get(EmfMetricsSink.POLLS).asInt()).isEqualTo(4);
+        assertThat(emf.get(EmfMetricsSink.WALL_TIME).asLong()).isEqualTo(90_000L);
+        assertThat(emf.get(EmfMetricsSink.THROTTLED_CALLS).asInt()).isEqualTo(1);
+        assertThat(emf.get(EmfMetricsSink.TIME_IN_STATUS_PREFIX + "Pending").asLong()).isEqualTo(30_000L);
+        assertThat(emf.get(EmfMetricsSink.TIME_IN_STATUS_PREFIX + "Deleting").asLong()).isEqualTo(60_000L);
+    }
+}
@@ -0,0 +1,159 @@
+package software.amazon.sagemaker.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StabilizationSchedulerTest {
+
+    private static final String PENDING = "Pending";
+    private static final String DELETING = "Deleting";
+
+    private static final BackoffProfile SHORT = BackoffProfile.builder()
+            .initialDelay(Duration.ofSeconds(2))
+            .maxDelay(Duration.ofSeconds(10))
+            .multiplier(2.0)
+            .build();
+
+    private static final BackoffProfile LONG = BackoffProfile.builder()
+            .initialDelay(Duration.ofSeconds(15))
+            .maxDelay(Duration.ofSeconds(60))
+            .multiplier(2.0)
+            .build();
+
+    private MutableClock clock;
+    private StabilizationScheduler scheduler;
+
+    @BeforeEach
+    public void setup() {
+        clock = new MutableClock();
+        scheduler = StabilizationScheduler.builder()
+                .timeout(Duration.ofMinutes(10))
+                .defaultProfile(BackoffProfile.fixed(Duration.ofSeconds(5)))
+                .profile(PENDING, SHORT)
+                .profile(DELETING, LONG)
+                .clock(clock)
+                .build();
+    }
+
+    @Test
+    public void testNextDelay_UsesProfileOfObservedStatus() {
+        final StabilizationHistory history = new StabilizationHistory();
+        assertThat(scheduler.nextDelay(history)).isEqualTo(Duration.ofSeconds(5));
+
+        scheduler.observe(history, PENDING);
+        assertThat(scheduler.nextDelay(history)).isEqualTo(Duration.ofSeconds(2));
+
+        scheduler.observe(history, DELETING);
+        assertThat(scheduler.nextDelay(history)).isEqualTo(Duration.ofSeconds(15));
+
+        scheduler.observe(history, "Unknown");
+        assertThat(scheduler.nextDelay(history)).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void testNextDelay_GrowsWhileStatusIsUnchanged() {
+        final StabilizationHistory history = new StabilizationHistory();
+        scheduler.observe(history, PENDING);
+        assertThat(scheduler.nextDelay(history)).isEqualTo(Duration.ofSeconds(2));
+        scheduler.observe(history, PENDING);
+        assertThat(scheduler.nextDelay(history)).isEqualTo(Duration.ofSeconds(4));
+        scheduler.observe(history, PENDING);
+        assertThat(scheduler.nextDelay(history)).isEqualTo(Duration.ofSeconds(8));
+        scheduler.observe(history, PENDING);
+        assertThat(scheduler.nextDelay(history)).isEqualTo(Duration.ofSeconds(10));
+
+        scheduler.observe(history, DELETING);
+        assertThat(history.getStatusPolls()).isEqualTo(0);
+        assertThat(history.getTotalPolls()).isEqualTo(5);
+        assertThat(scheduler.nextDelay(history)).isEqualTo(Duration.ofSeconds(15));
+    }
+
+    @Test
+    public void testNextDelay_ReturnsZeroAfterTimeout() {
+        final StabilizationHistory history = new StabilizationHistory();
+        scheduler.observe(history, DELETING);
+
+        clock.advance(Duration.ofMinutes(9).plusSeconds(50));
+        assertThat(scheduler.nextDelay(history)).isEqualTo(Duration.ofSeconds(10));
+
+        clock.advance(Duration.ofSeconds(10));
+        assertThat(scheduler.delay(history).nextDelay(1)).isSameAs(Duration.ZERO);
+    }
+
+    @Test
+    public void testNextDelay_PollsWhenLearnedDurationElapses() {
+        final StabilizationHistory first = new StabilizationHistory();
+        scheduler.observe(first, DELETING);
+        clock.advance(Duration.ofSeconds(40));
+        scheduler.complete(first);
+        assertThat(scheduler.expectedDuration(DELETING)).isEqualTo(Duration.ofSeconds(40));
+
+        final StabilizationHistory second = new StabilizationHistory();
+        scheduler.observe(second, DELETING);
+        clock.advance(Duration.ofSeconds(15));
+        scheduler.observe(second, DELETING);
+        // 30 seconds of backoff would overshoot the expected completion by 5 seconds
+        assertThat(scheduler.nextDelay(second)).isEqualTo(Duration.ofSeconds(25));
+
+        clock.advance(Duration.ofSeconds(60));
+        scheduler.complete(second);
+        assertThat(scheduler.expectedDuration(DELETING)).isEqualTo(Duration.ofMillis(50500));
+    }
+
+    @Test
+    public void testNextDelay_NeverPollsSoonerThanInitialDelay() {
+        final StabilizationScheduler withExpectation = StabilizationScheduler.builder()
+                .profile(DELETING, LONG.toBuilder().expectedDuration(Duration.ofSeconds(20)).build())
+                .clock(clock)
+                .build();
+        final StabilizationHistory history = new StabilizationHistory();
+        withExpectation.observe(history, DELETING);
+        clock.advance(Duration.ofSeconds(15));
+        withExpectation.observe(history, DELETING);
+
+        assertThat(withExpectation.nextDelay(history)).isEqualTo(Duration.ofSeconds(15));
+    }
+
+    @Test
+    public void testNextDelay_AppliesJitter() {
+        final StabilizationScheduler jittered = StabilizationScheduler.builder()
+                .defaultProfile(BackoffProfile.DEFAULT)
+                .build();
+        final StabilizationHistory history = new StabilizationHistory();
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(jittered.nextDelay(history)).isBetween(Duration.ofSeconds(4), Duration.ofSeconds(5));
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package software.amazon.sagemaker.common;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.AddTagsRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteTagsRequest;
+import software.amazon.awssdk.services.sagemaker.model.Tag;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TagDiffTest {
+
+    private static final String RESOURCE_ARN = "arn:aws:sagemaker:us-west-2:123456789012:image/test";
+
+    private static final Map<String, String> PREVIOUS_TAGS = ImmutableMap.of(
+            "kept", "value",
+            "changed", "old",
+            "removed", "value");
+
+    private static final Map<String, String> DESIRED_TAGS = ImmutableMap.of(
+            "kept", "value",
+            "changed", "new",
+            "added", "value");
+
+    @Mock
+    private ProxyClient<SageMakerClient> proxyClient;
+
+    @Mock
+    private SageMakerClient sageMakerClient;
+
+    @Test
+    public void testTagsToAdd() {
+        assertThat(TagDiff.tagsToAdd(PREVIOUS_TAGS, DESIRED_TAGS))
+                .isEqualTo(ImmutableMap.of("changed", "new", "added", "value"));
+    }
+
+    @Test
+    public void testTagsToRemove() {
+        assertThat(TagDiff.tagsToRemove(PREVIOUS_TAGS, DESIRED_TAGS)).containsExactly("removed");
+    }
+
+    @Test
+    public void testNoChanges() {
+        assertThat(TagDiff.tagsToAdd(PREVIOUS_TAGS, PREVIOUS_TAGS)).isEmpty();
+        assertThat(TagDiff.tagsToRemove(PREVIOUS_TAGS, PREVIOUS_TAGS)).isEmpty();
+        assertThat(TagDiff.tagsToRemove(Collections.emptyMap(), DESIRED_TAGS)).isEmpty();
+        assertThat(TagDiff.between(PREVIOUS_TAGS, PREVIOUS_TAGS).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testBetween_SdkTags() {
+        final TagDiff tagDiff = TagDiff.between(toSdkTags(PREVIOUS_TAGS), toSdkTags(DESIRED_TAGS));
+
+        assertThat(tagDiff.isEmpty()).isFalse();
+        assertThat(tagDiff.getTagsToAdd()).isEqualTo(ImmutableMap.of("changed", "new", "added", "value"));
+        assertThat(tagDiff.getTagsToRemove()).containsExactly("removed");
+    }
+
+    @Test
+    public void testBetween_NullTags() {
+        assertThat(TagDiff.between((Map<String, String>) null, null).isEmpty()).isTrue();
+        assertThat(TagDiff.between(null, toSdkTags(DESIRED_TAGS)).getTagsToAdd()).isEqualTo(DESIRED_TAGS);
+        assertThat(TagDiff.between(toSdkTags(PREVIOUS_TAGS), null).getTagsToRemove())
+                .containsExactlyInAnyOrderElementsOf(PREVIOUS_TAGS.keySet());
+    }
+
+    @Test
+    public void testRequests_BatchedAtApiLimit() {
+        final TagDiff tagDiff = TagDiff.between(tags("old", 120), tags("new", 101));
+
+        final List<AddTagsRequest> addRequests = tagDiff.toAddTagsRequests(RESOURCE_ARN);
+        assertThat(addRequests).extracting(request -> request.tags().size()).containsExactly(50, 50, 1);
+        assertThat(addRequests).allMatch(request -> RESOURCE_ARN.equals(request.resourceArn()));
+
+        final List<DeleteTagsRequest> deleteRequests = tagDiff.toDeleteTagsRequests(RESOURCE_ARN);
+        assertThat(deleteRequests).extracting(request -> request.tagKeys().size()).containsExactly(50, 50, 20);
+        assertThat(deleteRequests.stream().flatMap(request -> request.tagKeys().stream()).collect(Collectors.toSet()))
+                .hasSize(120);
+    }
+
+    @Test
+    public void testApply_DeletesBeforeAdding() {
+        when(proxyClient.client()).thenReturn(sageMakerClient);
+
+        TagDiff.between(tags("old", 60), tags("new", 10)).apply(proxyClient, RESOURCE_ARN);
+
+        final InOrder inOrder = inOrder(proxyClient);
+        inOrder.verify(proxyClient, times(2)).injectCredentialsAndInvokeV2(any(DeleteTagsRequest.class), any());
+        inOrder.verify(proxyClient).injectCredentialsAndInvokeV2(any(AddTagsRequest.class), any());
+    }
+
+    @Test
+    public void testApply_NoChanges() {
+        TagDiff.between(PREVIOUS_TAGS, PREVIOUS_TAGS).apply(proxyClient, RESOURCE_ARN);
+
+        verifyNoInteractions(proxyClient);
+    }
+
+    private static Map<String, String> tags(final String prefix, final int count) {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            tags.put(prefix + "-" + i, "value-" + i);
+        }
+        return tags;
+    }
+
+    private static List<Tag> toSdkTags(final Map<String, String> tags) {
+        return tags.entrySet().stream()
+                .map(tag -> Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,89 @@
+package software.amazon.sagemaker.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TagUpdatesTest {
+
+    private static final Map<String, String> STACK_TAGS = ImmutableMap.of("stack", "value");
+    private static final Map<String, String> RESOURCE_TAGS = ImmutableMap.of("resource", "value");
+
+    private static final Function<Map<String, String>, Map<String, String>> RESOURCE_TAGS_OF = model -> model;
+
+    @Test
+    public void testShouldUpdateTags_NoPreviousState() {
+        final ResourceHandlerRequest<Map<String, String>> request = ResourceHandlerRequest.<Map<String, String>>builder()
+                .desiredResourceState(RESOURCE_TAGS)
+                .desiredResourceTags(STACK_TAGS)
+                .build();
+
+        assertThat(TagUpdates.shouldUpdateTags(request, RESOURCE_TAGS_OF)).isTrue();
+    }
+
+    @Test
+    public void testShouldUpdateTags_Unchanged() {
+        final ResourceHandlerRequest<Map<String, String>> request = ResourceHandlerRequest.<Map<String, String>>builder()
+                .previousResourceState(RESOURCE_TAGS)
+                .previousResourceTags(STACK_TAGS)
+                .desiredResourceState(ImmutableMap.of("resource", "value"))
+                .desiredResourceTags(ImmutableMap.of("stack", "value"))
+                .build();
+
+        assertThat(TagUpdates.shouldUpdateTags(request, RESOURCE_TAGS_OF)).isFalse();
+    }
+
+    @Test
+    public void testShouldUpdateTags_StackTagChanged() {
+        final ResourceHandlerRequest<Map<String, String>> request = ResourceHandlerRequest.<Map<String, String>>builder()
+                .previousResourceState(RESOURCE_TAGS)
+                .previousResourceTags(STACK_TAGS)
+                .desiredResourceState(RESOURCE_TAGS)
+                .desiredResourceTags(ImmutableMap.of("stack", "changed"))
+                .build();
+
+        assertThat(TagUpdates.shouldUpdateTags(request, RESOURCE_TAGS_OF)).isTrue();
+    }
+
+    @Test
+    public void testShouldUpdateTags_ResourceTagRemoved() {
+        final ResourceHandlerRequest<Map<String, String>> request = ResourceHandlerRequest.<Map<String, String>>builder()
+                .previousResourceState(RESOURCE_TAGS)
+                .desiredResourceState(ImmutableMap.of())
+                .build();
+
+        assertThat(TagUpdates.shouldUpdateTags(request, RESOURCE_TAGS_OF)).isTrue();
+    }
+
+    @Test
+    public void testAttachedTags_ResourceTagsWin() {
+        assertThat(TagUpdates.attachedTags(ImmutableMap.of("key", "stack", "stack", "value"),
+                ImmutableMap.of("key", "resource")))
+                .isEqualTo(ImmutableMap.of("key", "resource", "stack", "value"));
+        assertThat(TagUpdates.attachedTags(null, null)).isEmpty();
+    }
+
+    @Test
+    public void testRecordSkippedCalls() throws Exception {
+        final List<String> lines = new ArrayList<>();
+
+        TagUpdates.recordSkippedCalls(lines::add, "AWS-SageMaker-Image::UpdateTags", 2);
+
+        assertThat(lines).hasSize(1);
+        final JsonNode emf = new ObjectMapper().readTree(lines.get(0));
+        final JsonNode metrics = emf.get("_aws").get("CloudWatchMetrics").get(0).get("Metrics");
+        assertThat(metrics).hasSize(1);
+        assertThat(metrics.get(0).get("Name").asText()).isEqualTo(EmfMetricsSink.SKIPPED_TAG_CALLS);
+        assertThat(emf.get(EmfMetricsSink.DIMENSION).asText()).isEqualTo("AWS-SageMaker-Image::UpdateTags");
+        assertThat(emf.get(EmfMetricsSink.SKIPPED_TAG_CALLS).asInt()).isEqualTo(2);
+    }
+}
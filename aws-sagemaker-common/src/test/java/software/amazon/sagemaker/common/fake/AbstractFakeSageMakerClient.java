@@ -0,0 +1,88 @@
+package software.amazon.sagemaker.common.fake;
+
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.AddTagsRequest;
+import software.amazon.awssdk.services.sagemaker.model.AddTagsResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteTagsRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteTagsResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListTagsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListTagsResponse;
+import software.amazon.awssdk.services.sagemaker.model.Tag;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Base of the fake {@link SageMakerClient} of each resource provider module, implementing the tagging API on top of
+ * a {@link FakeSageMakerService}.
+ *
+ * <p>The modules build against different SDK versions, so each one implements the operations of its own resource
+ * type in a subclass; operations nobody implements fail with the {@link UnsupportedOperationException} of the
+ * interface defaults.
+ */
+public abstract class AbstractFakeSageMakerClient implements SageMakerClient {
+
+    protected final FakeSageMakerService service;
+
+    protected AbstractFakeSageMakerClient(final FakeSageMakerService service) {
+        this.service = service;
+    }
+
+    public FakeSageMakerService getService() {
+        return service;
+    }
+
+    @Override
+    public AddTagsResponse addTags(final AddTagsRequest request) {
+        return service.call("AddTags", () -> {
+            final Map<String, String> added = new LinkedHashMap<>();
+            request.tags().forEach(tag -> added.put(tag.key(), tag.value()));
+            service.tag(request.resourceArn(), added);
+            return AddTagsResponse.builder().tags(request.tags()).build();
+        });
+    }
+
+    @Override
+    public DeleteTagsResponse deleteTags(final DeleteTagsRequest request) {
+        return service.call("DeleteTags", () -> {
+            service.untag(request.resourceArn(), request.tagKeys());
+            return DeleteTagsResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListTagsResponse listTags(final ListTagsRequest request) {
+        return service.call("ListTags", () -> ListTagsResponse.builder()
+                .tags(sdkTags(service.tags(request.resourceArn())))
+                .build());
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * @param tags SDK tags, possibly null
+     * @return the tags as a map, in order
+     */
+    protected static Map<String, String> tagMap(final List<Tag> tags) {
+        final Map<String, String> map = new LinkedHashMap<>();
+        if (tags != null) {
+            tags.forEach(tag -> map.put(tag.key(), tag.value()));
+        }
+        return map;
+    }
+
+    private static List<Tag> sdkTags(final Map<String, String> tags) {
+        return tags.entrySet().stream()
+                .map(tag -> Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,89 @@
+package software.amazon.sagemaker.common.fake;
+
+import java.time.Instant;
+import java.util.function.UnaryOperator;
+
+/**
+ * A resource kept by a {@link FakeResourceTable}: its identity, the state the fake client describes it from, and its
+ * status with the transition it is going through.
+ *
+ * @param <T> state type, typically the SDK describe response or create request of the resource
+ */
+public final class FakeResource<T> {
+
+    private final String name;
+    private final String arn;
+    private final Instant creationTime;
+
+    private T state;
+    private Instant lastModifiedTime;
+    private String status;
+    private String nextStatus;
+    private long nextStatusAtMillis;
+    private boolean removedOnTransition;
+
+    FakeResource(final String name, final String arn, final T state, final Instant creationTime) {
+        this.name = name;
+        this.arn = arn;
+        this.state = state;
+        this.creationTime = creationTime;
+        this.lastModifiedTime = creationTime;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getArn() {
+        return arn;
+    }
+
+    public Instant getCreationTime() {
+        return creationTime;
+    }
+
+    public synchronized T getState() {
+        return state;
+    }
+
+    public synchronized Instant getLastModifiedTime() {
+        return lastModifiedTime;
+    }
+
+    /**
+     * @return the status as of the last time the table resolved the transition of the resource
+     */
+    public synchronized String getStatus() {
+        return status;
+    }
+
+    synchronized void transition(final String transientStatus, final String settledStatus, final long settleAtMillis,
+                                 final boolean removed) {
+        this.status = transientStatus;
+        this.nextStatus = settledStatus;
+        this.nextStatusAtMillis = settleAtMillis;
+        this.removedOnTransition = removed;
+    }
+
+    synchronized void change(final UnaryOperator<T> change, final Instant now) {
+        this.state = change.apply(state);
+        this.lastModifiedTime = now;
+    }
+
+    /**
+     * Completes the pending transition if its time has come.
+     *
+     * @param nowMillis virtual time of the caller
+     * @return false if the transition removed the resource
+     */
+    synchronized boolean resolve(final long nowMillis) {
+        if ((nextStatus != null || removedOnTransition) && nowMillis >= nextStatusAtMillis) {
+            if (removedOnTransition) {
+                return false;
+            }
+            status = nextStatus;
+            nextStatus = null;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,181 @@
+package software.amazon.sagemaker.common.fake;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Resources of one type kept by a {@link FakeSageMakerService}, keyed by name.
+ *
+ * <p>Every mutation puts the resource into a transient status, e.g. {@code Pending} or {@code Deleting}, which
+ * settles after the transition time of the table has passed on the virtual clock of the caller. A delete can settle
+ * into a terminal status, like apps that stay {@code Deleted}, or remove the resource, after which it is not found.
+ *
+ * @param <T> state type, typically the SDK describe response or create request of the resource
+ */
+public final class FakeResourceTable<T> {
+
+    private final FakeSageMakerService service;
+    private final String resourceType;
+    private final ConcurrentMap<String, FakeResource<T>> resources = new ConcurrentHashMap<>();
+
+    private volatile Duration transitionTime;
+
+    /**
+     * @param service the service the resources belong to
+     * @param resourceType resource type used in error messages, e.g. {@code Image}
+     * @param transitionTime virtual time a transient status lasts
+     */
+    public FakeResourceTable(final FakeSageMakerService service, final String resourceType,
+                             final Duration transitionTime) {
+        this.service = service;
+        this.resourceType = resourceType;
+        this.transitionTime = transitionTime;
+    }
+
+    /**
+     * @param transitionTime virtual time transient statuses of further mutations last
+     */
+    public void setTransitionTime(final Duration transitionTime) {
+        this.transitionTime = transitionTime;
+    }
+
+    /**
+     * Creates a resource in a transient status.
+     *
+     * @param name resource name
+     * @param arn resource arn
+     * @param state initial state
+     * @param transientStatus status while the resource is being created
+     * @param settledStatus status once the creation completed
+     * @return the created resource
+     * @throws software.amazon.awssdk.services.sagemaker.model.ResourceInUseException if the resource exists
+     */
+    public FakeResource<T> create(final String name, final String arn, final T state,
+                                  final String transientStatus, final String settledStatus) {
+        final FakeResource<T> created = new FakeResource<>(name, arn, state, service.now());
+        created.transition(transientStatus, settledStatus, settleAtMillis(), false);
+        final FakeResource<T> existing = resources.putIfAbsent(name, created);
+        if (existing != null) {
+            if (existing.resolve(service.nowMillis())) {
+                throw FakeSageMakerService.resourceInUse(String.format("%s %s already exists.", resourceType, name));
+            }
+            resources.replace(name, existing, created);
+        }
+        return created;
+    }
+
+    /**
+     * @param name resource name
+     * @return the resource, with its transition resolved against the virtual clock of the caller
+     * @throws software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException if the resource does not exist
+     */
+    public FakeResource<T> describe(final String name) {
+        final FakeResource<T> resource = resources.get(name);
+        if (resource == null || !resource.resolve(service.nowMillis())) {
+            if (resource != null) {
+                resources.remove(name, resource);
+            }
+            throw FakeSageMakerService.resourceNotFound(String.format("%s %s does not exist.", resourceType, name));
+        }
+        return resource;
+    }
+
+    /**
+     * Changes the state of a resource and puts it into a transient status.
+     *
+     * @param name resource name
+     * @param change computes the new state from the current one
+     * @param transientStatus status while the resource is being updated
+     * @param settledStatus status once the update completed
+     * @return the updated resource
+     */
+    public FakeResource<T> update(final String name, final UnaryOperator<T> change,
+                                  final String transientStatus, final String settledStatus) {
+        return update(name, change, transientStatus, settledStatus, transitionTime);
+    }
+
+    /**
+     * Changes the state of a resource and puts it into a transient status that lasts for its own time rather than
+     * the transition time of the table, e.g. an execution that is stopped long before it would have completed.
+     *
+     * @param name resource name
+     * @param change computes the new state from the current one
+     * @param transientStatus status while the resource is being updated
+     * @param settledStatus status once the update completed
+     * @param transientTime virtual time the transient status lasts
+     * @return the updated resource
+     */
+    public FakeResource<T> update(final String name, final UnaryOperator<T> change,
+                                  final String transientStatus, final String settledStatus,
+                                  final Duration transientTime) {
+        final FakeResource<T> resource = describe(name);
+        resource.change(change, service.now());
+        resource.transition(transientStatus, settledStatus, service.nowMillis() + transientTime.toMillis(), false);
+        return resource;
+    }
+
+    /**
+     * Starts deleting a resource.
+     *
+     * @param name resource name
+     * @param deletingStatus status while the resource is being deleted
+     * @param deletedStatus status once the deletion completed, or null if the resource is then not found
+     * @return the resource being deleted
+     */
+    public FakeResource<T> delete(final String name, final String deletingStatus, final String deletedStatus) {
+        final FakeResource<T> resource = describe(name);
+        resource.transition(deletingStatus, deletedStatus, settleAtMillis(), deletedStatus == null);
+        return resource;
+    }
+
+    /**
+     * Puts a resource into a status right away, without a transition, e.g. to simulate a failure.
+     *
+     * @param name resource name
+     * @param status the new status
+     */
+    public void setStatus(final String name, final String status) {
+        describe(name).transition(status, null, 0, false);
+    }
+
+    /**
+     * Forgets a resource right away, e.g. to let a deleted app that stays described as Deleted be created again.
+     *
+     * @param name resource name
+     */
+    public void remove(final String name) {
+        resources.remove(name);
+    }
+
+    /**
+     * @return the existing resources, oldest first
+     */
+    public List<FakeResource<T>> list() {
+        final long nowMillis = service.nowMillis();
+        final List<FakeResource<T>> listed = new ArrayList<>();
+        resources.forEach((name, resource) -> {
+            if (resource.resolve(nowMillis)) {
+                listed.add(resource);
+            }
+        });
+        listed.sort(Comparator.comparing((FakeResource<T> resource) -> resource.getCreationTime())
+                .thenComparing(FakeResource::getName));
+        return listed;
+    }
+
+    /**
+     * @return number of resources kept, including removed ones that were not described since
+     */
+    public int size() {
+        return resources.size();
+    }
+
+    private long settleAtMillis() {
+        return service.nowMillis() + transitionTime.toMillis();
+    }
+}
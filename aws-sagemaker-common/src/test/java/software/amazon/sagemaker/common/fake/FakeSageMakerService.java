@@ -0,0 +1,389 @@
+package software.amazon.sagemaker.common.fake;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.sagemaker.model.ConflictException;
+import software.amazon.awssdk.services.sagemaker.model.ResourceInUseException;
+import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.sagemaker.model.SageMakerException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory stand-in for the SageMaker service, shared by the fake clients of the resource provider modules.
+ *
+ * <p>Time is virtual: every call advances the clock by the configured call latency, and waits of the proxy returned
+ * by {@link #newProxy()} and callback delays of {@link #drive} advance it by the waited duration instead of sleeping.
+ * Resources of a {@link FakeResourceTable} move between statuses once enough virtual time has passed, so handlers
+ * poll them through the same transitions as against the service, and a full create or delete runs in milliseconds.
+ *
+ * <p>The clock is kept per thread, so that concurrent drivers of a load test do not speed up each other's resources.
+ * A resource must be driven from the thread that created it.
+ *
+ * <p>Calls can be throttled on demand, and a real latency can be added to every call to measure handler wall time.
+ */
+public final class FakeSageMakerService {
+
+    /**
+     * Handler invocations {@link #drive} allows before giving up on a resource that never settles.
+     */
+    public static final int MAX_INVOCATIONS = 1_000;
+
+    private static final Instant EPOCH = Instant.parse("2020-01-01T00:00:00Z");
+    private static final Credentials CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+
+    private final ThreadLocal<long[]> clock = ThreadLocal.withInitial(() -> new long[1]);
+    private final ConcurrentMap<String, LongAdder> calls = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map<String, String>> tags = new ConcurrentHashMap<>();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder invocations = new LongAdder();
+    private final AtomicInteger throttleNextCalls = new AtomicInteger();
+
+    private volatile long callLatencyMillis = 100;
+    private volatile long realLatencyNanos;
+    private volatile double throttleFraction;
+
+    /**
+     * @param latency virtual time every call takes, 100 milliseconds by default
+     * @return this service
+     */
+    public FakeSageMakerService withCallLatency(final Duration latency) {
+        this.callLatencyMillis = latency.toMillis();
+        return this;
+    }
+
+    /**
+     * @param latency wall time every call blocks the calling thread, none by default
+     * @return this service
+     */
+    public FakeSageMakerService withRealLatency(final Duration latency) {
+        this.realLatencyNanos = latency.toNanos();
+        return this;
+    }
+
+    /**
+     * Throttles the next calls, whatever their operation.
+     *
+     * @param count number of calls to throttle
+     */
+    public void throttleNextCalls(final int count) {
+        throttleNextCalls.set(count);
+    }
+
+    /**
+     * Throttles a random fraction of all further calls.
+     *
+     * @param fraction between 0, no throttling, and 1, every call
+     */
+    public void throttleFraction(final double fraction) {
+        this.throttleFraction = fraction;
+    }
+
+    /**
+     * @return virtual time of the calling thread, in milliseconds since the start of the thread's clock
+     */
+    public long nowMillis() {
+        return clock.get()[0];
+    }
+
+    /**
+     * @return virtual time of the calling thread
+     */
+    public Instant now() {
+        return EPOCH.plusMillis(nowMillis());
+    }
+
+    /**
+     * @return a clock reading the virtual time of the thread that asks it, for code that takes a {@link Clock}
+     */
+    public Clock clock() {
+        return new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(final ZoneId zone) {
+                throw new UnsupportedOperationException("The virtual clock is in UTC");
+            }
+
+            @Override
+            public Instant instant() {
+                return now();
+            }
+        };
+    }
+
+    /**
+     * Advances the virtual clock of the calling thread.
+     *
+     * @param duration time to pass
+     */
+    public void advance(final Duration duration) {
+        clock.get()[0] += duration.toMillis();
+    }
+
+    /**
+     * Runs a call of a fake client: counts it, lets the call latency pass and throttles it if requested.
+     *
+     * @param operation SageMaker operation name, e.g. {@code DescribeImage}
+     * @param call computes the response
+     * @param <T> response type
+     * @return the response
+     */
+    public <T> T call(final String operation, final Supplier<T> call) {
+        calls.computeIfAbsent(operation, key -> new LongAdder()).increment();
+        clock.get()[0] += callLatencyMillis;
+        if (realLatencyNanos > 0) {
+            sleep(realLatencyNanos);
+        }
+        if (shouldThrottle()) {
+            throttled.increment();
+            throw throttling(operation);
+        }
+        return call.get();
+    }
+
+    /**
+     * @param operation SageMaker operation name
+     * @return calls of the operation so far, including throttled ones
+     */
+    public long calls(final String operation) {
+        final LongAdder count = calls.get(operation);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * @return calls of all operations so far, including throttled ones
+     */
+    public long totalCalls() {
+        return calls.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * @return calls per operation so far, sorted by operation name
+     */
+    public Map<String, Long> callCounts() {
+        final Map<String, Long> counts = new TreeMap<>();
+        calls.forEach((operation, count) -> counts.put(operation, count.sum()));
+        return counts;
+    }
+
+    /**
+     * @return calls throttled so far
+     */
+    public long throttledCalls() {
+        return throttled.sum();
+    }
+
+    /**
+     * @return handler invocations made by {@link #drive} so far
+     */
+    public long handlerInvocations() {
+        return invocations.sum();
+    }
+
+    /**
+     * Forgets the call, throttle and invocation counts, keeping resources, tags and clocks.
+     */
+    public void resetCounts() {
+        calls.clear();
+        throttled.reset();
+        invocations.reset();
+    }
+
+    /**
+     * @param arn resource arn
+     * @return the tags of the resource, in the order they were added
+     */
+    public Map<String, String> tags(final String arn) {
+        final Map<String, String> resourceTags = tags.get(arn);
+        if (resourceTags == null) {
+            return Collections.emptyMap();
+        }
+        synchronized (resourceTags) {
+            return new LinkedHashMap<>(resourceTags);
+        }
+    }
+
+    /**
+     * Adds or overwrites tags of a resource.
+     *
+     * @param arn resource arn
+     * @param added tags to add
+     */
+    public void tag(final String arn, final Map<String, String> added) {
+        final Map<String, String> resourceTags = tags.computeIfAbsent(arn, key -> new LinkedHashMap<>());
+        synchronized (resourceTags) {
+            resourceTags.putAll(added);
+        }
+    }
+
+    /**
+     * Removes tags of a resource.
+     *
+     * @param arn resource arn
+     * @param keys keys of the tags to remove
+     */
+    public void untag(final String arn, final Iterable<String> keys) {
+        final Map<String, String> resourceTags = tags.get(arn);
+        if (resourceTags == null) {
+            return;
+        }
+        synchronized (resourceTags) {
+            keys.forEach(resourceTags::remove);
+        }
+    }
+
+    /**
+     * @return a wait strategy that advances the virtual clock of the calling thread instead of sleeping
+     */
+    public WaitStrategy waitStrategy() {
+        return new WaitStrategy() {
+            @Override
+            public <ModelT, CallbackT> ProgressEvent<ModelT, CallbackT> await(final long operationElapsedTime,
+                                                                              final Duration nextAttempt,
+                                                                              final CallbackT context,
+                                                                              final ModelT model) {
+                advance(nextAttempt);
+                return null;
+            }
+        };
+    }
+
+    /**
+     * Builds a proxy that stabilizes in a local loop with the handlers' own backoff, waiting on the virtual clock.
+     * Hand it a fake client with {@code proxy.newProxy(() -> client)}.
+     *
+     * @return the proxy
+     */
+    public AmazonWebServicesClientProxy newProxy() {
+        return new AmazonWebServicesClientProxy(new LoggerProxy(), CREDENTIALS,
+                DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY, waitStrategy());
+    }
+
+    /**
+     * Invokes a handler like CloudFormation does: again with the returned callback context, after its callback delay,
+     * for as long as it returns an in progress event.
+     *
+     * @param handler invokes the handler with a callback context
+     * @param callbackContext callback context of the first invocation
+     * @param <ModelT> resource model type
+     * @param <CallbackT> callback context type
+     * @return the first event that is not in progress
+     */
+    public <ModelT, CallbackT> ProgressEvent<ModelT, CallbackT> drive(
+            final Function<CallbackT, ProgressEvent<ModelT, CallbackT>> handler,
+            final CallbackT callbackContext) {
+        CallbackT context = callbackContext;
+        for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+            invocations.increment();
+            final ProgressEvent<ModelT, CallbackT> progress = handler.apply(context);
+            if (!progress.isInProgress()) {
+                return progress;
+            }
+            advance(Duration.ofSeconds(progress.getCallbackDelaySeconds()));
+            if (progress.getCallbackContext() != null) {
+                context = progress.getCallbackContext();
+            }
+        }
+        throw new IllegalStateException(String.format("Handler still in progress after %d invocations",
+                MAX_INVOCATIONS));
+    }
+
+    /**
+     * @param message error message
+     * @return the exception SageMaker throws for a resource that does not exist
+     */
+    public static ResourceNotFoundException resourceNotFound(final String message) {
+        return ResourceNotFoundException.builder()
+                .message(message)
+                .statusCode(400)
+                .awsErrorDetails(errorDetails("ResourceNotFound", message))
+                .build();
+    }
+
+    /**
+     * @param message error message
+     * @return the exception SageMaker throws for a resource that exists or is being used
+     */
+    public static ResourceInUseException resourceInUse(final String message) {
+        return ResourceInUseException.builder()
+                .message(message)
+                .statusCode(400)
+                .awsErrorDetails(errorDetails("ResourceInUse", message))
+                .build();
+    }
+
+    /**
+     * @param message error message
+     * @return the exception SageMaker throws for a change that conflicts with the state of a resource
+     */
+    public static ConflictException conflict(final String message) {
+        return ConflictException.builder()
+                .message(message)
+                .statusCode(400)
+                .awsErrorDetails(errorDetails("ConflictException", message))
+                .build();
+    }
+
+    /**
+     * @param operation SageMaker operation name
+     * @return the exception SageMaker throws for a throttled call
+     */
+    public static AwsServiceException throttling(final String operation) {
+        return SageMakerException.builder()
+                .message("Rate exceeded")
+                .statusCode(400)
+                .awsErrorDetails(errorDetails("ThrottlingException", "Rate exceeded for " + operation))
+                .build();
+    }
+
+    private static AwsErrorDetails errorDetails(final String errorCode, final String message) {
+        return AwsErrorDetails.builder()
+                .errorCode(errorCode)
+                .errorMessage(message)
+                .serviceName("SageMaker")
+                .sdkHttpResponse(SdkHttpResponse.builder().statusCode(400).build())
+                .build();
+    }
+
+    private boolean shouldThrottle() {
+        if (throttleNextCalls.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            return true;
+        }
+        return throttleFraction > 0 && ThreadLocalRandom.current().nextDouble() < throttleFraction;
+    }
+
+    private static void sleep(final long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
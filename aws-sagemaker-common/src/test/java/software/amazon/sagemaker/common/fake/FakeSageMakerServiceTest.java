@@ -0,0 +1,155 @@
+package software.amazon.sagemaker.common.fake;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.sagemaker.model.ResourceInUseException;
+import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FakeSageMakerServiceTest {
+
+    private final FakeSageMakerService service = new FakeSageMakerService().withCallLatency(Duration.ZERO);
+    private final FakeResourceTable<String> table = new FakeResourceTable<>(service, "App", Duration.ofSeconds(30));
+
+    @Test
+    public void testCreate_SettlesAfterTransitionTime() {
+        table.create("app", "arn:app", "state", "Pending", "InService");
+
+        service.advance(Duration.ofSeconds(29));
+        assertThat(table.describe("app").getStatus()).isEqualTo("Pending");
+
+        service.advance(Duration.ofSeconds(1));
+        assertThat(table.describe("app").getStatus()).isEqualTo("InService");
+    }
+
+    @Test
+    public void testCreate_Existing() {
+        table.create("app", "arn:app", "state", "Pending", "InService");
+
+        assertThrows(ResourceInUseException.class,
+                () -> table.create("app", "arn:app", "state", "Pending", "InService"));
+    }
+
+    @Test
+    public void testDelete_RemovesResource() {
+        table.create("app", "arn:app", "state", "Pending", "InService");
+        table.delete("app", "Deleting", null);
+
+        assertThat(table.describe("app").getStatus()).isEqualTo("Deleting");
+
+        service.advance(Duration.ofSeconds(30));
+        assertThrows(ResourceNotFoundException.class, () -> table.describe("app"));
+        assertThat(table.list()).isEmpty();
+
+        table.create("app", "arn:app", "recreated", "Pending", "InService");
+        assertThat(table.describe("app").getState()).isEqualTo("recreated");
+    }
+
+    @Test
+    public void testDelete_SettlesIntoTerminalStatus() {
+        table.create("app", "arn:app", "state", "Pending", "InService");
+        table.delete("app", "Deleting", "Deleted");
+
+        service.advance(Duration.ofSeconds(30));
+
+        assertThat(table.describe("app").getStatus()).isEqualTo("Deleted");
+        table.remove("app");
+        assertThrows(ResourceNotFoundException.class, () -> table.describe("app"));
+    }
+
+    @Test
+    public void testUpdate_ChangesStateAndSettles() {
+        table.create("app", "arn:app", "state", "Pending", "InService");
+        service.advance(Duration.ofSeconds(30));
+
+        table.update("app", state -> state + "'", "Updating", "InService");
+
+        assertThat(table.describe("app").getStatus()).isEqualTo("Updating");
+        assertThat(table.describe("app").getState()).isEqualTo("state'");
+        assertThat(table.describe("app").getLastModifiedTime()).isAfter(table.describe("app").getCreationTime());
+        service.advance(Duration.ofSeconds(30));
+        assertThat(table.describe("app").getStatus()).isEqualTo("InService");
+    }
+
+    @Test
+    public void testSetStatus() {
+        table.create("app", "arn:app", "state", "Pending", "InService");
+
+        table.setStatus("app", "Failed");
+        service.advance(Duration.ofSeconds(30));
+
+        assertThat(table.describe("app").getStatus()).isEqualTo("Failed");
+    }
+
+    @Test
+    public void testClockIsKeptPerThread() throws InterruptedException {
+        table.create("app", "arn:app", "state", "Pending", "InService");
+        final Thread other = new Thread(() -> service.advance(Duration.ofHours(1)));
+        other.start();
+        other.join();
+
+        assertThat(service.nowMillis()).isZero();
+        assertThat(table.describe("app").getStatus()).isEqualTo("Pending");
+    }
+
+    @Test
+    public void testCall_CountsAndThrottles() {
+        service.withCallLatency(Duration.ofMillis(100));
+        service.throttleNextCalls(2);
+
+        final AwsServiceException e = assertThrows(AwsServiceException.class,
+                () -> service.call("DescribeApp", () -> "described"));
+        assertThat(e.isThrottlingException()).isTrue();
+        assertThrows(AwsServiceException.class, () -> service.call("ListApps", () -> "listed"));
+        assertThat(service.call("DescribeApp", () -> "described")).isEqualTo("described");
+
+        assertThat(service.calls("DescribeApp")).isEqualTo(2);
+        assertThat(service.totalCalls()).isEqualTo(3);
+        assertThat(service.throttledCalls()).isEqualTo(2);
+        assertThat(service.callCounts()).containsKeys("DescribeApp", "ListApps");
+        assertThat(service.nowMillis()).isEqualTo(300);
+
+        service.resetCounts();
+        assertThat(service.totalCalls()).isZero();
+    }
+
+    @Test
+    public void testTags() {
+        service.tag("arn:app", Collections.singletonMap("a", "1"));
+        service.tag("arn:app", Collections.singletonMap("b", "2"));
+        service.untag("arn:app", Arrays.asList("a", "c"));
+        service.untag("arn:other", Collections.singletonList("a"));
+
+        assertThat(service.tags("arn:app")).containsExactly(org.assertj.core.api.Assertions.entry("b", "2"));
+        assertThat(service.tags("arn:other")).isEmpty();
+    }
+
+    @Test
+    public void testDrive_ReinvokesAfterCallbackDelay() {
+        final AtomicInteger invocations = new AtomicInteger();
+
+        final ProgressEvent<String, StdCallbackContext> progress = service.drive(context ->
+                invocations.incrementAndGet() < 3
+                        ? ProgressEvent.defaultInProgressHandler(context, 10, "model")
+                        : ProgressEvent.defaultSuccessHandler("model"), new StdCallbackContext());
+
+        assertThat(progress.isSuccess()).isTrue();
+        assertThat(service.handlerInvocations()).isEqualTo(3);
+        assertThat(service.nowMillis()).isEqualTo(20_000);
+    }
+
+    @Test
+    public void testDrive_GivesUp() {
+        assertThrows(IllegalStateException.class, () -> service.drive(context ->
+                ProgressEvent.defaultInProgressHandler(context, 0, "model"), new StdCallbackContext()));
+    }
+}
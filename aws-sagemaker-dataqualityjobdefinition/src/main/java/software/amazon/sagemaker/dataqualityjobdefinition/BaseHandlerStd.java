@@ -6,6 +6,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.ApiRateLimiter;
 
 /**
  * Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
@@ -20,13 +21,23 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger
-        );
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final ApiRateLimiter rateLimiter = ApiRateLimiter.forRequest(request);
+        final ProxyClient<SageMakerClient> proxyClient = rateLimiter.limit(proxy.newProxy(ClientBuilder::getClient));
+        if (!reschedulesOnThrottle()) {
+            return handleRequest(proxy, request, context, proxyClient, logger);
+        }
+        return rateLimiter.rescheduleOnThrottle(
+                () -> handleRequest(proxy, request, context, proxyClient, logger),
+                request.getDesiredResourceState(), context, logger);
+    }
+
+    /**
+     * @return whether a throttled invocation is called back later instead of failing; handlers that CloudFormation
+     * cannot call back, like Read and List, return false
+     */
+    protected boolean reschedulesOnThrottle() {
+        return true;
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
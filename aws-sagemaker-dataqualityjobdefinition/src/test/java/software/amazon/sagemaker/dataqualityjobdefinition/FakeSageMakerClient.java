@@ -0,0 +1,76 @@
+package software.amazon.sagemaker.dataqualityjobdefinition;
+
+import java.time.Duration;
+
+import software.amazon.awssdk.services.sagemaker.model.CreateDataQualityJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateDataQualityJobDefinitionResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteDataQualityJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteDataQualityJobDefinitionResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDataQualityJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDataQualityJobDefinitionResponse;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for data quality job definitions, which have no status: they exist as soon as they are
+ * created and are not found as soon as they are deleted.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    private final FakeResourceTable<DescribeDataQualityJobDefinitionResponse> jobDefinitions;
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.jobDefinitions = new FakeResourceTable<>(service, "Job definition", Duration.ZERO);
+    }
+
+    public FakeResourceTable<DescribeDataQualityJobDefinitionResponse> getJobDefinitions() {
+        return jobDefinitions;
+    }
+
+    @Override
+    public CreateDataQualityJobDefinitionResponse createDataQualityJobDefinition(
+            final CreateDataQualityJobDefinitionRequest request) {
+        return service.call("CreateDataQualityJobDefinition", () -> {
+            final String arn = "arn:aws:sagemaker:us-west-2:123456789012:data-quality-job-definition/"
+                    + request.jobDefinitionName();
+            jobDefinitions.create(request.jobDefinitionName(), arn, DescribeDataQualityJobDefinitionResponse.builder()
+                    .jobDefinitionArn(arn)
+                    .jobDefinitionName(request.jobDefinitionName())
+                    .dataQualityAppSpecification(request.dataQualityAppSpecification())
+                    .dataQualityBaselineConfig(request.dataQualityBaselineConfig())
+                    .dataQualityJobInput(request.dataQualityJobInput())
+                    .dataQualityJobOutputConfig(request.dataQualityJobOutputConfig())
+                    .jobResources(request.jobResources())
+                    .networkConfig(request.networkConfig())
+                    .roleArn(request.roleArn())
+                    .stoppingCondition(request.stoppingCondition())
+                    .build(), null, null);
+            service.tag(arn, tagMap(request.tags()));
+            return CreateDataQualityJobDefinitionResponse.builder().jobDefinitionArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeDataQualityJobDefinitionResponse describeDataQualityJobDefinition(
+            final DescribeDataQualityJobDefinitionRequest request) {
+        return service.call("DescribeDataQualityJobDefinition", () -> {
+            final FakeResource<DescribeDataQualityJobDefinitionResponse> jobDefinition =
+                    jobDefinitions.describe(request.jobDefinitionName());
+            return jobDefinition.getState().toBuilder()
+                    .creationTime(jobDefinition.getCreationTime())
+                    .build();
+        });
+    }
+
+    @Override
+    public DeleteDataQualityJobDefinitionResponse deleteDataQualityJobDefinition(
+            final DeleteDataQualityJobDefinitionRequest request) {
+        return service.call("DeleteDataQualityJobDefinition", () -> {
+            jobDefinitions.delete(request.jobDefinitionName(), null, null);
+            return DeleteDataQualityJobDefinitionResponse.builder().build();
+        });
+    }
+}
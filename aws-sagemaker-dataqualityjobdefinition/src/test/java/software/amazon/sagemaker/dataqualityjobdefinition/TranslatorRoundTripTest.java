@@ -0,0 +1,122 @@
+package software.amazon.sagemaker.dataqualityjobdefinition;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.model.CreateDataQualityJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDataQualityJobDefinitionResponse;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Translates a model into a create request and the describe response SageMaker would answer with back into a model.
+ */
+public class TranslatorRoundTripTest extends AbstractTestBase {
+
+    @Test
+    public void testRoundTrip_AllProperties() {
+        final ResourceModel model = ResourceModel.builder()
+                .jobDefinitionName(TEST_JOB_DEFINITION_NAME)
+                .roleArn(TEST_ARN)
+                .dataQualityAppSpecification(DataQualityAppSpecification.builder()
+                        .imageUri(TEST_IMAGE_URI)
+                        .containerArguments(Collections.singletonList("--verbose"))
+                        .containerEntrypoint(Collections.singletonList("analyze"))
+                        .postAnalyticsProcessorSourceUri("s3://bucket/post.py")
+                        .recordPreprocessorSourceUri("s3://bucket/pre.py")
+                        .environment(Collections.singletonMap("KEY", "value"))
+                        .build())
+                .dataQualityBaselineConfig(DataQualityBaselineConfig.builder()
+                        .baseliningJobName("baseliningJob")
+                        .constraintsResource(ConstraintsResource.builder().s3Uri("s3://bucket/constraints").build())
+                        .statisticsResource(StatisticsResource.builder().s3Uri("s3://bucket/statistics").build())
+                        .build())
+                .dataQualityJobInput(DataQualityJobInput.builder()
+                        .endpointInput(EndpointInput.builder()
+                                .endpointName(TEST_ENDPOINT_NAME)
+                                .localPath(TEST_ENDPOINT_LOCAL_PATH)
+                                .s3DataDistributionType("FullyReplicated")
+                                .s3InputMode("File")
+                                .build())
+                        .build())
+                .dataQualityJobOutputConfig(MonitoringOutputConfig.builder()
+                        .kmsKeyId("outputKey")
+                        .monitoringOutputs(Collections.singletonList(MonitoringOutput.builder()
+                                .s3Output(S3Output.builder()
+                                        .localPath("/opt/ml/processing/output")
+                                        .s3UploadMode("EndOfJob")
+                                        .s3Uri("s3://bucket/output")
+                                        .build())
+                                .build()))
+                        .build())
+                .jobResources(MonitoringResources.builder()
+                        .clusterConfig(ClusterConfig.builder()
+                                .instanceCount(1)
+                                .instanceType("ml.m5.large")
+                                .volumeKmsKeyId("volumeKey")
+                                .volumeSizeInGB(20)
+                                .build())
+                        .build())
+                .networkConfig(NetworkConfig.builder()
+                        .enableInterContainerTrafficEncryption(true)
+                        .enableNetworkIsolation(false)
+                        .vpcConfig(VpcConfig.builder()
+                                .securityGroupIds(Collections.singletonList("sg-1"))
+                                .subnets(Collections.singletonList("subnet-1"))
+                                .build())
+                        .build())
+                .stoppingCondition(StoppingCondition.builder().maxRuntimeInSeconds(1800).build())
+                .build();
+
+        final ResourceModel translated = roundTrip(model);
+
+        assertThat(translated.getDataQualityAppSpecification()).isEqualTo(model.getDataQualityAppSpecification());
+        assertThat(translated.getDataQualityBaselineConfig()).isEqualTo(model.getDataQualityBaselineConfig());
+        assertThat(translated.getDataQualityJobInput()).isEqualTo(model.getDataQualityJobInput());
+        assertThat(translated.getDataQualityJobOutputConfig()).isEqualTo(model.getDataQualityJobOutputConfig());
+        assertThat(translated.getJobResources()).isEqualTo(model.getJobResources());
+        assertThat(translated.getNetworkConfig()).isEqualTo(model.getNetworkConfig());
+        assertThat(translated.getStoppingCondition()).isEqualTo(model.getStoppingCondition());
+        assertThat(translated.getRoleArn()).isEqualTo(TEST_ARN);
+    }
+
+    @Test
+    public void testRoundTrip_OptionalPropertiesOmitted() {
+        final ResourceModel model = ResourceModel.builder()
+                .jobDefinitionName(TEST_JOB_DEFINITION_NAME)
+                .roleArn(TEST_ARN)
+                .dataQualityBaselineConfig(DataQualityBaselineConfig.builder().build())
+                .jobResources(MonitoringResources.builder().build())
+                .networkConfig(NetworkConfig.builder().build())
+                .dataQualityJobInput(DataQualityJobInput.builder().build())
+                .build();
+
+        final ResourceModel translated = roundTrip(model);
+
+        assertThat(translated.getDataQualityAppSpecification()).isNull();
+        assertThat(translated.getDataQualityJobOutputConfig()).isNull();
+        assertThat(translated.getStoppingCondition()).isNull();
+        assertThat(translated.getDataQualityBaselineConfig().getConstraintsResource()).isNull();
+        assertThat(translated.getDataQualityBaselineConfig().getStatisticsResource()).isNull();
+        assertThat(translated.getJobResources().getClusterConfig()).isNull();
+        assertThat(translated.getNetworkConfig().getVpcConfig()).isNull();
+        assertThat(translated.getDataQualityJobInput().getEndpointInput()).isNull();
+    }
+
+    private static ResourceModel roundTrip(final ResourceModel model) {
+        final CreateDataQualityJobDefinitionRequest request = TranslatorForRequest.translateToCreateRequest(model);
+        return TranslatorForResponse.translateFromReadResponse(DescribeDataQualityJobDefinitionResponse.builder()
+                .jobDefinitionArn(TEST_JOB_DEFINITION_ARN)
+                .jobDefinitionName(request.jobDefinitionName())
+                .creationTime(TEST_TIME)
+                .dataQualityAppSpecification(request.dataQualityAppSpecification())
+                .dataQualityBaselineConfig(request.dataQualityBaselineConfig())
+                .dataQualityJobInput(request.dataQualityJobInput())
+                .dataQualityJobOutputConfig(request.dataQualityJobOutputConfig())
+                .jobResources(request.jobResources())
+                .networkConfig(request.networkConfig())
+                .roleArn(request.roleArn())
+                .stoppingCondition(request.stoppingCondition())
+                .build());
+    }
+}
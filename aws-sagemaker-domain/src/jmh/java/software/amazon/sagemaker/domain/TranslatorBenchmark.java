@@ -0,0 +1,171 @@
+package software.amazon.sagemaker.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.sagemaker.model.CreateDomainRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDomainResponse;
+import software.amazon.awssdk.services.sagemaker.model.DomainStatus;
+import software.amazon.awssdk.services.sagemaker.model.UpdateDomainRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Domain request/response mappers against a fully populated model.
+ * Run with {@code mvn -Pjmh verify}; the gc profiler reports the allocation rate next to the throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final int MAX_TAGS = 50;
+
+    /** Custom images per KernelGateway/RSession app settings; the schema allows up to 30. */
+    @Param({"1", "30"})
+    public int customImageCount;
+
+    private ResourceModel model;
+    private DescribeDomainResponse describeResponse;
+
+    @Setup
+    public void setup() {
+        model = ResourceModel.builder()
+                .domainId("d-xxxxxxxxxxxx")
+                .domainName("benchmark-domain")
+                .appNetworkAccessType("VpcOnly")
+                .authMode("IAM")
+                .kmsKeyId("arn:aws:kms:us-west-2:123456789012:key/benchmark")
+                .vpcId("vpc-0123456789abcdef0")
+                .subnetIds(Arrays.asList("subnet-0123456789abcdef0", "subnet-0123456789abcdef1"))
+                .appSecurityGroupManagement("Service")
+                .defaultUserSettings(UserSettings.builder()
+                        .executionRole("arn:aws:iam::123456789012:role/benchmark")
+                        .securityGroups(Arrays.asList("sg-0123456789abcdef0", "sg-0123456789abcdef1"))
+                        .jupyterServerAppSettings(JupyterServerAppSettings.builder()
+                                .defaultResourceSpec(resourceSpec())
+                                .build())
+                        .kernelGatewayAppSettings(KernelGatewayAppSettings.builder()
+                                .customImages(customImages())
+                                .defaultResourceSpec(resourceSpec())
+                                .build())
+                        .rSessionAppSettings(RSessionAppSettings.builder()
+                                .customImages(customImages())
+                                .defaultResourceSpec(resourceSpec())
+                                .build())
+                        .rStudioServerProAppSettings(RStudioServerProAppSettings.builder()
+                                .accessStatus("ENABLED")
+                                .userGroup("R_STUDIO_USER")
+                                .build())
+                        .sharingSettings(SharingSettings.builder()
+                                .notebookOutputOption("Allowed")
+                                .s3KmsKeyId("arn:aws:kms:us-west-2:123456789012:key/benchmark")
+                                .s3OutputPath("s3://benchmark-bucket/sharing")
+                                .build())
+                        .build())
+                .defaultSpaceSettings(DefaultSpaceSettings.builder()
+                        .executionRole("arn:aws:iam::123456789012:role/benchmark")
+                        .securityGroups(Arrays.asList("sg-0123456789abcdef0", "sg-0123456789abcdef1"))
+                        .jupyterServerAppSettings(JupyterServerAppSettings.builder()
+                                .defaultResourceSpec(resourceSpec())
+                                .build())
+                        .kernelGatewayAppSettings(KernelGatewayAppSettings.builder()
+                                .customImages(customImages())
+                                .defaultResourceSpec(resourceSpec())
+                                .build())
+                        .build())
+                .domainSettings(DomainSettings.builder()
+                        .securityGroupIds(Arrays.asList("sg-0123456789abcdef0", "sg-0123456789abcdef1"))
+                        .rStudioServerProDomainSettings(RStudioServerProDomainSettings.builder()
+                                .domainExecutionRoleArn("arn:aws:iam::123456789012:role/benchmark")
+                                .rStudioConnectUrl("https://connect.example.com")
+                                .rStudioPackageManagerUrl("https://packages.example.com")
+                                .defaultResourceSpec(resourceSpec())
+                                .build())
+                        .build())
+                .tags(tags())
+                .build();
+
+        // Feed the read mapper the same shapes the create mapper produces so both directions see equal work.
+        final CreateDomainRequest createRequest = TranslatorForRequest.translateToCreateRequest(model);
+        describeResponse = DescribeDomainResponse.builder()
+                .domainArn("arn:aws:sagemaker:us-west-2:123456789012:domain/d-xxxxxxxxxxxx")
+                .domainId("d-xxxxxxxxxxxx")
+                .domainName(createRequest.domainName())
+                .appNetworkAccessType(createRequest.appNetworkAccessType())
+                .appSecurityGroupManagement(createRequest.appSecurityGroupManagement())
+                .authMode(createRequest.authMode())
+                .defaultUserSettings(createRequest.defaultUserSettings())
+                .defaultSpaceSettings(createRequest.defaultSpaceSettings())
+                .domainSettings(createRequest.domainSettings())
+                .homeEfsFileSystemId("fs-0123456789abcdef0")
+                .kmsKeyId(createRequest.kmsKeyId())
+                .securityGroupIdForDomainBoundary("sg-0123456789abcdef2")
+                .status(DomainStatus.IN_SERVICE)
+                .subnetIds(createRequest.subnetIds())
+                .url("https://d-xxxxxxxxxxxx.studio.us-west-2.sagemaker.aws")
+                .vpcId(createRequest.vpcId())
+                .creationTime(Instant.now())
+                .lastModifiedTime(Instant.now())
+                .build();
+    }
+
+    @Benchmark
+    public CreateDomainRequest translateToCreateRequest() {
+        return TranslatorForRequest.translateToCreateRequest(model);
+    }
+
+    @Benchmark
+    public UpdateDomainRequest translateToUpdateRequest() {
+        return TranslatorForRequest.translateToUpdateRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return TranslatorForResponse.translateFromReadResponse(describeResponse);
+    }
+
+    private static ResourceSpec resourceSpec() {
+        return ResourceSpec.builder()
+                .instanceType("ml.t3.medium")
+                .sageMakerImageArn("arn:aws:sagemaker:us-west-2:123456789012:image/benchmark")
+                .sageMakerImageVersionArn("arn:aws:sagemaker:us-west-2:123456789012:image-version/benchmark/1")
+                .lifecycleConfigArn("arn:aws:sagemaker:us-west-2:123456789012:studio-lifecycle-config/benchmark")
+                .build();
+    }
+
+    private List<CustomImage> customImages() {
+        final List<CustomImage> customImages = new ArrayList<>(customImageCount);
+        for (int i = 0; i < customImageCount; i++) {
+            customImages.add(CustomImage.builder()
+                    .appImageConfigName("benchmark-app-image-config-" + i)
+                    .imageName("benchmark-image-" + i)
+                    .imageVersionNumber(i + 1)
+                    .build());
+        }
+        return customImages;
+    }
+
+    private static List<Tag> tags() {
+        final List<Tag> tags = new ArrayList<>(MAX_TAGS);
+        for (int i = 0; i < MAX_TAGS; i++) {
+            tags.add(Tag.builder().key("key-" + i).value("value-" + i).build());
+        }
+        return tags;
+    }
+}
@@ -1,10 +1,14 @@
 package software.amazon.sagemaker.domain;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.sagemaker.common.StabilizationHistory;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    private StabilizationHistory stabilizationHistory = new StabilizationHistory();
+    private String cascadePhase;
+    private StabilizationHistory cascadeHistory = new StabilizationHistory();
 }
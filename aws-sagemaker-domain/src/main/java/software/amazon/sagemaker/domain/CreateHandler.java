@@ -15,12 +15,17 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 public class CreateHandler extends BaseHandlerStd {
 
     private static final String OPERATION = "AWS-SageMaker-Domain::Create";
     private static final String READ_ONLY_PROPERTY_ERROR_MESSAGE = "The following property '%s' is not allowed to configured.";
 
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -59,11 +64,15 @@ public class CreateHandler extends BaseHandlerStd {
         }
 
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress -> proxy.initiate(OPERATION, proxyClient, model, callbackContext)
-                        .translateToServiceRequest(TranslatorForRequest::translateToCreateRequest)
-                        .makeServiceCall(this::createResource)
-                        .stabilize(this::stabilizedOnCreate)
-                        .done(createResponse -> constructResourceModelFromResponse(createResponse, model, proxyClient))
+                .then(progress ->
+                        StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(TranslatorForRequest::translateToCreateRequest)
+                                    .makeServiceCall(this::createResource)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnCreate))
+                                    .done(createResponse ->
+                                            constructResourceModelFromResponse(createResponse, model, proxyClient)))
                 );
     }
 
@@ -122,6 +131,7 @@ public class CreateHandler extends BaseHandlerStd {
             logger.log(String.format("Resource not found for %s, stabilizing.", model.getPrimaryIdentifier()));
             return false;
         }
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), DomainStatus.toString());
 
         switch (DomainStatus) {
             case IN_SERVICE:
@@ -2,12 +2,23 @@ package software.amazon.sagemaker.domain;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.AppDetails;
+import software.amazon.awssdk.services.sagemaker.model.AppStatus;
 import software.amazon.awssdk.services.sagemaker.model.DeleteDomainRequest;
 import software.amazon.awssdk.services.sagemaker.model.DeleteDomainResponse;
 import software.amazon.awssdk.services.sagemaker.model.DomainStatus;
+import software.amazon.awssdk.services.sagemaker.model.ListAppsResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListSpacesResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListUserProfilesResponse;
 import software.amazon.awssdk.services.sagemaker.model.ResourceInUseException;
 import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.sagemaker.model.SpaceDetails;
+import software.amazon.awssdk.services.sagemaker.model.SpaceStatus;
+import software.amazon.awssdk.services.sagemaker.model.UserProfileDetails;
+import software.amazon.awssdk.services.sagemaker.model.UserProfileStatus;
 import software.amazon.cloudformation.Action;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -16,13 +27,73 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.BackoffProfile;
+import software.amazon.sagemaker.common.StabilizationHistory;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
 
 public class DeleteHandler extends BaseHandlerStd {
 
     private static final String OPERATION = "AWS-SageMaker-Domain::Delete";
 
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder()
+            .profile(DomainStatus.PENDING.toString(), BackoffProfile.SHORT_POLL)
+            .profile(DomainStatus.DELETING.toString(), BackoffProfile.LONG_POLL)
+            .build();
+
+    private static final String CASCADE_OPERATION = "AWS-SageMaker-Domain::DeleteDependents";
+
+    // Dependents are deleted leaves first: apps, then the spaces and user profiles that own them
+    static final String CASCADE_APPS = "Apps";
+    static final String CASCADE_SPACES = "Spaces";
+    static final String CASCADE_USER_PROFILES = "UserProfiles";
+    static final String CASCADE_COMPLETE = "Complete";
+
+    static final int MAX_CONCURRENT_DELETES = 10;
+
+    // A domain with hundreds of users takes longer to empty than a single resource takes to stabilize
+    private static final StabilizationScheduler CASCADE_SCHEDULER = StabilizationScheduler.builder()
+            .timeout(Duration.ofHours(2))
+            .build();
+
+    // Shared by all invocations; each invocation bounds its own parallelism by the number of workers it submits
+    private static final ExecutorService deleteExecutor = Executors.newCachedThreadPool(r -> {
+        final Thread thread = new Thread(r, "domain-dependent-delete");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final StabilizationScheduler stabilizationScheduler;
+    private final StabilizationScheduler cascadeScheduler;
+
     private Logger logger;
 
+    public DeleteHandler() {
+        this(STABILIZATION_SCHEDULER);
+    }
+
+    public DeleteHandler(final StabilizationScheduler stabilizationScheduler) {
+        this(stabilizationScheduler, CASCADE_SCHEDULER);
+    }
+
+    public DeleteHandler(
+            final StabilizationScheduler stabilizationScheduler,
+            final StabilizationScheduler cascadeScheduler) {
+        this.stabilizationScheduler = stabilizationScheduler;
+        this.cascadeScheduler = cascadeScheduler;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -35,14 +106,224 @@ public class DeleteHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
 
         return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> Boolean.TRUE.equals(model.getCascadeDelete())
+                        ? deleteDependents(proxyClient, progress)
+                        : progress)
                 .then(progress ->
-                        proxy.initiate(OPERATION, proxyClient, model, callbackContext)
-                                .translateToServiceRequest(TranslatorForRequest::translateToDeleteRequest)
-                                .makeServiceCall(this::deleteResource)
-                                .stabilize(this::stabilizedOnDelete)
-                                .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                        .status(OperationStatus.SUCCESS)
-                                        .build()));
+                        StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(TranslatorForRequest::translateToDeleteRequest)
+                                    .backoffDelay(stabilizationScheduler.delay(callbackContext.getStabilizationHistory()))
+                                    .makeServiceCall(this::deleteResource)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnDelete))
+                                    .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
+                                            .status(OperationStatus.SUCCESS)
+                                            .build())));
+    }
+
+    /**
+     * Deletes the apps, spaces and user profiles of the domain, one kind after the other. Each invocation lists the
+     * dependents of the current phase, deletes those not yet being deleted and, while any remain, asks for a
+     * callback with the backoff of the cascade scheduler. The phase is kept in the callback context, so a callback
+     * resumes with the dependents it was waiting for.
+     *
+     * @param proxyClient the aws service client to make the calls
+     * @param progress event of the preceding step
+     * @return progressEvent continuing with the domain delete once it has no dependents, or waiting for a callback
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> deleteDependents(
+            final ProxyClient<SageMakerClient> proxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        if (CASCADE_COMPLETE.equals(callbackContext.getCascadePhase())) {
+            return progress;
+        }
+
+        final StabilizationHistory history = callbackContext.getCascadeHistory();
+        return StabilizationMetrics.emf(logger).track(CASCADE_OPERATION, history, () -> {
+            String phase = callbackContext.getCascadePhase() == null ? CASCADE_APPS : callbackContext.getCascadePhase();
+            while (!CASCADE_COMPLETE.equals(phase)) {
+                final int remaining = deleteDependents(phase, model.getDomainId(), proxyClient, history);
+                if (remaining > 0) {
+                    callbackContext.setCascadePhase(phase);
+                    cascadeScheduler.observe(history, phase);
+                    final Duration delay = cascadeScheduler.delay(history).nextDelay(history.getTotalPolls());
+                    if (delay.isZero()) {
+                        throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getDomainId());
+                    }
+                    logger.log(String.format("%s [%s] is waiting for %d %s to be deleted",
+                            ResourceModel.TYPE_NAME, model.getDomainId(), remaining, phase));
+                    return ProgressEvent.defaultInProgressHandler(callbackContext,
+                            (int) Math.max(1, delay.getSeconds()), model);
+                }
+                phase = nextPhase(phase);
+            }
+            cascadeScheduler.complete(history);
+            callbackContext.setCascadePhase(CASCADE_COMPLETE);
+            return progress;
+        });
+    }
+
+    private static String nextPhase(final String phase) {
+        switch (phase) {
+            case CASCADE_APPS:
+                return CASCADE_SPACES;
+            case CASCADE_SPACES:
+                return CASCADE_USER_PROFILES;
+            default:
+                return CASCADE_COMPLETE;
+        }
+    }
+
+    /**
+     * Lists the dependents of one kind and deletes those that are not being deleted already.
+     *
+     * @param phase kind of the dependents
+     * @param domainId domain id
+     * @param proxyClient the aws service client to make the calls
+     * @param history cascade history counting the deletes
+     * @return number of dependents that still exist
+     */
+    private int deleteDependents(
+            final String phase,
+            final String domainId,
+            final ProxyClient<SageMakerClient> proxyClient,
+            final StabilizationHistory history) {
+        final List<Runnable> deletes = new ArrayList<>();
+        int deleting = 0;
+        String nextToken = null;
+        do {
+            switch (phase) {
+                case CASCADE_APPS: {
+                    final ListAppsResponse page = invoke(
+                            TranslatorForRequest.translateToListAppsRequest(domainId, nextToken), domainId,
+                            proxyClient, (request, client) -> client.injectCredentialsAndInvokeV2(request,
+                                    client.client()::listApps));
+                    for (final AppDetails app : page.apps()) {
+                        if (app.status() == AppStatus.DELETING) {
+                            deleting++;
+                        } else if (app.status() != AppStatus.DELETED) {
+                            deletes.add(() -> proxyClient.injectCredentialsAndInvokeV2(
+                                    TranslatorForRequest.translateToDeleteAppRequest(app),
+                                    proxyClient.client()::deleteApp));
+                        }
+                    }
+                    nextToken = page.nextToken();
+                    break;
+                }
+                case CASCADE_SPACES: {
+                    final ListSpacesResponse page = invoke(
+                            TranslatorForRequest.translateToListSpacesRequest(domainId, nextToken), domainId,
+                            proxyClient, (request, client) -> client.injectCredentialsAndInvokeV2(request,
+                                    client.client()::listSpaces));
+                    for (final SpaceDetails space : page.spaces()) {
+                        if (space.status() == SpaceStatus.DELETE_FAILED) {
+                            throw dependentNotDeleted(domainId, "space", space.spaceName());
+                        } else if (space.status() == SpaceStatus.DELETING) {
+                            deleting++;
+                        } else {
+                            deletes.add(() -> proxyClient.injectCredentialsAndInvokeV2(
+                                    TranslatorForRequest.translateToDeleteSpaceRequest(space),
+                                    proxyClient.client()::deleteSpace));
+                        }
+                    }
+                    nextToken = page.nextToken();
+                    break;
+                }
+                default: {
+                    final ListUserProfilesResponse page = invoke(
+                            TranslatorForRequest.translateToListUserProfilesRequest(domainId, nextToken), domainId,
+                            proxyClient, (request, client) -> client.injectCredentialsAndInvokeV2(request,
+                                    client.client()::listUserProfiles));
+                    for (final UserProfileDetails userProfile : page.userProfiles()) {
+                        if (userProfile.status() == UserProfileStatus.DELETE_FAILED) {
+                            throw dependentNotDeleted(domainId, "user profile", userProfile.userProfileName());
+                        } else if (userProfile.status() == UserProfileStatus.DELETING) {
+                            deleting++;
+                        } else {
+                            deletes.add(() -> proxyClient.injectCredentialsAndInvokeV2(
+                                    TranslatorForRequest.translateToDeleteUserProfileRequest(userProfile),
+                                    proxyClient.client()::deleteUserProfile));
+                        }
+                    }
+                    nextToken = page.nextToken();
+                    break;
+                }
+            }
+        } while (nextToken != null);
+
+        deleteConcurrently(deletes, domainId);
+        history.count(phase + "Deleted", deletes.size());
+        return deleting + deletes.size();
+    }
+
+    /**
+     * Deletes dependents on the shared pool, with at most {@link #MAX_CONCURRENT_DELETES} calls in flight. A
+     * dependent that is gone or still in use by its own dependents is left to the next invocation.
+     *
+     * @param deletes delete calls of the dependents
+     * @param domainId domain id
+     */
+    private void deleteConcurrently(final List<Runnable> deletes, final String domainId) {
+        final Queue<Runnable> pending = new ConcurrentLinkedQueue<>(deletes);
+        final List<Future<?>> workers = new ArrayList<>();
+        try {
+            for (int i = 0; i < Math.min(MAX_CONCURRENT_DELETES, deletes.size()); i++) {
+                workers.add(deleteExecutor.submit(() -> {
+                    for (Runnable delete = pending.poll(); delete != null; delete = pending.poll()) {
+                        deleteDependent(delete, domainId);
+                    }
+                }));
+            }
+            for (final Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CfnGeneralServiceException(e.getCause().getMessage(), e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CfnGeneralServiceException("Interrupted while deleting the dependents of the domain", e);
+        } finally {
+            pending.clear();
+            workers.forEach(worker -> worker.cancel(true));
+        }
+    }
+
+    private void deleteDependent(final Runnable delete, final String domainId) {
+        try {
+            delete.run();
+        } catch (final ResourceNotFoundException | ResourceInUseException e) {
+            logger.log(String.format("%s [%s] did not delete a dependent: %s",
+                    ResourceModel.TYPE_NAME, domainId, e.getMessage()));
+        } catch (final AwsServiceException e) {
+            Translator.throwCfnException(Action.DELETE.toString(), ResourceModel.TYPE_NAME, domainId, e);
+        }
+    }
+
+    private static <RequestT, ResponseT> ResponseT invoke(
+            final RequestT request,
+            final String domainId,
+            final ProxyClient<SageMakerClient> proxyClient,
+            final BiFunction<RequestT, ProxyClient<SageMakerClient>, ResponseT> call) {
+        try {
+            return call.apply(request, proxyClient);
+        } catch (final ResourceNotFoundException e) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, domainId, e);
+        } catch (final AwsServiceException e) {
+            Translator.throwCfnException(Action.DELETE.toString(), ResourceModel.TYPE_NAME, domainId, e);
+            return null;
+        }
+    }
+
+    private static CfnResourceConflictException dependentNotDeleted(
+            final String domainId, final String kind, final String name) {
+        return new CfnResourceConflictException(ResourceModel.TYPE_NAME, domainId,
+                String.format("the %s %s could not be deleted", kind, name));
     }
 
     /**
@@ -90,6 +371,7 @@ public class DeleteHandler extends BaseHandlerStd {
             final DomainStatus DomainStatus =
                     proxyClient.injectCredentialsAndInvokeV2(TranslatorForRequest.translateToReadRequest(model),
                             proxyClient.client()::describeDomain).status();
+            stabilizationScheduler.observe(callbackContext.getStabilizationHistory(), DomainStatus.toString());
 
             switch (DomainStatus) {
                 case DELETING:
@@ -104,6 +386,7 @@ public class DeleteHandler extends BaseHandlerStd {
                     throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString());
             }
         } catch (ResourceNotFoundException e) {
+            stabilizationScheduler.complete(callbackContext.getStabilizationHistory());
             return true;
         }
     }
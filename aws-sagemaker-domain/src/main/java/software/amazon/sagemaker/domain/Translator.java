@@ -1,21 +1,10 @@
 package software.amazon.sagemaker.domain;
 
-import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
-import software.amazon.awssdk.services.sagemaker.model.ResourceInUseException;
-import software.amazon.awssdk.services.sagemaker.model.ResourceLimitExceededException;
-import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
-import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
-import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
+import software.amazon.sagemaker.common.ExceptionTranslator;
+import software.amazon.sagemaker.common.StreamUtils;
 
 import java.util.Collection;
-import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -37,45 +26,10 @@ public class Translator {
             final String resourceName,
             final AwsServiceException e
     ) {
-
-        if (e instanceof ResourceInUseException) {
-            throw new ResourceAlreadyExistsException(resourceType, resourceName, e);
-        }
-
-        if (e instanceof ResourceNotFoundException) {
-            throw new CfnNotFoundException(resourceType, resourceName, e);
-        }
-
-        if (e instanceof ResourceLimitExceededException) {
-            throw new CfnServiceLimitExceededException(resourceType, e.getMessage(), e);
-        }
-
-        if(e.awsErrorDetails() != null && StringUtils.isNotBlank(e.awsErrorDetails().errorCode())) {
-            String errorMessage = e.awsErrorDetails().errorMessage();
-            switch (e.awsErrorDetails().errorCode()) {
-                case "UnauthorizedOperation":
-                    throw new CfnAccessDeniedException(errorMessage, e);
-                case "InvalidParameter":
-                case "InvalidParameterValue":
-                case "ValidationError":
-                case "ValidationException":
-                    throw new CfnInvalidRequestException(errorMessage, e);
-                case "InternalError":
-                case "ServiceUnavailable":
-                    throw new CfnServiceInternalErrorException(errorMessage, e);
-                case "ThrottlingException":
-                    throw new CfnThrottlingException(errorMessage, e);
-                default:
-                    throw new CfnGeneralServiceException(errorMessage, e);
-            }
-        }
-
-        throw new CfnGeneralServiceException(operation, e);
+        ExceptionTranslator.throwCfnException(operation, resourceType, resourceName, e);
     }
 
     static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
-        return Optional.ofNullable(collection)
-                .map(Collection::stream)
-                .orElseGet(Stream::empty);
+        return StreamUtils.streamOfOrEmpty(collection);
     }
 }
\ No newline at end of file
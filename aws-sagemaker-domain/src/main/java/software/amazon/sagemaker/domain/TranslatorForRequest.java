@@ -1,17 +1,30 @@
 package software.amazon.sagemaker.domain;
 
+import software.amazon.awssdk.services.sagemaker.model.AppDetails;
 import software.amazon.awssdk.services.sagemaker.model.CreateDomainRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteAppRequest;
 import software.amazon.awssdk.services.sagemaker.model.DeleteDomainRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteSpaceRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteUserProfileRequest;
 import software.amazon.awssdk.services.sagemaker.model.DescribeDomainRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListAppsRequest;
 import software.amazon.awssdk.services.sagemaker.model.ListDomainsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListSpacesRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListUserProfilesRequest;
+import software.amazon.awssdk.services.sagemaker.model.SpaceDetails;
 import software.amazon.awssdk.services.sagemaker.model.Tag;
 import software.amazon.awssdk.services.sagemaker.model.UpdateDomainRequest;
+import software.amazon.awssdk.services.sagemaker.model.UserProfileDetails;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 final class TranslatorForRequest {
 
+    // Largest page size accepted by ListApps, ListSpaces and ListUserProfiles
+    private static final int MAX_DEPENDENTS_PAGE_SIZE = 100;
+
     private TranslatorForRequest() {}
 
     /**
@@ -62,8 +75,97 @@ final class TranslatorForRequest {
     static DeleteDomainRequest translateToDeleteRequest(final ResourceModel model) {
         return DeleteDomainRequest.builder()
                 .domainId(model.getDomainId())
+                .retentionPolicy(translateRetentionPolicy(model.getRetentionPolicy()))
+                .build();
+    }
+
+    /**
+     * Translates to a request for a page of the apps of a domain
+     *
+     * @param domainId domain id
+     * @param nextToken token of the page, null for the first one
+     * @return list apps request
+     */
+    static ListAppsRequest translateToListAppsRequest(final String domainId, final String nextToken) {
+        return ListAppsRequest.builder()
+                .domainIdEquals(domainId)
+                .maxResults(MAX_DEPENDENTS_PAGE_SIZE)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    /**
+     * Translates to a request for a page of the spaces of a domain
+     *
+     * @param domainId domain id
+     * @param nextToken token of the page, null for the first one
+     * @return list spaces request
+     */
+    static ListSpacesRequest translateToListSpacesRequest(final String domainId, final String nextToken) {
+        return ListSpacesRequest.builder()
+                .domainIdEquals(domainId)
+                .maxResults(MAX_DEPENDENTS_PAGE_SIZE)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    /**
+     * Translates to a request for a page of the user profiles of a domain
+     *
+     * @param domainId domain id
+     * @param nextToken token of the page, null for the first one
+     * @return list user profiles request
+     */
+    static ListUserProfilesRequest translateToListUserProfilesRequest(final String domainId, final String nextToken) {
+        return ListUserProfilesRequest.builder()
+                .domainIdEquals(domainId)
+                .maxResults(MAX_DEPENDENTS_PAGE_SIZE)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    /**
+     * Translates a listed app to a request deleting it
+     *
+     * @param app listed app
+     * @return delete app request
+     */
+    static DeleteAppRequest translateToDeleteAppRequest(final AppDetails app) {
+        return DeleteAppRequest.builder()
+                .domainId(app.domainId())
+                .userProfileName(app.userProfileName())
+                .spaceName(app.spaceName())
+                .appType(app.appType())
+                .appName(app.appName())
+                .build();
+    }
+
+    /**
+     * Translates a listed space to a request deleting it
+     *
+     * @param space listed space
+     * @return delete space request
+     */
+    static DeleteSpaceRequest translateToDeleteSpaceRequest(final SpaceDetails space) {
+        return DeleteSpaceRequest.builder()
+                .domainId(space.domainId())
+                .spaceName(space.spaceName())
                 .build();
     }
+
+    /**
+     * Translates a listed user profile to a request deleting it
+     *
+     * @param userProfile listed user profile
+     * @return delete user profile request
+     */
+    static DeleteUserProfileRequest translateToDeleteUserProfileRequest(final UserProfileDetails userProfile) {
+        return DeleteUserProfileRequest.builder()
+                .domainId(userProfile.domainId())
+                .userProfileName(userProfile.userProfileName())
+                .build();
+    }
+
     /**
      * Translates ResourceModel input to an aws sdk update resource request
      *
@@ -80,6 +182,47 @@ final class TranslatorForRequest {
                 .build();
     }
 
+    /**
+     * Translates ResourceModel input to an aws sdk update resource request carrying only the settings that differ
+     * from the previous model. Settings are compared as whole sub-structures, so a change anywhere in e.g. the
+     * DefaultUserSettings sends all of them. Without a previous model every setting is sent.
+     *
+     * @param model resource model
+     * @param previousModel resource model before the update, may be null
+     * @return update resource request
+     */
+    static UpdateDomainRequest translateToUpdateRequest(final ResourceModel model, final ResourceModel previousModel) {
+        if (previousModel == null) {
+            return translateToUpdateRequest(model);
+        }
+
+        final UpdateDomainRequest.Builder builder = UpdateDomainRequest.builder().domainId(model.getDomainId());
+        if (!Objects.equals(model.getDefaultUserSettings(), previousModel.getDefaultUserSettings())) {
+            builder.defaultUserSettings(translateUserSettings(model.getDefaultUserSettings()));
+        }
+        if (!Objects.equals(model.getDefaultSpaceSettings(), previousModel.getDefaultSpaceSettings())) {
+            builder.defaultSpaceSettings(translateDefaultSpaceSettings(model.getDefaultSpaceSettings()));
+        }
+        if (!Objects.equals(model.getDomainSettings(), previousModel.getDomainSettings())) {
+            builder.domainSettingsForUpdate(translateDomainSettingsForUpdate(model.getDomainSettings()));
+        }
+        if (!Objects.equals(model.getAppSecurityGroupManagement(), previousModel.getAppSecurityGroupManagement())) {
+            builder.appSecurityGroupManagement(model.getAppSecurityGroupManagement());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param request update resource request
+     * @return whether the request changes nothing, e.g. when only write-only properties of the model changed
+     */
+    static boolean isEmptyUpdateRequest(final UpdateDomainRequest request) {
+        return request.defaultUserSettings() == null
+                && request.defaultSpaceSettings() == null
+                && request.domainSettingsForUpdate() == null
+                && request.appSecurityGroupManagement() == null;
+    }
+
     /**
      * Translates ResourceModel input to an aws sdk list resource request
      *
@@ -210,6 +353,17 @@ final class TranslatorForRequest {
                 .build();
     }
 
+    private static software.amazon.awssdk.services.sagemaker.model.RetentionPolicy translateRetentionPolicy(
+            RetentionPolicy origin) {
+        if (origin == null) {
+            return null;
+        }
+
+        return software.amazon.awssdk.services.sagemaker.model.RetentionPolicy.builder()
+                .homeEfsFileSystem(origin.getHomeEfsFileSystem())
+                .build();
+    }
+
     private static software.amazon.awssdk.services.sagemaker.model.DomainSettings translateDomainSettings(DomainSettings origin) {
         if (origin == null) {
             return null;
@@ -14,10 +14,17 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
+
+import java.util.concurrent.atomic.AtomicReference;
 
 public class UpdateHandler extends BaseHandlerStd {
 
     private static final String OPERATION = "AWS-SageMaker-Domain::Update";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     @Override
@@ -31,15 +38,31 @@ public class UpdateHandler extends BaseHandlerStd {
 
         this.logger = logger;
         final ResourceModel model = request.getDesiredResourceState();
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        final UpdateDomainRequest updateRequest = TranslatorForRequest.translateToUpdateRequest(model, previousModel);
+
+        if (previousModel != null && TranslatorForRequest.isEmptyUpdateRequest(updateRequest)) {
+            logger.log(String.format("%s [%s] has no settings to update, skipping UpdateDomain.",
+                    ResourceModel.TYPE_NAME, model.getDomainId()));
+            return constructResourceModelFromResponse(model, null, proxyClient);
+        }
 
+        // Describe response of the stabilization poll that saw the domain InService, reused as the read result.
+        // Handler instances serve many invocations, so the response is kept to this one.
+        final AtomicReference<DescribeDomainResponse> stabilizedResponse = new AtomicReference<>();
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
-                        proxy.initiate(OPERATION, proxyClient, model, callbackContext)
-                                .translateToServiceRequest(TranslatorForRequest::translateToUpdateRequest)
-                                .makeServiceCall(this::updateResource)
-                                .stabilize(this::stabilizedOnUpdate)
-                                .progress())
-                .then(progress -> constructResourceModelFromResponse(model, proxyClient));
+                        StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(resourceModel -> updateRequest)
+                                    .makeServiceCall(this::updateResource)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(),
+                                            (awsRequest, awsResponse, client, resourceModel, context) ->
+                                                    stabilizedOnUpdate(resourceModel, client, context,
+                                                            stabilizedResponse)))
+                                    .progress()))
+                .then(progress -> constructResourceModelFromResponse(model, stabilizedResponse.get(), proxyClient));
     }
 
     /**
@@ -66,23 +89,27 @@ public class UpdateHandler extends BaseHandlerStd {
      * This is used to ensure Domain resource has moved from Pending to any terminal state
      * (e.g. Scheduled, Stopped).
      *
-     * @param updateDomainRequest the aws service request to update a resource
+     * @param model resource model
      * @param proxyClient the aws service client to make the call
+     * @param callbackContext callback context
+     * @param stabilizedResponse receives the describe response once the domain is InService
      * @return boolean state of stabilized or not
      */
     private boolean stabilizedOnUpdate(
-            final UpdateDomainRequest updateDomainRequest,
-            final UpdateDomainResponse updateDomainResponse,
-            final ProxyClient<SageMakerClient> proxyClient,
             final ResourceModel model,
-            final CallbackContext callbackContext) {
+            final ProxyClient<SageMakerClient> proxyClient,
+            final CallbackContext callbackContext,
+            final AtomicReference<DescribeDomainResponse> stabilizedResponse) {
 
-        final DomainStatus DomainState = proxyClient.injectCredentialsAndInvokeV2(
+        final DescribeDomainResponse response = proxyClient.injectCredentialsAndInvokeV2(
                 TranslatorForRequest.translateToReadRequest(model),
-                proxyClient.client()::describeDomain).status();
+                proxyClient.client()::describeDomain);
+        final DomainStatus DomainState = response.status();
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), DomainState.toString());
 
         switch (DomainState) {
             case IN_SERVICE:
+                stabilizedResponse.set(response);
                 logger.log(String.format("%s [%s] has been stabilized with state %s during update operation.",
                         ResourceModel.TYPE_NAME, model.getPrimaryIdentifier(), DomainState));
                 return true;
@@ -96,21 +123,28 @@ public class UpdateHandler extends BaseHandlerStd {
     }
 
     /**
-     * Build the Progress Event object from the describe response.
+     * Build the Progress Event object from the describe response. The response of the last stabilization poll is
+     * used when the domain was stabilized by this invocation, otherwise the domain is described.
      *
      * @param model resource model
+     * @param stabilizedResponse describe response of this invocation's stabilization, or null
+     * @param proxyClient the aws service client to make the call
      * @return progressEvent indicating success
      */
     private ProgressEvent<ResourceModel, CallbackContext> constructResourceModelFromResponse(
             final ResourceModel model,
+            final DescribeDomainResponse stabilizedResponse,
             final ProxyClient<SageMakerClient> proxyClient) {
-        DescribeDomainResponse response = null;
-        try {
-            response = proxyClient.injectCredentialsAndInvokeV2(
-                    TranslatorForRequest.translateToReadRequest(model),
-                    proxyClient.client()::describeDomain);
-        } catch (ResourceNotFoundException e) {
-            Translator.throwCfnException(Action.UPDATE.toString(), ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString(), e);
+        DescribeDomainResponse response = stabilizedResponse;
+        if (response == null) {
+            try {
+                response = proxyClient.injectCredentialsAndInvokeV2(
+                        TranslatorForRequest.translateToReadRequest(model),
+                        proxyClient.client()::describeDomain);
+            } catch (ResourceNotFoundException e) {
+                Translator.throwCfnException(Action.UPDATE.toString(), ResourceModel.TYPE_NAME,
+                        model.getPrimaryIdentifier().toString(), e);
+            }
         }
 
         model.setDomainArn(response.domainArn());
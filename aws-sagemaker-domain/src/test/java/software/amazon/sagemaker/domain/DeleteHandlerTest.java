@@ -3,18 +3,35 @@ package software.amazon.sagemaker.domain;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.AppDetails;
+import software.amazon.awssdk.services.sagemaker.model.AppStatus;
+import software.amazon.awssdk.services.sagemaker.model.AppType;
+import software.amazon.awssdk.services.sagemaker.model.DeleteAppRequest;
 import software.amazon.awssdk.services.sagemaker.model.DeleteDomainRequest;
 import software.amazon.awssdk.services.sagemaker.model.DeleteDomainResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteSpaceRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteUserProfileRequest;
 import software.amazon.awssdk.services.sagemaker.model.DescribeDomainRequest;
 import software.amazon.awssdk.services.sagemaker.model.DescribeDomainResponse;
 import software.amazon.awssdk.services.sagemaker.model.DomainStatus;
+import software.amazon.awssdk.services.sagemaker.model.ListAppsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListAppsResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListSpacesRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListSpacesResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListUserProfilesRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListUserProfilesResponse;
 import software.amazon.awssdk.services.sagemaker.model.ResourceInUseException;
 import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.sagemaker.model.SageMakerException;
+import software.amazon.awssdk.services.sagemaker.model.SpaceDetails;
+import software.amazon.awssdk.services.sagemaker.model.SpaceStatus;
+import software.amazon.awssdk.services.sagemaker.model.UserProfileDetails;
+import software.amazon.awssdk.services.sagemaker.model.UserProfileStatus;
 import software.amazon.cloudformation.Action;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -28,11 +45,16 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -184,8 +206,151 @@ public class DeleteHandlerTest extends software.amazon.sagemaker.domain.Abstract
                 ResourceModel.TYPE_NAME, getPostCreationResourceModel().getPrimaryIdentifier()));
     }
 
+    @Test
+    public void testDeleteHandler_EmitsStabilizationMetrics() {
+        final DescribeDomainResponse describeResponse = DescribeDomainResponse.builder()
+                .status(DomainStatus.DELETING)
+                .build();
+
+        when(proxyClient.client().describeDomain(any(DescribeDomainRequest.class)))
+                .thenReturn(describeResponse).thenReturn(describeResponse).thenThrow(ResourceNotFoundException.class);
+        when(proxyClient.client().deleteDomain(any(DeleteDomainRequest.class)))
+                .thenReturn(DeleteDomainResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getPostCreationResourceModel())
+                .build();
+
+        final List<String> logLines = new ArrayList<>();
+        final ProgressEvent<ResourceModel, CallbackContext> response = new DeleteHandler(TEST_STABILIZATION_SCHEDULER)
+                .handleRequest(proxy, request, new CallbackContext(), proxyClient, logLines::add);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(logLines).filteredOn(line -> line.startsWith("{\"_aws\""))
+                .hasSize(1)
+                .allSatisfy(line -> assertThat(line)
+                        .contains("\"CallChain\":\"AWS-SageMaker-Domain::Delete\"")
+                        .contains("\"StabilizationPolls\":2")
+                        .contains("\"StabilizationThrottledCalls\":0")
+                        .contains("\"StabilizationTimeInDeleting\":"));
+    }
+
+    @Test
+    public void testDeleteHandler_CascadeDeletesAppsAndWaits() {
+        when(proxyClient.client().listApps(any(ListAppsRequest.class)))
+                .thenReturn(ListAppsResponse.builder()
+                        .apps(app("default", AppType.JUPYTER_SERVER, AppStatus.IN_SERVICE))
+                        .nextToken("1")
+                        .build())
+                .thenReturn(ListAppsResponse.builder()
+                        .apps(app("datascience", AppType.KERNEL_GATEWAY, AppStatus.DELETING),
+                                app("old", AppType.KERNEL_GATEWAY, AppStatus.DELETED))
+                        .build());
+
+        final ResourceModel model = getPostCreationResourceModel();
+        model.setCascadeDelete(true);
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(model, callbackContext);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isPositive();
+        assertThat(callbackContext.getCascadePhase()).isEqualTo(DeleteHandler.CASCADE_APPS);
+        assertThat(callbackContext.getCascadeHistory().getCounters()).containsEntry("AppsDeleted", 1L);
+        verify(sdkClient, times(1)).deleteApp(any(DeleteAppRequest.class));
+        verify(sdkClient, never()).listSpaces(any(ListSpacesRequest.class));
+        verify(sdkClient, never()).deleteDomain(any(DeleteDomainRequest.class));
+    }
+
+    @Test
+    public void testDeleteHandler_CascadeResumesFromCallbackContext() {
+        when(proxyClient.client().listSpaces(any(ListSpacesRequest.class)))
+                .thenReturn(ListSpacesResponse.builder().build());
+        when(proxyClient.client().listUserProfiles(any(ListUserProfilesRequest.class)))
+                .thenReturn(ListUserProfilesResponse.builder()
+                        .userProfiles(userProfile("alice", UserProfileStatus.IN_SERVICE),
+                                userProfile("bob", UserProfileStatus.FAILED))
+                        .build())
+                .thenReturn(ListUserProfilesResponse.builder().build());
+        when(proxyClient.client().deleteDomain(any(DeleteDomainRequest.class)))
+                .thenReturn(DeleteDomainResponse.builder().build());
+        when(proxyClient.client().describeDomain(any(DescribeDomainRequest.class)))
+                .thenThrow(ResourceNotFoundException.class);
+
+        final ResourceModel model = getPostCreationResourceModel();
+        model.setCascadeDelete(true);
+        model.setRetentionPolicy(RetentionPolicy.builder().homeEfsFileSystem("Delete").build());
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setCascadePhase(DeleteHandler.CASCADE_SPACES);
+
+        assertThat(invokeHandleRequest(model, callbackContext).getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(callbackContext.getCascadePhase()).isEqualTo(DeleteHandler.CASCADE_USER_PROFILES);
+        verify(sdkClient, times(2)).deleteUserProfile(any(DeleteUserProfileRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(model, callbackContext);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getCascadePhase()).isEqualTo(DeleteHandler.CASCADE_COMPLETE);
+        // the apps were deleted by an earlier invocation, the spaces are listed once
+        verify(sdkClient, never()).listApps(any(ListAppsRequest.class));
+        verify(sdkClient, times(1)).listSpaces(any(ListSpacesRequest.class));
+        final ArgumentCaptor<DeleteDomainRequest> deleteRequest = ArgumentCaptor.forClass(DeleteDomainRequest.class);
+        verify(sdkClient).deleteDomain(deleteRequest.capture());
+        assertThat(deleteRequest.getValue().retentionPolicy().homeEfsFileSystemAsString()).isEqualTo("Delete");
+    }
+
+    @Test
+    public void testDeleteHandler_CascadeFailsOnDependentDeleteFailure() {
+        when(proxyClient.client().listSpaces(any(ListSpacesRequest.class)))
+                .thenReturn(ListSpacesResponse.builder()
+                        .spaces(SpaceDetails.builder()
+                                .domainId(TEST_DOMAIN_ID)
+                                .spaceName("shared")
+                                .status(SpaceStatus.DELETE_FAILED)
+                                .build())
+                        .build());
+
+        final ResourceModel model = getPostCreationResourceModel();
+        model.setCascadeDelete(true);
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setCascadePhase(DeleteHandler.CASCADE_SPACES);
+
+        final Exception exception = assertThrows(CfnResourceConflictException.class,
+                () -> invokeHandleRequest(model, callbackContext));
+
+        assertThat(exception.getMessage()).contains("the space shared could not be deleted");
+        verify(sdkClient, never()).deleteSpace(any(DeleteSpaceRequest.class));
+        verify(sdkClient, never()).deleteDomain(any(DeleteDomainRequest.class));
+    }
+
+    private static AppDetails app(final String appName, final AppType appType, final AppStatus status) {
+        return AppDetails.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .userProfileName("alice")
+                .appType(appType)
+                .appName(appName)
+                .status(status)
+                .build();
+    }
+
+    private static UserProfileDetails userProfile(final String userProfileName, final UserProfileStatus status) {
+        return UserProfileDetails.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .userProfileName(userProfileName)
+                .status(status)
+                .build();
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> invokeHandleRequest(
+            final ResourceModel model, final CallbackContext callbackContext) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        return new DeleteHandler(TEST_STABILIZATION_SCHEDULER, TEST_STABILIZATION_SCHEDULER)
+                .handleRequest(proxy, request, callbackContext, proxyClient, logger);
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> invokeHandleRequest(ResourceHandlerRequest<ResourceModel> request) {
-        final DeleteHandler handler = new DeleteHandler();
+        final DeleteHandler handler = new DeleteHandler(TEST_STABILIZATION_SCHEDULER);
         return handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
     }
 }
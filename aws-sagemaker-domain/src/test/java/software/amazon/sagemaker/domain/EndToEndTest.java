@@ -0,0 +1,125 @@
+package software.amazon.sagemaker.domain;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.AppType;
+import software.amazon.awssdk.services.sagemaker.model.CreateAppRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateSpaceRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateUserProfileRequest;
+import software.amazon.awssdk.services.sagemaker.model.DomainStatus;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.BackoffProfile;
+import software.amazon.sagemaker.common.StabilizationScheduler;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs the handlers against the in-memory {@link FakeSageMakerService} instead of call by call mocks.
+ */
+public class EndToEndTest extends AbstractTestBase {
+
+    private FakeSageMakerService service;
+    private FakeSageMakerClient sageMakerClient;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<SageMakerClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        service = new FakeSageMakerService();
+        sageMakerClient = new FakeSageMakerClient(service);
+        proxy = service.newProxy();
+        proxyClient = proxy.newProxy(() -> sageMakerClient);
+    }
+
+    @Test
+    public void testLifecycle() {
+        final ResourceModel created = run(new CreateHandler(), ResourceModel.builder()
+                .domainName(TEST_DOMAIN_NAME)
+                .authMode(TEST_AUTH_MODE)
+                .appNetworkAccessType(TEST_APP_NETWORK_TYPE)
+                .vpcId(TEST_VPC_ID)
+                .subnetIds(Collections.singletonList(TEST_SUBNET_ID))
+                .defaultUserSettings(UserSettings.builder().executionRole(TEST_ROLE).build())
+                .build()).getResourceModel();
+
+        assertThat(created.getDomainId()).startsWith("d-");
+        assertThat(created.getUrl()).contains(created.getDomainId());
+        assertThat(sageMakerClient.getDomains().describe(created.getDomainId()).getStatus()).isEqualTo("InService");
+
+        created.setDefaultUserSettings(UserSettings.builder().executionRole("updatedRole").build());
+        final ProgressEvent<ResourceModel, CallbackContext> updated = run(new UpdateHandler(), created);
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(run(new ReadHandler(), created).getResourceModel().getDefaultUserSettings().getExecutionRole())
+                .isEqualTo("updatedRole");
+
+        assertThat(run(new ListHandler(), ResourceModel.builder().build()).getResourceModels())
+                .extracting(ResourceModel::getDomainId)
+                .containsExactly(created.getDomainId());
+
+        final long describesBeforeDelete = service.calls("DescribeDomain");
+        assertThat(run(new DeleteHandler(), created).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // Deleting lasts 5 minutes, polled with the long backoff profile
+        assertThat(service.calls("DescribeDomain") - describesBeforeDelete).isLessThan(20);
+        assertThrows(CfnNotFoundException.class, () -> run(new ReadHandler(), created));
+    }
+
+    @Test
+    public void testCascadeDelete() {
+        final ResourceModel created = run(new CreateHandler(), ResourceModel.builder()
+                .domainName(TEST_DOMAIN_NAME)
+                .authMode(TEST_AUTH_MODE)
+                .vpcId(TEST_VPC_ID)
+                .subnetIds(Collections.singletonList(TEST_SUBNET_ID))
+                .defaultUserSettings(UserSettings.builder().executionRole(TEST_ROLE).build())
+                .build()).getResourceModel();
+        final String domainId = created.getDomainId();
+        for (int i = 0; i < 25; i++) {
+            final String userProfileName = "user-" + i;
+            sageMakerClient.createUserProfile(CreateUserProfileRequest.builder()
+                    .domainId(domainId).userProfileName(userProfileName).build());
+            sageMakerClient.createApp(CreateAppRequest.builder().domainId(domainId).userProfileName(userProfileName)
+                    .appType(AppType.JUPYTER_SERVER).appName("default").build());
+        }
+        sageMakerClient.createSpace(CreateSpaceRequest.builder().domainId(domainId).spaceName("shared").build());
+        sageMakerClient.createApp(CreateAppRequest.builder().domainId(domainId).spaceName("shared")
+                .appType(AppType.JUPYTER_SERVER).appName("default").build());
+
+        created.setCascadeDelete(true);
+        // a scheduler of its own, the shared one would carry the durations learned here into testLifecycle
+        final DeleteHandler handler = new DeleteHandler(StabilizationScheduler.builder()
+                .profile(DomainStatus.DELETING.toString(), BackoffProfile.LONG_POLL)
+                .build());
+        final long invocations = service.handlerInvocations();
+        assertThat(run(handler, created).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        assertThrows(CfnNotFoundException.class, () -> run(new ReadHandler(), created));
+        assertThat(sageMakerClient.getUserProfiles().list()).isEmpty();
+        assertThat(sageMakerClient.getSpaces().list()).isEmpty();
+        assertThat(service.callCounts())
+                .containsEntry("DeleteApp", 26L)
+                .containsEntry("DeleteSpace", 1L)
+                .containsEntry("DeleteUserProfile", 25L)
+                .containsEntry("DeleteDomain", 1L);
+        // a callback per phase that waits for deletions, not one stack operation per dependent
+        assertThat(service.handlerInvocations() - invocations).isLessThan(20);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceModel model) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        return service.drive(context -> handler.handleRequest(proxy, request, context, proxyClient, logger),
+                new CallbackContext());
+    }
+}
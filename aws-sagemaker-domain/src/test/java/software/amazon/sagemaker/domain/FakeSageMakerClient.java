@@ -0,0 +1,352 @@
+package software.amazon.sagemaker.domain;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.sagemaker.model.AppDetails;
+import software.amazon.awssdk.services.sagemaker.model.AppStatus;
+import software.amazon.awssdk.services.sagemaker.model.CreateAppRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateAppResponse;
+import software.amazon.awssdk.services.sagemaker.model.CreateDomainRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateDomainResponse;
+import software.amazon.awssdk.services.sagemaker.model.CreateSpaceRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateSpaceResponse;
+import software.amazon.awssdk.services.sagemaker.model.CreateUserProfileRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateUserProfileResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteAppRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteAppResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteDomainRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteDomainResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteSpaceRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteSpaceResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteUserProfileRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteUserProfileResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDomainRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDomainResponse;
+import software.amazon.awssdk.services.sagemaker.model.DomainDetails;
+import software.amazon.awssdk.services.sagemaker.model.DomainStatus;
+import software.amazon.awssdk.services.sagemaker.model.ListAppsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListAppsResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListDomainsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListDomainsResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListSpacesRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListSpacesResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListUserProfilesRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListUserProfilesResponse;
+import software.amazon.awssdk.services.sagemaker.model.SpaceDetails;
+import software.amazon.awssdk.services.sagemaker.model.SpaceStatus;
+import software.amazon.awssdk.services.sagemaker.model.UpdateDomainRequest;
+import software.amazon.awssdk.services.sagemaker.model.UpdateDomainResponse;
+import software.amazon.awssdk.services.sagemaker.model.UserProfileDetails;
+import software.amazon.awssdk.services.sagemaker.model.UserProfileStatus;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for domains: Pending and Updating settle into InService, Deleting into not found. User
+ * profiles, spaces and apps of a domain are kept as well: a domain, user profile or space with dependents that
+ * still exist cannot be deleted, and deleted apps stay listed as Deleted.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    static final Duration TRANSITION_TIME = Duration.ofMinutes(5);
+
+    static final Duration DEPENDENT_TRANSITION_TIME = Duration.ofMinutes(1);
+
+    private final FakeResourceTable<DescribeDomainResponse> domains;
+    private final FakeResourceTable<CreateUserProfileRequest> userProfiles;
+    private final FakeResourceTable<CreateSpaceRequest> spaces;
+    private final FakeResourceTable<CreateAppRequest> apps;
+    private final AtomicInteger domainIds = new AtomicInteger();
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.domains = new FakeResourceTable<>(service, "Domain", TRANSITION_TIME);
+        this.userProfiles = new FakeResourceTable<>(service, "UserProfile", DEPENDENT_TRANSITION_TIME);
+        this.spaces = new FakeResourceTable<>(service, "Space", DEPENDENT_TRANSITION_TIME);
+        this.apps = new FakeResourceTable<>(service, "App", DEPENDENT_TRANSITION_TIME);
+    }
+
+    public FakeResourceTable<DescribeDomainResponse> getDomains() {
+        return domains;
+    }
+
+    public FakeResourceTable<CreateUserProfileRequest> getUserProfiles() {
+        return userProfiles;
+    }
+
+    public FakeResourceTable<CreateSpaceRequest> getSpaces() {
+        return spaces;
+    }
+
+    public FakeResourceTable<CreateAppRequest> getApps() {
+        return apps;
+    }
+
+    @Override
+    public CreateDomainResponse createDomain(final CreateDomainRequest request) {
+        return service.call("CreateDomain", () -> {
+            final String domainId = String.format("d-%012d", domainIds.incrementAndGet());
+            final String arn = "arn:aws:sagemaker:us-west-2:123456789012:domain/" + domainId;
+            domains.create(domainId, arn, DescribeDomainResponse.builder()
+                    .domainId(domainId)
+                    .domainArn(arn)
+                    .domainName(request.domainName())
+                    .url(String.format("https://%s.studio.us-west-2.sagemaker.aws", domainId))
+                    .homeEfsFileSystemId("fs-" + domainId)
+                    .appNetworkAccessType(request.appNetworkAccessType())
+                    .authMode(request.authMode())
+                    .defaultUserSettings(request.defaultUserSettings())
+                    .defaultSpaceSettings(request.defaultSpaceSettings())
+                    .domainSettings(request.domainSettings())
+                    .appSecurityGroupManagement(request.appSecurityGroupManagement())
+                    .kmsKeyId(request.kmsKeyId())
+                    .subnetIds(request.subnetIds())
+                    .vpcId(request.vpcId())
+                    .build(), DomainStatus.PENDING.toString(), DomainStatus.IN_SERVICE.toString());
+            service.tag(arn, tagMap(request.tags()));
+            return CreateDomainResponse.builder().domainArn(arn).url(String.format(
+                    "https://%s.studio.us-west-2.sagemaker.aws", domainId)).build();
+        });
+    }
+
+    @Override
+    public DescribeDomainResponse describeDomain(final DescribeDomainRequest request) {
+        return service.call("DescribeDomain", () -> toDescribeResponse(domains.describe(request.domainId())));
+    }
+
+    @Override
+    public UpdateDomainResponse updateDomain(final UpdateDomainRequest request) {
+        return service.call("UpdateDomain", () -> {
+            final FakeResource<DescribeDomainResponse> domain = domains.update(request.domainId(), state -> {
+                final DescribeDomainResponse.Builder builder = state.toBuilder();
+                if (request.defaultUserSettings() != null) {
+                    builder.defaultUserSettings(request.defaultUserSettings());
+                }
+                if (request.defaultSpaceSettings() != null) {
+                    builder.defaultSpaceSettings(request.defaultSpaceSettings());
+                }
+                if (request.appSecurityGroupManagement() != null) {
+                    builder.appSecurityGroupManagement(request.appSecurityGroupManagement());
+                }
+                return builder.build();
+            }, DomainStatus.UPDATING.toString(), DomainStatus.IN_SERVICE.toString());
+            return UpdateDomainResponse.builder().domainArn(domain.getArn()).build();
+        });
+    }
+
+    @Override
+    public DeleteDomainResponse deleteDomain(final DeleteDomainRequest request) {
+        return service.call("DeleteDomain", () -> {
+            domains.describe(request.domainId());
+            if (hasDependents(userProfiles, CreateUserProfileRequest::domainId, request.domainId())
+                    || hasDependents(spaces, CreateSpaceRequest::domainId, request.domainId())) {
+                throw FakeSageMakerService.resourceInUse(
+                        String.format("Domain %s has user profiles or spaces.", request.domainId()));
+            }
+            domains.delete(request.domainId(), DomainStatus.DELETING.toString(), null);
+            return DeleteDomainResponse.builder().build();
+        });
+    }
+
+    @Override
+    public CreateUserProfileResponse createUserProfile(final CreateUserProfileRequest request) {
+        return service.call("CreateUserProfile", () -> {
+            domains.describe(request.domainId());
+            final String arn = userProfileArn(request.domainId(), request.userProfileName());
+            userProfiles.create(key(request.domainId(), request.userProfileName()), arn, request,
+                    UserProfileStatus.PENDING.toString(), UserProfileStatus.IN_SERVICE.toString());
+            return CreateUserProfileResponse.builder().userProfileArn(arn).build();
+        });
+    }
+
+    @Override
+    public DeleteUserProfileResponse deleteUserProfile(final DeleteUserProfileRequest request) {
+        return service.call("DeleteUserProfile", () -> {
+            final String owner = request.userProfileName();
+            if (hasDependents(apps, app -> app.userProfileName() == null ? null
+                    : key(app.domainId(), app.userProfileName()), key(request.domainId(), owner))) {
+                throw FakeSageMakerService.resourceInUse(String.format("User profile %s has apps.", owner));
+            }
+            userProfiles.delete(key(request.domainId(), owner), UserProfileStatus.DELETING.toString(), null);
+            return DeleteUserProfileResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListUserProfilesResponse listUserProfiles(final ListUserProfilesRequest request) {
+        return service.call("ListUserProfiles", () -> {
+            final List<UserProfileDetails> details = userProfiles.list().stream()
+                    .filter(userProfile -> userProfile.getState().domainId().equals(request.domainIdEquals()))
+                    .map(userProfile -> UserProfileDetails.builder()
+                            .domainId(userProfile.getState().domainId())
+                            .userProfileName(userProfile.getState().userProfileName())
+                            .status(userProfile.getStatus())
+                            .build())
+                    .collect(Collectors.toList());
+            final List<UserProfileDetails> page = page(details, request.nextToken(), request.maxResults());
+            return ListUserProfilesResponse.builder()
+                    .userProfiles(page)
+                    .nextToken(nextToken(details, request.nextToken(), page))
+                    .build();
+        });
+    }
+
+    @Override
+    public CreateSpaceResponse createSpace(final CreateSpaceRequest request) {
+        return service.call("CreateSpace", () -> {
+            domains.describe(request.domainId());
+            final String arn = String.format("arn:aws:sagemaker:us-west-2:123456789012:space/%s/%s",
+                    request.domainId(), request.spaceName());
+            spaces.create(key(request.domainId(), request.spaceName()), arn, request,
+                    SpaceStatus.PENDING.toString(), SpaceStatus.IN_SERVICE.toString());
+            return CreateSpaceResponse.builder().spaceArn(arn).build();
+        });
+    }
+
+    @Override
+    public DeleteSpaceResponse deleteSpace(final DeleteSpaceRequest request) {
+        return service.call("DeleteSpace", () -> {
+            if (hasDependents(apps, app -> app.spaceName() == null ? null : key(app.domainId(), app.spaceName()),
+                    key(request.domainId(), request.spaceName()))) {
+                throw FakeSageMakerService.resourceInUse(String.format("Space %s has apps.", request.spaceName()));
+            }
+            spaces.delete(key(request.domainId(), request.spaceName()), SpaceStatus.DELETING.toString(), null);
+            return DeleteSpaceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListSpacesResponse listSpaces(final ListSpacesRequest request) {
+        return service.call("ListSpaces", () -> {
+            final List<SpaceDetails> details = spaces.list().stream()
+                    .filter(space -> space.getState().domainId().equals(request.domainIdEquals()))
+                    .map(space -> SpaceDetails.builder()
+                            .domainId(space.getState().domainId())
+                            .spaceName(space.getState().spaceName())
+                            .status(space.getStatus())
+                            .build())
+                    .collect(Collectors.toList());
+            final List<SpaceDetails> page = page(details, request.nextToken(), request.maxResults());
+            return ListSpacesResponse.builder()
+                    .spaces(page)
+                    .nextToken(nextToken(details, request.nextToken(), page))
+                    .build();
+        });
+    }
+
+    @Override
+    public CreateAppResponse createApp(final CreateAppRequest request) {
+        return service.call("CreateApp", () -> {
+            final String key = appKey(request.domainId(), request.userProfileName(), request.spaceName(),
+                    request.appTypeAsString(), request.appName());
+            apps.create(key, "arn:aws:sagemaker:us-west-2:123456789012:app/" + key, request,
+                    AppStatus.PENDING.toString(), AppStatus.IN_SERVICE.toString());
+            return CreateAppResponse.builder().appArn("arn:aws:sagemaker:us-west-2:123456789012:app/" + key).build();
+        });
+    }
+
+    @Override
+    public DeleteAppResponse deleteApp(final DeleteAppRequest request) {
+        return service.call("DeleteApp", () -> {
+            final String key = appKey(request.domainId(), request.userProfileName(), request.spaceName(),
+                    request.appTypeAsString(), request.appName());
+            final String status = apps.describe(key).getStatus();
+            if (AppStatus.DELETED.toString().equals(status) || AppStatus.DELETING.toString().equals(status)) {
+                throw FakeSageMakerService.resourceInUse(String.format("App %s is %s.", key, status));
+            }
+            apps.delete(key, AppStatus.DELETING.toString(), AppStatus.DELETED.toString());
+            return DeleteAppResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListAppsResponse listApps(final ListAppsRequest request) {
+        return service.call("ListApps", () -> {
+            final List<AppDetails> details = apps.list().stream()
+                    .filter(app -> app.getState().domainId().equals(request.domainIdEquals()))
+                    .map(app -> AppDetails.builder()
+                            .domainId(app.getState().domainId())
+                            .userProfileName(app.getState().userProfileName())
+                            .spaceName(app.getState().spaceName())
+                            .appType(app.getState().appType())
+                            .appName(app.getState().appName())
+                            .status(app.getStatus())
+                            .build())
+                    .collect(Collectors.toList());
+            final List<AppDetails> page = page(details, request.nextToken(), request.maxResults());
+            return ListAppsResponse.builder()
+                    .apps(page)
+                    .nextToken(nextToken(details, request.nextToken(), page))
+                    .build();
+        });
+    }
+
+    @Override
+    public ListDomainsResponse listDomains(final ListDomainsRequest request) {
+        return service.call("ListDomains", () -> ListDomainsResponse.builder()
+                .domains(domains.list().stream()
+                        .map(FakeSageMakerClient::toDescribeResponse)
+                        .map(domain -> DomainDetails.builder()
+                                .domainId(domain.domainId())
+                                .domainArn(domain.domainArn())
+                                .domainName(domain.domainName())
+                                .status(domain.status())
+                                .url(domain.url())
+                                .creationTime(domain.creationTime())
+                                .lastModifiedTime(domain.lastModifiedTime())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    private static String userProfileArn(final String domainId, final String userProfileName) {
+        return String.format("arn:aws:sagemaker:us-west-2:123456789012:user-profile/%s/%s", domainId, userProfileName);
+    }
+
+    private static String key(final String domainId, final String name) {
+        return domainId + "/" + name;
+    }
+
+    private static String appKey(final String domainId, final String userProfileName, final String spaceName,
+                                 final String appType, final String appName) {
+        return String.join("/", domainId, userProfileName != null ? userProfileName : spaceName, appType, appName);
+    }
+
+    /**
+     * @return whether a resource of the table that is not Deleted belongs to the owner
+     */
+    private static <T> boolean hasDependents(final FakeResourceTable<T> table, final Function<T, String> owner,
+                                             final String ownerKey) {
+        return table.list().stream()
+                .filter(resource -> !AppStatus.DELETED.toString().equals(resource.getStatus()))
+                .anyMatch(resource -> ownerKey.equals(owner.apply(resource.getState())));
+    }
+
+    /**
+     * Pages listed resources in the order listed; the next token is the index of the first resource of the next page.
+     */
+    private static <T> List<T> page(final List<T> listed, final String nextToken, final Integer maxResults) {
+        final int from = nextToken == null ? 0 : Integer.parseInt(nextToken);
+        final int to = maxResults == null ? listed.size() : Math.min(listed.size(), from + maxResults);
+        return listed.subList(from, to);
+    }
+
+    private static <T> String nextToken(final List<T> listed, final String nextToken, final List<T> page) {
+        final int to = (nextToken == null ? 0 : Integer.parseInt(nextToken)) + page.size();
+        return to < listed.size() ? String.valueOf(to) : null;
+    }
+
+    private static DescribeDomainResponse toDescribeResponse(final FakeResource<DescribeDomainResponse> domain) {
+        return domain.getState().toBuilder()
+                .status(domain.getStatus())
+                .creationTime(domain.getCreationTime())
+                .lastModifiedTime(domain.getLastModifiedTime())
+                .build();
+    }
+}
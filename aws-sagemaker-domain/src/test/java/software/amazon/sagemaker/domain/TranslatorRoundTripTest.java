@@ -0,0 +1,220 @@
+package software.amazon.sagemaker.domain;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.model.CreateDomainRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDomainResponse;
+import software.amazon.awssdk.services.sagemaker.model.UpdateDomainRequest;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Translates a model into a create request and the describe response SageMaker would answer with back into a model.
+ */
+public class TranslatorRoundTripTest extends AbstractTestBase {
+
+    private static final ResourceSpec RESOURCE_SPEC = ResourceSpec.builder()
+            .instanceType(TEST_INSTANCE_TYPE)
+            .sageMakerImageArn(TEST_IMAGE_ARN)
+            .sageMakerImageVersionArn(TEST_IMAGE_VERSION_ARN)
+            .build();
+    private static final CustomImage CUSTOM_IMAGE = CustomImage.builder()
+            .appImageConfigName(TEST_APP_IMAGE_CONFIG_NAME)
+            .imageName(TEST_IMAGE_NAME)
+            .imageVersionNumber(TEST_IMAGE_VERSION_NUMBER)
+            .build();
+    private static final DomainSettings DOMAIN_SETTINGS = DomainSettings.builder()
+            .securityGroupIds(Collections.singletonList(TEST_SECURITY_GROUP))
+            .rStudioServerProDomainSettings(RStudioServerProDomainSettings.builder()
+                    .domainExecutionRoleArn(TEST_ROLE)
+                    .rStudioConnectUrl(TEST_URL)
+                    .rStudioPackageManagerUrl(TEST_URL)
+                    .defaultResourceSpec(RESOURCE_SPEC)
+                    .build())
+            .build();
+
+    @Test
+    public void testRoundTrip_AllSettings() {
+        final UserSettings userSettings = UserSettings.builder()
+                .executionRole(TEST_ROLE)
+                .securityGroups(Collections.singletonList(TEST_SECURITY_GROUP))
+                .sharingSettings(SharingSettings.builder()
+                        .notebookOutputOption(TEST_NB_OUTPUT)
+                        .s3KmsKeyId(TEST_S3_KMS)
+                        .s3OutputPath(TEST_S3_OUTPUT)
+                        .build())
+                .jupyterServerAppSettings(JupyterServerAppSettings.builder()
+                        .defaultResourceSpec(RESOURCE_SPEC)
+                        .build())
+                .kernelGatewayAppSettings(KernelGatewayAppSettings.builder()
+                        .defaultResourceSpec(RESOURCE_SPEC)
+                        .customImages(Collections.singletonList(CUSTOM_IMAGE))
+                        .build())
+                .build();
+        final DefaultSpaceSettings spaceSettings = DefaultSpaceSettings.builder()
+                .executionRole(TEST_ROLE)
+                .securityGroups(Collections.singletonList(TEST_SECURITY_GROUP))
+                .jupyterServerAppSettings(JupyterServerAppSettings.builder()
+                        .defaultResourceSpec(RESOURCE_SPEC)
+                        .build())
+                .kernelGatewayAppSettings(KernelGatewayAppSettings.builder()
+                        .defaultResourceSpec(RESOURCE_SPEC)
+                        .customImages(Collections.singletonList(CUSTOM_IMAGE))
+                        .build())
+                .build();
+
+        final ResourceModel translated = roundTrip(ResourceModel.builder()
+                .domainName(TEST_DOMAIN_NAME)
+                .authMode(TEST_AUTH_MODE)
+                .vpcId(TEST_VPC_ID)
+                .subnetIds(Collections.singletonList(TEST_SUBNET_ID))
+                .defaultUserSettings(userSettings)
+                .defaultSpaceSettings(spaceSettings)
+                .domainSettings(DOMAIN_SETTINGS)
+                .build());
+
+        assertThat(translated.getDefaultUserSettings()).isEqualTo(userSettings);
+        assertThat(translated.getDefaultSpaceSettings()).isEqualTo(spaceSettings);
+        assertThat(translated.getDomainSettings()).isEqualTo(DOMAIN_SETTINGS);
+        assertThat(translated.getDomainArn()).isEqualTo(TEST_DOMAIN_ARN);
+    }
+
+    @Test
+    public void testRoundTrip_OptionalSettingsOmitted() {
+        final ResourceModel translated = roundTrip(ResourceModel.builder()
+                .domainName(TEST_DOMAIN_NAME)
+                .defaultUserSettings(UserSettings.builder()
+                        .jupyterServerAppSettings(JupyterServerAppSettings.builder().build())
+                        .kernelGatewayAppSettings(KernelGatewayAppSettings.builder().build())
+                        .build())
+                .defaultSpaceSettings(DefaultSpaceSettings.builder().build())
+                .domainSettings(DomainSettings.builder().build())
+                .build());
+
+        final UserSettings userSettings = translated.getDefaultUserSettings();
+        assertThat(userSettings.getSecurityGroups()).isNull();
+        assertThat(userSettings.getSharingSettings()).isNull();
+        assertThat(userSettings.getJupyterServerAppSettings().getDefaultResourceSpec()).isNull();
+        assertThat(userSettings.getKernelGatewayAppSettings().getDefaultResourceSpec()).isNull();
+        assertThat(userSettings.getKernelGatewayAppSettings().getCustomImages()).isNull();
+        assertThat(translated.getDefaultSpaceSettings().getJupyterServerAppSettings()).isNull();
+        assertThat(translated.getDomainSettings().getRStudioServerProDomainSettings()).isNull();
+    }
+
+    @Test
+    public void testRoundTrip_NoSettings() {
+        final ResourceModel translated = roundTrip(ResourceModel.builder()
+                .domainName(TEST_DOMAIN_NAME)
+                .build());
+
+        assertThat(translated.getDefaultUserSettings()).isNull();
+        assertThat(translated.getDefaultSpaceSettings()).isNull();
+        assertThat(translated.getDomainSettings()).isNull();
+    }
+
+    @Test
+    public void testTranslateToCreateRequest_RStudioSettings() {
+        final CreateDomainRequest request = TranslatorForRequest.translateToCreateRequest(ResourceModel.builder()
+                .domainName(TEST_DOMAIN_NAME)
+                .defaultUserSettings(UserSettings.builder()
+                        .rStudioServerProAppSettings(RStudioServerProAppSettings.builder()
+                                .accessStatus("ENABLED")
+                                .userGroup("R_STUDIO_ADMIN")
+                                .build())
+                        .rSessionAppSettings(RSessionAppSettings.builder()
+                                .defaultResourceSpec(RESOURCE_SPEC)
+                                .customImages(Collections.singletonList(CUSTOM_IMAGE))
+                                .build())
+                        .build())
+                .build());
+
+        assertThat(request.defaultUserSettings().rStudioServerProAppSettings().accessStatusAsString())
+                .isEqualTo("ENABLED");
+        assertThat(request.defaultUserSettings().rStudioServerProAppSettings().userGroupAsString())
+                .isEqualTo("R_STUDIO_ADMIN");
+        assertThat(request.defaultUserSettings().rSessionAppSettings().customImages()).hasSize(1);
+        assertThat(request.defaultUserSettings().rSessionAppSettings().defaultResourceSpec().sageMakerImageArn())
+                .isEqualTo(TEST_IMAGE_ARN);
+    }
+
+    @Test
+    public void testTranslateToUpdateRequest_OnlyChangedSettings() {
+        final ResourceModel previousModel = ResourceModel.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .defaultUserSettings(UserSettings.builder().executionRole(TEST_ROLE).build())
+                .defaultSpaceSettings(DefaultSpaceSettings.builder().executionRole(TEST_ROLE).build())
+                .appSecurityGroupManagement("Service")
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .defaultUserSettings(previousModel.getDefaultUserSettings())
+                .defaultSpaceSettings(previousModel.getDefaultSpaceSettings())
+                .appSecurityGroupManagement(previousModel.getAppSecurityGroupManagement())
+                .domainSettings(DOMAIN_SETTINGS)
+                .build();
+
+        final UpdateDomainRequest request = TranslatorForRequest.translateToUpdateRequest(model, previousModel);
+
+        assertThat(request.defaultUserSettings()).isNull();
+        assertThat(request.defaultSpaceSettings()).isNull();
+        assertThat(request.appSecurityGroupManagement()).isNull();
+        assertThat(request.domainSettingsForUpdate().securityGroupIds()).containsExactly(TEST_SECURITY_GROUP);
+        assertThat(request.domainSettingsForUpdate().rStudioServerProDomainSettingsForUpdate().domainExecutionRoleArn())
+                .isEqualTo(TEST_ROLE);
+        assertThat(TranslatorForRequest.isEmptyUpdateRequest(request)).isFalse();
+    }
+
+    @Test
+    public void testTranslateToUpdateRequest_AllSettingsChanged() {
+        final ResourceModel previousModel = ResourceModel.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .defaultUserSettings(UserSettings.builder().executionRole(TEST_ROLE).build())
+                .defaultSpaceSettings(DefaultSpaceSettings.builder().executionRole(TEST_ROLE).build())
+                .domainSettings(DomainSettings.builder().build())
+                .appSecurityGroupManagement("Service")
+                .build();
+
+        final UpdateDomainRequest request = TranslatorForRequest.translateToUpdateRequest(model, previousModel);
+
+        assertThat(request.defaultUserSettings().executionRole()).isEqualTo(TEST_ROLE);
+        assertThat(request.defaultSpaceSettings().executionRole()).isEqualTo(TEST_ROLE);
+        assertThat(request.domainSettingsForUpdate().rStudioServerProDomainSettingsForUpdate()).isNull();
+        assertThat(request.appSecurityGroupManagementAsString()).isEqualTo("Service");
+    }
+
+    @Test
+    public void testIsEmptyUpdateRequest() {
+        final ResourceModel model = ResourceModel.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .defaultUserSettings(UserSettings.builder().executionRole(TEST_ROLE).build())
+                .build();
+
+        assertThat(TranslatorForRequest.isEmptyUpdateRequest(
+                TranslatorForRequest.translateToUpdateRequest(model, model))).isTrue();
+        assertThat(TranslatorForRequest.isEmptyUpdateRequest(UpdateDomainRequest.builder()
+                .defaultSpaceSettings(s -> s.executionRole(TEST_ROLE))
+                .build())).isFalse();
+        assertThat(TranslatorForRequest.isEmptyUpdateRequest(UpdateDomainRequest.builder()
+                .appSecurityGroupManagement("Service")
+                .build())).isFalse();
+    }
+
+    private static ResourceModel roundTrip(final ResourceModel model) {
+        final CreateDomainRequest request = TranslatorForRequest.translateToCreateRequest(model);
+        return TranslatorForResponse.translateFromReadResponse(DescribeDomainResponse.builder()
+                .domainArn(TEST_DOMAIN_ARN)
+                .domainId(TEST_DOMAIN_ID)
+                .domainName(request.domainName())
+                .authMode(request.authMode())
+                .vpcId(request.vpcId())
+                .subnetIds(request.subnetIds())
+                .defaultUserSettings(request.defaultUserSettings())
+                .defaultSpaceSettings(request.defaultSpaceSettings())
+                .domainSettings(request.domainSettings())
+                .build());
+    }
+}
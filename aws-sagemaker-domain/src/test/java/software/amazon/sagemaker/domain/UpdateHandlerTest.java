@@ -3,6 +3,7 @@ package software.amazon.sagemaker.domain;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
@@ -34,6 +35,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -209,6 +213,107 @@ public class UpdateHandlerTest extends software.amazon.sagemaker.domain.Abstract
                 "Stabilizing during update of " + request.getDesiredResourceState().getPrimaryIdentifier()));
     }
 
+    @Test
+    public void testUpdateHandler_NoChangedSettingsSkipsUpdateDomain() {
+        final DescribeDomainResponse describeDomainResponse =
+                DescribeDomainResponse.builder()
+                        .domainArn(TEST_DOMAIN_ARN)
+                        .status(DomainStatus.IN_SERVICE)
+                        .build();
+
+        when(proxyClient.client().describeDomain(any(DescribeDomainRequest.class)))
+                .thenReturn(describeDomainResponse);
+
+        final ResourceModel previousModel = getPostCreationResourceModel();
+        previousModel.setDefaultUserSettings(UserSettings.builder().executionRole(TEST_ROLE).build());
+        final ResourceModel desiredModel = getPostCreationResourceModel();
+        desiredModel.setDefaultUserSettings(UserSettings.builder().executionRole(TEST_ROLE).build());
+        desiredModel.setCascadeDelete(true);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredModel)
+                .previousResourceState(previousModel)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(request);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDomainArn()).isEqualTo(TEST_DOMAIN_ARN);
+        verify(sdkClient, never()).updateDomain(any(UpdateDomainRequest.class));
+        verify(sdkClient, times(1)).describeDomain(any(DescribeDomainRequest.class));
+    }
+
+    @Test
+    public void testUpdateHandler_SendsOnlyChangedSettings() {
+        final DescribeDomainResponse describeDomainResponse =
+                DescribeDomainResponse.builder()
+                        .domainArn(TEST_DOMAIN_ARN)
+                        .status(DomainStatus.IN_SERVICE)
+                        .build();
+
+        when(proxyClient.client().describeDomain(any(DescribeDomainRequest.class)))
+                .thenReturn(describeDomainResponse);
+        when(proxyClient.client().updateDomain(any(UpdateDomainRequest.class)))
+                .thenReturn(UpdateDomainResponse.builder().build());
+
+        final DomainSettings domainSettings = DomainSettings.builder()
+                .securityGroupIds(Collections.singletonList("sg-1"))
+                .build();
+        final ResourceModel previousModel = getPostCreationResourceModel();
+        previousModel.setDefaultUserSettings(UserSettings.builder().executionRole(TEST_ROLE).build());
+        previousModel.setDomainSettings(domainSettings);
+        final ResourceModel desiredModel = getPostCreationResourceModel();
+        desiredModel.setDefaultUserSettings(UserSettings.builder().executionRole("updatedRole").build());
+        desiredModel.setDomainSettings(domainSettings);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desiredModel)
+                .previousResourceState(previousModel)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(request);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDomainArn()).isEqualTo(TEST_DOMAIN_ARN);
+        final ArgumentCaptor<UpdateDomainRequest> captor = ArgumentCaptor.forClass(UpdateDomainRequest.class);
+        verify(sdkClient).updateDomain(captor.capture());
+        assertThat(captor.getValue().defaultUserSettings().executionRole()).isEqualTo("updatedRole");
+        assertThat(captor.getValue().domainSettingsForUpdate()).isNull();
+        assertThat(captor.getValue().defaultSpaceSettings()).isNull();
+        // the Describe that saw the domain InService is the read result
+        verify(sdkClient, times(1)).describeDomain(any(DescribeDomainRequest.class));
+    }
+
+    @Test
+    public void testUpdateHandler_ReusedHandlerDescribesEachDomain() {
+        final String otherDomainId = "d-other";
+        final String otherDomainArn = "arn:aws:sagemaker:us-west-2:123456789012:domain/d-other";
+        when(proxyClient.client().describeDomain(any(DescribeDomainRequest.class))).thenAnswer(invocation -> {
+            final DescribeDomainRequest describeRequest = invocation.getArgument(0);
+            return DescribeDomainResponse.builder()
+                    .domainId(describeRequest.domainId())
+                    .domainArn(otherDomainId.equals(describeRequest.domainId()) ? otherDomainArn : TEST_DOMAIN_ARN)
+                    .status(DomainStatus.IN_SERVICE)
+                    .build();
+        });
+        when(proxyClient.client().updateDomain(any(UpdateDomainRequest.class)))
+                .thenReturn(UpdateDomainResponse.builder().build());
+
+        // the framework serves warm invocations with the same handler instance
+        final UpdateHandler handler = new UpdateHandler();
+        handler.handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getPostCreationResourceModel())
+                .build(), new CallbackContext(), proxyClient, logger);
+
+        final ResourceModel otherDomain = ResourceModel.builder().domainId(otherDomainId).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(otherDomain)
+                        .previousResourceState(ResourceModel.builder().domainId(otherDomainId).build())
+                        .build(), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getDomainArn()).isEqualTo(otherDomainArn);
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> invokeHandleRequest(ResourceHandlerRequest<ResourceModel> request) {
         final UpdateHandler handler = new UpdateHandler();
         return handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
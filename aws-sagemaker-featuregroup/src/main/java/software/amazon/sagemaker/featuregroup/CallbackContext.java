@@ -1,10 +1,12 @@
 package software.amazon.sagemaker.featuregroup;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.sagemaker.common.StabilizationHistory;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    private StabilizationHistory stabilizationHistory = new StabilizationHistory();
 }
@@ -13,13 +13,27 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 public class CreateHandler extends BaseHandlerStd {
 
     private static final String OPERATION = "AWS-SageMaker-FeatureGroup::Create";
 
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
+    private final StabilizationScheduler stabilizationScheduler;
+
     private Logger logger;
 
+    public CreateHandler() {
+        this(STABILIZATION_SCHEDULER);
+    }
+
+    public CreateHandler(final StabilizationScheduler stabilizationScheduler) {
+        this.stabilizationScheduler = stabilizationScheduler;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -33,11 +47,14 @@ public class CreateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
-                        proxy.initiate(OPERATION, proxyClient, model, callbackContext)
-                                .translateToServiceRequest(TranslatorForRequest::translateToCreateRequest)
-                                .makeServiceCall(this::createResource)
-                                .stabilize(this::stabilizedOnCreate)
-                                .progress())
+                        StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(TranslatorForRequest::translateToCreateRequest)
+                                    .backoffDelay(stabilizationScheduler.delay(callbackContext.getStabilizationHistory()))
+                                    .makeServiceCall(this::createResource)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnCreate))
+                                    .progress()))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
@@ -91,6 +108,7 @@ public class CreateHandler extends BaseHandlerStd {
             logger.log(String.format("Resource not found for %s, stabilizing.", model.getPrimaryIdentifier()));
             return false;
         }
+        stabilizationScheduler.observe(callbackContext.getStabilizationHistory(), featureGroupStatus.toString());
 
         switch (featureGroupStatus) {
             case CREATED:
@@ -14,10 +14,13 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 public class DeleteHandler extends BaseHandlerStd {
 
     private static final String OPERATION = "AWS-SageMaker-FeatureGroup::Delete";
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
 
     private Logger logger;
 
@@ -34,13 +37,15 @@ public class DeleteHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
-                        proxy.initiate(OPERATION, proxyClient, model, callbackContext)
-                                .translateToServiceRequest(TranslatorForRequest::translateToDeleteRequest)
-                                .makeServiceCall(this::deleteResource)
-                                .stabilize(this::stabilizedOnDelete)
-                                .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                        .status(OperationStatus.SUCCESS)
-                                        .build()));
+                        StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(TranslatorForRequest::translateToDeleteRequest)
+                                    .makeServiceCall(this::deleteResource)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnDelete))
+                                    .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
+                                            .status(OperationStatus.SUCCESS)
+                                            .build())));
     }
 
     /**
@@ -87,6 +92,7 @@ public class DeleteHandler extends BaseHandlerStd {
             final FeatureGroupStatus featureGroupStatus =
                     proxyClient.injectCredentialsAndInvokeV2(TranslatorForRequest.translateToReadRequest(model),
                     proxyClient.client()::describeFeatureGroup).featureGroupStatus();
+            STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), featureGroupStatus.toString());
 
             switch (featureGroupStatus) {
                 case DELETING:
@@ -97,6 +103,7 @@ public class DeleteHandler extends BaseHandlerStd {
                     throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getFeatureGroupName());
             }
         } catch (ResourceNotFoundException e) {
+            STABILIZATION_SCHEDULER.complete(callbackContext.getStabilizationHistory());
             return true;
         }
     }
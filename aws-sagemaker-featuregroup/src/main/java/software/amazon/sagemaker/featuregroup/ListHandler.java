@@ -17,6 +17,12 @@ public class ListHandler extends BaseHandlerStd {
     private static final String OPERATION = "AWS-SageMaker-FeatureGroup::List";
     private Logger logger;
 
+    @Override
+    protected boolean reschedulesOnThrottle() {
+        // List has no callbacks, so it still fails when throttled
+        return false;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -422,7 +422,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> invokeHandleRequest(ResourceHandlerRequest<ResourceModel> request) {
-        final CreateHandler handler = new CreateHandler();
+        final CreateHandler handler = new CreateHandler(TEST_STABILIZATION_SCHEDULER);
         return handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
     }
 }
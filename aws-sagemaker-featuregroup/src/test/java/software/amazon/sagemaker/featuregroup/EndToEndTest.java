@@ -0,0 +1,187 @@
+package software.amazon.sagemaker.featuregroup;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.CreateFeatureGroupRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateFeatureGroupResponse;
+import software.amazon.awssdk.services.sagemaker.model.FeatureGroupStatus;
+import software.amazon.awssdk.services.sagemaker.model.FeatureType;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationScheduler;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Runs the handlers against the in-memory {@link FakeSageMakerService} instead of call by call mocks.
+ */
+public class EndToEndTest extends AbstractTestBase {
+
+    private FakeSageMakerService service;
+    private FakeSageMakerClient sageMakerClient;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<SageMakerClient> proxyClient;
+    private StabilizationScheduler createScheduler;
+
+    @BeforeEach
+    public void setup() {
+        service = new FakeSageMakerService();
+        sageMakerClient = new FakeSageMakerClient(service);
+        proxy = service.newProxy();
+        proxyClient = proxy.newProxy(() -> sageMakerClient);
+        // a scheduler of its own, the shared one would carry the durations learned here into other tests
+        createScheduler = StabilizationScheduler.builder().clock(service.clock()).build();
+    }
+
+    @Test
+    public void testLifecycle() {
+        final ResourceModel created = run(new CreateHandler(createScheduler), request(desiredModel()))
+                .getResourceModel();
+
+        assertThat(created.getFeatureDefinitions()).isEqualTo(desiredModel().getFeatureDefinitions());
+        assertThat(sageMakerClient.getFeatureGroups().describe(TEST_FEATURE_GROUP_NAME).getStatus())
+                .isEqualTo(FeatureGroupStatus.CREATED.toString());
+        assertThat(service.tags(sageMakerClient.getFeatureGroups().describe(TEST_FEATURE_GROUP_NAME).getArn()))
+                .containsEntry("key", "value");
+        assertThat(service.calls("CreateFeatureGroup")).isEqualTo(1);
+        // polled until Created after a minute, then described once more for the read
+        assertThat(service.calls("DescribeFeatureGroup")).isBetween(3L, 10L);
+
+        assertThat(run(new ReadHandler(), request(created)).getResourceModel().getRecordIdentifierFeatureName())
+                .isEqualTo(TEST_RECORD_ID_FEATURE_NAME);
+        assertThat(run(new ListHandler(), request(ResourceModel.builder().build())).getResourceModels())
+                .extracting(ResourceModel::getFeatureGroupName)
+                .containsExactly(TEST_FEATURE_GROUP_NAME);
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = run(new DeleteHandler(), request(created));
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThrows(CfnNotFoundException.class, () -> run(new ReadHandler(), request(created)));
+        assertThrows(CfnNotFoundException.class, () -> run(new DeleteHandler(), request(created)));
+        assertThat(run(new ListHandler(), request(ResourceModel.builder().build())).getResourceModels()).isEmpty();
+    }
+
+    @Test
+    public void testCreate_AlreadyExists() {
+        run(new CreateHandler(createScheduler), request(desiredModel()));
+
+        assertThrows(ResourceAlreadyExistsException.class,
+                () -> run(new CreateHandler(createScheduler), request(desiredModel())));
+    }
+
+    @Test
+    public void testCreate_Failed() {
+        final FakeSageMakerClient failingClient = new FakeSageMakerClient(service) {
+            @Override
+            public CreateFeatureGroupResponse createFeatureGroup(final CreateFeatureGroupRequest request) {
+                final CreateFeatureGroupResponse response = super.createFeatureGroup(request);
+                getFeatureGroups().setStatus(request.featureGroupName(), FeatureGroupStatus.CREATE_FAILED.toString());
+                return response;
+            }
+        };
+        final ProxyClient<SageMakerClient> failingProxyClient = proxy.newProxy(() -> failingClient);
+        final ResourceHandlerRequest<ResourceModel> request = request(desiredModel());
+
+        assertThrows(CfnNotStabilizedException.class, () -> service.drive(context -> new CreateHandler(createScheduler)
+                .handleRequest(proxy, request, context, failingProxyClient, logger), new CallbackContext()));
+        assertThat(service.calls("DescribeFeatureGroup")).isEqualTo(1);
+    }
+
+    @Test
+    public void testCreate_ThrottledInvocationIsRescheduled() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(desiredModel());
+        final AmazonWebServicesClientProxy entryProxy = entryProxy();
+        service.throttleNextCalls(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> throttled =
+                new CreateHandler(createScheduler).handleRequest(entryProxy, request, null, logger);
+
+        assertThat(throttled.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(throttled.getCallbackDelaySeconds()).isPositive();
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress = service.drive(
+                context -> new CreateHandler(createScheduler).handleRequest(entryProxy, request, context, logger),
+                throttled.getCallbackContext());
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(service.throttledCalls()).isEqualTo(1);
+        assertThat(service.calls("CreateFeatureGroup")).isEqualTo(2);
+    }
+
+    @Test
+    public void testList_ThrottledInvocationFails() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(ResourceModel.builder().build());
+        service.throttleNextCalls(1);
+
+        assertThrows(CfnThrottlingException.class,
+                () -> new ListHandler().handleRequest(entryProxy(), request, null, logger));
+    }
+
+    /**
+     * A proxy handing the fake client to the handlers' entry point, which builds its proxy client from
+     * {@link ClientBuilder}, so throttles pass through the rate limiter and the reschedule of {@link BaseHandlerStd}.
+     */
+    private AmazonWebServicesClientProxy entryProxy() {
+        final AmazonWebServicesClientProxy entryProxy = spy(proxy);
+        doReturn(proxyClient).when(entryProxy).newProxy(any());
+        return entryProxy;
+    }
+
+    /**
+     * @return a request of its own account, so that the rate limiter buckets of other tests do not interfere
+     */
+    private static ResourceHandlerRequest<ResourceModel> throttledAccountRequest(final ResourceModel desired) {
+        final ResourceHandlerRequest<ResourceModel> request = request(desired);
+        request.setAwsAccountId("throttled-" + System.nanoTime());
+        request.setRegion("us-west-2");
+        return request;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request) {
+        return service.drive(context -> handler.handleRequest(proxy, request, context, proxyClient, logger),
+                new CallbackContext());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .build();
+    }
+
+    private static ResourceModel desiredModel() {
+        return ResourceModel.builder()
+                .featureGroupName(TEST_FEATURE_GROUP_NAME)
+                .recordIdentifierFeatureName(TEST_RECORD_ID_FEATURE_NAME)
+                .eventTimeFeatureName(TEST_EVENT_TIME_FEATURE_NAME)
+                .featureDefinitions(Arrays.asList(
+                        FeatureDefinition.builder()
+                                .featureName(TEST_RECORD_ID_FEATURE_NAME)
+                                .featureType(FeatureType.STRING.toString())
+                                .build(),
+                        FeatureDefinition.builder()
+                                .featureName(TEST_EVENT_TIME_FEATURE_NAME)
+                                .featureType(FeatureType.FRACTIONAL.toString())
+                                .build()))
+                .onlineStoreConfig(OnlineStoreConfig.builder().enableOnlineStore(true).build())
+                .description(TEST_DESCRIPTION)
+                .roleArn(TEST_ROLE_ARN)
+                .tags(Collections.singletonList(Tag.builder().key("key").value("value").build()))
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package software.amazon.sagemaker.featuregroup;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.sagemaker.model.CreateFeatureGroupRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateFeatureGroupResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteFeatureGroupRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteFeatureGroupResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeFeatureGroupRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeFeatureGroupResponse;
+import software.amazon.awssdk.services.sagemaker.model.FeatureGroupStatus;
+import software.amazon.awssdk.services.sagemaker.model.FeatureGroupSummary;
+import software.amazon.awssdk.services.sagemaker.model.ListFeatureGroupsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListFeatureGroupsResponse;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for feature groups: Creating settles into Created, Deleting into not found.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    static final Duration TRANSITION_TIME = Duration.ofMinutes(1);
+
+    private final FakeResourceTable<DescribeFeatureGroupResponse> featureGroups;
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.featureGroups = new FakeResourceTable<>(service, "FeatureGroup", TRANSITION_TIME);
+    }
+
+    public FakeResourceTable<DescribeFeatureGroupResponse> getFeatureGroups() {
+        return featureGroups;
+    }
+
+    @Override
+    public CreateFeatureGroupResponse createFeatureGroup(final CreateFeatureGroupRequest request) {
+        return service.call("CreateFeatureGroup", () -> {
+            final String arn = "arn:aws:sagemaker:us-west-2:123456789012:feature-group/" + request.featureGroupName();
+            featureGroups.create(request.featureGroupName(), arn, DescribeFeatureGroupResponse.builder()
+                    .featureGroupArn(arn)
+                    .featureGroupName(request.featureGroupName())
+                    .recordIdentifierFeatureName(request.recordIdentifierFeatureName())
+                    .eventTimeFeatureName(request.eventTimeFeatureName())
+                    .featureDefinitions(request.featureDefinitions())
+                    .onlineStoreConfig(request.onlineStoreConfig())
+                    .offlineStoreConfig(request.offlineStoreConfig())
+                    .description(request.description())
+                    .roleArn(request.roleArn())
+                    .build(), FeatureGroupStatus.CREATING.toString(), FeatureGroupStatus.CREATED.toString());
+            service.tag(arn, tagMap(request.tags()));
+            return CreateFeatureGroupResponse.builder().featureGroupArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeFeatureGroupResponse describeFeatureGroup(final DescribeFeatureGroupRequest request) {
+        return service.call("DescribeFeatureGroup",
+                () -> toDescribeResponse(featureGroups.describe(request.featureGroupName())));
+    }
+
+    @Override
+    public DeleteFeatureGroupResponse deleteFeatureGroup(final DeleteFeatureGroupRequest request) {
+        return service.call("DeleteFeatureGroup", () -> {
+            featureGroups.delete(request.featureGroupName(), FeatureGroupStatus.DELETING.toString(), null);
+            return DeleteFeatureGroupResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListFeatureGroupsResponse listFeatureGroups(final ListFeatureGroupsRequest request) {
+        return service.call("ListFeatureGroups", () -> ListFeatureGroupsResponse.builder()
+                .featureGroupSummaries(featureGroups.list().stream()
+                        .map(featureGroup -> FeatureGroupSummary.builder()
+                                .featureGroupName(featureGroup.getName())
+                                .featureGroupArn(featureGroup.getArn())
+                                .featureGroupStatus(featureGroup.getStatus())
+                                .creationTime(featureGroup.getCreationTime())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    private static DescribeFeatureGroupResponse toDescribeResponse(
+            final FakeResource<DescribeFeatureGroupResponse> featureGroup) {
+        return featureGroup.getState().toBuilder()
+                .featureGroupStatus(featureGroup.getStatus())
+                .creationTime(featureGroup.getCreationTime())
+                .build();
+    }
+}
@@ -1,10 +1,19 @@
 package software.amazon.sagemaker.image;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.sagemaker.common.DescribeCache;
+import software.amazon.sagemaker.common.StabilizationHistory;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    @JsonIgnore
+    @lombok.ToString.Exclude
+    @lombok.EqualsAndHashCode.Exclude
+    private final DescribeCache describeCache = new DescribeCache();
+
+    private StabilizationHistory stabilizationHistory = new StabilizationHistory();
 }
@@ -21,12 +21,18 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 /**
  * CloudFormation resource handler to be invoked when creating a new AWS::SageMaker::Image resource.
  */
 public class CreateHandler extends BaseHandlerStd {
 
+    private static final String OPERATION = "AWS-SageMaker-Image::Create";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     @Override
@@ -49,11 +55,14 @@ public class CreateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
-                proxy.initiate("AWS-SageMaker-Image::Create", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(Translator::translateToCreateRequest)
-                    .makeServiceCall((createRequest, prxyClient) -> checkIfExistingAndCreate(model, createRequest, prxyClient))
-                    .stabilize(this::stabilizedOnCreate)
-                    .progress())
+                StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                    proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                        .translateToServiceRequest(Translator::translateToCreateRequest)
+                        .makeServiceCall((createRequest, prxyClient) ->
+                                checkIfExistingAndCreate(model, createRequest, prxyClient))
+                        .stabilize(StabilizationMetrics.countThrottles(
+                                callbackContext.getStabilizationHistory(), this::stabilizedOnCreate))
+                        .progress()))
             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
@@ -124,6 +133,7 @@ public class CreateHandler extends BaseHandlerStd {
 
         final ImageStatus imageStatus= proxyClient.injectCredentialsAndInvokeV2(
                 Translator.translateToReadRequest(model), proxyClient.client()::describeImage).imageStatus();
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), imageStatus.toString());
 
         switch (imageStatus) {
             case CREATE_FAILED:
@@ -17,12 +17,18 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 /**
  * CloudFormation resource handler to be invoked when deleting an existing AWS::SageMaker::Image resource.
  */
 public class DeleteHandler extends BaseHandlerStd {
 
+    private static final String OPERATION = "AWS-SageMaker-Image::Delete";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -36,13 +42,16 @@ public class DeleteHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
-                proxy.initiate("AWS-SageMaker-Image::Delete", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(Translator::translateToDeleteRequest)
-                    .makeServiceCall((deleteImageRequest, prxyClient) -> deleteImage(model, deleteImageRequest, prxyClient))
-                    .stabilize(this::stabilizedOnDelete)
-                    .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                            .status(OperationStatus.SUCCESS)
-                            .build()));
+                StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                    proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                        .translateToServiceRequest(Translator::translateToDeleteRequest)
+                        .makeServiceCall((deleteImageRequest, prxyClient) ->
+                                deleteImage(model, deleteImageRequest, prxyClient))
+                        .stabilize(StabilizationMetrics.countThrottles(
+                                callbackContext.getStabilizationHistory(), this::stabilizedOnDelete))
+                        .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
+                                .status(OperationStatus.SUCCESS)
+                                .build())));
     }
 
     /**
@@ -97,8 +106,10 @@ public class DeleteHandler extends BaseHandlerStd {
             imageStatus = proxyClient.injectCredentialsAndInvokeV2(
                     Translator.translateToReadRequest(model), proxyClient.client()::describeImage).imageStatus();
         } catch (final ResourceNotFoundException e) {
+            STABILIZATION_SCHEDULER.complete(callbackContext.getStabilizationHistory());
             return true;
         }
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), imageStatus.toString());
 
         switch (imageStatus) {
             case DELETING:
@@ -24,6 +24,12 @@ public class ReadHandler extends BaseHandlerStd {
 
     private Logger logger;
 
+    @Override
+    protected boolean reschedulesOnThrottle() {
+        // Read has no callbacks, so it still fails when throttled
+        return false;
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -36,7 +42,7 @@ public class ReadHandler extends BaseHandlerStd {
 
         return proxy.initiate("AWS-SageMaker-Image::Read", proxyClient, model, callbackContext)
             .translateToServiceRequest(Translator::translateToReadRequest)
-            .makeServiceCall(this::readImage)
+            .makeServiceCall((describeImageRequest, client) -> readImage(describeImageRequest, client, callbackContext))
             .done((awsResponse) -> constructResourceModelFromResponse(awsResponse, proxyClient));
     }
 
@@ -44,15 +50,17 @@ public class ReadHandler extends BaseHandlerStd {
      * Invokes the read request using the provided proxyClient.
      * @param describeImageRequest the aws service request to read an image
      * @param proxyClient the aws client used to make service calls
+     * @param callbackContext the callback context, whose describe cache may already hold the response
      * @return describeImageResponse aws service response from reading an image resource
      */
     private DescribeImageResponse readImage(
             final DescribeImageRequest describeImageRequest,
-            final ProxyClient<SageMakerClient> proxyClient) {
+            final ProxyClient<SageMakerClient> proxyClient,
+            final CallbackContext callbackContext) {
         final DescribeImageResponse response;
         try {
-            response = proxyClient.injectCredentialsAndInvokeV2(describeImageRequest,
-                    proxyClient.client()::describeImage);
+            response = callbackContext.getDescribeCache().describe(describeImageRequest,
+                    request -> proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeImage));
         } catch (final ResourceNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, describeImageRequest.imageName(), e);
         } catch (final AwsServiceException e) {
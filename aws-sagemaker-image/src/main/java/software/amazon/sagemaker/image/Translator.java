@@ -19,6 +19,7 @@ import software.amazon.awssdk.services.sagemaker.model.ListTagsRequest;
 import software.amazon.awssdk.services.sagemaker.model.Tag;
 import software.amazon.awssdk.services.sagemaker.model.UpdateImageRequest;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.sagemaker.common.StreamUtils;
 
 /**
  * This class is a centralized placeholder for the following.
@@ -193,9 +194,7 @@ public class Translator {
     }
 
     static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
-        return Optional.ofNullable(collection)
-            .map(Collection::stream)
-            .orElseGet(Stream::empty);
+        return StreamUtils.streamOfOrEmpty(collection);
     }
 
     /**
@@ -1,10 +1,5 @@
 package software.amazon.sagemaker.image;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
 import software.amazon.awssdk.services.sagemaker.model.DescribeImageResponse;
@@ -21,12 +16,22 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
+import software.amazon.sagemaker.common.TagDiff;
+import software.amazon.sagemaker.common.TagUpdates;
 
 
 /**
  * CloudFormation resource handler to be invoked when updating an existing AWS::SageMaker::Image resource.
  */
 public class UpdateHandler extends BaseHandlerStd {
+
+    private static final String OPERATION = "AWS-SageMaker-Image::UpdateImage";
+    private static final String TAG_OPERATION = "AWS-SageMaker-Image::UpdateTags";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -40,13 +45,17 @@ public class UpdateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
-                proxy.initiate("AWS-SageMaker-Image::UpdateImage", proxyClient, model, progress.getCallbackContext())
-                    .translateToServiceRequest((resourceModel -> getExistingStateAndTranslate(resourceModel, proxyClient)))
-                    .makeServiceCall(this::updateImage)
-                    .stabilize(this::stabilizedOnUpdate)
-                    .progress()
+                StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                    proxy.initiate(OPERATION, proxyClient, model, progress.getCallbackContext())
+                        .translateToServiceRequest((resourceModel ->
+                                getExistingStateAndTranslate(resourceModel, proxyClient, callbackContext)))
+                        .makeServiceCall((updateImageRequest, client) ->
+                                updateImage(updateImageRequest, client, callbackContext))
+                        .stabilize(StabilizationMetrics.countThrottles(
+                                callbackContext.getStabilizationHistory(), this::stabilizedOnUpdate))
+                        .progress())
             )
-            .then(progress -> updateTags(proxyClient, model, callbackContext))
+            .then(progress -> updateTags(proxyClient, request, callbackContext))
             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
@@ -55,15 +64,19 @@ public class UpdateHandler extends BaseHandlerStd {
      * image request.
      * @param requestedState CFN resource model representing the desired state of the resource
      * @param proxyClient the aws client used to make service calls
+     * @param callbackContext the callback context holding the describe cache
      * @return updateImageRequest the update request to be invoked by service
      */
     private UpdateImageRequest getExistingStateAndTranslate(
             final ResourceModel requestedState,
-            final ProxyClient<SageMakerClient> proxyClient) {
+            final ProxyClient<SageMakerClient> proxyClient,
+            final CallbackContext callbackContext) {
         final DescribeImageResponse existingState;
         try {
-            existingState = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(requestedState),
-                            proxyClient.client()::describeImage);
+            existingState = callbackContext.getDescribeCache().describe(
+                    Translator.translateToReadRequest(requestedState),
+                    describeImageRequest -> proxyClient.injectCredentialsAndInvokeV2(
+                            describeImageRequest, proxyClient.client()::describeImage));
         } catch (final ResourceNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, requestedState.getImageName(), e);
         } catch (final AwsServiceException e) {
@@ -77,11 +90,14 @@ public class UpdateHandler extends BaseHandlerStd {
      * Invokes the update request using the provided proxyClient.
      * @param updateImageRequest the aws service request to update an image
      * @param proxyClient the aws client used to make service calls
+     * @param callbackContext the callback context holding the describe cache
      * @return updateImageResponse aws service response from updating an image resource
      */
     private UpdateImageResponse updateImage(
             final UpdateImageRequest updateImageRequest,
-            final ProxyClient<SageMakerClient> proxyClient) {
+            final ProxyClient<SageMakerClient> proxyClient,
+            final CallbackContext callbackContext) {
+        callbackContext.getDescribeCache().invalidate();
         final UpdateImageResponse response;
         try {
             response = proxyClient.injectCredentialsAndInvokeV2(updateImageRequest, proxyClient.client()::updateImage);
@@ -114,8 +130,12 @@ public class UpdateHandler extends BaseHandlerStd {
             model.setImageArn(updateImageResponse.imageArn());
         }
 
-        final ImageStatus imageStatus = proxyClient.injectCredentialsAndInvokeV2(
-                Translator.translateToReadRequest(model), proxyClient.client()::describeImage).imageStatus();
+        // Refreshing keeps the last poll cached for the tagging step and the final read
+        final ImageStatus imageStatus = callbackContext.getDescribeCache().refresh(
+                Translator.translateToReadRequest(model),
+                describeImageRequest -> proxyClient.injectCredentialsAndInvokeV2(
+                        describeImageRequest, proxyClient.client()::describeImage)).imageStatus();
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), imageStatus.toString());
 
         switch (imageStatus) {
             case UPDATE_FAILED:
@@ -138,16 +158,23 @@ public class UpdateHandler extends BaseHandlerStd {
     /**
      * Handles updating tags on the Image resource if changes are present.
      * @param proxyClient the aws client used to make service calls
-     * @param model the CloudFormation resource model
+     * @param request the resource handler request
      * @param callbackContext the callback context
      * @return progressEvent, in progress with delay callback and model state
      */
     private ProgressEvent<ResourceModel, CallbackContext> updateTags(
             final ProxyClient<SageMakerClient> proxyClient,
-            final ResourceModel model,
+            final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext) {
+        final ResourceModel model = request.getDesiredResourceState();
+        if (!TagUpdates.shouldUpdateTags(request,
+                resourceModel -> TagDiff.toMap(Translator.cfnTagsToSdkTags(resourceModel.getTags())))) {
+            // ListTags and DescribeImage are only needed to diff tags
+            TagUpdates.recordSkippedCalls(logger, TAG_OPERATION, 2);
+            return ProgressEvent.progress(model, callbackContext);
+        }
         try {
-            handleTagging(proxyClient, model);
+            handleTagging(proxyClient, model, callbackContext);
         } catch (final ResourceNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getImageArn(), e);
         } catch (final AwsServiceException e) {
@@ -162,35 +189,23 @@ public class UpdateHandler extends BaseHandlerStd {
      * resource as necessary.
      * @param proxyClient the aws service client to make the call
      * @param model the resource model
+     * @param callbackContext the callback context holding the describe cache
      */
     private void handleTagging(
             final ProxyClient<SageMakerClient> proxyClient,
-            final ResourceModel model) {
-        final Set<software.amazon.awssdk.services.sagemaker.model.Tag> newTags =
-                new HashSet<>(Translator.cfnTagsToSdkTags(model.getTags()));
-        final Set<software.amazon.awssdk.services.sagemaker.model.Tag> existingTags =
-                new HashSet<>(proxyClient.injectCredentialsAndInvokeV2(
-                        Translator.translateToListTagsRequest(model), proxyClient.client()::listTags).tags());
-        final String imageArn = proxyClient.injectCredentialsAndInvokeV2(
-                Translator.translateToReadRequest(model), proxyClient.client()::describeImage).imageArn();
-
-        final List<software.amazon.awssdk.services.sagemaker.model.Tag> tagsToAdd = newTags.stream()
-                .filter(tag -> !existingTags.contains(tag))
-                .collect(Collectors.toList());
-        final List<String> tagsToAddKeys = tagsToAdd.stream()
-                .map(software.amazon.awssdk.services.sagemaker.model.Tag::key)
-                .collect(Collectors.toList());
-        final List<String> tagsToRemove = existingTags.stream()
-                .filter(tag -> !newTags.contains(tag) && !tagsToAddKeys.contains(tag.key()))
-                .map(software.amazon.awssdk.services.sagemaker.model.Tag::key)
-                .collect(Collectors.toList());
-        if (!tagsToRemove.isEmpty()) {
-            proxyClient.injectCredentialsAndInvokeV2(Translator.translateToDeleteTagsRequest(tagsToRemove, imageArn),
-                    proxyClient.client()::deleteTags);
-        }
-        if (!tagsToAdd.isEmpty()) {
-            proxyClient.injectCredentialsAndInvokeV2(Translator.translateToAddTagsRequest(tagsToAdd, imageArn),
-                    proxyClient.client()::addTags);
+            final ResourceModel model,
+            final CallbackContext callbackContext) {
+        final TagDiff tagDiff = TagDiff.between(
+                proxyClient.injectCredentialsAndInvokeV2(
+                        Translator.translateToListTagsRequest(model), proxyClient.client()::listTags).tags(),
+                Translator.cfnTagsToSdkTags(model.getTags()));
+        if (tagDiff.isEmpty()) {
+            return;
         }
+        final String imageArn = callbackContext.getDescribeCache().describe(
+                Translator.translateToReadRequest(model),
+                describeImageRequest -> proxyClient.injectCredentialsAndInvokeV2(
+                        describeImageRequest, proxyClient.client()::describeImage)).imageArn();
+        tagDiff.apply(proxyClient, imageArn);
     }
 }
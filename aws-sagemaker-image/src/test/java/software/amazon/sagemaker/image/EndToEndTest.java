@@ -0,0 +1,153 @@
+package software.amazon.sagemaker.image;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Runs the handlers against the in-memory {@link FakeSageMakerService} instead of call by call mocks.
+ */
+public class EndToEndTest extends AbstractTestBase {
+
+    private FakeSageMakerService service;
+    private FakeSageMakerClient sageMakerClient;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<SageMakerClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        service = new FakeSageMakerService();
+        sageMakerClient = new FakeSageMakerClient(service);
+        proxy = service.newProxy();
+        proxyClient = proxy.newProxy(() -> sageMakerClient);
+    }
+
+    @Test
+    public void testLifecycle() {
+        final ResourceModel created = run(new CreateHandler(), request(desiredModel(), null)).getResourceModel();
+
+        assertThat(created.getImageArn()).endsWith("image/" + TEST_IMAGE_NAME);
+        assertThat(created.getTags()).isEqualTo(TEST_CFN_MODEL_TAGS);
+        assertThat(sageMakerClient.getImages().describe(TEST_IMAGE_NAME).getStatus()).isEqualTo("CREATED");
+        // Existence check, then a poll every 5 seconds until Created after 30 seconds
+        assertThat(service.calls("DescribeImage")).isBetween(7L, 9L);
+        assertThat(service.calls("CreateImage")).isEqualTo(1);
+
+        final ResourceModel updatedModel = desiredModel();
+        updatedModel.setImageArn(created.getImageArn());
+        updatedModel.setImageDescription("updated");
+        updatedModel.setTags(Collections.singletonList(Tag.builder().key("key2").value("value2").build()));
+        final ResourceModel updated = run(new UpdateHandler(), request(updatedModel, created)).getResourceModel();
+
+        assertThat(updated.getImageDescription()).isEqualTo("updated");
+        assertThat(service.tags(created.getImageArn())).containsOnlyKeys("key2");
+
+        final ProgressEvent<ResourceModel, CallbackContext> listed = run(new ListHandler(), request(ResourceModel.builder().build(), null));
+        assertThat(listed.getResourceModels()).extracting(ResourceModel::getImageArn)
+                .containsExactly(created.getImageArn());
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = run(new DeleteHandler(), request(updated, null));
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThrows(CfnNotFoundException.class, () -> run(new ReadHandler(), request(updated, null)));
+    }
+
+    @Test
+    public void testCreate_AlreadyExists() {
+        run(new CreateHandler(), request(desiredModel(), null));
+
+        assertThrows(ResourceAlreadyExistsException.class,
+                () -> run(new CreateHandler(), request(desiredModel(), null)));
+    }
+
+    @Test
+    public void testCreate_ThrottledInvocationIsRescheduled() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(desiredModel());
+        final AmazonWebServicesClientProxy entryProxy = entryProxy();
+        service.throttleNextCalls(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> throttled =
+                new CreateHandler().handleRequest(entryProxy, request, null, logger);
+
+        assertThat(throttled.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(throttled.getCallbackDelaySeconds()).isPositive();
+        assertThat(service.throttledCalls()).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress = service.drive(
+                context -> new CreateHandler().handleRequest(entryProxy, request, context, logger),
+                throttled.getCallbackContext());
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(service.calls("CreateImage")).isEqualTo(1);
+    }
+
+    @Test
+    public void testRead_ThrottledInvocationFails() {
+        run(new CreateHandler(), request(desiredModel(), null));
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(desiredModel());
+        service.throttleNextCalls(1);
+
+        assertThrows(CfnThrottlingException.class,
+                () -> new ReadHandler().handleRequest(entryProxy(), request, null, logger));
+    }
+
+    /**
+     * A proxy handing the fake client to the handlers' entry point, which builds its proxy client from
+     * {@link ClientBuilder}, so throttles pass through the rate limiter and the reschedule of {@link BaseHandlerStd}.
+     */
+    private AmazonWebServicesClientProxy entryProxy() {
+        final AmazonWebServicesClientProxy entryProxy = spy(proxy);
+        doReturn(proxyClient).when(entryProxy).newProxy(any());
+        return entryProxy;
+    }
+
+    /**
+     * @return a request of its own account, so that the rate limiter buckets of other tests do not interfere
+     */
+    private static ResourceHandlerRequest<ResourceModel> throttledAccountRequest(final ResourceModel desired) {
+        final ResourceHandlerRequest<ResourceModel> request = request(desired, null);
+        request.setAwsAccountId("throttled-" + System.nanoTime());
+        request.setRegion("us-west-2");
+        return request;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request) {
+        return service.drive(context -> handler.handleRequest(proxy, request, context, proxyClient, logger),
+                new CallbackContext());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired,
+                                                                 final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+    }
+
+    private static ResourceModel desiredModel() {
+        return ResourceModel.builder()
+                .imageName(TEST_IMAGE_NAME)
+                .imageRoleArn(TEST_IMAGE_ROLE_ARN)
+                .imageDisplayName(TEST_IMAGE_DISPLAY_NAME)
+                .imageDescription(TEST_IMAGE_DESCRIPTION)
+                .tags(TEST_CFN_MODEL_TAGS)
+                .build();
+    }
+}
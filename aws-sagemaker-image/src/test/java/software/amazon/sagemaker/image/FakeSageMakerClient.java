@@ -0,0 +1,118 @@
+package software.amazon.sagemaker.image;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.sagemaker.model.CreateImageRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateImageResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteImageRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteImageResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeImageRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeImageResponse;
+import software.amazon.awssdk.services.sagemaker.model.Image;
+import software.amazon.awssdk.services.sagemaker.model.ImageStatus;
+import software.amazon.awssdk.services.sagemaker.model.ListImagesRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListImagesResponse;
+import software.amazon.awssdk.services.sagemaker.model.UpdateImageRequest;
+import software.amazon.awssdk.services.sagemaker.model.UpdateImageResponse;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for images: Creating and Updating settle into Created, Deleting into not found.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    static final Duration TRANSITION_TIME = Duration.ofSeconds(30);
+
+    private final FakeResourceTable<DescribeImageResponse> images;
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.images = new FakeResourceTable<>(service, "Image", TRANSITION_TIME);
+    }
+
+    public FakeResourceTable<DescribeImageResponse> getImages() {
+        return images;
+    }
+
+    @Override
+    public CreateImageResponse createImage(final CreateImageRequest request) {
+        return service.call("CreateImage", () -> {
+            final String arn = "arn:aws:sagemaker:us-west-2:123456789012:image/" + request.imageName();
+            images.create(request.imageName(), arn, DescribeImageResponse.builder()
+                    .imageName(request.imageName())
+                    .imageArn(arn)
+                    .roleArn(request.roleArn())
+                    .displayName(request.displayName())
+                    .description(request.description())
+                    .build(), ImageStatus.CREATING.toString(), ImageStatus.CREATED.toString());
+            service.tag(arn, tagMap(request.tags()));
+            return CreateImageResponse.builder().imageArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeImageResponse describeImage(final DescribeImageRequest request) {
+        return service.call("DescribeImage", () -> toDescribeResponse(images.describe(request.imageName())));
+    }
+
+    @Override
+    public UpdateImageResponse updateImage(final UpdateImageRequest request) {
+        return service.call("UpdateImage", () -> {
+            final FakeResource<DescribeImageResponse> image = images.update(request.imageName(), state -> {
+                final DescribeImageResponse.Builder builder = state.toBuilder();
+                if (request.deleteProperties().contains("DisplayName")) {
+                    builder.displayName(null);
+                }
+                if (request.deleteProperties().contains("Description")) {
+                    builder.description(null);
+                }
+                if (request.roleArn() != null) {
+                    builder.roleArn(request.roleArn());
+                }
+                if (request.displayName() != null) {
+                    builder.displayName(request.displayName());
+                }
+                if (request.description() != null) {
+                    builder.description(request.description());
+                }
+                return builder.build();
+            }, ImageStatus.UPDATING.toString(), ImageStatus.CREATED.toString());
+            return UpdateImageResponse.builder().imageArn(image.getArn()).build();
+        });
+    }
+
+    @Override
+    public DeleteImageResponse deleteImage(final DeleteImageRequest request) {
+        return service.call("DeleteImage", () -> {
+            images.delete(request.imageName(), ImageStatus.DELETING.toString(), null);
+            return DeleteImageResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListImagesResponse listImages(final ListImagesRequest request) {
+        return service.call("ListImages", () -> ListImagesResponse.builder()
+                .images(images.list().stream()
+                        .map(image -> Image.builder()
+                                .imageName(image.getName())
+                                .imageArn(image.getArn())
+                                .imageStatus(image.getStatus())
+                                .creationTime(image.getCreationTime())
+                                .lastModifiedTime(image.getLastModifiedTime())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    private static DescribeImageResponse toDescribeResponse(final FakeResource<DescribeImageResponse> image) {
+        return image.getState().toBuilder()
+                .imageStatus(image.getStatus())
+                .creationTime(image.getCreationTime())
+                .lastModifiedTime(image.getLastModifiedTime())
+                .build();
+    }
+}
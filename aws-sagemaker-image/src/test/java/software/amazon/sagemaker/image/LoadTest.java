@@ -0,0 +1,138 @@
+package software.amazon.sagemaker.image;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the create, update and delete of thousands of images concurrently against the in-memory
+ * {@link FakeSageMakerService}, and reports handler wall time percentiles and service calls.
+ *
+ * <p>Disabled by default; run with
+ * {@code mvn test -Dtest=LoadTest -DloadTest=true [-DloadTest.resources=2000] [-DloadTest.threads=16]
+ * [-DloadTest.latencyMillis=5]}.
+ */
+@EnabledIfSystemProperty(named = "loadTest", matches = "true")
+public class LoadTest extends AbstractTestBase {
+
+    private static final int CREATE = 0;
+    private static final int UPDATE = 1;
+    private static final int DELETE = 2;
+    private static final String[] PHASES = {"Create", "Update", "Delete"};
+
+    @Test
+    public void testLifecycleUnderLoad() throws Exception {
+        final int resources = Integer.getInteger("loadTest.resources", 2_000);
+        final int threads = Integer.getInteger("loadTest.threads", 16);
+        final long latencyMillis = Long.getLong("loadTest.latencyMillis", 5L);
+        final FakeSageMakerService service = new FakeSageMakerService()
+                .withRealLatency(Duration.ofMillis(latencyMillis));
+        final FakeSageMakerClient sageMakerClient = new FakeSageMakerClient(service);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<long[]>> lifecycles = new ArrayList<>(resources);
+        final long start = System.nanoTime();
+        for (int i = 0; i < resources; i++) {
+            final String imageName = "load-test-" + i;
+            lifecycles.add(executor.submit(() -> lifecycle(service, sageMakerClient, imageName)));
+        }
+        final long[][] nanos = new long[PHASES.length][resources];
+        for (int i = 0; i < resources; i++) {
+            final long[] lifecycle = lifecycles.get(i).get();
+            for (int phase = 0; phase < PHASES.length; phase++) {
+                nanos[phase][i] = lifecycle[phase];
+            }
+        }
+        final long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+
+        System.out.printf("%d images on %d threads, %d ms service latency: %d ms%n",
+                resources, threads, latencyMillis, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        for (int phase = 0; phase < PHASES.length; phase++) {
+            Arrays.sort(nanos[phase]);
+            System.out.printf("%-6s p50 %6.1f ms  p99 %6.1f ms  max %6.1f ms%n", PHASES[phase],
+                    percentileMillis(nanos[phase], 0.50), percentileMillis(nanos[phase], 0.99),
+                    percentileMillis(nanos[phase], 1.0));
+        }
+        System.out.printf("%d calls, %.1f per image, %d handler invocations: %s%n", service.totalCalls(),
+                (double) service.totalCalls() / resources, service.handlerInvocations(), service.callCounts());
+
+        assertThat(sageMakerClient.getImages().list()).isEmpty();
+        assertThat(service.calls("CreateImage")).isEqualTo(resources);
+        assertThat(service.calls("DeleteImage")).isEqualTo(resources);
+    }
+
+    private static long[] lifecycle(final FakeSageMakerService service,
+                                    final FakeSageMakerClient sageMakerClient,
+                                    final String imageName) {
+        final AmazonWebServicesClientProxy proxy = service.newProxy();
+        final ProxyClient<SageMakerClient> proxyClient = proxy.newProxy(() -> sageMakerClient);
+        final long[] nanos = new long[PHASES.length];
+
+        final ResourceModel desired = ResourceModel.builder()
+                .imageName(imageName)
+                .imageRoleArn(TEST_IMAGE_ROLE_ARN)
+                .imageDisplayName(TEST_IMAGE_DISPLAY_NAME)
+                .tags(TEST_CFN_MODEL_TAGS)
+                .build();
+        long start = System.nanoTime();
+        final ResourceModel created = drive(service, proxy, proxyClient, new CreateHandler(), desired, null)
+                .getResourceModel();
+        nanos[CREATE] = System.nanoTime() - start;
+
+        final ResourceModel updated = ResourceModel.builder()
+                .imageName(imageName)
+                .imageArn(created.getImageArn())
+                .imageRoleArn(TEST_IMAGE_ROLE_ARN)
+                .imageDisplayName(TEST_IMAGE_DISPLAY_NAME)
+                .imageDescription(TEST_IMAGE_DESCRIPTION)
+                .tags(TEST_CFN_MODEL_TAGS)
+                .build();
+        start = System.nanoTime();
+        drive(service, proxy, proxyClient, new UpdateHandler(), updated, created);
+        nanos[UPDATE] = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        drive(service, proxy, proxyClient, new DeleteHandler(), updated, null);
+        nanos[DELETE] = System.nanoTime() - start;
+        return nanos;
+    }
+
+    private static ProgressEvent<ResourceModel, CallbackContext> drive(
+            final FakeSageMakerService service,
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<SageMakerClient> proxyClient,
+            final BaseHandlerStd handler,
+            final ResourceModel desired,
+            final ResourceModel previous) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> progress = service.drive(context ->
+                handler.handleRequest(proxy, request, context, proxyClient, logger), new CallbackContext());
+        assertThat(progress.isSuccess()).isTrue();
+        return progress;
+    }
+
+    private static double percentileMillis(final long[] sortedNanos, final double percentile) {
+        final int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000d;
+    }
+}
@@ -38,6 +38,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -129,6 +132,41 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        // Tagging and the final read reuse the response of the stabilization poll
+        verify(sageMakerClient, times(2)).describeImage(any(DescribeImageRequest.class));
+    }
+
+    @Test
+    public void testUpdateHandler_SimpleSuccess_TagsUnchanged() {
+        final UpdateImageResponse updateImageResponse = UpdateImageResponse.builder()
+                .imageArn(TEST_IMAGE_ARN)
+                .build();
+        final DescribeImageResponse describeImageResponse = createDescribeImageResponse(ImageStatus.CREATED);
+        final ListTagsResponse listTagsResponse = ListTagsResponse.builder()
+                .tags(TEST_SDK_TAGS)
+                .build();
+
+        when(proxyClient.client().updateImage(any(UpdateImageRequest.class)))
+                .thenReturn(updateImageResponse);
+        when(proxyClient.client().describeImage(any(DescribeImageRequest.class)))
+                .thenReturn(describeImageResponse);
+        when(proxyClient.client().listTags(any(ListTagsRequest.class)))
+                .thenReturn(listTagsResponse);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(createResourceModel(ImageStatus.CREATED.toString(), true))
+                .desiredResourceState(createResourceModel(ImageStatus.CREATED.toString(), true))
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandler(request);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel())
+                .isEqualTo(createResourceModel(ImageStatus.CREATED.toString(), true));
+        // Only the read after the update lists tags.
+        verify(sageMakerClient, times(1)).listTags(any(ListTagsRequest.class));
+        verify(sageMakerClient, never()).addTags(any(AddTagsRequest.class));
+        verify(sageMakerClient, never()).deleteTags(any(DeleteTagsRequest.class));
     }
 
     @Test
@@ -20,11 +20,18 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 /**
  * CloudFormation resource handler to be invoked when creating a new AWS::SageMaker::ImageVersion resource.
  */
 public class CreateHandler extends BaseHandlerStd {
+
+    private static final String OPERATION = "AWS-SageMaker-ImageVersion::Create";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -46,11 +53,14 @@ public class CreateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
-                proxy.initiate("AWS-SageMaker-ImageVersion::Create", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(resourceModel -> Translator.translateToCreateRequest(model, request.getClientRequestToken()))
-                    .makeServiceCall(this::createImageVersion)
-                    .stabilize(this::stabilizedOnCreate)
-                    .progress())
+                StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                    proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                        .translateToServiceRequest(resourceModel ->
+                                Translator.translateToCreateRequest(model, request.getClientRequestToken()))
+                        .makeServiceCall(this::createImageVersion)
+                        .stabilize(StabilizationMetrics.countThrottles(
+                                callbackContext.getStabilizationHistory(), this::stabilizedOnCreate))
+                        .progress()))
             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
@@ -126,6 +136,7 @@ public class CreateHandler extends BaseHandlerStd {
         final ImageVersionStatus imageVersionStatus= proxyClient.injectCredentialsAndInvokeV2(
                 Translator.translateToReadRequest(model), proxyClient.client()::describeImageVersion)
                 .imageVersionStatus();
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), imageVersionStatus.toString());
 
         switch (imageVersionStatus) {
             case CREATE_FAILED:
@@ -18,11 +18,18 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 /**
  * CloudFormation resource handler to be invoked when deleting an AWS::SageMaker::ImageVersion resource.
  */
 public class DeleteHandler extends BaseHandlerStd {
+
+    private static final String OPERATION = "AWS-SageMaker-ImageVersion::Delete";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -37,13 +44,16 @@ public class DeleteHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
-                proxy.initiate("AWS-SageMaker-ImageVersion::Delete", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(Translator::translateToDeleteRequest)
-                    .makeServiceCall((deleteImageVersionRequest, prxyClient) -> deleteImageVersion(model, deleteImageVersionRequest, prxyClient))
-                    .stabilize(this::stabilizedOnDelete)
-                    .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                            .status(OperationStatus.SUCCESS)
-                            .build()));
+                StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                    proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                        .translateToServiceRequest(Translator::translateToDeleteRequest)
+                        .makeServiceCall((deleteImageVersionRequest, prxyClient) ->
+                                deleteImageVersion(model, deleteImageVersionRequest, prxyClient))
+                        .stabilize(StabilizationMetrics.countThrottles(
+                                callbackContext.getStabilizationHistory(), this::stabilizedOnDelete))
+                        .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
+                                .status(OperationStatus.SUCCESS)
+                                .build())));
     }
 
     /**
@@ -102,8 +112,10 @@ public class DeleteHandler extends BaseHandlerStd {
                     Translator.translateToReadRequest(model), proxyClient.client()::describeImageVersion)
                     .imageVersionStatus();
         } catch (final ResourceNotFoundException e) {
+            STABILIZATION_SCHEDULER.complete(callbackContext.getStabilizationHistory());
             return true;
         }
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), imageVersionStatus.toString());
 
         switch (imageVersionStatus) {
             case DELETING:
@@ -19,6 +19,12 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 public class ReadHandler extends BaseHandlerStd {
     private Logger logger;
 
+    @Override
+    protected boolean reschedulesOnThrottle() {
+        // Read has no callbacks, so it still fails when throttled
+        return false;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -2,7 +2,6 @@ package software.amazon.sagemaker.imageversion;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -13,6 +12,7 @@ import software.amazon.awssdk.services.sagemaker.model.DescribeImageVersionReque
 import software.amazon.awssdk.services.sagemaker.model.DescribeImageVersionResponse;
 import software.amazon.awssdk.services.sagemaker.model.ListImageVersionsRequest;
 import software.amazon.awssdk.services.sagemaker.model.ListImageVersionsResponse;
+import software.amazon.sagemaker.common.StreamUtils;
 
 /**
  * This class is a centralized placeholder for the following.
@@ -86,9 +86,7 @@ public class Translator {
     }
 
     static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
-        return Optional.ofNullable(collection)
-            .map(Collection::stream)
-            .orElseGet(Stream::empty);
+        return StreamUtils.streamOfOrEmpty(collection);
     }
 
     /**
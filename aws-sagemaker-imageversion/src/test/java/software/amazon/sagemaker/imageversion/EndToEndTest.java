@@ -0,0 +1,153 @@
+package software.amazon.sagemaker.imageversion;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Runs the handlers against the in-memory {@link FakeSageMakerService} instead of call by call mocks.
+ */
+public class EndToEndTest extends AbstractTestBase {
+
+    private FakeSageMakerService service;
+    private FakeSageMakerClient sageMakerClient;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<SageMakerClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        service = new FakeSageMakerService();
+        sageMakerClient = new FakeSageMakerClient(service);
+        sageMakerClient.addImage(TEST_IMAGE_NAME);
+        proxy = service.newProxy();
+        proxyClient = proxy.newProxy(() -> sageMakerClient);
+    }
+
+    @Test
+    public void testLifecycle() {
+        final ResourceModel created = run(new CreateHandler(), request(desiredModel())).getResourceModel();
+
+        assertThat(created.getImageVersionArn()).endsWith("image-version/" + TEST_IMAGE_NAME + "/1");
+        assertThat(created.getImageName()).isEqualTo(TEST_IMAGE_NAME);
+        assertThat(created.getVersion()).isEqualTo(1);
+        assertThat(created.getContainerImage()).isEqualTo(TEST_BASE_IMAGE);
+        assertThat(sageMakerClient.getImageVersions().describe(TEST_IMAGE_NAME + "/1").getStatus())
+                .isEqualTo("CREATED");
+        // A poll every 5 seconds until Created after 30 seconds, then the read
+        assertThat(service.calls("DescribeImageVersion")).isBetween(7L, 9L);
+        assertThat(service.calls("CreateImageVersion")).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> listed = run(new ListHandler(), request(created));
+        assertThat(listed.getResourceModels()).extracting(ResourceModel::getImageVersionArn)
+                .containsExactly(created.getImageVersionArn());
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = run(new DeleteHandler(), request(created));
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThrows(CfnNotFoundException.class, () -> run(new ReadHandler(), request(created)));
+    }
+
+    @Test
+    public void testCreate_NextVersion() {
+        run(new CreateHandler(), request(desiredModel()));
+        final ResourceModel created = run(new CreateHandler(), request(desiredModel())).getResourceModel();
+
+        assertThat(created.getVersion()).isEqualTo(2);
+        assertThat(sageMakerClient.getImageVersions().size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testCreate_ImageNotFound() {
+        final ResourceModel model = desiredModel();
+        model.setImageName("missingImage");
+
+        assertThrows(CfnInvalidRequestException.class, () -> run(new CreateHandler(), request(model)));
+        assertThat(sageMakerClient.getImageVersions().size()).isZero();
+    }
+
+    @Test
+    public void testCreate_ThrottledInvocationIsRescheduled() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(desiredModel());
+        final AmazonWebServicesClientProxy entryProxy = entryProxy();
+        service.throttleNextCalls(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> throttled =
+                new CreateHandler().handleRequest(entryProxy, request, null, logger);
+
+        assertThat(throttled.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(throttled.getCallbackDelaySeconds()).isPositive();
+        assertThat(service.throttledCalls()).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress = service.drive(
+                context -> new CreateHandler().handleRequest(entryProxy, request, context, logger),
+                throttled.getCallbackContext());
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // The throttled create never reached the service, so the retry still creates the first version
+        assertThat(service.calls("CreateImageVersion")).isEqualTo(2);
+        assertThat(progress.getResourceModel().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRead_ThrottledInvocationFails() {
+        final ResourceModel created = run(new CreateHandler(), request(desiredModel())).getResourceModel();
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(created);
+        service.throttleNextCalls(1);
+
+        assertThrows(CfnThrottlingException.class,
+                () -> new ReadHandler().handleRequest(entryProxy(), request, null, logger));
+    }
+
+    /**
+     * A proxy handing the fake client to the handlers' entry point, which builds its proxy client from
+     * {@link ClientBuilder}, so throttles pass through the rate limiter and the reschedule of {@link BaseHandlerStd}.
+     */
+    private AmazonWebServicesClientProxy entryProxy() {
+        final AmazonWebServicesClientProxy entryProxy = spy(proxy);
+        doReturn(proxyClient).when(entryProxy).newProxy(any());
+        return entryProxy;
+    }
+
+    /**
+     * @return a request of its own account, so that the rate limiter buckets of other tests do not interfere
+     */
+    private static ResourceHandlerRequest<ResourceModel> throttledAccountRequest(final ResourceModel desired) {
+        final ResourceHandlerRequest<ResourceModel> request = request(desired);
+        request.setAwsAccountId("throttled-" + System.nanoTime());
+        request.setRegion("us-west-2");
+        return request;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request) {
+        return service.drive(context -> handler.handleRequest(proxy, request, context, proxyClient, logger),
+                new CallbackContext());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .build();
+    }
+
+    private static ResourceModel desiredModel() {
+        return ResourceModel.builder()
+                .imageName(TEST_IMAGE_NAME)
+                .baseImage(TEST_BASE_IMAGE)
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package software.amazon.sagemaker.imageversion;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.sagemaker.model.CreateImageVersionRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateImageVersionResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteImageVersionRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteImageVersionResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeImageVersionRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeImageVersionResponse;
+import software.amazon.awssdk.services.sagemaker.model.ImageVersion;
+import software.amazon.awssdk.services.sagemaker.model.ImageVersionStatus;
+import software.amazon.awssdk.services.sagemaker.model.ListImageVersionsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListImageVersionsResponse;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for image versions of the images registered with {@link #addImage(String)}: each create adds
+ * the next version number, Creating settles into Created, Deleting into not found.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    static final Duration TRANSITION_TIME = Duration.ofSeconds(30);
+
+    private final Map<String, Integer> latestVersions = new HashMap<>();
+    private final FakeResourceTable<DescribeImageVersionResponse> imageVersions;
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.imageVersions = new FakeResourceTable<>(service, "ImageVersion", TRANSITION_TIME);
+    }
+
+    public FakeResourceTable<DescribeImageVersionResponse> getImageVersions() {
+        return imageVersions;
+    }
+
+    /**
+     * Registers a parent image versions can be created for.
+     */
+    public void addImage(final String imageName) {
+        latestVersions.putIfAbsent(imageName, 0);
+    }
+
+    @Override
+    public CreateImageVersionResponse createImageVersion(final CreateImageVersionRequest request) {
+        return service.call("CreateImageVersion", () -> {
+            final Integer latestVersion = latestVersions.get(request.imageName());
+            if (latestVersion == null) {
+                throw FakeSageMakerService.resourceNotFound("Image " + request.imageName() + " does not exist");
+            }
+            final int version = latestVersion + 1;
+            latestVersions.put(request.imageName(), version);
+            final String name = key(request.imageName(), version);
+            final String arn = "arn:aws:sagemaker:us-west-2:123456789012:image-version/" + name;
+            imageVersions.create(name, arn, DescribeImageVersionResponse.builder()
+                    .imageArn("arn:aws:sagemaker:us-west-2:123456789012:image/" + request.imageName())
+                    .imageVersionArn(arn)
+                    .version(version)
+                    .baseImage(request.baseImage())
+                    .containerImage(request.baseImage())
+                    .build(), ImageVersionStatus.CREATING.toString(), ImageVersionStatus.CREATED.toString());
+            return CreateImageVersionResponse.builder().imageVersionArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeImageVersionResponse describeImageVersion(final DescribeImageVersionRequest request) {
+        return service.call("DescribeImageVersion", () ->
+                toDescribeResponse(imageVersions.describe(key(request.imageName(), request.version()))));
+    }
+
+    @Override
+    public DeleteImageVersionResponse deleteImageVersion(final DeleteImageVersionRequest request) {
+        return service.call("DeleteImageVersion", () -> {
+            imageVersions.delete(key(request.imageName(), request.version()),
+                    ImageVersionStatus.DELETING.toString(), null);
+            return DeleteImageVersionResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListImageVersionsResponse listImageVersions(final ListImageVersionsRequest request) {
+        return service.call("ListImageVersions", () -> ListImageVersionsResponse.builder()
+                .imageVersions(imageVersions.list().stream()
+                        .filter(imageVersion -> imageVersion.getName().startsWith(request.imageName() + "/"))
+                        .map(imageVersion -> ImageVersion.builder()
+                                .imageArn(imageVersion.getState().imageArn())
+                                .imageVersionArn(imageVersion.getArn())
+                                .version(imageVersion.getState().version())
+                                .imageVersionStatus(imageVersion.getStatus())
+                                .creationTime(imageVersion.getCreationTime())
+                                .lastModifiedTime(imageVersion.getLastModifiedTime())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    private static String key(final String imageName, final Integer version) {
+        return imageName + "/" + version;
+    }
+
+    private static DescribeImageVersionResponse toDescribeResponse(
+            final FakeResource<DescribeImageVersionResponse> imageVersion) {
+        return imageVersion.getState().toBuilder()
+                .imageVersionStatus(imageVersion.getStatus())
+                .creationTime(imageVersion.getCreationTime())
+                .lastModifiedTime(imageVersion.getLastModifiedTime())
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package software.amazon.sagemaker.inferenceexperiment;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.sagemaker.model.CreateInferenceExperimentRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeInferenceExperimentResponse;
+import software.amazon.awssdk.services.sagemaker.model.EndpointStatus;
+import software.amazon.awssdk.services.sagemaker.model.InferenceExperimentStatus;
+import software.amazon.awssdk.services.sagemaker.model.ModelVariantConfigSummary;
+import software.amazon.awssdk.services.sagemaker.model.ModelVariantStatus;
+import software.amazon.awssdk.services.sagemaker.model.UpdateInferenceExperimentRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures the InferenceExperiment request/response mappers against a fully populated model.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final int MAX_TAGS = 50;
+
+    /**
+     * Model variants (each with a shadow variant config). The schema caps this at 2 today;
+     * the larger value shows how the per-variant mapping cost scales.
+     */
+    @Param({"2", "16"})
+    public int modelVariantCount;
+
+    private ResourceModel model;
+    private DescribeInferenceExperimentResponse describeResponse;
+
+    @Setup
+    public void setup() {
+        final List<ModelVariantConfig> modelVariants = new ArrayList<>(modelVariantCount);
+        final List<ShadowModelVariantConfig> shadowModelVariants = new ArrayList<>(modelVariantCount);
+        for (int i = 0; i < modelVariantCount; i++) {
+            modelVariants.add(ModelVariantConfig.builder()
+                    .modelName("benchmark-model-" + i)
+                    .variantName("benchmark-variant-" + i)
+                    .infrastructureConfig(ModelInfrastructureConfig.builder()
+                            .infrastructureType("RealTimeInference")
+                            .realTimeInferenceConfig(RealTimeInferenceConfig.builder()
+                                    .instanceType("ml.m5.xlarge")
+                                    .instanceCount(2)
+                                    .build())
+                            .build())
+                    .build());
+            if (i > 0) {
+                shadowModelVariants.add(ShadowModelVariantConfig.builder()
+                        .shadowModelVariantName("benchmark-variant-" + i)
+                        .samplingPercentage(100 / modelVariantCount)
+                        .build());
+            }
+        }
+        final List<Tag> tags = new ArrayList<>(MAX_TAGS);
+        for (int i = 0; i < MAX_TAGS; i++) {
+            tags.add(Tag.builder().key("key-" + i).value("value-" + i).build());
+        }
+
+        model = ResourceModel.builder()
+                .name("benchmark-experiment")
+                .type("ShadowMode")
+                .description("benchmark inference experiment")
+                .roleArn("arn:aws:iam::123456789012:role/benchmark")
+                .endpointName("benchmark-endpoint")
+                .kmsKey("arn:aws:kms:us-west-2:123456789012:key/benchmark")
+                .schedule(InferenceExperimentSchedule.builder()
+                        .startTime("2023-01-01T00:00:00Z")
+                        .endTime("2023-01-08T00:00:00Z")
+                        .build())
+                .dataStorageConfig(DataStorageConfig.builder()
+                        .destination("s3://benchmark-bucket/capture")
+                        .kmsKey("arn:aws:kms:us-west-2:123456789012:key/benchmark")
+                        .contentType(CaptureContentTypeHeader.builder()
+                                .csvContentTypes(Arrays.asList("text/csv", "application/csv"))
+                                .jsonContentTypes(Arrays.asList("application/json", "application/jsonlines"))
+                                .build())
+                        .build())
+                .modelVariants(modelVariants)
+                .shadowModeConfig(ShadowModeConfig.builder()
+                        .sourceModelVariantName("benchmark-variant-0")
+                        .shadowModelVariants(shadowModelVariants)
+                        .build())
+                .tags(tags)
+                .build();
+
+        final CreateInferenceExperimentRequest createRequest = TranslatorForRequest.translateToCreateRequest(model);
+        describeResponse = DescribeInferenceExperimentResponse.builder()
+                .arn("arn:aws:sagemaker:us-west-2:123456789012:inference-experiment/benchmark-experiment")
+                .name(createRequest.name())
+                .type(createRequest.type())
+                .description(createRequest.description())
+                .roleArn(createRequest.roleArn())
+                .status(InferenceExperimentStatus.RUNNING)
+                .creationTime(Instant.now())
+                .lastModifiedTime(Instant.now())
+                .endpointMetadata(software.amazon.awssdk.services.sagemaker.model.EndpointMetadata.builder()
+                        .endpointName(createRequest.endpointName())
+                        .endpointConfigName("benchmark-endpoint-config")
+                        .endpointStatus(EndpointStatus.IN_SERVICE)
+                        .build())
+                .schedule(createRequest.schedule())
+                .kmsKey(createRequest.kmsKey())
+                .dataStorageConfig(createRequest.dataStorageConfig())
+                .modelVariants(createRequest.modelVariants().stream()
+                        .map(variant -> ModelVariantConfigSummary.builder()
+                                .modelName(variant.modelName())
+                                .variantName(variant.variantName())
+                                .infrastructureConfig(variant.infrastructureConfig())
+                                .status(ModelVariantStatus.IN_SERVICE)
+                                .build())
+                        .collect(Collectors.toList()))
+                .shadowModeConfig(createRequest.shadowModeConfig())
+                .build();
+    }
+
+    @Benchmark
+    public CreateInferenceExperimentRequest translateToCreateRequest() {
+        return TranslatorForRequest.translateToCreateRequest(model);
+    }
+
+    @Benchmark
+    public UpdateInferenceExperimentRequest translateToUpdateRequest() {
+        return TranslatorForRequest.translateToUpdateRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return TranslatorForResponse.translateFromReadResponse(describeResponse);
+    }
+}
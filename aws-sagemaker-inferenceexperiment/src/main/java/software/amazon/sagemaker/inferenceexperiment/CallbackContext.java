@@ -1,7 +1,17 @@
 package software.amazon.sagemaker.inferenceexperiment;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.sagemaker.common.DescribeCache;
+import software.amazon.sagemaker.common.StabilizationHistory;
 
+@lombok.Getter
+@lombok.Setter
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
-}
\ No newline at end of file
+    @JsonIgnore
+    @lombok.EqualsAndHashCode.Exclude
+    private final DescribeCache describeCache = new DescribeCache();
+
+    private StabilizationHistory stabilizationHistory = new StabilizationHistory();
+}
@@ -15,11 +15,17 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 import java.util.List;
 
 public class CreateHandler extends BaseHandlerStd {
 
+    private static final String OPERATION = "AWS-SageMaker-InferenceExperiment::Create";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -37,11 +43,13 @@ public class CreateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
-                    proxy.initiate("AWS-SageMaker-InferenceExperiment::Create", proxyClient, model, callbackContext)
-                        .translateToServiceRequest(TranslatorForRequest::translateToCreateRequest)
-                        .makeServiceCall(this::createResource)
-                        .stabilize(this::stabilizedOnCreate)
-                        .progress())
+                    StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                        proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                            .translateToServiceRequest(TranslatorForRequest::translateToCreateRequest)
+                            .makeServiceCall(this::createResource)
+                            .stabilize(StabilizationMetrics.countThrottles(
+                                    callbackContext.getStabilizationHistory(), this::stabilizedOnCreate))
+                            .progress()))
             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
@@ -92,6 +100,7 @@ public class CreateHandler extends BaseHandlerStd {
 
         final InferenceExperimentStatus status = proxyClient.injectCredentialsAndInvokeV2(TranslatorForRequest.translateToReadRequest(model),
                 proxyClient.client()::describeInferenceExperiment).status();
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), status.toString());
 
         switch (status) {
             case CREATED:
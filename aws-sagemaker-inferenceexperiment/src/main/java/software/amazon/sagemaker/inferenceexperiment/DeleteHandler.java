@@ -18,9 +18,17 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 public class DeleteHandler extends BaseHandlerStd {
 
+    private static final String STOP_THEN_DELETE_OPERATION = "AWS-SageMaker-InferenceExperiment::StopThenDelete";
+    private static final String WAIT_STOP_THEN_DELETE_OPERATION =
+            "AWS-SageMaker-InferenceExperiment::WaitStopThenDelete";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -43,11 +51,14 @@ public class DeleteHandler extends BaseHandlerStd {
         if (describeResponse != null && InferenceExperimentStatus.RUNNING.equals(describeResponse.status())) {
             return ProgressEvent.progress(model, callbackContext)
                     .then(progress ->
-                            proxy.initiate("AWS-SageMaker-InferenceExperiment::StopThenDelete", proxyClient, model, callbackContext)
-                                    .translateToServiceRequest(TranslatorForRequest::translateToStopRequest)
-                                    .makeServiceCall(this::stopResource)
-                                    .stabilize(this::stabilizedOnStop)
-                                    .progress())
+                            StabilizationMetrics.emf(logger).track(STOP_THEN_DELETE_OPERATION,
+                                    callbackContext.getStabilizationHistory(), () ->
+                                proxy.initiate(STOP_THEN_DELETE_OPERATION, proxyClient, model, callbackContext)
+                                        .translateToServiceRequest(TranslatorForRequest::translateToStopRequest)
+                                        .makeServiceCall(this::stopResource)
+                                        .stabilize(StabilizationMetrics.countThrottles(
+                                                callbackContext.getStabilizationHistory(), this::stabilizedOnStop))
+                                        .progress()))
                     .then(progress -> deleteResourceAfterStop(proxyClient, model));
         }
 
@@ -55,11 +66,14 @@ public class DeleteHandler extends BaseHandlerStd {
         if (describeResponse != null && InferenceExperimentStatus.STOPPING.equals(describeResponse.status())) {
             return ProgressEvent.progress(model, callbackContext)
                     .then(progress ->
-                            proxy.initiate("AWS-SageMaker-InferenceExperiment::WaitStopThenDelete", proxyClient, model, callbackContext)
-                                    .translateToServiceRequest(TranslatorForRequest::translateToReadRequest)
-                                    .makeServiceCall(this::readResource)
-                                    .stabilize(this::stabilizedOnStop)
-                                    .progress())
+                            StabilizationMetrics.emf(logger).track(WAIT_STOP_THEN_DELETE_OPERATION,
+                                    callbackContext.getStabilizationHistory(), () ->
+                                proxy.initiate(WAIT_STOP_THEN_DELETE_OPERATION, proxyClient, model, callbackContext)
+                                        .translateToServiceRequest(TranslatorForRequest::translateToReadRequest)
+                                        .makeServiceCall(this::readResource)
+                                        .stabilize(StabilizationMetrics.countThrottles(
+                                                callbackContext.getStabilizationHistory(), this::stabilizedOnStop))
+                                        .progress()))
                     .then(progress -> deleteResourceAfterStop(proxyClient, model));
         }
 
@@ -174,7 +188,7 @@ public class DeleteHandler extends BaseHandlerStd {
             final ResourceModel model,
             final CallbackContext callbackContext) {
 
-        return isResourceStopped(proxyClient, model);
+        return isResourceStopped(proxyClient, model, callbackContext);
     }
 
     /**
@@ -190,21 +204,24 @@ public class DeleteHandler extends BaseHandlerStd {
             final ResourceModel model,
             final CallbackContext callbackContext) {
 
-        return isResourceStopped(proxyClient, model);
+        return isResourceStopped(proxyClient, model, callbackContext);
     }
 
     /**
      * This is used to ensure InferenceExperiment resource has stopped.
      * @param proxyClient the aws service client to make the call
      * @param model resource model
+     * @param callbackContext the callback context holding the stabilization history
      */
     private boolean isResourceStopped(
             final ProxyClient<SageMakerClient> proxyClient,
-            final ResourceModel model) {
+            final ResourceModel model,
+            final CallbackContext callbackContext) {
 
         final InferenceExperimentStatus status = proxyClient.injectCredentialsAndInvokeV2(
                 TranslatorForRequest.translateToReadRequest(model),
                 proxyClient.client()::describeInferenceExperiment).status();
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), status.toString());
 
         switch (status) {
             case CANCELLED:
@@ -17,6 +17,12 @@ public class ReadHandler extends BaseHandlerStd {
 
     private Logger logger;
 
+    @Override
+    protected boolean reschedulesOnThrottle() {
+        // Read has no callbacks, so it still fails when throttled
+        return false;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -30,7 +36,7 @@ public class ReadHandler extends BaseHandlerStd {
 
         return proxy.initiate("AWS-SageMaker-InferenceExperiment::Read", proxyClient, model, callbackContext)
                 .translateToServiceRequest(TranslatorForRequest::translateToReadRequest)
-                .makeServiceCall(this::readResource)
+                .makeServiceCall((readRequest, client) -> readResource(readRequest, client, callbackContext))
                 .done(response -> constructResourceModelFromResponse(response, proxyClient));
     }
 
@@ -39,15 +45,18 @@ public class ReadHandler extends BaseHandlerStd {
      * caller credentials, correct region and retry settings
      * @param request the aws service request to describe a resource
      * @param proxyClient the aws service client to make the call
+     * @param callbackContext the callback context, whose describe cache may already hold the response
      * @return describe resource response
      */
     private DescribeInferenceExperimentResponse readResource(
             final DescribeInferenceExperimentRequest request,
-            final ProxyClient<SageMakerClient> proxyClient) {
+            final ProxyClient<SageMakerClient> proxyClient,
+            final CallbackContext callbackContext) {
 
         DescribeInferenceExperimentResponse response = null;
         try {
-            response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeInferenceExperiment);
+            response = callbackContext.getDescribeCache().describe(request, describeRequest ->
+                    proxyClient.injectCredentialsAndInvokeV2(describeRequest, proxyClient.client()::describeInferenceExperiment));
         } catch (final ResourceNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, request.name(), e);
         } catch (final AwsServiceException e) {
@@ -9,11 +9,13 @@ import software.amazon.awssdk.services.sagemaker.model.Tag;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.TagDiff;
+import software.amazon.sagemaker.common.TagUpdates;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,21 +23,29 @@ import java.util.stream.Collectors;
 
 public class TagHelper {
 
+    private static final String TAG_OPERATION = "AWS-SageMaker-InferenceExperiment::UpdateTags";
+
     /**
-     * Handles updating tags on the Image resource if changes are present.
+     * Handles updating tags on the InferenceExperiment resource if changes are present.
      * @param proxyClient the aws client used to make service calls
-     * @param model the CloudFormation resource model
-     * @param desiredTags the list of desired tags
+     * @param request the resource handler request
      * @param callbackContext the callback context
+     * @param logger the logger skipped tag calls are published to
      * @return progressEvent, in progress with delay callback and model state
      */
     public static ProgressEvent<ResourceModel, CallbackContext> updateResourceTags(
             final ProxyClient<SageMakerClient> proxyClient,
-            final ResourceModel model,
-            final List<software.amazon.sagemaker.inferenceexperiment.Tag> desiredTags,
-            final CallbackContext callbackContext) {
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final Logger logger) {
+        final ResourceModel model = request.getDesiredResourceState();
+        if (!TagUpdates.shouldUpdateTags(request, TagHelper::resourceTags)) {
+            // ListTags is only needed to diff tags
+            TagUpdates.recordSkippedCalls(logger, TAG_OPERATION, 1);
+            return ProgressEvent.progress(model, callbackContext);
+        }
         try {
-            processTagsDelta(proxyClient, model, desiredTags);
+            processTagsDelta(proxyClient, model, consolidateResourceTags(model, request));
         } catch (final ResourceNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, model.getName(), e);
         } catch (final AwsServiceException e) {
@@ -100,6 +110,22 @@ public class TagHelper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Resource level tags of a resource state, keyed by tag key.
+     * @param model the resource model
+     * @return tag key to tag value
+     */
+    private static Map<String, String> resourceTags(final ResourceModel model) {
+        if (CollectionUtils.isNullOrEmpty(model.getTags())) {
+            return null;
+        }
+        final Map<String, String> tags = new HashMap<>();
+        for (software.amazon.sagemaker.inferenceexperiment.Tag tag : model.getTags()) {
+            tags.put(tag.getKey(), tag.getValue());
+        }
+        return tags;
+    }
+
     /**
      * Identify the tag difference between existing and desired resource state. Add or delete tags on the resource.
      * @param proxyClient the aws service client to make the call
@@ -111,35 +137,12 @@ public class TagHelper {
             final ResourceModel model,
             final List<software.amazon.sagemaker.inferenceexperiment.Tag> desiredTags) {
 
-        final List<Tag> newTags =
-                CollectionUtils.isNullOrEmpty(desiredTags) ? new ArrayList<>() : desiredTags.stream()
-                        .map(TranslatorForRequest::translate)
-                        .collect(Collectors.toList());
-
         final ListTagsResponse response = listResourceTags(
                 TranslatorForRequest.translateToListTagsRequest(model.getArn()), proxyClient);
-        final List<Tag> existingTags =
-                CollectionUtils.isNullOrEmpty(response.tags()) ? new ArrayList<>() : response.tags();
-
-        final List<software.amazon.awssdk.services.sagemaker.model.Tag> tagsToAdd = newTags.stream()
-                .filter(tag -> !existingTags.contains(tag))
-                .collect(Collectors.toList());
-        final List<String> tagsToAddKeys = tagsToAdd.stream()
-                .map(software.amazon.awssdk.services.sagemaker.model.Tag::key)
-                .collect(Collectors.toList());
-        final List<Tag> tagsToRemove = existingTags.stream()
-                .filter(tag -> !newTags.contains(tag) && !tagsToAddKeys.contains(tag.key()))
+        final List<Tag> newTags = CollectionUtils.isNullOrEmpty(desiredTags) ? null : desiredTags.stream()
+                .map(TranslatorForRequest::translate)
                 .collect(Collectors.toList());
 
-        if (!tagsToRemove.isEmpty()) {
-            proxyClient.injectCredentialsAndInvokeV2(
-                    TranslatorForRequest.translateToDeleteTagsRequest(tagsToRemove, model.getArn()),
-                    proxyClient.client()::deleteTags);
-        }
-        if (!tagsToAdd.isEmpty()) {
-            proxyClient.injectCredentialsAndInvokeV2(
-                    TranslatorForRequest.translateToAddTagsRequest(tagsToAdd, model.getArn()),
-                    proxyClient.client()::addTags);
-        }
+        TagDiff.between(response.tags(), newTags).apply(proxyClient, model.getArn());
     }
 }
@@ -19,11 +19,20 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-
-import java.util.List;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 public class UpdateHandler extends BaseHandlerStd {
 
+    private static final String START_OPERATION = "AWS-SageMaker-InferenceExperiment::Start";
+    private static final String UPDATE_OPERATION = "AWS-SageMaker-InferenceExperiment::Update";
+    private static final String STOP_OPERATION = "AWS-SageMaker-InferenceExperiment::Stop";
+    private static final String WAIT_CONCURRENT_UPDATE_OPERATION =
+            "AWS-SageMaker-InferenceExperiment::WaitConcurrentUpdate";
+    private static final String WAIT_STOP_OPERATION = "AWS-SageMaker-InferenceExperiment::WaitStop";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -36,14 +45,12 @@ public class UpdateHandler extends BaseHandlerStd {
         this.logger = logger;
         final ResourceModel model = request.getDesiredResourceState();
         final DescribeInferenceExperimentResponse describeResponse = readResource(
-                TranslatorForRequest.translateToReadRequest(model), proxyClient);
+                TranslatorForRequest.translateToReadRequest(model), proxyClient, callbackContext);
 
         if (model.getArn() == null && describeResponse != null) {
             model.setArn(describeResponse.arn());
         }
 
-        List<Tag> allTags = TagHelper.consolidateResourceTags(model, request);
-
         if (describeResponse != null && describeResponse.status() != null) {
             switch (describeResponse.status()) {
                 case CREATED:
@@ -51,23 +58,29 @@ public class UpdateHandler extends BaseHandlerStd {
                     if (InferenceExperimentStatus.RUNNING.toString().equalsIgnoreCase(model.getDesiredState())) {
                         return ProgressEvent.progress(model, callbackContext)
                                 .then(progress ->
-                                        proxy.initiate("AWS-SageMaker-InferenceExperiment::Start", proxyClient, model, callbackContext)
-                                                .translateToServiceRequest(TranslatorForRequest::translateToStartRequest)
-                                                .makeServiceCall(this::startResource)
-                                                .stabilize(this::stabilizedOnStart)
-                                                .progress())
-                                .then(progress -> TagHelper.updateResourceTags(proxyClient, model, allTags, callbackContext))
+                                        StabilizationMetrics.emf(logger).track(START_OPERATION,
+                                                callbackContext.getStabilizationHistory(), () ->
+                                            proxy.initiate(START_OPERATION, proxyClient, model, callbackContext)
+                                                    .translateToServiceRequest(TranslatorForRequest::translateToStartRequest)
+                                                    .makeServiceCall((startRequest, client) -> startResource(startRequest, client, callbackContext))
+                                                    .stabilize(StabilizationMetrics.countThrottles(
+                                                            callbackContext.getStabilizationHistory(), this::stabilizedOnStart))
+                                                    .progress()))
+                                .then(progress -> TagHelper.updateResourceTags(proxyClient, request, callbackContext, logger))
                                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
                     }
                     // Update the experiment when new experiment config when current experiment status is CREATED
                     return ProgressEvent.progress(model, callbackContext)
                             .then(progress ->
-                                    proxy.initiate("AWS-SageMaker-InferenceExperiment::Update", proxyClient, model, callbackContext)
-                                            .translateToServiceRequest(TranslatorForRequest::translateToUpdateRequest)
-                                            .makeServiceCall(this::updateResource)
-                                            .stabilize(this::stabilizedOnUpdate)
-                                            .progress())
-                            .then(progress -> TagHelper.updateResourceTags(proxyClient, model, allTags, callbackContext))
+                                    StabilizationMetrics.emf(logger).track(UPDATE_OPERATION,
+                                            callbackContext.getStabilizationHistory(), () ->
+                                        proxy.initiate(UPDATE_OPERATION, proxyClient, model, callbackContext)
+                                                .translateToServiceRequest(TranslatorForRequest::translateToUpdateRequest)
+                                                .makeServiceCall((updateRequest, client) -> updateResource(updateRequest, client, callbackContext))
+                                                .stabilize(StabilizationMetrics.countThrottles(
+                                                        callbackContext.getStabilizationHistory(), this::stabilizedOnUpdate))
+                                                .progress()))
+                            .then(progress -> TagHelper.updateResourceTags(proxyClient, request, callbackContext, logger))
                             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
                 case RUNNING:
                     // Stop the experiment if the desired state is set to COMPLETED/CANCELLED and current experiment status is RUNNING
@@ -75,45 +88,57 @@ public class UpdateHandler extends BaseHandlerStd {
                             || InferenceExperimentStatus.CANCELLED.toString().equalsIgnoreCase(model.getDesiredState()))) {
                         return ProgressEvent.progress(model, callbackContext)
                                 .then(progress ->
-                                        proxy.initiate("AWS-SageMaker-InferenceExperiment::Stop", proxyClient, model, callbackContext)
-                                                .translateToServiceRequest(TranslatorForRequest::translateToStopRequest)
-                                                .makeServiceCall(this::stopResource)
-                                                .stabilize(this::stabilizedOnStop)
-                                                .progress())
-                                .then(progress -> TagHelper.updateResourceTags(proxyClient, model, allTags, callbackContext))
+                                        StabilizationMetrics.emf(logger).track(STOP_OPERATION,
+                                                callbackContext.getStabilizationHistory(), () ->
+                                            proxy.initiate(STOP_OPERATION, proxyClient, model, callbackContext)
+                                                    .translateToServiceRequest(TranslatorForRequest::translateToStopRequest)
+                                                    .makeServiceCall((stopRequest, client) -> stopResource(stopRequest, client, callbackContext))
+                                                    .stabilize(StabilizationMetrics.countThrottles(
+                                                            callbackContext.getStabilizationHistory(), this::stabilizedOnStop))
+                                                    .progress()))
+                                .then(progress -> TagHelper.updateResourceTags(proxyClient, request, callbackContext, logger))
                                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
                     }
                     // Update the experiment when new experiment runtime config when current experiment status is RUNNING
                     return ProgressEvent.progress(model, callbackContext)
                             .then(progress ->
-                                    proxy.initiate("AWS-SageMaker-InferenceExperiment::Update", proxyClient, model, callbackContext)
-                                            .translateToServiceRequest(TranslatorForRequest::translateToUpdateRunningResourceRequest)
-                                            .makeServiceCall(this::updateResource)
-                                            .stabilize(this::stabilizedOnUpdate)
-                                            .progress())
-                            .then(progress -> TagHelper.updateResourceTags(proxyClient, model, allTags, callbackContext))
+                                    StabilizationMetrics.emf(logger).track(UPDATE_OPERATION,
+                                            callbackContext.getStabilizationHistory(), () ->
+                                        proxy.initiate(UPDATE_OPERATION, proxyClient, model, callbackContext)
+                                                .translateToServiceRequest(TranslatorForRequest::translateToUpdateRunningResourceRequest)
+                                                .makeServiceCall((updateRequest, client) -> updateResource(updateRequest, client, callbackContext))
+                                                .stabilize(StabilizationMetrics.countThrottles(
+                                                        callbackContext.getStabilizationHistory(), this::stabilizedOnUpdate))
+                                                .progress()))
+                            .then(progress -> TagHelper.updateResourceTags(proxyClient, request, callbackContext, logger))
                             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
                 case UPDATING:
                     // Wait for in-progress update operation to complete before updating
                     return ProgressEvent.progress(model, callbackContext)
                             .then(progress ->
-                                    proxy.initiate("AWS-SageMaker-InferenceExperiment::WaitConcurrentUpdate", proxyClient, model, callbackContext)
-                                            .translateToServiceRequest(TranslatorForRequest::translateToReadRequest)
-                                            .makeServiceCall(this::readResource)
-                                            .stabilize(this::stabilizedOnConcurrentUpdate)
-                                            .progress())
-                            .then(progress -> TagHelper.updateResourceTags(proxyClient, model, allTags, callbackContext))
+                                    StabilizationMetrics.emf(logger).track(WAIT_CONCURRENT_UPDATE_OPERATION,
+                                            callbackContext.getStabilizationHistory(), () ->
+                                        proxy.initiate(WAIT_CONCURRENT_UPDATE_OPERATION, proxyClient, model, callbackContext)
+                                                .translateToServiceRequest(TranslatorForRequest::translateToReadRequest)
+                                                .makeServiceCall((readRequest, client) -> readResource(readRequest, client, callbackContext))
+                                                .stabilize(StabilizationMetrics.countThrottles(
+                                                        callbackContext.getStabilizationHistory(), this::stabilizedOnConcurrentUpdate))
+                                                .progress()))
+                            .then(progress -> TagHelper.updateResourceTags(proxyClient, request, callbackContext, logger))
                             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
                case STOPPING:
                     // Wait for in-progress stop operation to complete before updating
                     return ProgressEvent.progress(model, callbackContext)
                             .then(progress ->
-                                    proxy.initiate("AWS-SageMaker-InferenceExperiment::WaitStop", proxyClient, model, callbackContext)
-                                            .translateToServiceRequest(TranslatorForRequest::translateToReadRequest)
-                                            .makeServiceCall(this::readResource)
-                                            .stabilize(this::stabilizedOnStop)
-                                            .progress())
-                            .then(progress -> TagHelper.updateResourceTags(proxyClient, model, allTags, callbackContext))
+                                    StabilizationMetrics.emf(logger).track(WAIT_STOP_OPERATION,
+                                            callbackContext.getStabilizationHistory(), () ->
+                                        proxy.initiate(WAIT_STOP_OPERATION, proxyClient, model, callbackContext)
+                                                .translateToServiceRequest(TranslatorForRequest::translateToReadRequest)
+                                                .makeServiceCall((readRequest, client) -> readResource(readRequest, client, callbackContext))
+                                                .stabilize(StabilizationMetrics.countThrottles(
+                                                        callbackContext.getStabilizationHistory(), this::stabilizedOnStop))
+                                                .progress()))
+                            .then(progress -> TagHelper.updateResourceTags(proxyClient, request, callbackContext, logger))
                             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
                 default:
                     break;
@@ -122,7 +147,7 @@ public class UpdateHandler extends BaseHandlerStd {
 
         // For completed/cancelled experiment, handler only updates tags as other properties become immutable
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress -> TagHelper.updateResourceTags(proxyClient, model, allTags, callbackContext))
+                .then(progress -> TagHelper.updateResourceTags(proxyClient, request, callbackContext, logger))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
@@ -131,15 +156,18 @@ public class UpdateHandler extends BaseHandlerStd {
      * caller credentials, correct region and retry settings
      * @param request the aws service request to describe a resource
      * @param proxyClient the aws service client to make the call
-     * @return describe resource response
+     * @param callbackContext the callback context holding the describe cache
+     * @return describe resource response, cached until the next mutating call
      */
     private DescribeInferenceExperimentResponse readResource(
             final DescribeInferenceExperimentRequest request,
-            final ProxyClient<SageMakerClient> proxyClient) {
+            final ProxyClient<SageMakerClient> proxyClient,
+            final CallbackContext callbackContext) {
 
         DescribeInferenceExperimentResponse response = null;
         try {
-            response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeInferenceExperiment);
+            response = callbackContext.getDescribeCache().describe(request, describeRequest ->
+                    proxyClient.injectCredentialsAndInvokeV2(describeRequest, proxyClient.client()::describeInferenceExperiment));
         } catch (final ResourceNotFoundException e) {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, request.name(), e);
         } catch (final AwsServiceException e) {
@@ -154,12 +182,15 @@ public class UpdateHandler extends BaseHandlerStd {
      * caller credentials, region and retry settings
      * @param request the aws service request to start a resource
      * @param proxyClient the aws service client to make the call
+     * @param callbackContext the callback context holding the describe cache
      * @return start resource response
      */
     private StartInferenceExperimentResponse startResource(
             final StartInferenceExperimentRequest request,
-            final ProxyClient<SageMakerClient> proxyClient) {
+            final ProxyClient<SageMakerClient> proxyClient,
+            final CallbackContext callbackContext) {
 
+        callbackContext.getDescribeCache().invalidate();
         StartInferenceExperimentResponse response = null;
         try {
             response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::startInferenceExperiment);
@@ -177,16 +208,19 @@ public class UpdateHandler extends BaseHandlerStd {
      * caller credentials, region and retry settings
      * @param request the aws service request to stop a resource
      * @param proxyClient the aws service client to make the call
+     * @param callbackContext the callback context holding the describe cache
      * @return stop resource response
      */
     private StopInferenceExperimentResponse stopResource(
             final StopInferenceExperimentRequest request,
-            final ProxyClient<SageMakerClient> proxyClient) {
+            final ProxyClient<SageMakerClient> proxyClient,
+            final CallbackContext callbackContext) {
 
         final DescribeInferenceExperimentResponse describeResponse = readResource(
-                TranslatorForRequest.translateResourceNameToReadRequest(request.name()), proxyClient);
+                TranslatorForRequest.translateResourceNameToReadRequest(request.name()), proxyClient, callbackContext);
         final StopInferenceExperimentRequest stopRequest =
                 TranslatorForRequest.updateModelVariantActionToStopRequest(request, describeResponse);
+        callbackContext.getDescribeCache().invalidate();
         StopInferenceExperimentResponse response = null;
         try {
             response = proxyClient.injectCredentialsAndInvokeV2(stopRequest, proxyClient.client()::stopInferenceExperiment);
@@ -204,12 +238,15 @@ public class UpdateHandler extends BaseHandlerStd {
      * caller credentials, region and retry settings
      * @param request the aws service request to update a resource
      * @param proxyClient the aws service client to make the call
+     * @param callbackContext the callback context holding the describe cache
      * @return update resource response
      */
     private UpdateInferenceExperimentResponse updateResource(
             final UpdateInferenceExperimentRequest request,
-            final ProxyClient<SageMakerClient> proxyClient) {
+            final ProxyClient<SageMakerClient> proxyClient,
+            final CallbackContext callbackContext) {
 
+        callbackContext.getDescribeCache().invalidate();
         UpdateInferenceExperimentResponse response = null;
         try {
             response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::updateInferenceExperiment);
@@ -235,9 +272,7 @@ public class UpdateHandler extends BaseHandlerStd {
             final ResourceModel model,
             final CallbackContext callbackContext) {
 
-        final InferenceExperimentStatus status = proxyClient.injectCredentialsAndInvokeV2(
-                TranslatorForRequest.translateToReadRequest(model),
-                proxyClient.client()::describeInferenceExperiment).status();
+        final InferenceExperimentStatus status = pollStatus(proxyClient, model, callbackContext);
 
         switch (status) {
             case CREATED:
@@ -267,9 +302,7 @@ public class UpdateHandler extends BaseHandlerStd {
             final ResourceModel model,
             final CallbackContext callbackContext) {
 
-        final InferenceExperimentStatus status = proxyClient.injectCredentialsAndInvokeV2(
-                TranslatorForRequest.translateToReadRequest(model),
-                proxyClient.client()::describeInferenceExperiment).status();
+        final InferenceExperimentStatus status = pollStatus(proxyClient, model, callbackContext);
 
         switch (status) {
             case RUNNING:
@@ -298,7 +331,7 @@ public class UpdateHandler extends BaseHandlerStd {
             final ResourceModel model,
             final CallbackContext callbackContext) {
 
-        return isResourceStopped(proxyClient, model);
+        return isResourceStopped(proxyClient, model, callbackContext);
     }
 
     /**
@@ -314,7 +347,7 @@ public class UpdateHandler extends BaseHandlerStd {
             final ResourceModel model,
             final CallbackContext callbackContext) {
 
-        return isResourceStopped(proxyClient, model);
+        return isResourceStopped(proxyClient, model, callbackContext);
     }
 
     /**
@@ -330,21 +363,21 @@ public class UpdateHandler extends BaseHandlerStd {
             final ResourceModel model,
             final CallbackContext callbackContext) {
 
-        return isResourceUpdated(proxyClient, model);
+        return isResourceUpdated(proxyClient, model, callbackContext);
     }
 
     /**
      * This is used to ensure InferenceExperiment resource has stopped.
      * @param proxyClient the aws service client to make the call
      * @param model resource model
+     * @param callbackContext the callback context holding the describe cache
      */
     private boolean isResourceStopped(
             final ProxyClient<SageMakerClient> proxyClient,
-            final ResourceModel model) {
+            final ResourceModel model,
+            final CallbackContext callbackContext) {
 
-        final InferenceExperimentStatus status = proxyClient.injectCredentialsAndInvokeV2(
-                TranslatorForRequest.translateToReadRequest(model),
-                proxyClient.client()::describeInferenceExperiment).status();
+        final InferenceExperimentStatus status = pollStatus(proxyClient, model, callbackContext);
 
         switch (status) {
             case CANCELLED:
@@ -365,14 +398,14 @@ public class UpdateHandler extends BaseHandlerStd {
      * This is used to ensure InferenceExperiment resource has been updated.
      * @param proxyClient the aws service client to make the call
      * @param model resource model
+     * @param callbackContext the callback context holding the describe cache
      */
     private boolean isResourceUpdated(
             final ProxyClient<SageMakerClient> proxyClient,
-            final ResourceModel model) {
+            final ResourceModel model,
+            final CallbackContext callbackContext) {
 
-        final InferenceExperimentStatus status = proxyClient.injectCredentialsAndInvokeV2(
-                TranslatorForRequest.translateToReadRequest(model),
-                proxyClient.client()::describeInferenceExperiment).status();
+        final InferenceExperimentStatus status = pollStatus(proxyClient, model, callbackContext);
 
         switch (status) {
             case CREATED:
@@ -388,4 +421,25 @@ public class UpdateHandler extends BaseHandlerStd {
 
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Describes the experiment for a stabilization poll. The response replaces the cached one, so the
+     * chained read after stabilization does not describe the experiment again.
+     * @param proxyClient the aws service client to make the call
+     * @param model resource model
+     * @param callbackContext the callback context holding the describe cache
+     * @return current experiment status
+     */
+    private InferenceExperimentStatus pollStatus(
+            final ProxyClient<SageMakerClient> proxyClient,
+            final ResourceModel model,
+            final CallbackContext callbackContext) {
+
+        final InferenceExperimentStatus status = callbackContext.getDescribeCache().refresh(
+                TranslatorForRequest.translateToReadRequest(model),
+                describeRequest -> proxyClient.injectCredentialsAndInvokeV2(
+                        describeRequest, proxyClient.client()::describeInferenceExperiment)).status();
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), status.toString());
+        return status;
+    }
+}
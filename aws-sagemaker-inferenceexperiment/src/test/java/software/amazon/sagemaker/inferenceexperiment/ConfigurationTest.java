@@ -0,0 +1,47 @@
+package software.amazon.sagemaker.inferenceexperiment;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConfigurationTest {
+
+    private final Configuration configuration = new Configuration();
+
+    @Test
+    public void testResourceDefinedTags() {
+        final ResourceModel model = ResourceModel.builder()
+                .tags(Collections.singletonList(Tag.builder().key("key").value("value").build()))
+                .build();
+
+        assertThat(configuration.resourceDefinedTags(model)).containsExactly(entry("key", "value"));
+    }
+
+    @Test
+    public void testResourceDefinedTags_NoTags() {
+        assertThat(configuration.resourceDefinedTags(ResourceModel.builder().build())).isNull();
+    }
+
+    @Test
+    public void testResourceDefinedTags_NullKey() {
+        final ResourceModel model = ResourceModel.builder()
+                .tags(Collections.singletonList(Tag.builder().value("value").build()))
+                .build();
+
+        assertThrows(CfnInvalidRequestException.class, () -> configuration.resourceDefinedTags(model));
+    }
+
+    @Test
+    public void testResourceDefinedTags_NullValue() {
+        final ResourceModel model = ResourceModel.builder()
+                .tags(Collections.singletonList(Tag.builder().key("key").build()))
+                .build();
+
+        assertThrows(CfnInvalidRequestException.class, () -> configuration.resourceDefinedTags(model));
+    }
+}
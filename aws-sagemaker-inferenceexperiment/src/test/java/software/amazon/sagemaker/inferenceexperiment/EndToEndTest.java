@@ -0,0 +1,183 @@
+package software.amazon.sagemaker.inferenceexperiment;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Runs the handlers against the in-memory {@link FakeSageMakerService} instead of call by call mocks.
+ */
+public class EndToEndTest extends AbstractTestBase {
+
+    private FakeSageMakerService service;
+    private FakeSageMakerClient sageMakerClient;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<SageMakerClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        service = new FakeSageMakerService();
+        sageMakerClient = new FakeSageMakerClient(service);
+        proxy = service.newProxy();
+        proxyClient = proxy.newProxy(() -> sageMakerClient);
+    }
+
+    @Test
+    public void testLifecycle() {
+        final ResourceModel created = run(new CreateHandler(), request(desiredModel())).getResourceModel();
+
+        assertThat(created.getArn()).endsWith("inference-experiment/" + TEST_EXPERIMENT_NAME);
+        assertThat(created.getStatus()).isEqualTo("Created");
+        assertThat(created.getModelVariants()).isEqualTo(getCfnModelVariants());
+        assertThat(service.tags(created.getArn())).containsEntry("key", "value");
+
+        final ResourceModel running = run(new UpdateHandler(), request(desiredModel("Running"))).getResourceModel();
+
+        assertThat(running.getStatus()).isEqualTo("Running");
+
+        final ResourceModel updatedModel = desiredModel("Running");
+        updatedModel.setDescription("updated description");
+        final ResourceModel updated = run(new UpdateHandler(), request(updatedModel)).getResourceModel();
+
+        assertThat(updated.getDescription()).isEqualTo("updated description");
+        assertThat(updated.getStatus()).isEqualTo("Running");
+
+        final ResourceModel completed = run(new UpdateHandler(), request(desiredModel("Completed"))).getResourceModel();
+
+        assertThat(completed.getStatus()).isEqualTo("Completed");
+
+        assertThat(run(new ListHandler(), request(ResourceModel.builder().build())).getResourceModels())
+                .extracting(ResourceModel::getName)
+                .containsExactly(TEST_EXPERIMENT_NAME);
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = run(new DeleteHandler(), request(completed));
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThrows(CfnNotFoundException.class, () -> run(new ReadHandler(), request(completed)));
+        assertThat(service.callCounts())
+                .containsEntry("CreateInferenceExperiment", 1L)
+                .containsEntry("StartInferenceExperiment", 1L)
+                .containsEntry("UpdateInferenceExperiment", 1L)
+                .containsEntry("StopInferenceExperiment", 1L)
+                .containsEntry("DeleteInferenceExperiment", 1L);
+    }
+
+    @Test
+    public void testDelete_StopsRunningExperiment() {
+        run(new CreateHandler(), request(desiredModel()));
+        run(new UpdateHandler(), request(desiredModel("Running")));
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted =
+                run(new DeleteHandler(), request(desiredModel()));
+
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(service.calls("StopInferenceExperiment")).isEqualTo(1);
+        assertThat(sageMakerClient.getExperiments().list()).isEmpty();
+    }
+
+    @Test
+    public void testCreate_AlreadyExists() {
+        run(new CreateHandler(), request(desiredModel()));
+
+        assertThrows(ResourceAlreadyExistsException.class, () -> run(new CreateHandler(), request(desiredModel())));
+    }
+
+    @Test
+    public void testCreate_ThrottledInvocationIsRescheduled() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(desiredModel());
+        final AmazonWebServicesClientProxy entryProxy = entryProxy();
+        service.throttleNextCalls(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> throttled =
+                new CreateHandler().handleRequest(entryProxy, request, null, logger);
+
+        assertThat(throttled.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(throttled.getCallbackDelaySeconds()).isPositive();
+        assertThat(service.throttledCalls()).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress = service.drive(
+                context -> new CreateHandler().handleRequest(entryProxy, request, context, logger),
+                throttled.getCallbackContext());
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(sageMakerClient.getExperiments().size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testList_ThrottledInvocationFails() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(ResourceModel.builder().build());
+        service.throttleNextCalls(1);
+
+        assertThrows(CfnThrottlingException.class,
+                () -> new ListHandler().handleRequest(entryProxy(), request, null, logger));
+    }
+
+    /**
+     * A proxy handing the fake client to the handlers' entry point, which builds its proxy client from
+     * {@link ClientBuilder}, so throttles pass through the rate limiter and the reschedule of {@link BaseHandlerStd}.
+     */
+    private AmazonWebServicesClientProxy entryProxy() {
+        final AmazonWebServicesClientProxy entryProxy = spy(proxy);
+        doReturn(proxyClient).when(entryProxy).newProxy(any());
+        return entryProxy;
+    }
+
+    /**
+     * @return a request of its own account, so that the rate limiter buckets of other tests do not interfere
+     */
+    private static ResourceHandlerRequest<ResourceModel> throttledAccountRequest(final ResourceModel desired) {
+        final ResourceHandlerRequest<ResourceModel> request = request(desired);
+        request.setAwsAccountId("throttled-" + System.nanoTime());
+        request.setRegion("us-west-2");
+        return request;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request) {
+        return service.drive(context -> handler.handleRequest(proxy, request, context, proxyClient, logger),
+                new CallbackContext());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .build();
+    }
+
+    private static ResourceModel desiredModel(final String desiredState) {
+        final ResourceModel model = desiredModel();
+        model.setDesiredState(desiredState);
+        return model;
+    }
+
+    private static ResourceModel desiredModel() {
+        return ResourceModel.builder()
+                .name(TEST_EXPERIMENT_NAME)
+                .type(TEST_EXPERIMENT_TYPE)
+                .roleArn(TEST_ROLE_ARN)
+                .description(TEST_DESCRIPTION)
+                .endpointName(TEST_ENDPOINT_NAME)
+                .schedule(getCfnSchedule())
+                .dataStorageConfig(getCfnDataStorageConfig())
+                .modelVariants(getCfnModelVariants())
+                .shadowModeConfig(getCfnShadowModeConfig())
+                .tags(Collections.singletonList(Tag.builder().key("key").value("value").build()))
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package software.amazon.sagemaker.inferenceexperiment;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.sagemaker.model.CreateInferenceExperimentRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateInferenceExperimentResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteInferenceExperimentRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteInferenceExperimentResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeInferenceExperimentRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeInferenceExperimentResponse;
+import software.amazon.awssdk.services.sagemaker.model.InferenceExperimentStatus;
+import software.amazon.awssdk.services.sagemaker.model.InferenceExperimentSummary;
+import software.amazon.awssdk.services.sagemaker.model.ListInferenceExperimentsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListInferenceExperimentsResponse;
+import software.amazon.awssdk.services.sagemaker.model.ModelVariantConfig;
+import software.amazon.awssdk.services.sagemaker.model.ModelVariantConfigSummary;
+import software.amazon.awssdk.services.sagemaker.model.StartInferenceExperimentRequest;
+import software.amazon.awssdk.services.sagemaker.model.StartInferenceExperimentResponse;
+import software.amazon.awssdk.services.sagemaker.model.StopInferenceExperimentRequest;
+import software.amazon.awssdk.services.sagemaker.model.StopInferenceExperimentResponse;
+import software.amazon.awssdk.services.sagemaker.model.UpdateInferenceExperimentRequest;
+import software.amazon.awssdk.services.sagemaker.model.UpdateInferenceExperimentResponse;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for inference experiments: creates stay Creating until Created, starts stay Starting until
+ * Running, updates stay Updating until the experiment is back in its previous status and stops stay Stopping until
+ * the requested desired state. Deletes remove the experiment right away.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    static final Duration TRANSITION_TIME = Duration.ofMinutes(1);
+
+    private final FakeResourceTable<DescribeInferenceExperimentResponse> experiments;
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.experiments = new FakeResourceTable<>(service, "InferenceExperiment", TRANSITION_TIME);
+    }
+
+    public FakeResourceTable<DescribeInferenceExperimentResponse> getExperiments() {
+        return experiments;
+    }
+
+    @Override
+    public CreateInferenceExperimentResponse createInferenceExperiment(final CreateInferenceExperimentRequest request) {
+        return service.call("CreateInferenceExperiment", () -> {
+            final String arn = "arn:aws:sagemaker:us-west-2:123456789012:inference-experiment/" + request.name();
+            experiments.create(request.name(), arn, DescribeInferenceExperimentResponse.builder()
+                    .arn(arn)
+                    .name(request.name())
+                    .type(request.type())
+                    .roleArn(request.roleArn())
+                    .description(request.description())
+                    .endpointMetadata(metadata -> metadata.endpointName(request.endpointName()))
+                    .schedule(request.schedule())
+                    .kmsKey(request.kmsKey())
+                    .dataStorageConfig(request.dataStorageConfig())
+                    .shadowModeConfig(request.shadowModeConfig())
+                    .modelVariants(request.modelVariants().stream()
+                            .map(FakeSageMakerClient::toSummary)
+                            .collect(Collectors.toList()))
+                    .build(),
+                    InferenceExperimentStatus.CREATING.toString(), InferenceExperimentStatus.CREATED.toString());
+            service.tag(arn, tagMap(request.tags()));
+            return CreateInferenceExperimentResponse.builder().inferenceExperimentArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeInferenceExperimentResponse describeInferenceExperiment(
+            final DescribeInferenceExperimentRequest request) {
+        return service.call("DescribeInferenceExperiment", () ->
+                toDescribeResponse(experiments.describe(request.name())));
+    }
+
+    @Override
+    public StartInferenceExperimentResponse startInferenceExperiment(final StartInferenceExperimentRequest request) {
+        return service.call("StartInferenceExperiment", () -> {
+            final FakeResource<DescribeInferenceExperimentResponse> experiment = experiments.update(request.name(),
+                    state -> state, InferenceExperimentStatus.STARTING.toString(),
+                    InferenceExperimentStatus.RUNNING.toString());
+            return StartInferenceExperimentResponse.builder().inferenceExperimentArn(experiment.getArn()).build();
+        });
+    }
+
+    @Override
+    public StopInferenceExperimentResponse stopInferenceExperiment(final StopInferenceExperimentRequest request) {
+        return service.call("StopInferenceExperiment", () -> {
+            final FakeResource<DescribeInferenceExperimentResponse> experiment = experiments.update(request.name(),
+                    state -> state.toBuilder().statusReason(request.reason()).build(),
+                    InferenceExperimentStatus.STOPPING.toString(), request.desiredStateAsString());
+            return StopInferenceExperimentResponse.builder().inferenceExperimentArn(experiment.getArn()).build();
+        });
+    }
+
+    @Override
+    public UpdateInferenceExperimentResponse updateInferenceExperiment(final UpdateInferenceExperimentRequest request) {
+        return service.call("UpdateInferenceExperiment", () -> {
+            final String status = experiments.describe(request.name()).getStatus();
+            final FakeResource<DescribeInferenceExperimentResponse> experiment = experiments.update(request.name(),
+                    state -> {
+                        final DescribeInferenceExperimentResponse.Builder updated = state.toBuilder()
+                                .description(request.description())
+                                .schedule(request.schedule())
+                                .shadowModeConfig(request.shadowModeConfig());
+                        if (request.dataStorageConfig() != null) {
+                            updated.dataStorageConfig(request.dataStorageConfig());
+                        }
+                        if (request.hasModelVariants()) {
+                            updated.modelVariants(request.modelVariants().stream()
+                                    .map(FakeSageMakerClient::toSummary)
+                                    .collect(Collectors.toList()));
+                        }
+                        return updated.build();
+                    }, InferenceExperimentStatus.UPDATING.toString(), status);
+            return UpdateInferenceExperimentResponse.builder().inferenceExperimentArn(experiment.getArn()).build();
+        });
+    }
+
+    @Override
+    public DeleteInferenceExperimentResponse deleteInferenceExperiment(final DeleteInferenceExperimentRequest request) {
+        return service.call("DeleteInferenceExperiment", () -> {
+            final FakeResource<DescribeInferenceExperimentResponse> experiment = experiments.describe(request.name());
+            experiments.remove(request.name());
+            return DeleteInferenceExperimentResponse.builder().inferenceExperimentArn(experiment.getArn()).build();
+        });
+    }
+
+    @Override
+    public ListInferenceExperimentsResponse listInferenceExperiments(final ListInferenceExperimentsRequest request) {
+        return service.call("ListInferenceExperiments", () -> ListInferenceExperimentsResponse.builder()
+                .inferenceExperiments(experiments.list().stream()
+                        .map(experiment -> InferenceExperimentSummary.builder()
+                                .name(experiment.getName())
+                                .type(experiment.getState().type())
+                                .roleArn(experiment.getState().roleArn())
+                                .description(experiment.getState().description())
+                                .schedule(experiment.getState().schedule())
+                                .status(experiment.getStatus())
+                                .statusReason(experiment.getState().statusReason())
+                                .creationTime(experiment.getCreationTime())
+                                .lastModifiedTime(experiment.getLastModifiedTime())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    private static ModelVariantConfigSummary toSummary(final ModelVariantConfig variant) {
+        return ModelVariantConfigSummary.builder()
+                .modelName(variant.modelName())
+                .variantName(variant.variantName())
+                .infrastructureConfig(variant.infrastructureConfig())
+                .build();
+    }
+
+    private static DescribeInferenceExperimentResponse toDescribeResponse(
+            final FakeResource<DescribeInferenceExperimentResponse> experiment) {
+        return experiment.getState().toBuilder()
+                .status(experiment.getStatus())
+                .creationTime(experiment.getCreationTime())
+                .lastModifiedTime(experiment.getLastModifiedTime())
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package software.amazon.sagemaker.inferenceexperiment;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.model.CreateInferenceExperimentRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeInferenceExperimentResponse;
+import software.amazon.awssdk.services.sagemaker.model.ModelVariantConfigSummary;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Translates a model into a create request and the describe response SageMaker would answer with back into a model.
+ */
+public class TranslatorRoundTripTest extends AbstractTestBase {
+
+    @Test
+    public void testRoundTrip_AllProperties() {
+        final ResourceModel model = ResourceModel.builder()
+                .name(TEST_EXPERIMENT_NAME)
+                .type(TEST_EXPERIMENT_TYPE)
+                .roleArn(TEST_ROLE_ARN)
+                .description(TEST_DESCRIPTION)
+                .endpointName(TEST_ENDPOINT_NAME)
+                .kmsKey(TEST_KMS_KEY)
+                .schedule(getCfnSchedule())
+                .dataStorageConfig(getCfnDataStorageConfig())
+                .modelVariants(getCfnModelVariants())
+                .shadowModeConfig(getCfnShadowModeConfig())
+                .tags(Collections.singletonList(Tag.builder().key("key").value("value").build()))
+                .build();
+
+        final CreateInferenceExperimentRequest request = TranslatorForRequest.translateToCreateRequest(model);
+        final ResourceModel translated = translateFromCreateRequest(request);
+
+        assertThat(request.tags()).hasSize(1);
+        assertThat(translated.getSchedule()).isEqualTo(model.getSchedule());
+        assertThat(translated.getDataStorageConfig()).isEqualTo(model.getDataStorageConfig());
+        assertThat(translated.getModelVariants()).isEqualTo(model.getModelVariants());
+        assertThat(translated.getShadowModeConfig()).isEqualTo(model.getShadowModeConfig());
+        assertThat(translated.getEndpointMetadata().getEndpointName()).isEqualTo(TEST_ENDPOINT_NAME);
+        assertThat(translated.getCreationTime()).isNotNull();
+        assertThat(TranslatorForResponse.translate(request.tags())).isEqualTo(model.getTags());
+    }
+
+    @Test
+    public void testRoundTrip_OptionalPropertiesOmitted() {
+        final ResourceModel model = ResourceModel.builder()
+                .name(TEST_EXPERIMENT_NAME)
+                .type(TEST_EXPERIMENT_TYPE)
+                .endpointName(TEST_ENDPOINT_NAME)
+                .schedule(InferenceExperimentSchedule.builder().build())
+                .dataStorageConfig(DataStorageConfig.builder().destination(TEST_S3_BUCKET).build())
+                .modelVariants(Arrays.asList(
+                        ModelVariantConfig.builder()
+                                .modelName(TEST_PROD_MODEL_NAME)
+                                .variantName(TEST_PROD_VARIANT_NAME)
+                                .infrastructureConfig(ModelInfrastructureConfig.builder()
+                                        .infrastructureType(TEST_MODEL_INFRA_TYPE)
+                                        .build())
+                                .build(),
+                        ModelVariantConfig.builder()
+                                .modelName(TEST_SHADOW_MODEL_NAME)
+                                .variantName(TEST_SHADOW_VARIANT_NAME)
+                                .build()))
+                .build();
+
+        final CreateInferenceExperimentRequest request = TranslatorForRequest.translateToCreateRequest(model);
+        final ResourceModel translated = translateFromCreateRequest(request);
+
+        assertThat(request.hasTags()).isFalse();
+        assertThat(translated.getSchedule().getStartTime()).isNull();
+        assertThat(translated.getSchedule().getEndTime()).isNull();
+        assertThat(translated.getDataStorageConfig().getContentType()).isNull();
+        assertThat(translated.getModelVariants().get(0).getInfrastructureConfig().getRealTimeInferenceConfig())
+                .isNull();
+        assertThat(translated.getModelVariants().get(1).getInfrastructureConfig()).isNull();
+        assertThat(translated.getShadowModeConfig()).isNull();
+        assertThat(translated.getCreationTime()).isNull();
+        assertThat(TranslatorForResponse.translate(request.tags())).isNull();
+    }
+
+    @Test
+    public void testRoundTrip_NoModelVariants() {
+        final ResourceModel translated = translateFromCreateRequest(TranslatorForRequest.translateToCreateRequest(
+                ResourceModel.builder()
+                        .name(TEST_EXPERIMENT_NAME)
+                        .endpointName(TEST_ENDPOINT_NAME)
+                        .build()));
+
+        assertThat(translated.getModelVariants()).isNull();
+        assertThat(translated.getSchedule()).isNull();
+        assertThat(translated.getDataStorageConfig()).isNull();
+    }
+
+    /**
+     * Answers a create request the way DescribeInferenceExperiment would; timestamps are only set once the
+     * experiment carries a schedule.
+     */
+    private static ResourceModel translateFromCreateRequest(final CreateInferenceExperimentRequest request) {
+        final DescribeInferenceExperimentResponse.Builder response = DescribeInferenceExperimentResponse.builder()
+                .arn(TEST_EXPERIMENT_ARN)
+                .name(request.name())
+                .type(request.type())
+                .roleArn(request.roleArn())
+                .description(request.description())
+                .endpointMetadata(metadata -> metadata.endpointName(request.endpointName()))
+                .schedule(request.schedule())
+                .kmsKey(request.kmsKey())
+                .dataStorageConfig(request.dataStorageConfig())
+                .shadowModeConfig(request.shadowModeConfig())
+                .modelVariants(request.modelVariants().stream()
+                        .map(variant -> ModelVariantConfigSummary.builder()
+                                .modelName(variant.modelName())
+                                .variantName(variant.variantName())
+                                .infrastructureConfig(variant.infrastructureConfig())
+                                .build())
+                        .collect(Collectors.toList()));
+        if (request.schedule() != null && request.schedule().startTime() != null) {
+            response.creationTime(TEST_TIME).lastModifiedTime(TEST_TIME);
+        }
+        return TranslatorForResponse.translateFromReadResponse(response.build());
+    }
+}
@@ -41,6 +41,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -206,6 +209,91 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void testUpdateHandler_UpdateCreatedResource_Success() {
+        final DescribeInferenceExperimentResponse describeResponse = getSdkDescribeResponse("Created", null);
+
+        when(proxyClient.client().describeInferenceExperiment(any(DescribeInferenceExperimentRequest.class)))
+                .thenReturn(describeResponse);
+        when(proxyClient.client().updateInferenceExperiment(any(UpdateInferenceExperimentRequest.class)))
+                .thenReturn(UpdateInferenceExperimentResponse.builder().inferenceExperimentArn(TEST_EXPERIMENT_ARN).build());
+        when(proxyClient.client().listTags(any(ListTagsRequest.class)))
+                .thenReturn(ListTagsResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getRequestResourceModel())
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(request);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(getResponseResourceModel("Created", null));
+        verify(proxyClient.client()).updateInferenceExperiment(any(UpdateInferenceExperimentRequest.class));
+    }
+
+    @Test
+    public void testUpdateHandler_WaitsForConcurrentUpdate() {
+        when(proxyClient.client().describeInferenceExperiment(any(DescribeInferenceExperimentRequest.class)))
+                .thenReturn(getSdkDescribeResponse("Updating", null))
+                .thenReturn(getSdkDescribeResponse("Updating", null))
+                .thenReturn(getSdkDescribeResponse("Running", null));
+        when(proxyClient.client().listTags(any(ListTagsRequest.class)))
+                .thenReturn(ListTagsResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getRequestResourceModel())
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(request);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(getResponseResourceModel("Running", null));
+        verify(proxyClient.client(), never()).updateInferenceExperiment(any(UpdateInferenceExperimentRequest.class));
+    }
+
+    @Test
+    public void testUpdateHandler_WaitsForStop() {
+        when(proxyClient.client().describeInferenceExperiment(any(DescribeInferenceExperimentRequest.class)))
+                .thenReturn(getSdkDescribeResponse("Stopping", null))
+                .thenReturn(getSdkDescribeResponse("Stopping", null))
+                .thenReturn(getSdkDescribeResponse("Completed", null));
+        when(proxyClient.client().listTags(any(ListTagsRequest.class)))
+                .thenReturn(ListTagsResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getRequestResourceModel())
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(request);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(getResponseResourceModel("Completed", null));
+        verify(proxyClient.client(), never()).stopInferenceExperiment(any(StopInferenceExperimentRequest.class));
+    }
+
+    @Test
+    public void testUpdateHandler_CompletedResource_TagsUnchanged() {
+        when(proxyClient.client().describeInferenceExperiment(any(DescribeInferenceExperimentRequest.class)))
+                .thenReturn(getSdkDescribeResponse("Completed", null));
+        when(proxyClient.client().listTags(any(ListTagsRequest.class)))
+                .thenReturn(ListTagsResponse.builder().tags(Tag.builder().key("key").value("value").build()).build());
+
+        final ResourceModel model = getRequestResourceModel();
+        model.setTags(Collections.singletonList(software.amazon.sagemaker.inferenceexperiment.Tag.builder()
+                .key("key")
+                .value("value")
+                .build()));
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(getRequestResourceModel())
+                .build();
+        request.getPreviousResourceState().setTags(model.getTags());
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(request);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTags()).isEqualTo(model.getTags());
+        // only the read lists tags, the unchanged tags are not diffed
+        verify(proxyClient.client(), times(1)).listTags(any(ListTagsRequest.class));
+        verify(proxyClient.client(), never()).updateInferenceExperiment(any(UpdateInferenceExperimentRequest.class));
+    }
+
     @Test
     public void testUpdateHandler_StopResource_Success() {
         final DescribeInferenceExperimentResponse firstDescribeResponse =
@@ -680,7 +768,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .build();
 
         when(proxyClient.client().describeInferenceExperiment(any(DescribeInferenceExperimentRequest.class)))
-                .thenReturn(describeResponseWithRunningStatus)
                 .thenReturn(describeResponseWithRunningStatus)
                 .thenReturn(describeResponseWithStoppingStatus)
                 .thenReturn(describeResponseWithCompletedStatus);
@@ -705,6 +792,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModel()).isEqualTo(expectedModelFromResponse);
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        // The stop reuses the initial describe and the final read reuses the last stabilization poll
+        verify(sdkClient, times(3)).describeInferenceExperiment(any(DescribeInferenceExperimentRequest.class));
     }
 
     @Test
@@ -1,7 +1,11 @@
 package software.amazon.sagemaker.mlflowtrackingserver;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.sagemaker.common.StabilizationHistory;
 
+@lombok.Getter
+@lombok.Setter
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    private StabilizationHistory stabilizationHistory = new StabilizationHistory();
 }
\ No newline at end of file
@@ -1,16 +1,19 @@
 package software.amazon.sagemaker.mlflowtrackingserver;
 
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
-
-import java.net.URI;
-import java.net.URISyntaxException;
+import software.amazon.sagemaker.common.SageMakerClientProvider;
 
 /**
  * Provides APIs to build service client.
  */
 public class ClientBuilder {
 
-    public static SageMakerClient getClient()  {
-        return SageMakerClient.create();
+    /**
+     * Returns the client shared by every handler running in this process.
+     *
+     * @return SageMaker client
+     */
+    public static SageMakerClient getClient() {
+        return SageMakerClientProvider.getClient();
     }
-}
\ No newline at end of file
+}
@@ -21,6 +21,8 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 import software.amazon.cloudformation.proxy.delay.Constant;
 
 /**
@@ -28,6 +30,10 @@ import software.amazon.cloudformation.proxy.delay.Constant;
  */
 public class CreateHandler extends BaseHandlerStd {
 
+    private static final String OPERATION = "AWS-SageMaker-MlflowTrackingServer::Create";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
     private final Delay delay;
     // For 60 minutes, check state every 2 minutes. Tracking Server Creates takes ~35 min on average, so a 2 min delay
@@ -56,33 +62,35 @@ public class CreateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
-                proxy.initiate("AWS-SageMaker-MlflowTrackingServer::Create", proxyClient, model, callbackContext)
-                    .translateToServiceRequest(Translator::translateToCreateRequest)
-                    .backoffDelay(this.delay)
-                    .makeServiceCall((createRequest, requestProxyClient) -> checkIfExistingAndCreate(model, createRequest, requestProxyClient))
-                    .stabilize(this::stabilizedOnCreate)
-                    .handleError((createRequest, exception, client, resourceModel, errorCallbackContext) -> {
-                        // Special handling for Throttling Exception to force CloudFormation to retry.
-                        // ThrottlingException is not a SageMaker Exception type, but rather a general AWS Exception type.
-                        this.logger.log(String.format("Create Handler experienced error for Tracking Server %s caused by the exception -- %s",
-                                resourceModel.getTrackingServerName(), exception.getMessage()));
-                        final BaseHandlerException cfnException = ExceptionMapper.getCfnException(Action.CREATE.toString(), ResourceModel.TYPE_NAME,
-                                createRequest.trackingServerName(), (AwsServiceException) exception);
-                        if (cfnException.getErrorCode().equals(HandlerErrorCode.Throttling)) {
-                            // Return ProgressEvent with status IN_PROGRESS and errorCode Throttling.
-                            this.logger.log("Returning status IN_PROGRESS due to Throttling Error, to make CloudFormation retry.");
-                            return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                    .callbackContext(errorCallbackContext)
-                                    .resourceModel(resourceModel)
-                                    .errorCode(HandlerErrorCode.Throttling)
-                                    .status(OperationStatus.IN_PROGRESS)
-                                    .callbackDelaySeconds(10)
-                                    .build();
-                        }
-                        // Return ProgressEvent with status FAILED and errorCode cfnException.getErrorCode().
-                        return ProgressEvent.defaultFailureHandler(cfnException, cfnException.getErrorCode());
-                    })
-                    .progress())
+                StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                    proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                        .translateToServiceRequest(Translator::translateToCreateRequest)
+                        .backoffDelay(this.delay)
+                        .makeServiceCall((createRequest, requestProxyClient) -> checkIfExistingAndCreate(model, createRequest, requestProxyClient))
+                        .stabilize(StabilizationMetrics.countThrottles(
+                                callbackContext.getStabilizationHistory(), this::stabilizedOnCreate))
+                        .handleError((createRequest, exception, client, resourceModel, errorCallbackContext) -> {
+                            // Special handling for Throttling Exception to force CloudFormation to retry.
+                            // ThrottlingException is not a SageMaker Exception type, but rather a general AWS Exception type.
+                            this.logger.log(String.format("Create Handler experienced error for Tracking Server %s caused by the exception -- %s",
+                                    resourceModel.getTrackingServerName(), exception.getMessage()));
+                            final BaseHandlerException cfnException = ExceptionMapper.getCfnException(Action.CREATE.toString(), ResourceModel.TYPE_NAME,
+                                    createRequest.trackingServerName(), (AwsServiceException) exception);
+                            if (cfnException.getErrorCode().equals(HandlerErrorCode.Throttling)) {
+                                // Return ProgressEvent with status IN_PROGRESS and errorCode Throttling.
+                                this.logger.log("Returning status IN_PROGRESS due to Throttling Error, to make CloudFormation retry.");
+                                return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                                        .callbackContext(errorCallbackContext)
+                                        .resourceModel(resourceModel)
+                                        .errorCode(HandlerErrorCode.Throttling)
+                                        .status(OperationStatus.IN_PROGRESS)
+                                        .callbackDelaySeconds(10)
+                                        .build();
+                            }
+                            // Return ProgressEvent with status FAILED and errorCode cfnException.getErrorCode().
+                            return ProgressEvent.defaultFailureHandler(cfnException, cfnException.getErrorCode());
+                        })
+                        .progress()))
             .then(progress -> TagHelper.updateTags(progress, proxy, request, callbackContext, proxyClient, logger, Action.CREATE))
             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
@@ -134,6 +142,7 @@ public class CreateHandler extends BaseHandlerStd {
 
         final TrackingServerStatus mlflowTrackingServerStatus = proxyClient.injectCredentialsAndInvokeV2(
                 Translator.translateToReadRequest(model), proxyClient.client()::describeMlflowTrackingServer).trackingServerStatus();
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), mlflowTrackingServerStatus.toString());
 
         switch (mlflowTrackingServerStatus) {
             case CREATE_FAILED:
@@ -20,6 +20,8 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 import software.amazon.cloudformation.proxy.delay.Constant;
 
 /**
@@ -27,6 +29,10 @@ import software.amazon.cloudformation.proxy.delay.Constant;
  */
 public class DeleteHandler extends BaseHandlerStd {
 
+    private static final String OPERATION = "AWS-SageMaker-MlflowTrackingServer::Delete";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
     private final Delay delay;
     // For 60 minutes, check state every 2 minutes. Tracking Server Deletes take ~20 min on average, so a 2 min delay
@@ -55,35 +61,38 @@ public class DeleteHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
-                        proxy.initiate("AWS-SageMaker-MlflowTrackingServer::Delete", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(Translator::translateToDeleteRequest)
-                                .backoffDelay(this.delay)
-                                .makeServiceCall((deleteMlflowTrackingServerRequest, prxyClient) -> deleteMlflowTrackingServer(model, deleteMlflowTrackingServerRequest, prxyClient))
-                                .stabilize(this::stabilizedOnDelete)
-                                .handleError((deleteRequest, exception, client, resourceModel, errorCallbackContext) -> {
-                                    // Special handling for Throttling Exception to force CloudFormation to retry.
-                                    // ThrottlingException is not a SageMaker Exception type, but rather a general AWS Exception type.
-                                    this.logger.log(String.format("Delete Handler experienced error for Tracking Server %s caused by the exception -- %s",
-                                            resourceModel.getTrackingServerName(), exception.getMessage()));
-                                    final BaseHandlerException cfnException = ExceptionMapper.getCfnException(Action.DELETE.toString(), ResourceModel.TYPE_NAME,
-                                            deleteRequest.trackingServerName(), (AwsServiceException) exception);
-                                    if (cfnException.getErrorCode().equals(HandlerErrorCode.Throttling)) {
-                                        // Return ProgressEvent with status IN_PROGRESS and errorCode Throttling.
-                                        this.logger.log("Returning status IN_PROGRESS due to Throttling Error, to make CloudFormation retry.");
-                                        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                                .callbackContext(errorCallbackContext)
-                                                .resourceModel(resourceModel)
-                                                .errorCode(HandlerErrorCode.Throttling)
-                                                .status(OperationStatus.IN_PROGRESS)
-                                                .callbackDelaySeconds(10)
-                                                .build();
-                                    }
-                                    // Return ProgressEvent with status FAILED and errorCode cfnException.getErrorCode().
-                                    return ProgressEvent.defaultFailureHandler(cfnException, cfnException.getErrorCode());
-                                })
-                                .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                        .status(OperationStatus.SUCCESS)
-                                        .build()));
+                        StabilizationMetrics.emf(logger).track(OPERATION,
+                                callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(Translator::translateToDeleteRequest)
+                                    .backoffDelay(this.delay)
+                                    .makeServiceCall((deleteMlflowTrackingServerRequest, prxyClient) -> deleteMlflowTrackingServer(model, deleteMlflowTrackingServerRequest, prxyClient))
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnDelete))
+                                    .handleError((deleteRequest, exception, client, resourceModel, errorCallbackContext) -> {
+                                        // Special handling for Throttling Exception to force CloudFormation to retry.
+                                        // ThrottlingException is not a SageMaker Exception type, but rather a general AWS Exception type.
+                                        this.logger.log(String.format("Delete Handler experienced error for Tracking Server %s caused by the exception -- %s",
+                                                resourceModel.getTrackingServerName(), exception.getMessage()));
+                                        final BaseHandlerException cfnException = ExceptionMapper.getCfnException(Action.DELETE.toString(), ResourceModel.TYPE_NAME,
+                                                deleteRequest.trackingServerName(), (AwsServiceException) exception);
+                                        if (cfnException.getErrorCode().equals(HandlerErrorCode.Throttling)) {
+                                            // Return ProgressEvent with status IN_PROGRESS and errorCode Throttling.
+                                            this.logger.log("Returning status IN_PROGRESS due to Throttling Error, to make CloudFormation retry.");
+                                            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                                                    .callbackContext(errorCallbackContext)
+                                                    .resourceModel(resourceModel)
+                                                    .errorCode(HandlerErrorCode.Throttling)
+                                                    .status(OperationStatus.IN_PROGRESS)
+                                                    .callbackDelaySeconds(10)
+                                                    .build();
+                                        }
+                                        // Return ProgressEvent with status FAILED and errorCode cfnException.getErrorCode().
+                                        return ProgressEvent.defaultFailureHandler(cfnException, cfnException.getErrorCode());
+                                    })
+                                    .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
+                                            .status(OperationStatus.SUCCESS)
+                                            .build())));
     }
 
     /**
@@ -131,8 +140,10 @@ public class DeleteHandler extends BaseHandlerStd {
         } catch (final ResourceNotFoundException e) {
             logger.log(String.format("Tracking Server %s has successfully been deleted. Stabilizer is returning true.",
                     model.getTrackingServerName()));
+            STABILIZATION_SCHEDULER.complete(callbackContext.getStabilizationHistory());
             return true;
         }
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), trackingServerStatus.toString());
 
         switch (trackingServerStatus) {
             case DELETING:
@@ -6,7 +6,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -16,6 +15,8 @@ import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.AddTagsRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteTagsRequest;
 import software.amazon.awssdk.services.sagemaker.model.Tag;
 import software.amazon.cloudformation.Action;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
@@ -24,6 +25,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.TagDiff;
 
 public class TagHelper {
     /**
@@ -149,11 +151,7 @@ public class TagHelper {
      * Determines the tags the customer desired to define or redefine.
      */
     public static Map<String, String> generateTagsToAdd(final Map<String, String> previousTags, final Map<String, String> desiredTags) {
-        return desiredTags.entrySet().stream()
-                .filter(e -> !previousTags.containsKey(e.getKey()) || !Objects.equals(previousTags.get(e.getKey()), e.getValue()))
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue));
+        return TagDiff.tagsToAdd(previousTags, desiredTags);
     }
 
     /**
@@ -162,11 +160,7 @@ public class TagHelper {
      * Determines the tags the customer desired to remove from the function.
      */
     public static Set<String> generateTagsToRemove(final Map<String, String> previousTags, final Map<String, String> desiredTags) {
-        final Set<String> desiredTagNames = desiredTags.keySet();
-
-        return previousTags.keySet().stream()
-                .filter(tagName -> !desiredTagNames.contains(tagName))
-                .collect(Collectors.toSet());
+        return TagDiff.tagsToRemove(previousTags, desiredTags);
     }
 
     /**
@@ -196,23 +190,28 @@ public class TagHelper {
             final Logger logger,
             final Action action) {
 
-        // Chain progress
-        ProgressEvent<ResourceModel, CallbackContext> progressToReturn;
-        final Set<Tag> previousTags = convertToSet(getPreviouslyAttachedTags(request, logger));
-        final Set<Tag> desiredTags = convertToSet(getNewDesiredTags(request, logger));
+        final TagDiff tagDiff = TagDiff.between(getPreviouslyAttachedTags(request, logger), getNewDesiredTags(request, logger));
+        final String trackingServerArn = request.getDesiredResourceState().getTrackingServerArn();
 
-        // Remove any tags no longer in the template
-        final Collection<Tag> resourceTagsToRemove = generateTagsToRemove(previousTags, desiredTags);
-        progressToReturn = untagResource(progress, proxy, proxyClient, request, callbackContext, resourceTagsToRemove, logger);
-        // Add new tags
-        final Collection<Tag> resourceTagsToAdd = generateTagsToAdd(previousTags, desiredTags);
-        return tagResource(progressToReturn, proxy, proxyClient, request, callbackContext, resourceTagsToAdd, logger, action);
+        // Remove any tags no longer in the template, then add new tags, in batches of at most 50 tags
+        ProgressEvent<ResourceModel, CallbackContext> progressToReturn = progress;
+        final List<DeleteTagsRequest> deleteTagsRequests = tagDiff.toDeleteTagsRequests(trackingServerArn);
+        for (int batch = 0; batch < deleteTagsRequests.size(); batch++) {
+            progressToReturn = untagResource(progressToReturn, proxy, proxyClient, request, callbackContext,
+                    deleteTagsRequests.get(batch), batch, logger);
+        }
+        final List<AddTagsRequest> addTagsRequests = tagDiff.toAddTagsRequests(trackingServerArn);
+        for (int batch = 0; batch < addTagsRequests.size(); batch++) {
+            progressToReturn = tagResource(progressToReturn, proxy, proxyClient, request, callbackContext,
+                    addTagsRequests.get(batch), batch, logger, action);
+        }
+        return progressToReturn;
     }
 
     /**
      * tagResource during update
      *
-     * Calls the service:TagResource API.
+     * Calls the service:TagResource API for one batch of tags.
      */
     private static ProgressEvent<ResourceModel, CallbackContext> tagResource(
             final ProgressEvent<ResourceModel, CallbackContext> progress,
@@ -220,15 +219,17 @@ public class TagHelper {
             final ProxyClient<SageMakerClient> serviceClient,
             final ResourceHandlerRequest<ResourceModel> handlerRequest,
             final CallbackContext callbackContext,
-            final Collection<Tag> resourceTagsToAdd,
+            final AddTagsRequest addTagsRequest,
+            final int batch,
             final Logger logger,
             final Action action
     ) {
-        if (!resourceTagsToAdd.isEmpty()) {
+        return progress.then(progressToTag -> {
             logger.log(String.format("[UPDATE][IN PROGRESS] Adding tags for TrackingServer ARN %s",
                     handlerRequest.getDesiredResourceState().getTrackingServerArn()));
-            return proxy.initiate("AWS-SageMaker-MlflowTrackingServer::TagResource", serviceClient, handlerRequest.getDesiredResourceState(), callbackContext)
-                    .translateToServiceRequest(model -> Translator.translateToAddTagsRequest(resourceTagsToAdd, model.getTrackingServerArn()))
+            return proxy.initiate(batchCallGraph("AWS-SageMaker-MlflowTrackingServer::TagResource", batch), serviceClient,
+                            handlerRequest.getDesiredResourceState(), callbackContext)
+                    .translateToServiceRequest(model -> addTagsRequest)
                     .makeServiceCall((request, client) -> proxy.injectCredentialsAndInvokeV2(request, client.client()::addTags))
                     .handleError((createRequest, exception, client, resourceModel, errorCallbackContext) -> {
                         logger.log(exception.getMessage());
@@ -237,14 +238,13 @@ public class TagHelper {
                         return ProgressEvent.defaultFailureHandler(cfnException, cfnException.getErrorCode());
                     })
                     .progress();
-        }
-        return progress;
+        });
     }
 
     /**
      * untagResource during update
      *
-     * Calls the service:UntagResource API.
+     * Calls the service:UntagResource API for one batch of tag keys.
      */
     private static ProgressEvent<ResourceModel, CallbackContext> untagResource(
             final ProgressEvent<ResourceModel, CallbackContext> progress,
@@ -252,18 +252,26 @@ public class TagHelper {
             final ProxyClient<SageMakerClient> serviceClient,
             final ResourceHandlerRequest<ResourceModel> handlerRequest,
             final CallbackContext callbackContext,
-            final Collection<Tag> resourceTagsToRemove,
+            final DeleteTagsRequest deleteTagsRequest,
+            final int batch,
             final Logger logger
     ) {
-        if (!resourceTagsToRemove.isEmpty()) {
+        return progress.then(progressToUntag -> {
             logger.log(String.format("[UPDATE][IN PROGRESS] Removing tags for TrackingServer ARN %s",
                     handlerRequest.getDesiredResourceState().getTrackingServerArn()));
-            return proxy.initiate("AWS-SageMaker-MlflowTrackingServer::UntagResource", serviceClient, handlerRequest.getDesiredResourceState(), callbackContext)
-                    .translateToServiceRequest(model -> Translator.translateToDeleteTagsRequest(resourceTagsToRemove, model.getTrackingServerArn()))
+            return proxy.initiate(batchCallGraph("AWS-SageMaker-MlflowTrackingServer::UntagResource", batch), serviceClient,
+                            handlerRequest.getDesiredResourceState(), callbackContext)
+                    .translateToServiceRequest(model -> deleteTagsRequest)
                     .makeServiceCall((request, client) -> proxy.injectCredentialsAndInvokeV2(request, client.client()::deleteTags))
                     .progress();
-        }
-        return progress;
+        });
+    }
+
+    /**
+     * Call graph names are memoized in the callback context, so every batch after the first needs its own name.
+     */
+    private static String batchCallGraph(final String callGraph, final int batch) {
+        return batch == 0 ? callGraph : callGraph + "-" + batch;
     }
 
 }
\ No newline at end of file
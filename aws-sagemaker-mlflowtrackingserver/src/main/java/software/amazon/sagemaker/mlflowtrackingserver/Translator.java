@@ -3,7 +3,6 @@ package software.amazon.sagemaker.mlflowtrackingserver;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -20,6 +19,7 @@ import software.amazon.awssdk.services.sagemaker.model.ListTagsRequest;
 import software.amazon.awssdk.services.sagemaker.model.Tag;
 import software.amazon.awssdk.services.sagemaker.model.UpdateMlflowTrackingServerRequest;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.sagemaker.common.StreamUtils;
 
 /**
  * This class is a centralized placeholder for the following.
@@ -185,9 +185,7 @@ public class Translator {
     }
 
     static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
-        return Optional.ofNullable(collection)
-            .map(Collection::stream)
-            .orElseGet(Stream::empty);
+        return StreamUtils.streamOfOrEmpty(collection);
     }
 
     /**
@@ -22,6 +22,8 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 import software.amazon.cloudformation.proxy.delay.Constant;
 
 
@@ -29,6 +31,11 @@ import software.amazon.cloudformation.proxy.delay.Constant;
  * CloudFormation resource handler to be invoked when updating an existing AWS::SageMaker::MlflowTrackingServer resource.
  */
 public class UpdateHandler extends BaseHandlerStd {
+
+    private static final String OPERATION = "AWS-SageMaker-MlflowTrackingServer::Update";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
     private final Delay delay;
     // For 60 minutes, check state every 2 minutes. Tracking Server Updates can take varying lengths of time.
@@ -57,32 +64,35 @@ public class UpdateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
-                        proxy.initiate("AWS-SageMaker-MlflowTrackingServer::Update", proxyClient, model, progress.getCallbackContext())
-                                .translateToServiceRequest(resourceModel -> getExistingStateAndTranslate(resourceModel, proxyClient))
-                                .backoffDelay(this.delay)
-                                .makeServiceCall(this::updateMlflowTrackingServer)
-                                .stabilize(this::stabilizedOnUpdate)
-                                .handleError((updateRequest, exception, client, resourceModel, errorCallbackContext) -> {
-                                    // Special handling for Throttling Exception to force CloudFormation to retry.
-                                    // ThrottlingException is not a SageMaker Exception type, but rather a general AWS Exception type.
-                                    this.logger.log(String.format("Update Handler experienced error for Tracking Server %s caused by the exception -- %s",
-                                            resourceModel.getTrackingServerName(), exception.getMessage()));
-                                    final BaseHandlerException cfnException = ExceptionMapper.getCfnException(Action.UPDATE.toString(), ResourceModel.TYPE_NAME,
-                                            updateRequest.trackingServerName(), (AwsServiceException) exception);
-                                    if (cfnException.getErrorCode().equals(HandlerErrorCode.Throttling)) {
-                                        // Gets returned as a ProgressEvent with status IN_PROGRESS and errorCode Throttling.
-                                        this.logger.log("Returning status IN_PROGRESS due to Throttling Error, to make CloudFormation retry.");
-                                        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                                .callbackContext(errorCallbackContext)
-                                                .resourceModel(resourceModel)
-                                                .errorCode(HandlerErrorCode.Throttling)
-                                                .status(OperationStatus.IN_PROGRESS)
-                                                .callbackDelaySeconds(10)
-                                                .build();
-                                    }
-                                    return ProgressEvent.defaultFailureHandler(cfnException, cfnException.getErrorCode());
-                                })
-                                .progress()
+                        StabilizationMetrics.emf(logger).track(OPERATION,
+                                callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(OPERATION, proxyClient, model, progress.getCallbackContext())
+                                    .translateToServiceRequest(resourceModel -> getExistingStateAndTranslate(resourceModel, proxyClient))
+                                    .backoffDelay(this.delay)
+                                    .makeServiceCall(this::updateMlflowTrackingServer)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnUpdate))
+                                    .handleError((updateRequest, exception, client, resourceModel, errorCallbackContext) -> {
+                                        // Special handling for Throttling Exception to force CloudFormation to retry.
+                                        // ThrottlingException is not a SageMaker Exception type, but rather a general AWS Exception type.
+                                        this.logger.log(String.format("Update Handler experienced error for Tracking Server %s caused by the exception -- %s",
+                                                resourceModel.getTrackingServerName(), exception.getMessage()));
+                                        final BaseHandlerException cfnException = ExceptionMapper.getCfnException(Action.UPDATE.toString(), ResourceModel.TYPE_NAME,
+                                                updateRequest.trackingServerName(), (AwsServiceException) exception);
+                                        if (cfnException.getErrorCode().equals(HandlerErrorCode.Throttling)) {
+                                            // Gets returned as a ProgressEvent with status IN_PROGRESS and errorCode Throttling.
+                                            this.logger.log("Returning status IN_PROGRESS due to Throttling Error, to make CloudFormation retry.");
+                                            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                                                    .callbackContext(errorCallbackContext)
+                                                    .resourceModel(resourceModel)
+                                                    .errorCode(HandlerErrorCode.Throttling)
+                                                    .status(OperationStatus.IN_PROGRESS)
+                                                    .callbackDelaySeconds(10)
+                                                    .build();
+                                        }
+                                        return ProgressEvent.defaultFailureHandler(cfnException, cfnException.getErrorCode());
+                                    })
+                                    .progress())
                 )
                 .then(progress -> updateTagsForTrackingServer(progress, proxy, request, callbackContext, proxyClient, logger))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
@@ -147,6 +157,7 @@ public class UpdateHandler extends BaseHandlerStd {
 
         final TrackingServerStatus trackingServerStatus = proxyClient.injectCredentialsAndInvokeV2(
                 Translator.translateToReadRequest(model), proxyClient.client()::describeMlflowTrackingServer).trackingServerStatus();
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), trackingServerStatus.toString());
 
         switch (trackingServerStatus) {
             case UPDATE_FAILED:
@@ -0,0 +1,177 @@
+package software.amazon.sagemaker.mlflowtrackingserver;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Runs the handlers against the in-memory {@link FakeSageMakerService} instead of call by call mocks.
+ */
+public class EndToEndTest extends AbstractTestBase {
+
+    private FakeSageMakerService service;
+    private FakeSageMakerClient sageMakerClient;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<SageMakerClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        service = new FakeSageMakerService();
+        sageMakerClient = new FakeSageMakerClient(service);
+        proxy = service.newProxy();
+        proxyClient = proxy.newProxy(() -> sageMakerClient);
+    }
+
+    @Test
+    public void testLifecycle() {
+        final ResourceModel created = run(new CreateHandler(), request(desiredModel(false))).getResourceModel();
+
+        assertThat(created.getTrackingServerArn()).isEqualTo(TEST_TRACKING_SERVER_ARN);
+        assertThat(created.getTrackingServerSize()).isEqualTo(TEST_TRACKING_SERVER_SIZE);
+        assertThat(created.getTags()).isEqualTo(TEST_CFN_MODEL_TAGS);
+        assertThat(service.tags(TEST_TRACKING_SERVER_ARN)).isEqualTo(TEST_CFN_TAGS);
+
+        final ResourceModel updatedModel = desiredModel(true);
+        updatedModel.setTags(null);
+        final ResourceModel updated = run(new UpdateHandler(), request(updatedModel, created)).getResourceModel();
+
+        assertThat(updated.getTrackingServerSize()).isEqualTo(TEST_UPDATED_TRACKING_SERVER_SIZE);
+        assertThat(updated.getWeeklyMaintenanceWindowStart()).isEqualTo(TEST_UPDATED_MAINTENANCE_WINDOW);
+        assertThat(service.tags(TEST_TRACKING_SERVER_ARN)).isEmpty();
+        assertThat(sageMakerClient.getTrackingServers().describe(TEST_TRACKING_SERVER_NAME).getStatus())
+                .isEqualTo("Updated");
+
+        assertThat(run(new ListHandler(), request(ResourceModel.builder().build())).getResourceModels())
+                .extracting(ResourceModel::getTrackingServerName)
+                .containsExactly(TEST_TRACKING_SERVER_NAME);
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = run(new DeleteHandler(), request(updated));
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> read = run(new ReadHandler(), request(updated));
+        assertThat(read.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(read.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(service.callCounts())
+                .containsEntry("CreateMlflowTrackingServer", 1L)
+                .containsEntry("UpdateMlflowTrackingServer", 1L)
+                .containsEntry("DeleteMlflowTrackingServer", 1L);
+    }
+
+    @Test
+    public void testCreate_AlreadyExists() {
+        run(new CreateHandler(), request(desiredModel(false)));
+
+        assertThrows(ResourceAlreadyExistsException.class,
+                () -> run(new CreateHandler(), request(desiredModel(false))));
+        assertThat(service.calls("CreateMlflowTrackingServer")).isEqualTo(1);
+    }
+
+    @Test
+    public void testDelete_AlreadyDeleting() {
+        run(new CreateHandler(), request(desiredModel(false)));
+        sageMakerClient.getTrackingServers().delete(TEST_TRACKING_SERVER_NAME, "Deleting", null);
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted =
+                run(new DeleteHandler(), request(desiredModel(false)));
+
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(service.calls("DeleteMlflowTrackingServer")).isZero();
+    }
+
+    @Test
+    public void testCreate_ThrottledInvocationIsRescheduled() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(desiredModel(false));
+        final AmazonWebServicesClientProxy entryProxy = entryProxy();
+        service.throttleNextCalls(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> throttled =
+                new CreateHandler().handleRequest(entryProxy, request, null, logger);
+
+        assertThat(throttled.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(throttled.getCallbackDelaySeconds()).isPositive();
+        assertThat(service.throttledCalls()).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress = service.drive(
+                context -> new CreateHandler().handleRequest(entryProxy, request, context, logger),
+                throttled.getCallbackContext());
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(sageMakerClient.getTrackingServers().size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testList_ThrottledInvocationFails() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(ResourceModel.builder().build());
+        service.throttleNextCalls(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> listed =
+                new ListHandler().handleRequest(entryProxy(), request, null, logger);
+
+        assertThat(listed.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(listed.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+    }
+
+    /**
+     * A proxy handing the fake client to the handlers' entry point, which builds its proxy client from
+     * {@link ClientBuilder}, so throttles pass through the rate limiter and the reschedule of {@link BaseHandlerStd}.
+     */
+    private AmazonWebServicesClientProxy entryProxy() {
+        final AmazonWebServicesClientProxy entryProxy = spy(proxy);
+        doReturn(proxyClient).when(entryProxy).newProxy(any());
+        return entryProxy;
+    }
+
+    /**
+     * @return a request of its own account, so that the rate limiter buckets of other tests do not interfere
+     */
+    private static ResourceHandlerRequest<ResourceModel> throttledAccountRequest(final ResourceModel desired) {
+        final ResourceHandlerRequest<ResourceModel> request = request(desired);
+        request.setAwsAccountId("throttled-" + System.nanoTime());
+        request.setRegion("us-west-2");
+        return request;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request) {
+        return service.drive(context -> handler.handleRequest(proxy, request, context, proxyClient, logger),
+                new CallbackContext());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired,
+                                                                 final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+    }
+
+    /**
+     * @param useUpdatedProperties whether to use the mutable properties of an update
+     * @return the model with the arn left to the fake
+     */
+    private static ResourceModel desiredModel(final boolean useUpdatedProperties) {
+        final ResourceModel model = createResourceModel(true, false, useUpdatedProperties);
+        model.setTrackingServerArn(null);
+        return model;
+    }
+}
@@ -0,0 +1,126 @@
+package software.amazon.sagemaker.mlflowtrackingserver;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.sagemaker.model.CreateMlflowTrackingServerRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateMlflowTrackingServerResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteMlflowTrackingServerRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteMlflowTrackingServerResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeMlflowTrackingServerRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeMlflowTrackingServerResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListMlflowTrackingServersRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListMlflowTrackingServersResponse;
+import software.amazon.awssdk.services.sagemaker.model.TrackingServerStatus;
+import software.amazon.awssdk.services.sagemaker.model.TrackingServerSummary;
+import software.amazon.awssdk.services.sagemaker.model.UpdateMlflowTrackingServerRequest;
+import software.amazon.awssdk.services.sagemaker.model.UpdateMlflowTrackingServerResponse;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for mlflow tracking servers: creates stay Creating until Created, updates stay Updating
+ * until Updated, deletes stay Deleting until not found.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    static final Duration TRANSITION_TIME = Duration.ofMinutes(30);
+
+    private final FakeResourceTable<DescribeMlflowTrackingServerResponse> trackingServers;
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.trackingServers = new FakeResourceTable<>(service, "MlflowTrackingServer", TRANSITION_TIME);
+    }
+
+    public FakeResourceTable<DescribeMlflowTrackingServerResponse> getTrackingServers() {
+        return trackingServers;
+    }
+
+    @Override
+    public CreateMlflowTrackingServerResponse createMlflowTrackingServer(
+            final CreateMlflowTrackingServerRequest request) {
+        return service.call("CreateMlflowTrackingServer", () -> {
+            final String arn = "arn:aws:sagemaker:us-west-2:123456789012:mlflow-tracking-server/"
+                    + request.trackingServerName();
+            trackingServers.create(request.trackingServerName(), arn, DescribeMlflowTrackingServerResponse.builder()
+                    .trackingServerName(request.trackingServerName())
+                    .trackingServerArn(arn)
+                    .artifactStoreUri(request.artifactStoreUri())
+                    .automaticModelRegistration(request.automaticModelRegistration())
+                    .mlflowVersion(request.mlflowVersion())
+                    .roleArn(request.roleArn())
+                    .trackingServerSize(request.trackingServerSize())
+                    .weeklyMaintenanceWindowStart(request.weeklyMaintenanceWindowStart())
+                    .build(), TrackingServerStatus.CREATING.toString(), TrackingServerStatus.CREATED.toString());
+            service.tag(arn, tagMap(request.tags()));
+            return CreateMlflowTrackingServerResponse.builder().trackingServerArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeMlflowTrackingServerResponse describeMlflowTrackingServer(
+            final DescribeMlflowTrackingServerRequest request) {
+        return service.call("DescribeMlflowTrackingServer", () ->
+                toDescribeResponse(trackingServers.describe(request.trackingServerName())));
+    }
+
+    @Override
+    public UpdateMlflowTrackingServerResponse updateMlflowTrackingServer(
+            final UpdateMlflowTrackingServerRequest request) {
+        return service.call("UpdateMlflowTrackingServer", () -> {
+            final FakeResource<DescribeMlflowTrackingServerResponse> trackingServer = trackingServers.update(
+                    request.trackingServerName(),
+                    state -> state.toBuilder()
+                            .artifactStoreUri(request.artifactStoreUri())
+                            .automaticModelRegistration(request.automaticModelRegistration())
+                            .trackingServerSize(request.trackingServerSize())
+                            .weeklyMaintenanceWindowStart(request.weeklyMaintenanceWindowStart())
+                            .build(),
+                    TrackingServerStatus.UPDATING.toString(), TrackingServerStatus.UPDATED.toString());
+            return UpdateMlflowTrackingServerResponse.builder()
+                    .trackingServerArn(trackingServer.getArn())
+                    .build();
+        });
+    }
+
+    @Override
+    public DeleteMlflowTrackingServerResponse deleteMlflowTrackingServer(
+            final DeleteMlflowTrackingServerRequest request) {
+        return service.call("DeleteMlflowTrackingServer", () -> {
+            final FakeResource<DescribeMlflowTrackingServerResponse> trackingServer = trackingServers.delete(
+                    request.trackingServerName(), TrackingServerStatus.DELETING.toString(), null);
+            return DeleteMlflowTrackingServerResponse.builder()
+                    .trackingServerArn(trackingServer.getArn())
+                    .build();
+        });
+    }
+
+    @Override
+    public ListMlflowTrackingServersResponse listMlflowTrackingServers(
+            final ListMlflowTrackingServersRequest request) {
+        return service.call("ListMlflowTrackingServers", () -> ListMlflowTrackingServersResponse.builder()
+                .trackingServerSummaries(trackingServers.list().stream()
+                        .map(trackingServer -> TrackingServerSummary.builder()
+                                .trackingServerName(trackingServer.getName())
+                                .trackingServerArn(trackingServer.getArn())
+                                .trackingServerStatus(trackingServer.getStatus())
+                                .mlflowVersion(trackingServer.getState().mlflowVersion())
+                                .creationTime(trackingServer.getCreationTime())
+                                .lastModifiedTime(trackingServer.getLastModifiedTime())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    private static DescribeMlflowTrackingServerResponse toDescribeResponse(
+            final FakeResource<DescribeMlflowTrackingServerResponse> trackingServer) {
+        return trackingServer.getState().toBuilder()
+                .trackingServerStatus(trackingServer.getStatus())
+                .creationTime(trackingServer.getCreationTime())
+                .lastModifiedTime(trackingServer.getLastModifiedTime())
+                .build();
+    }
+}
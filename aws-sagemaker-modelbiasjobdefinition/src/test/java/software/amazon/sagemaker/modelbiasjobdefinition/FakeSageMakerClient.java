@@ -0,0 +1,76 @@
+package software.amazon.sagemaker.modelbiasjobdefinition;
+
+import java.time.Duration;
+
+import software.amazon.awssdk.services.sagemaker.model.CreateModelBiasJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateModelBiasJobDefinitionResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteModelBiasJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteModelBiasJobDefinitionResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeModelBiasJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeModelBiasJobDefinitionResponse;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for model bias job definitions, which have no status: they exist as soon as they are
+ * created and are not found as soon as they are deleted.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    private final FakeResourceTable<DescribeModelBiasJobDefinitionResponse> jobDefinitions;
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.jobDefinitions = new FakeResourceTable<>(service, "Job definition", Duration.ZERO);
+    }
+
+    public FakeResourceTable<DescribeModelBiasJobDefinitionResponse> getJobDefinitions() {
+        return jobDefinitions;
+    }
+
+    @Override
+    public CreateModelBiasJobDefinitionResponse createModelBiasJobDefinition(
+            final CreateModelBiasJobDefinitionRequest request) {
+        return service.call("CreateModelBiasJobDefinition", () -> {
+            final String arn = "arn:aws:sagemaker:us-west-2:123456789012:model-bias-job-definition/"
+                    + request.jobDefinitionName();
+            jobDefinitions.create(request.jobDefinitionName(), arn, DescribeModelBiasJobDefinitionResponse.builder()
+                    .jobDefinitionArn(arn)
+                    .jobDefinitionName(request.jobDefinitionName())
+                    .modelBiasAppSpecification(request.modelBiasAppSpecification())
+                    .modelBiasBaselineConfig(request.modelBiasBaselineConfig())
+                    .modelBiasJobInput(request.modelBiasJobInput())
+                    .modelBiasJobOutputConfig(request.modelBiasJobOutputConfig())
+                    .jobResources(request.jobResources())
+                    .networkConfig(request.networkConfig())
+                    .roleArn(request.roleArn())
+                    .stoppingCondition(request.stoppingCondition())
+                    .build(), null, null);
+            service.tag(arn, tagMap(request.tags()));
+            return CreateModelBiasJobDefinitionResponse.builder().jobDefinitionArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeModelBiasJobDefinitionResponse describeModelBiasJobDefinition(
+            final DescribeModelBiasJobDefinitionRequest request) {
+        return service.call("DescribeModelBiasJobDefinition", () -> {
+            final FakeResource<DescribeModelBiasJobDefinitionResponse> jobDefinition =
+                    jobDefinitions.describe(request.jobDefinitionName());
+            return jobDefinition.getState().toBuilder()
+                    .creationTime(jobDefinition.getCreationTime())
+                    .build();
+        });
+    }
+
+    @Override
+    public DeleteModelBiasJobDefinitionResponse deleteModelBiasJobDefinition(
+            final DeleteModelBiasJobDefinitionRequest request) {
+        return service.call("DeleteModelBiasJobDefinition", () -> {
+            jobDefinitions.delete(request.jobDefinitionName(), null, null);
+            return DeleteModelBiasJobDefinitionResponse.builder().build();
+        });
+    }
+}
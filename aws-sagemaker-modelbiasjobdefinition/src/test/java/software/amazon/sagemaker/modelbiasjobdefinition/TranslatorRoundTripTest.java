@@ -0,0 +1,127 @@
+package software.amazon.sagemaker.modelbiasjobdefinition;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.model.CreateModelBiasJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeModelBiasJobDefinitionResponse;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Translates a model into a create request and the describe response SageMaker would answer with back into a model.
+ */
+public class TranslatorRoundTripTest extends AbstractTestBase {
+
+    @Test
+    public void testRoundTrip_AllProperties() {
+        final ResourceModel model = ResourceModel.builder()
+                .jobDefinitionName(TEST_JOB_DEFINITION_NAME)
+                .roleArn(TEST_ARN)
+                .modelBiasAppSpecification(ModelBiasAppSpecification.builder()
+                        .imageUri(TEST_IMAGE_URI)
+                        .configUri("s3://bucket/analysis_config.json")
+                        .environment(Collections.singletonMap("KEY", "value"))
+                        .build())
+                .modelBiasBaselineConfig(ModelBiasBaselineConfig.builder()
+                        .baseliningJobName("baseliningJob")
+                        .constraintsResource(ConstraintsResource.builder().s3Uri("s3://bucket/constraints").build())
+                        .build())
+                .modelBiasJobInput(ModelBiasJobInput.builder()
+                        .endpointInput(EndpointInput.builder()
+                                .endpointName(TEST_ENDPOINT_NAME)
+                                .localPath(TEST_ENDPOINT_LOCAL_PATH)
+                                .s3DataDistributionType("FullyReplicated")
+                                .s3InputMode("File")
+                                .featuresAttribute("features")
+                                .inferenceAttribute("prediction")
+                                .probabilityAttribute("probability")
+                                .probabilityThresholdAttribute(0.5)
+                                .startTimeOffset("-PT1H")
+                                .endTimeOffset("-PT0H")
+                                .build())
+                        .groundTruthS3Input(MonitoringGroundTruthS3Input.builder()
+                                .s3Uri("s3://bucket/ground-truth")
+                                .build())
+                        .build())
+                .modelBiasJobOutputConfig(MonitoringOutputConfig.builder()
+                        .kmsKeyId("outputKey")
+                        .monitoringOutputs(Collections.singletonList(MonitoringOutput.builder()
+                                .s3Output(S3Output.builder()
+                                        .localPath("/opt/ml/processing/output")
+                                        .s3UploadMode("EndOfJob")
+                                        .s3Uri("s3://bucket/output")
+                                        .build())
+                                .build()))
+                        .build())
+                .jobResources(MonitoringResources.builder()
+                        .clusterConfig(ClusterConfig.builder()
+                                .instanceCount(1)
+                                .instanceType("ml.m5.large")
+                                .volumeKmsKeyId("volumeKey")
+                                .volumeSizeInGB(20)
+                                .build())
+                        .build())
+                .networkConfig(NetworkConfig.builder()
+                        .enableInterContainerTrafficEncryption(true)
+                        .enableNetworkIsolation(false)
+                        .vpcConfig(VpcConfig.builder()
+                                .securityGroupIds(Collections.singletonList("sg-1"))
+                                .subnets(Collections.singletonList("subnet-1"))
+                                .build())
+                        .build())
+                .stoppingCondition(StoppingCondition.builder().maxRuntimeInSeconds(1800).build())
+                .build();
+
+        final ResourceModel translated = roundTrip(model);
+
+        assertThat(translated.getModelBiasAppSpecification()).isEqualTo(model.getModelBiasAppSpecification());
+        assertThat(translated.getModelBiasBaselineConfig()).isEqualTo(model.getModelBiasBaselineConfig());
+        assertThat(translated.getModelBiasJobInput()).isEqualTo(model.getModelBiasJobInput());
+        assertThat(translated.getModelBiasJobOutputConfig()).isEqualTo(model.getModelBiasJobOutputConfig());
+        assertThat(translated.getJobResources()).isEqualTo(model.getJobResources());
+        assertThat(translated.getNetworkConfig()).isEqualTo(model.getNetworkConfig());
+        assertThat(translated.getStoppingCondition()).isEqualTo(model.getStoppingCondition());
+        assertThat(translated.getRoleArn()).isEqualTo(TEST_ARN);
+    }
+
+    @Test
+    public void testRoundTrip_OptionalPropertiesOmitted() {
+        final ResourceModel model = ResourceModel.builder()
+                .jobDefinitionName(TEST_JOB_DEFINITION_NAME)
+                .roleArn(TEST_ARN)
+                .modelBiasBaselineConfig(ModelBiasBaselineConfig.builder().build())
+                .jobResources(MonitoringResources.builder().build())
+                .networkConfig(NetworkConfig.builder().build())
+                .modelBiasJobInput(ModelBiasJobInput.builder().build())
+                .build();
+
+        final ResourceModel translated = roundTrip(model);
+
+        assertThat(translated.getModelBiasAppSpecification()).isNull();
+        assertThat(translated.getModelBiasJobOutputConfig()).isNull();
+        assertThat(translated.getStoppingCondition()).isNull();
+        assertThat(translated.getModelBiasBaselineConfig().getConstraintsResource()).isNull();
+        assertThat(translated.getJobResources().getClusterConfig()).isNull();
+        assertThat(translated.getNetworkConfig().getVpcConfig()).isNull();
+        assertThat(translated.getModelBiasJobInput().getEndpointInput()).isNull();
+        assertThat(translated.getModelBiasJobInput().getGroundTruthS3Input()).isNull();
+    }
+
+    private static ResourceModel roundTrip(final ResourceModel model) {
+        final CreateModelBiasJobDefinitionRequest request = TranslatorForRequest.translateToCreateRequest(model);
+        return TranslatorForResponse.translateFromReadResponse(DescribeModelBiasJobDefinitionResponse.builder()
+                .jobDefinitionArn(TEST_JOB_DEFINITION_ARN)
+                .jobDefinitionName(request.jobDefinitionName())
+                .creationTime(TEST_TIME)
+                .modelBiasAppSpecification(request.modelBiasAppSpecification())
+                .modelBiasBaselineConfig(request.modelBiasBaselineConfig())
+                .modelBiasJobInput(request.modelBiasJobInput())
+                .modelBiasJobOutputConfig(request.modelBiasJobOutputConfig())
+                .jobResources(request.jobResources())
+                .networkConfig(request.networkConfig())
+                .roleArn(request.roleArn())
+                .stoppingCondition(request.stoppingCondition())
+                .build());
+    }
+}
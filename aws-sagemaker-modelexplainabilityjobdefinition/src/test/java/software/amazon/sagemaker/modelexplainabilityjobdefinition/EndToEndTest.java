@@ -0,0 +1,160 @@
+package software.amazon.sagemaker.modelexplainabilityjobdefinition;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Runs the handlers against the in-memory {@link FakeSageMakerService} instead of call by call mocks.
+ */
+public class EndToEndTest extends AbstractTestBase {
+
+    private FakeSageMakerService service;
+    private FakeSageMakerClient sageMakerClient;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<SageMakerClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        service = new FakeSageMakerService();
+        sageMakerClient = new FakeSageMakerClient(service);
+        proxy = service.newProxy();
+        proxyClient = proxy.newProxy(() -> sageMakerClient);
+    }
+
+    @Test
+    public void testLifecycle() {
+        final ResourceModel created = run(new CreateHandler(), request(desiredModel())).getResourceModel();
+
+        assertThat(created.getJobDefinitionArn())
+                .endsWith(":model-explainability-job-definition/" + TEST_JOB_DEFINITION_NAME);
+        assertThat(created.getModelExplainabilityJobInput().getEndpointInput().getEndpointName())
+                .isEqualTo(TEST_ENDPOINT_NAME);
+        assertThat(created.getCreationTime()).isNotNull();
+        assertThat(service.tags(created.getJobDefinitionArn())).containsEntry("key", "value");
+        assertThat(service.callCounts())
+                .containsEntry("CreateModelExplainabilityJobDefinition", 1L)
+                .containsEntry("DescribeModelExplainabilityJobDefinition", 1L);
+
+        // CloudFormation identifies the resource by its arn only
+        final ResourceModel identifier = ResourceModel.builder()
+                .jobDefinitionArn(created.getJobDefinitionArn())
+                .build();
+        assertThat(run(new ReadHandler(), request(identifier)).getResourceModel().getModelExplainabilityJobInput())
+                .isEqualTo(created.getModelExplainabilityJobInput());
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = run(new DeleteHandler(), request(identifier));
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(sageMakerClient.getJobDefinitions().list()).isEmpty();
+        assertThrows(CfnNotFoundException.class, () -> run(new ReadHandler(), request(identifier)));
+        assertThrows(CfnNotFoundException.class, () -> run(new DeleteHandler(), request(identifier)));
+    }
+
+    @Test
+    public void testCreate_AlreadyExists() {
+        run(new CreateHandler(), request(desiredModel()));
+
+        assertThrows(ResourceAlreadyExistsException.class, () -> run(new CreateHandler(), request(desiredModel())));
+        assertThat(service.calls("CreateModelExplainabilityJobDefinition")).isEqualTo(2);
+    }
+
+    @Test
+    public void testCreate_ThrottledInvocationIsRescheduled() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(desiredModel());
+        final AmazonWebServicesClientProxy entryProxy = entryProxy();
+        service.throttleNextCalls(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> throttled =
+                new CreateHandler().handleRequest(entryProxy, request, null, logger);
+
+        assertThat(throttled.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(throttled.getCallbackDelaySeconds()).isPositive();
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress = service.drive(
+                context -> new CreateHandler().handleRequest(entryProxy, request, context, logger),
+                throttled.getCallbackContext());
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(service.throttledCalls()).isEqualTo(1);
+        assertThat(sageMakerClient.getJobDefinitions().list()).hasSize(1);
+    }
+
+    @Test
+    public void testRead_ThrottledInvocationFails() {
+        run(new CreateHandler(), request(desiredModel()));
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(desiredModel());
+        service.throttleNextCalls(1);
+
+        assertThrows(CfnThrottlingException.class,
+                () -> new ReadHandler().handleRequest(entryProxy(), request, null, logger));
+    }
+
+    /**
+     * A proxy handing the fake client to the handlers' entry point, which builds its proxy client from
+     * {@link ClientBuilder}, so throttles pass through the rate limiter and the reschedule of {@link BaseHandlerStd}.
+     */
+    private AmazonWebServicesClientProxy entryProxy() {
+        final AmazonWebServicesClientProxy entryProxy = spy(proxy);
+        doReturn(proxyClient).when(entryProxy).newProxy(any());
+        return entryProxy;
+    }
+
+    /**
+     * @return a request of its own account, so that the rate limiter buckets of other tests do not interfere
+     */
+    private static ResourceHandlerRequest<ResourceModel> throttledAccountRequest(final ResourceModel desired) {
+        final ResourceHandlerRequest<ResourceModel> request = request(desired);
+        request.setAwsAccountId("throttled-" + System.nanoTime());
+        request.setRegion("us-west-2");
+        return request;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request) {
+        return service.drive(context -> handler.handleRequest(proxy, request, context, proxyClient, logger),
+                new CallbackContext());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .build();
+    }
+
+    private static ResourceModel desiredModel() {
+        return ResourceModel.builder()
+                .jobDefinitionName(TEST_JOB_DEFINITION_NAME)
+                .roleArn(TEST_ARN)
+                .modelExplainabilityAppSpecification(ModelExplainabilityAppSpecification.builder()
+                        .imageUri(TEST_IMAGE_URI)
+                        .configUri("s3://bucket/analysis_config.json")
+                        .build())
+                .modelExplainabilityJobInput(ModelExplainabilityJobInput.builder()
+                        .endpointInput(EndpointInput.builder()
+                                .endpointName(TEST_ENDPOINT_NAME)
+                                .localPath(TEST_ENDPOINT_LOCAL_PATH)
+                                .s3DataDistributionType("FullyReplicated")
+                                .s3InputMode("File")
+                                .build())
+                        .build())
+                .tags(Collections.singletonList(Tag.builder().key("key").value("value").build()))
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package software.amazon.sagemaker.modelexplainabilityjobdefinition;
+
+import java.time.Duration;
+
+import software.amazon.awssdk.services.sagemaker.model.CreateModelExplainabilityJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateModelExplainabilityJobDefinitionResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteModelExplainabilityJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteModelExplainabilityJobDefinitionResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeModelExplainabilityJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeModelExplainabilityJobDefinitionResponse;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for model explainability job definitions, which have no status: they exist as soon as they are
+ * created and are not found as soon as they are deleted.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    private final FakeResourceTable<DescribeModelExplainabilityJobDefinitionResponse> jobDefinitions;
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.jobDefinitions = new FakeResourceTable<>(service, "Job definition", Duration.ZERO);
+    }
+
+    public FakeResourceTable<DescribeModelExplainabilityJobDefinitionResponse> getJobDefinitions() {
+        return jobDefinitions;
+    }
+
+    @Override
+    public CreateModelExplainabilityJobDefinitionResponse createModelExplainabilityJobDefinition(
+            final CreateModelExplainabilityJobDefinitionRequest request) {
+        return service.call("CreateModelExplainabilityJobDefinition", () -> {
+            final String arn = "arn:aws:sagemaker:us-west-2:123456789012:model-explainability-job-definition/"
+                    + request.jobDefinitionName();
+            final DescribeModelExplainabilityJobDefinitionResponse jobDefinition =
+                    DescribeModelExplainabilityJobDefinitionResponse.builder()
+                            .jobDefinitionArn(arn)
+                            .jobDefinitionName(request.jobDefinitionName())
+                            .modelExplainabilityAppSpecification(request.modelExplainabilityAppSpecification())
+                            .modelExplainabilityBaselineConfig(request.modelExplainabilityBaselineConfig())
+                            .modelExplainabilityJobInput(request.modelExplainabilityJobInput())
+                            .modelExplainabilityJobOutputConfig(request.modelExplainabilityJobOutputConfig())
+                            .jobResources(request.jobResources())
+                            .networkConfig(request.networkConfig())
+                            .roleArn(request.roleArn())
+                            .stoppingCondition(request.stoppingCondition())
+                            .build();
+            jobDefinitions.create(request.jobDefinitionName(), arn, jobDefinition, null, null);
+            service.tag(arn, tagMap(request.tags()));
+            return CreateModelExplainabilityJobDefinitionResponse.builder().jobDefinitionArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeModelExplainabilityJobDefinitionResponse describeModelExplainabilityJobDefinition(
+            final DescribeModelExplainabilityJobDefinitionRequest request) {
+        return service.call("DescribeModelExplainabilityJobDefinition", () -> {
+            final FakeResource<DescribeModelExplainabilityJobDefinitionResponse> jobDefinition =
+                    jobDefinitions.describe(request.jobDefinitionName());
+            return jobDefinition.getState().toBuilder()
+                    .creationTime(jobDefinition.getCreationTime())
+                    .build();
+        });
+    }
+
+    @Override
+    public DeleteModelExplainabilityJobDefinitionResponse deleteModelExplainabilityJobDefinition(
+            final DeleteModelExplainabilityJobDefinitionRequest request) {
+        return service.call("DeleteModelExplainabilityJobDefinition", () -> {
+            jobDefinitions.delete(request.jobDefinitionName(), null, null);
+            return DeleteModelExplainabilityJobDefinitionResponse.builder().build();
+        });
+    }
+}
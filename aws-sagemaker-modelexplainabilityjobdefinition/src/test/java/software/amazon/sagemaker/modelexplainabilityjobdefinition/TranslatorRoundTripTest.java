@@ -0,0 +1,120 @@
+package software.amazon.sagemaker.modelexplainabilityjobdefinition;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.model.CreateModelExplainabilityJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeModelExplainabilityJobDefinitionResponse;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Translates a model into a create request and the describe response SageMaker would answer with back into a model.
+ */
+public class TranslatorRoundTripTest extends AbstractTestBase {
+
+    @Test
+    public void testRoundTrip_AllProperties() {
+        final ResourceModel model = ResourceModel.builder()
+                .jobDefinitionName(TEST_JOB_DEFINITION_NAME)
+                .roleArn(TEST_ARN)
+                .modelExplainabilityAppSpecification(ModelExplainabilityAppSpecification.builder()
+                        .imageUri(TEST_IMAGE_URI)
+                        .configUri("s3://bucket/analysis_config.json")
+                        .environment(Collections.singletonMap("KEY", "value"))
+                        .build())
+                .modelExplainabilityBaselineConfig(ModelExplainabilityBaselineConfig.builder()
+                        .baseliningJobName("baseliningJob")
+                        .constraintsResource(ConstraintsResource.builder().s3Uri("s3://bucket/constraints").build())
+                        .build())
+                .modelExplainabilityJobInput(ModelExplainabilityJobInput.builder()
+                        .endpointInput(EndpointInput.builder()
+                                .endpointName(TEST_ENDPOINT_NAME)
+                                .localPath(TEST_ENDPOINT_LOCAL_PATH)
+                                .s3DataDistributionType("FullyReplicated")
+                                .s3InputMode("File")
+                                .featuresAttribute("features")
+                                .inferenceAttribute("prediction")
+                                .probabilityAttribute("probability")
+                                .build())
+                        .build())
+                .modelExplainabilityJobOutputConfig(MonitoringOutputConfig.builder()
+                        .kmsKeyId("outputKey")
+                        .monitoringOutputs(Collections.singletonList(MonitoringOutput.builder()
+                                .s3Output(S3Output.builder()
+                                        .localPath("/opt/ml/processing/output")
+                                        .s3UploadMode("EndOfJob")
+                                        .s3Uri("s3://bucket/output")
+                                        .build())
+                                .build()))
+                        .build())
+                .jobResources(MonitoringResources.builder()
+                        .clusterConfig(ClusterConfig.builder()
+                                .instanceCount(1)
+                                .instanceType("ml.m5.large")
+                                .volumeKmsKeyId("volumeKey")
+                                .volumeSizeInGB(20)
+                                .build())
+                        .build())
+                .networkConfig(NetworkConfig.builder()
+                        .enableInterContainerTrafficEncryption(true)
+                        .enableNetworkIsolation(false)
+                        .vpcConfig(VpcConfig.builder()
+                                .securityGroupIds(Collections.singletonList("sg-1"))
+                                .subnets(Collections.singletonList("subnet-1"))
+                                .build())
+                        .build())
+                .stoppingCondition(StoppingCondition.builder().maxRuntimeInSeconds(1800).build())
+                .build();
+
+        final ResourceModel translated = roundTrip(model);
+
+        assertThat(translated.getModelExplainabilityAppSpecification()).isEqualTo(model.getModelExplainabilityAppSpecification());
+        assertThat(translated.getModelExplainabilityBaselineConfig()).isEqualTo(model.getModelExplainabilityBaselineConfig());
+        assertThat(translated.getModelExplainabilityJobInput()).isEqualTo(model.getModelExplainabilityJobInput());
+        assertThat(translated.getModelExplainabilityJobOutputConfig()).isEqualTo(model.getModelExplainabilityJobOutputConfig());
+        assertThat(translated.getJobResources()).isEqualTo(model.getJobResources());
+        assertThat(translated.getNetworkConfig()).isEqualTo(model.getNetworkConfig());
+        assertThat(translated.getStoppingCondition()).isEqualTo(model.getStoppingCondition());
+        assertThat(translated.getRoleArn()).isEqualTo(TEST_ARN);
+    }
+
+    @Test
+    public void testRoundTrip_OptionalPropertiesOmitted() {
+        final ResourceModel model = ResourceModel.builder()
+                .jobDefinitionName(TEST_JOB_DEFINITION_NAME)
+                .roleArn(TEST_ARN)
+                .modelExplainabilityBaselineConfig(ModelExplainabilityBaselineConfig.builder().build())
+                .jobResources(MonitoringResources.builder().build())
+                .networkConfig(NetworkConfig.builder().build())
+                .modelExplainabilityJobInput(ModelExplainabilityJobInput.builder().build())
+                .build();
+
+        final ResourceModel translated = roundTrip(model);
+
+        assertThat(translated.getModelExplainabilityAppSpecification()).isNull();
+        assertThat(translated.getModelExplainabilityJobOutputConfig()).isNull();
+        assertThat(translated.getStoppingCondition()).isNull();
+        assertThat(translated.getModelExplainabilityBaselineConfig().getConstraintsResource()).isNull();
+        assertThat(translated.getJobResources().getClusterConfig()).isNull();
+        assertThat(translated.getNetworkConfig().getVpcConfig()).isNull();
+        assertThat(translated.getModelExplainabilityJobInput().getEndpointInput()).isNull();
+    }
+
+    private static ResourceModel roundTrip(final ResourceModel model) {
+        final CreateModelExplainabilityJobDefinitionRequest request = TranslatorForRequest.translateToCreateRequest(model);
+        return TranslatorForResponse.translateFromReadResponse(DescribeModelExplainabilityJobDefinitionResponse.builder()
+                .jobDefinitionArn(TEST_JOB_DEFINITION_ARN)
+                .jobDefinitionName(request.jobDefinitionName())
+                .creationTime(TEST_TIME)
+                .modelExplainabilityAppSpecification(request.modelExplainabilityAppSpecification())
+                .modelExplainabilityBaselineConfig(request.modelExplainabilityBaselineConfig())
+                .modelExplainabilityJobInput(request.modelExplainabilityJobInput())
+                .modelExplainabilityJobOutputConfig(request.modelExplainabilityJobOutputConfig())
+                .jobResources(request.jobResources())
+                .networkConfig(request.networkConfig())
+                .roleArn(request.roleArn())
+                .stoppingCondition(request.stoppingCondition())
+                .build());
+    }
+}
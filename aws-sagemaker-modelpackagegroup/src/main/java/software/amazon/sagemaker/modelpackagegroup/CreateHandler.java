@@ -14,10 +14,16 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 import software.amazon.cloudformation.proxy.ProxyClient;
 
 public class CreateHandler extends BaseHandlerStd {
 
+    private static final String OPERATION = "AWS-SageMaker-ModelPackageGroup::Create";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -30,11 +36,14 @@ public class CreateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
-                        proxy.initiate("AWS-SageMaker-ModelPackageGroup::Create", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(Translator::translateToCreateRequest)
-                                .makeServiceCall(this::createResource)
-                                .stabilize(this::stabilizedOnCreate)
-                                .progress()
+                        StabilizationMetrics.emf(logger).track(OPERATION,
+                                callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(Translator::translateToCreateRequest)
+                                    .makeServiceCall(this::createResource)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnCreate))
+                                    .progress())
                 )
                 .then(progress -> putResourcePolicy(proxyClient, model, callbackContext))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
@@ -108,6 +117,7 @@ public class CreateHandler extends BaseHandlerStd {
         final DescribeModelPackageGroupResponse response = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model),
                 proxyClient.client()::describeModelPackageGroup);
         final ModelPackageGroupStatus modelPackageGroupStatus = response.modelPackageGroupStatus();
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), modelPackageGroupStatus.toString());
 
         switch (modelPackageGroupStatus) {
             case COMPLETED:
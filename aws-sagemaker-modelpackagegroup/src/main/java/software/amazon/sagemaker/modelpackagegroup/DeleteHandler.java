@@ -18,9 +18,15 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 public class DeleteHandler extends BaseHandlerStd {
 
+    private static final String OPERATION = "AWS-SageMaker-ModelPackageGroup::Delete";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -35,13 +41,16 @@ public class DeleteHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
-                        proxy.initiate("AWS-SageMaker-ModelPackageGroup::Delete", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(Translator::translateToDeleteRequest)
-                                .makeServiceCall(this::deleteResource)
-                                .stabilize(this::stabilizedOnDelete)
-                                .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                        .status(OperationStatus.SUCCESS)
-                                        .build()));
+                        StabilizationMetrics.emf(logger).track(OPERATION,
+                                callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(Translator::translateToDeleteRequest)
+                                    .makeServiceCall(this::deleteResource)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnDelete))
+                                    .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
+                                            .status(OperationStatus.SUCCESS)
+                                            .build())));
     }
 
     /**
@@ -88,6 +97,8 @@ public class DeleteHandler extends BaseHandlerStd {
              DescribeModelPackageGroupResponse response = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model),
                     proxyClient.client()::describeModelPackageGroup);
             final ModelPackageGroupStatus modelPackageGroupStatus = response.modelPackageGroupStatus();
+            STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(),
+                    modelPackageGroupStatus.toString());
 
             switch (modelPackageGroupStatus) {
                 case DELETING:
@@ -97,9 +108,11 @@ public class DeleteHandler extends BaseHandlerStd {
                     throw new CfnGeneralServiceException("Delete stabilizing of model package group: " + model.getModelPackageGroupName());
             }
         } catch (final ResourceNotFoundException e) {
+            STABILIZATION_SCHEDULER.complete(callbackContext.getStabilizationHistory());
             return true;
         } catch (final SageMakerException e) {
             if (StringUtils.isNotBlank(e.getMessage()) && e.getMessage().matches(".*ModelPackageGroup .* does not exist.*")) {
+                STABILIZATION_SCHEDULER.complete(callbackContext.getStabilizationHistory());
                 return true;
             }
             throw e;
@@ -2,14 +2,9 @@ package software.amazon.sagemaker.modelpackagegroup;
 
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
-import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
+import software.amazon.sagemaker.common.ExceptionTranslator;
 
 public class ExceptionMapper {
     /**
@@ -19,33 +14,7 @@ public class ExceptionMapper {
      * @param e exception
      */
     static void throwCfnException(final String operation, final AwsServiceException e) {
-        // The exception thrown due to validation failure does not have error code set,
-        // hence we need to check it using error message
-        if(StringUtils.isNotBlank(e.getMessage()) && e.getMessage().contains("validation error detected")) {
-            throw new CfnInvalidRequestException(operation, e);
-        }
-        if(e.awsErrorDetails() != null && StringUtils.isNotBlank(e.awsErrorDetails().errorCode())) {
-            switch (e.awsErrorDetails().errorCode()) {
-                case "UnauthorizedOperation":
-                    throw new CfnAccessDeniedException(operation, e);
-                case "InvalidParameter":
-                case "InvalidParameterValue":
-                case "ValidationError":
-                    throw new CfnInvalidRequestException(operation, e);
-                case "InternalError":
-                case "ServiceUnavailable":
-                    throw new CfnServiceInternalErrorException(operation, e);
-                case "ResourceLimitExceeded":
-                    throw new CfnServiceLimitExceededException(e);
-                case "ResourceNotFound":
-                    throw new CfnNotFoundException(e);
-                case "ThrottlingException":
-                    throw new CfnThrottlingException(operation, e);
-                default:
-                    throw new CfnGeneralServiceException(operation, e);
-            }
-        }
-        throw new CfnGeneralServiceException(operation, e);
+        ExceptionTranslator.throwCfnException(operation, e);
     }
 
     static void throwCfnException(final String operation, final String resourceType, final String resourceName, final AwsServiceException e) {
@@ -1,12 +1,10 @@
 package software.amazon.sagemaker.modelpackagegroup;
 
-import com.amazonaws.util.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
 import software.amazon.awssdk.services.sagemaker.model.DescribeModelPackageGroupResponse;
 import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.sagemaker.model.Tag;
 import software.amazon.cloudformation.Action;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -14,12 +12,12 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.ProxyClient;
-import java.util.List;
-import java.util.Set;
-import java.util.HashSet;
-import java.util.stream.Collectors;
+import software.amazon.sagemaker.common.TagDiff;
+import software.amazon.sagemaker.common.TagUpdates;
 
 public class UpdateHandler extends BaseHandlerStd {
+    private static final String TAG_OPERATION = "AWS-SageMaker-ModelPackageGroup::UpdateTags";
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -35,7 +33,7 @@ public class UpdateHandler extends BaseHandlerStd {
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress -> addModelPackageGroupArnIfNotAvailable(proxyClient, model, callbackContext))
                 .then(progress -> updateResourcePolicy(proxyClient, model, callbackContext))
-                .then(progress -> updateTags(proxyClient, model, callbackContext))
+                .then(progress -> updateTags(proxyClient, request, callbackContext))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
@@ -105,14 +103,21 @@ public class UpdateHandler extends BaseHandlerStd {
      * Client invocation of the update tags request through the proxyClient, which is already initialised with
      * caller credentials, region and retry settings
      * @param proxyClient the aws service client to make the call
-     * @param model the resource model
+     * @param request the resource handler request
      * @param callbackContext the call back context
      * @return progressEvent, in progress with delay callback and model state
      */
     private ProgressEvent<ResourceModel, CallbackContext> updateTags(
             final ProxyClient<SageMakerClient> proxyClient,
-            final ResourceModel model,
+            final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext) {
+        final ResourceModel model = request.getDesiredResourceState();
+        if (!TagUpdates.shouldUpdateTags(request,
+                resourceModel -> TagDiff.toMap(Translator.cfnTagsToSdkTags(resourceModel.getTags())))) {
+            // ListTags is only needed to diff tags
+            TagUpdates.recordSkippedCalls(logger, TAG_OPERATION, 1);
+            return ProgressEvent.progress(model, callbackContext);
+        }
         try {
             handleTagging(proxyClient, model);
         } catch (ResourceNotFoundException e) {
@@ -130,27 +135,10 @@ public class UpdateHandler extends BaseHandlerStd {
      */
     private void handleTagging(final ProxyClient<SageMakerClient> proxyClient,
                                            final ResourceModel model) {
-        final Set<Tag> newTags = new HashSet<>(Translator.cfnTagsToSdkTags(model.getTags()));
-        final Set<Tag> existingTags
-                = new HashSet<>(proxyClient.injectCredentialsAndInvokeV2(
-                        Translator.translateToListTagsRequest(model), proxyClient.client()::listTags).tags());
-        final List<String> tagsToRemove = existingTags.stream()
-                .filter(tag -> !newTags.contains(tag))
-                .map(tag -> tag.key())
-                .collect(Collectors.toList());
-        final List<Tag> tagsToAdd = newTags.stream()
-                .filter(tag -> !existingTags.contains(tag))
-                .collect(Collectors.toList());
-
-        if (!CollectionUtils.isNullOrEmpty(tagsToRemove)) {
-            proxyClient.injectCredentialsAndInvokeV2(
-                    Translator.translateToDeleteTagsRequest(tagsToRemove, model.getModelPackageGroupArn()),
-                    proxyClient.client()::deleteTags);
-        }
-        if (!CollectionUtils.isNullOrEmpty(tagsToAdd)) {
-            proxyClient.injectCredentialsAndInvokeV2(
-                    Translator.translateToAddTagsRequest(tagsToAdd, model.getModelPackageGroupArn()),
-                    proxyClient.client()::addTags);
-        }
+        TagDiff.between(
+                proxyClient.injectCredentialsAndInvokeV2(
+                        Translator.translateToListTagsRequest(model), proxyClient.client()::listTags).tags(),
+                Translator.cfnTagsToSdkTags(model.getTags()))
+                .apply(proxyClient, model.getModelPackageGroupArn());
     }
 }
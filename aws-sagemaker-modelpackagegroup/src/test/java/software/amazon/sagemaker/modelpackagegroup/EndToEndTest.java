@@ -0,0 +1,165 @@
+package software.amazon.sagemaker.modelpackagegroup;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Runs the handlers against the in-memory {@link FakeSageMakerService} instead of call by call mocks.
+ */
+public class EndToEndTest extends AbstractTestBase {
+
+    private FakeSageMakerService service;
+    private FakeSageMakerClient sageMakerClient;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<SageMakerClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        service = new FakeSageMakerService();
+        sageMakerClient = new FakeSageMakerClient(service);
+        proxy = service.newProxy();
+        proxyClient = proxy.newProxy(() -> sageMakerClient);
+    }
+
+    @Test
+    public void testLifecycle() {
+        final ResourceModel created = run(new CreateHandler(), request(desiredModel(), null)).getResourceModel();
+
+        assertThat(created.getModelPackageGroupArn()).endsWith("model-package-group/" + TEST_MODEL_PACKAGE_GROUP_NAME);
+        assertThat(created.getModelPackageGroupStatus()).isEqualTo("Completed");
+        assertThat(created.getModelPackageGroupPolicy()).isEqualTo(TEST_MODEL_PACKAGE_GROUP_POLICY_TEXT);
+        assertThat(created.getTags()).isEqualTo(TEST_CFN_MODEL_TAGS);
+        assertThat(service.calls("CreateModelPackageGroup")).isEqualTo(1);
+
+        final ResourceModel updatedModel = desiredModel();
+        updatedModel.setModelPackageGroupPolicy(null);
+        updatedModel.setTags(Collections.singletonList(Tag.builder().key("key2").value("value2").build()));
+        final ResourceModel updated = run(new UpdateHandler(), request(updatedModel, created)).getResourceModel();
+
+        assertThat(updated.getModelPackageGroupPolicy()).isNull();
+        assertThat(sageMakerClient.getPolicies()).isEmpty();
+        assertThat(service.tags(created.getModelPackageGroupArn())).containsOnlyKeys("key2");
+
+        assertThat(run(new ListHandler(), request(ResourceModel.builder().build(), null)).getResourceModels())
+                .extracting(ResourceModel::getModelPackageGroupArn)
+                .containsExactly(created.getModelPackageGroupArn());
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted =
+                run(new DeleteHandler(), request(updated, null));
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThrows(CfnNotFoundException.class, () -> run(new ReadHandler(), request(updated, null)));
+        assertThat(sageMakerClient.getGroups().size()).isZero();
+    }
+
+    @Test
+    public void testUpdate_PolicyAlreadyDeleted() {
+        final ResourceModel model = desiredModel();
+        model.setModelPackageGroupPolicy(null);
+        final ResourceModel created = run(new CreateHandler(), request(model, null)).getResourceModel();
+
+        final ResourceModel updated = run(new UpdateHandler(), request(model, created)).getResourceModel();
+
+        assertThat(updated.getModelPackageGroupPolicy()).isNull();
+        assertThat(service.calls("PutModelPackageGroupPolicy")).isZero();
+        assertThat(service.calls("DeleteModelPackageGroupPolicy")).isEqualTo(1);
+    }
+
+    @Test
+    public void testCreate_AlreadyExists() {
+        run(new CreateHandler(), request(desiredModel(), null));
+
+        assertThrows(ResourceAlreadyExistsException.class,
+                () -> run(new CreateHandler(), request(desiredModel(), null)));
+    }
+
+    @Test
+    public void testCreate_ThrottledInvocationIsRescheduled() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(desiredModel());
+        final AmazonWebServicesClientProxy entryProxy = entryProxy();
+        service.throttleNextCalls(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> throttled =
+                new CreateHandler().handleRequest(entryProxy, request, null, logger);
+
+        assertThat(throttled.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(throttled.getCallbackDelaySeconds()).isPositive();
+        assertThat(service.throttledCalls()).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress = service.drive(
+                context -> new CreateHandler().handleRequest(entryProxy, request, context, logger),
+                throttled.getCallbackContext());
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(sageMakerClient.getGroups().size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testList_ThrottledInvocationFails() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(ResourceModel.builder().build());
+        service.throttleNextCalls(1);
+
+        assertThrows(CfnThrottlingException.class,
+                () -> new ListHandler().handleRequest(entryProxy(), request, null, logger));
+    }
+
+    /**
+     * A proxy handing the fake client to the handlers' entry point, which builds its proxy client from
+     * {@link ClientBuilder}, so throttles pass through the rate limiter and the reschedule of {@link BaseHandlerStd}.
+     */
+    private AmazonWebServicesClientProxy entryProxy() {
+        final AmazonWebServicesClientProxy entryProxy = spy(proxy);
+        doReturn(proxyClient).when(entryProxy).newProxy(any());
+        return entryProxy;
+    }
+
+    /**
+     * @return a request of its own account, so that the rate limiter buckets of other tests do not interfere
+     */
+    private static ResourceHandlerRequest<ResourceModel> throttledAccountRequest(final ResourceModel desired) {
+        final ResourceHandlerRequest<ResourceModel> request = request(desired, null);
+        request.setAwsAccountId("throttled-" + System.nanoTime());
+        request.setRegion("us-west-2");
+        return request;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request) {
+        return service.drive(context -> handler.handleRequest(proxy, request, context, proxyClient, logger),
+                new CallbackContext());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired,
+                                                                 final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+    }
+
+    private static ResourceModel desiredModel() {
+        return ResourceModel.builder()
+                .modelPackageGroupName(TEST_MODEL_PACKAGE_GROUP_NAME)
+                .modelPackageGroupDescription("description")
+                .modelPackageGroupPolicy(TEST_MODEL_PACKAGE_GROUP_POLICY_TEXT)
+                .tags(TEST_CFN_MODEL_TAGS)
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package software.amazon.sagemaker.modelpackagegroup;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.sagemaker.model.CreateModelPackageGroupRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateModelPackageGroupResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteModelPackageGroupPolicyRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteModelPackageGroupPolicyResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteModelPackageGroupRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteModelPackageGroupResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeModelPackageGroupRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeModelPackageGroupResponse;
+import software.amazon.awssdk.services.sagemaker.model.GetModelPackageGroupPolicyRequest;
+import software.amazon.awssdk.services.sagemaker.model.GetModelPackageGroupPolicyResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListModelPackageGroupsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListModelPackageGroupsResponse;
+import software.amazon.awssdk.services.sagemaker.model.ModelPackageGroupStatus;
+import software.amazon.awssdk.services.sagemaker.model.ModelPackageGroupSummary;
+import software.amazon.awssdk.services.sagemaker.model.PutModelPackageGroupPolicyRequest;
+import software.amazon.awssdk.services.sagemaker.model.PutModelPackageGroupPolicyResponse;
+import software.amazon.awssdk.services.sagemaker.model.SageMakerException;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for model package groups and their resource policies: Pending settles into Completed,
+ * Deleting into not found. Groups are addressed by name or ARN like the service does.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    static final Duration TRANSITION_TIME = Duration.ofSeconds(10);
+
+    private static final String ARN_PREFIX = "arn:aws:sagemaker:us-west-2:123456789012:model-package-group/";
+
+    private final FakeResourceTable<DescribeModelPackageGroupResponse> groups;
+    private final Map<String, String> policies = new HashMap<>();
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.groups = new FakeResourceTable<>(service, "ModelPackageGroup", TRANSITION_TIME);
+    }
+
+    public FakeResourceTable<DescribeModelPackageGroupResponse> getGroups() {
+        return groups;
+    }
+
+    public Map<String, String> getPolicies() {
+        return policies;
+    }
+
+    @Override
+    public CreateModelPackageGroupResponse createModelPackageGroup(final CreateModelPackageGroupRequest request) {
+        return service.call("CreateModelPackageGroup", () -> {
+            final String arn = ARN_PREFIX + request.modelPackageGroupName();
+            groups.create(request.modelPackageGroupName(), arn, DescribeModelPackageGroupResponse.builder()
+                    .modelPackageGroupName(request.modelPackageGroupName())
+                    .modelPackageGroupArn(arn)
+                    .modelPackageGroupDescription(request.modelPackageGroupDescription())
+                    .build(), ModelPackageGroupStatus.PENDING.toString(), ModelPackageGroupStatus.COMPLETED.toString());
+            service.tag(arn, tagMap(request.tags()));
+            return CreateModelPackageGroupResponse.builder().modelPackageGroupArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeModelPackageGroupResponse describeModelPackageGroup(final DescribeModelPackageGroupRequest request) {
+        return service.call("DescribeModelPackageGroup", () ->
+                toDescribeResponse(groups.describe(name(request.modelPackageGroupName()))));
+    }
+
+    @Override
+    public DeleteModelPackageGroupResponse deleteModelPackageGroup(final DeleteModelPackageGroupRequest request) {
+        return service.call("DeleteModelPackageGroup", () -> {
+            final String name = name(request.modelPackageGroupName());
+            groups.delete(name, ModelPackageGroupStatus.DELETING.toString(), null);
+            policies.remove(name);
+            return DeleteModelPackageGroupResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListModelPackageGroupsResponse listModelPackageGroups(final ListModelPackageGroupsRequest request) {
+        return service.call("ListModelPackageGroups", () -> ListModelPackageGroupsResponse.builder()
+                .modelPackageGroupSummaryList(groups.list().stream()
+                        .map(group -> ModelPackageGroupSummary.builder()
+                                .modelPackageGroupName(group.getName())
+                                .modelPackageGroupArn(group.getArn())
+                                .modelPackageGroupDescription(group.getState().modelPackageGroupDescription())
+                                .modelPackageGroupStatus(group.getStatus())
+                                .creationTime(group.getCreationTime())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    @Override
+    public PutModelPackageGroupPolicyResponse putModelPackageGroupPolicy(
+            final PutModelPackageGroupPolicyRequest request) {
+        return service.call("PutModelPackageGroupPolicy", () -> {
+            final FakeResource<DescribeModelPackageGroupResponse> group =
+                    groups.describe(name(request.modelPackageGroupName()));
+            policies.put(group.getName(), request.resourcePolicy());
+            return PutModelPackageGroupPolicyResponse.builder().modelPackageGroupArn(group.getArn()).build();
+        });
+    }
+
+    @Override
+    public GetModelPackageGroupPolicyResponse getModelPackageGroupPolicy(
+            final GetModelPackageGroupPolicyRequest request) {
+        return service.call("GetModelPackageGroupPolicy", () -> GetModelPackageGroupPolicyResponse.builder()
+                .resourcePolicy(policy(request.modelPackageGroupName()))
+                .build());
+    }
+
+    @Override
+    public DeleteModelPackageGroupPolicyResponse deleteModelPackageGroupPolicy(
+            final DeleteModelPackageGroupPolicyRequest request) {
+        return service.call("DeleteModelPackageGroupPolicy", () -> {
+            policy(request.modelPackageGroupName());
+            policies.remove(name(request.modelPackageGroupName()));
+            return DeleteModelPackageGroupPolicyResponse.builder().build();
+        });
+    }
+
+    /**
+     * @return the policy of an existing group, failing with the service's message when the group has none
+     */
+    private String policy(final String nameOrArn) {
+        final String name = groups.describe(name(nameOrArn)).getName();
+        final String policy = policies.get(name);
+        if (policy == null) {
+            throw SageMakerException.builder()
+                    .message("Cannot find resource policy for: " + ARN_PREFIX + name)
+                    .statusCode(400)
+                    .build();
+        }
+        return policy;
+    }
+
+    private static String name(final String nameOrArn) {
+        return nameOrArn.startsWith(ARN_PREFIX) ? nameOrArn.substring(ARN_PREFIX.length()) : nameOrArn;
+    }
+
+    private static DescribeModelPackageGroupResponse toDescribeResponse(
+            final FakeResource<DescribeModelPackageGroupResponse> group) {
+        return group.getState().toBuilder()
+                .modelPackageGroupStatus(group.getStatus())
+                .creationTime(group.getCreationTime())
+                .build();
+    }
+}
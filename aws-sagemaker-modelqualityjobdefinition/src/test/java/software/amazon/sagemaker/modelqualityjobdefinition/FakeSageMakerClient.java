@@ -0,0 +1,76 @@
+package software.amazon.sagemaker.modelqualityjobdefinition;
+
+import java.time.Duration;
+
+import software.amazon.awssdk.services.sagemaker.model.CreateModelQualityJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateModelQualityJobDefinitionResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteModelQualityJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteModelQualityJobDefinitionResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeModelQualityJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeModelQualityJobDefinitionResponse;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for model quality job definitions, which have no status: they exist as soon as they are
+ * created and are not found as soon as they are deleted.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    private final FakeResourceTable<DescribeModelQualityJobDefinitionResponse> jobDefinitions;
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.jobDefinitions = new FakeResourceTable<>(service, "Job definition", Duration.ZERO);
+    }
+
+    public FakeResourceTable<DescribeModelQualityJobDefinitionResponse> getJobDefinitions() {
+        return jobDefinitions;
+    }
+
+    @Override
+    public CreateModelQualityJobDefinitionResponse createModelQualityJobDefinition(
+            final CreateModelQualityJobDefinitionRequest request) {
+        return service.call("CreateModelQualityJobDefinition", () -> {
+            final String arn = "arn:aws:sagemaker:us-west-2:123456789012:model-quality-job-definition/"
+                    + request.jobDefinitionName();
+            jobDefinitions.create(request.jobDefinitionName(), arn, DescribeModelQualityJobDefinitionResponse.builder()
+                    .jobDefinitionArn(arn)
+                    .jobDefinitionName(request.jobDefinitionName())
+                    .modelQualityAppSpecification(request.modelQualityAppSpecification())
+                    .modelQualityBaselineConfig(request.modelQualityBaselineConfig())
+                    .modelQualityJobInput(request.modelQualityJobInput())
+                    .modelQualityJobOutputConfig(request.modelQualityJobOutputConfig())
+                    .jobResources(request.jobResources())
+                    .networkConfig(request.networkConfig())
+                    .roleArn(request.roleArn())
+                    .stoppingCondition(request.stoppingCondition())
+                    .build(), null, null);
+            service.tag(arn, tagMap(request.tags()));
+            return CreateModelQualityJobDefinitionResponse.builder().jobDefinitionArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeModelQualityJobDefinitionResponse describeModelQualityJobDefinition(
+            final DescribeModelQualityJobDefinitionRequest request) {
+        return service.call("DescribeModelQualityJobDefinition", () -> {
+            final FakeResource<DescribeModelQualityJobDefinitionResponse> jobDefinition =
+                    jobDefinitions.describe(request.jobDefinitionName());
+            return jobDefinition.getState().toBuilder()
+                    .creationTime(jobDefinition.getCreationTime())
+                    .build();
+        });
+    }
+
+    @Override
+    public DeleteModelQualityJobDefinitionResponse deleteModelQualityJobDefinition(
+            final DeleteModelQualityJobDefinitionRequest request) {
+        return service.call("DeleteModelQualityJobDefinition", () -> {
+            jobDefinitions.delete(request.jobDefinitionName(), null, null);
+            return DeleteModelQualityJobDefinitionResponse.builder().build();
+        });
+    }
+}
@@ -0,0 +1,130 @@
+package software.amazon.sagemaker.modelqualityjobdefinition;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.model.CreateModelQualityJobDefinitionRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeModelQualityJobDefinitionResponse;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Translates a model into a create request and the describe response SageMaker would answer with back into a model.
+ */
+public class TranslatorRoundTripTest extends AbstractTestBase {
+
+    @Test
+    public void testRoundTrip_AllProperties() {
+        final ResourceModel model = ResourceModel.builder()
+                .jobDefinitionName(TEST_JOB_DEFINITION_NAME)
+                .roleArn(TEST_ARN)
+                .modelQualityAppSpecification(ModelQualityAppSpecification.builder()
+                        .imageUri(TEST_IMAGE_URI)
+                        .containerArguments(Collections.singletonList("--verbose"))
+                        .containerEntrypoint(Collections.singletonList("analyze"))
+                        .postAnalyticsProcessorSourceUri("s3://bucket/post.py")
+                        .recordPreprocessorSourceUri("s3://bucket/pre.py")
+                        .environment(Collections.singletonMap("KEY", "value"))
+                        .problemType("BinaryClassification")
+                        .build())
+                .modelQualityBaselineConfig(ModelQualityBaselineConfig.builder()
+                        .baseliningJobName("baseliningJob")
+                        .constraintsResource(ConstraintsResource.builder().s3Uri("s3://bucket/constraints").build())
+                        .build())
+                .modelQualityJobInput(ModelQualityJobInput.builder()
+                        .endpointInput(EndpointInput.builder()
+                                .endpointName(TEST_ENDPOINT_NAME)
+                                .localPath(TEST_ENDPOINT_LOCAL_PATH)
+                                .s3DataDistributionType("FullyReplicated")
+                                .s3InputMode("File")
+                                .inferenceAttribute("prediction")
+                                .probabilityAttribute("probability")
+                                .probabilityThresholdAttribute(0.5)
+                                .startTimeOffset("-PT1H")
+                                .endTimeOffset("-PT0H")
+                                .build())
+                        .groundTruthS3Input(MonitoringGroundTruthS3Input.builder()
+                                .s3Uri("s3://bucket/ground-truth")
+                                .build())
+                        .build())
+                .modelQualityJobOutputConfig(MonitoringOutputConfig.builder()
+                        .kmsKeyId("outputKey")
+                        .monitoringOutputs(Collections.singletonList(MonitoringOutput.builder()
+                                .s3Output(S3Output.builder()
+                                        .localPath("/opt/ml/processing/output")
+                                        .s3UploadMode("EndOfJob")
+                                        .s3Uri("s3://bucket/output")
+                                        .build())
+                                .build()))
+                        .build())
+                .jobResources(MonitoringResources.builder()
+                        .clusterConfig(ClusterConfig.builder()
+                                .instanceCount(1)
+                                .instanceType("ml.m5.large")
+                                .volumeKmsKeyId("volumeKey")
+                                .volumeSizeInGB(20)
+                                .build())
+                        .build())
+                .networkConfig(NetworkConfig.builder()
+                        .enableInterContainerTrafficEncryption(true)
+                        .enableNetworkIsolation(false)
+                        .vpcConfig(VpcConfig.builder()
+                                .securityGroupIds(Collections.singletonList("sg-1"))
+                                .subnets(Collections.singletonList("subnet-1"))
+                                .build())
+                        .build())
+                .stoppingCondition(StoppingCondition.builder().maxRuntimeInSeconds(1800).build())
+                .build();
+
+        final ResourceModel translated = roundTrip(model);
+
+        assertThat(translated.getModelQualityAppSpecification()).isEqualTo(model.getModelQualityAppSpecification());
+        assertThat(translated.getModelQualityBaselineConfig()).isEqualTo(model.getModelQualityBaselineConfig());
+        assertThat(translated.getModelQualityJobInput()).isEqualTo(model.getModelQualityJobInput());
+        assertThat(translated.getModelQualityJobOutputConfig()).isEqualTo(model.getModelQualityJobOutputConfig());
+        assertThat(translated.getJobResources()).isEqualTo(model.getJobResources());
+        assertThat(translated.getNetworkConfig()).isEqualTo(model.getNetworkConfig());
+        assertThat(translated.getStoppingCondition()).isEqualTo(model.getStoppingCondition());
+        assertThat(translated.getRoleArn()).isEqualTo(TEST_ARN);
+    }
+
+    @Test
+    public void testRoundTrip_OptionalPropertiesOmitted() {
+        final ResourceModel model = ResourceModel.builder()
+                .jobDefinitionName(TEST_JOB_DEFINITION_NAME)
+                .roleArn(TEST_ARN)
+                .modelQualityBaselineConfig(ModelQualityBaselineConfig.builder().build())
+                .jobResources(MonitoringResources.builder().build())
+                .networkConfig(NetworkConfig.builder().build())
+                .modelQualityJobInput(ModelQualityJobInput.builder().build())
+                .build();
+
+        final ResourceModel translated = roundTrip(model);
+
+        assertThat(translated.getModelQualityAppSpecification()).isNull();
+        assertThat(translated.getModelQualityJobOutputConfig()).isNull();
+        assertThat(translated.getStoppingCondition()).isNull();
+        assertThat(translated.getModelQualityBaselineConfig().getConstraintsResource()).isNull();
+        assertThat(translated.getJobResources().getClusterConfig()).isNull();
+        assertThat(translated.getNetworkConfig().getVpcConfig()).isNull();
+        assertThat(translated.getModelQualityJobInput().getEndpointInput()).isNull();
+        assertThat(translated.getModelQualityJobInput().getGroundTruthS3Input()).isNull();
+    }
+
+    private static ResourceModel roundTrip(final ResourceModel model) {
+        final CreateModelQualityJobDefinitionRequest request = TranslatorForRequest.translateToCreateRequest(model);
+        return TranslatorForResponse.translateFromReadResponse(DescribeModelQualityJobDefinitionResponse.builder()
+                .jobDefinitionArn(TEST_JOB_DEFINITION_ARN)
+                .jobDefinitionName(request.jobDefinitionName())
+                .creationTime(TEST_TIME)
+                .modelQualityAppSpecification(request.modelQualityAppSpecification())
+                .modelQualityBaselineConfig(request.modelQualityBaselineConfig())
+                .modelQualityJobInput(request.modelQualityJobInput())
+                .modelQualityJobOutputConfig(request.modelQualityJobOutputConfig())
+                .jobResources(request.jobResources())
+                .networkConfig(request.networkConfig())
+                .roleArn(request.roleArn())
+                .stoppingCondition(request.stoppingCondition())
+                .build());
+    }
+}
@@ -0,0 +1,162 @@
+package software.amazon.sagemaker.monitoringschedule;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.sagemaker.model.CreateMonitoringScheduleRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeMonitoringScheduleResponse;
+import software.amazon.awssdk.services.sagemaker.model.ExecutionStatus;
+import software.amazon.awssdk.services.sagemaker.model.ScheduleStatus;
+import software.amazon.awssdk.services.sagemaker.model.UpdateMonitoringScheduleRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the MonitoringSchedule request/response mappers against a schedule carrying a full inline job definition.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final int MAX_TAGS = 50;
+
+    /** Environment entries on the job definition; the service accepts up to 50. */
+    @Param({"4", "50"})
+    public int environmentSize;
+
+    private ResourceModel model;
+    private DescribeMonitoringScheduleResponse describeResponse;
+
+    @Setup
+    public void setup() {
+        final Map<String, Object> environment = new HashMap<>();
+        for (int i = 0; i < environmentSize; i++) {
+            environment.put("ENV_VAR_" + i, "value-" + i);
+        }
+        final List<Tag> tags = new ArrayList<>(MAX_TAGS);
+        for (int i = 0; i < MAX_TAGS; i++) {
+            tags.add(Tag.builder().key("key-" + i).value("value-" + i).build());
+        }
+
+        model = ResourceModel.builder()
+                .monitoringScheduleName("benchmark-schedule")
+                .monitoringScheduleConfig(MonitoringScheduleConfig.builder()
+                        .monitoringType("DataQuality")
+                        .scheduleConfig(ScheduleConfig.builder()
+                                .scheduleExpression("cron(0 * ? * * *)")
+                                .build())
+                        .monitoringJobDefinition(MonitoringJobDefinition.builder()
+                                .roleArn("arn:aws:iam::123456789012:role/benchmark")
+                                .environment(environment)
+                                .baselineConfig(BaselineConfig.builder()
+                                        .constraintsResource(ConstraintsResource.builder()
+                                                .s3Uri("s3://benchmark-bucket/baseline/constraints.json")
+                                                .build())
+                                        .statisticsResource(StatisticsResource.builder()
+                                                .s3Uri("s3://benchmark-bucket/baseline/statistics.json")
+                                                .build())
+                                        .build())
+                                .monitoringAppSpecification(MonitoringAppSpecification.builder()
+                                        .imageUri("123456789012.dkr.ecr.us-west-2.amazonaws.com/benchmark:latest")
+                                        .containerArguments(Arrays.asList("--arg1", "value1", "--arg2", "value2"))
+                                        .containerEntrypoint(Arrays.asList("python3", "/opt/program/analyze.py"))
+                                        .postAnalyticsProcessorSourceUri("s3://benchmark-bucket/code/post.py")
+                                        .recordPreprocessorSourceUri("s3://benchmark-bucket/code/pre.py")
+                                        .build())
+                                .monitoringInputs(Collections.singletonList(MonitoringInput.builder()
+                                        .endpointInput(EndpointInput.builder()
+                                                .endpointName("benchmark-endpoint")
+                                                .localPath("/opt/ml/processing/input")
+                                                .s3DataDistributionType("FullyReplicated")
+                                                .s3InputMode("File")
+                                                .build())
+                                        .build()))
+                                .monitoringOutputConfig(MonitoringOutputConfig.builder()
+                                        .kmsKeyId("arn:aws:kms:us-west-2:123456789012:key/benchmark")
+                                        .monitoringOutputs(Collections.singletonList(MonitoringOutput.builder()
+                                                .s3Output(S3Output.builder()
+                                                        .localPath("/opt/ml/processing/output")
+                                                        .s3UploadMode("EndOfJob")
+                                                        .s3Uri("s3://benchmark-bucket/output")
+                                                        .build())
+                                                .build()))
+                                        .build())
+                                .monitoringResources(MonitoringResources.builder()
+                                        .clusterConfig(ClusterConfig.builder()
+                                                .instanceCount(1)
+                                                .instanceType("ml.m5.xlarge")
+                                                .volumeKmsKeyId("arn:aws:kms:us-west-2:123456789012:key/benchmark")
+                                                .volumeSizeInGB(30)
+                                                .build())
+                                        .build())
+                                .networkConfig(NetworkConfig.builder()
+                                        .enableInterContainerTrafficEncryption(true)
+                                        .enableNetworkIsolation(true)
+                                        .vpcConfig(VpcConfig.builder()
+                                                .securityGroupIds(Arrays.asList("sg-0123456789abcdef0", "sg-0123456789abcdef1"))
+                                                .subnets(Arrays.asList("subnet-0123456789abcdef0", "subnet-0123456789abcdef1"))
+                                                .build())
+                                        .build())
+                                .stoppingCondition(StoppingCondition.builder()
+                                        .maxRuntimeInSeconds(3600)
+                                        .build())
+                                .build())
+                        .build())
+                .tags(tags)
+                .build();
+
+        final CreateMonitoringScheduleRequest createRequest = TranslatorForRequest.translateToCreateRequest(model);
+        describeResponse = DescribeMonitoringScheduleResponse.builder()
+                .monitoringScheduleArn("arn:aws:sagemaker:us-west-2:123456789012:monitoring-schedule/benchmark-schedule")
+                .monitoringScheduleName(createRequest.monitoringScheduleName())
+                .monitoringScheduleConfig(createRequest.monitoringScheduleConfig())
+                .monitoringScheduleStatus(ScheduleStatus.SCHEDULED)
+                .endpointName("benchmark-endpoint")
+                .creationTime(Instant.now())
+                .lastModifiedTime(Instant.now())
+                .lastMonitoringExecutionSummary(software.amazon.awssdk.services.sagemaker.model.MonitoringExecutionSummary.builder()
+                        .monitoringScheduleName(createRequest.monitoringScheduleName())
+                        .endpointName("benchmark-endpoint")
+                        .monitoringExecutionStatus(ExecutionStatus.COMPLETED)
+                        .processingJobArn("arn:aws:sagemaker:us-west-2:123456789012:processing-job/benchmark")
+                        .creationTime(Instant.now())
+                        .lastModifiedTime(Instant.now())
+                        .scheduledTime(Instant.now())
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public CreateMonitoringScheduleRequest translateToCreateRequest() {
+        return TranslatorForRequest.translateToCreateRequest(model);
+    }
+
+    @Benchmark
+    public UpdateMonitoringScheduleRequest translateToUpdateRequest() {
+        return TranslatorForRequest.translateToUpdateRequest(model);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return TranslatorForResponse.translateFromReadResponse(describeResponse);
+    }
+}
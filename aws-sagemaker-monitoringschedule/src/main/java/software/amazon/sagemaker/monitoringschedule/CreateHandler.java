@@ -16,9 +16,15 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 public class CreateHandler extends BaseHandlerStd {
 
+    private static final String CALL_GRAPH = "AWS-SageMaker-MonitoringSchedule::Create";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -33,11 +39,13 @@ public class CreateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
-                    proxy.initiate("AWS-SageMaker-MonitoringSchedule::Create", proxyClient, model, callbackContext)
-                        .translateToServiceRequest(TranslatorForRequest::translateToCreateRequest)
-                        .makeServiceCall(this::createResource)
-                        .stabilize(this::stabilizedOnCreate)
-                        .progress())
+                    StabilizationMetrics.emf(logger).track(CALL_GRAPH, callbackContext.getStabilizationHistory(), () ->
+                        proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
+                            .translateToServiceRequest(TranslatorForRequest::translateToCreateRequest)
+                            .makeServiceCall(this::createResource)
+                            .stabilize(StabilizationMetrics.countThrottles(
+                                    callbackContext.getStabilizationHistory(), this::stabilizedOnCreate))
+                            .progress()))
             .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
@@ -89,6 +97,7 @@ public class CreateHandler extends BaseHandlerStd {
 
         final ScheduleStatus monitoringScheduleState = proxyClient.injectCredentialsAndInvokeV2(TranslatorForRequest.translateToReadRequest(model),
                 proxyClient.client()::describeMonitoringSchedule).monitoringScheduleStatus();
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), monitoringScheduleState.toString());
 
         switch (monitoringScheduleState) {
             case SCHEDULED:
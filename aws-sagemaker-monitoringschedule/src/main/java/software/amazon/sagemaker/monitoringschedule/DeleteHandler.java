@@ -16,9 +16,15 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 public class DeleteHandler extends BaseHandlerStd {
 
+    private static final String CALL_GRAPH = "AWS-SageMaker-MonitoringSchedule::Delete";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -33,13 +39,16 @@ public class DeleteHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
-                        proxy.initiate("AWS-SageMaker-MonitoringSchedule::Delete", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(TranslatorForRequest::translateToDeleteRequest)
-                                .makeServiceCall(this::deleteResource)
-                                .stabilize(this::stabilizedOnDelete)
-                                .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                        .status(OperationStatus.SUCCESS)
-                                        .build()));
+                        StabilizationMetrics.emf(logger).track(CALL_GRAPH,
+                                callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(TranslatorForRequest::translateToDeleteRequest)
+                                    .makeServiceCall(this::deleteResource)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnDelete))
+                                    .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
+                                            .status(OperationStatus.SUCCESS)
+                                            .build())));
     }
 
     /**
@@ -85,6 +94,8 @@ public class DeleteHandler extends BaseHandlerStd {
         try {
             final ScheduleStatus monitoringScheduleState = proxyClient.injectCredentialsAndInvokeV2(TranslatorForRequest.translateToReadRequest(model),
                     proxyClient.client()::describeMonitoringSchedule).monitoringScheduleStatus();
+            STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(),
+                    monitoringScheduleState.toString());
 
             switch (monitoringScheduleState) {
                 case PENDING:
@@ -94,6 +105,7 @@ public class DeleteHandler extends BaseHandlerStd {
                     throw new CfnGeneralServiceException("Delete stabilizing of monitoring schedule: " + model.getMonitoringScheduleName());
             }
         } catch (ResourceNotFoundException e) {
+            STABILIZATION_SCHEDULER.complete(callbackContext.getStabilizationHistory());
             return true;
         }
     }
@@ -13,10 +13,16 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 public class UpdateHandler extends BaseHandlerStd {
 
     private static final String OPERATION = "SageMaker::UpdateMonitoringSchedule";
+    private static final String CALL_GRAPH = "AWS-SageMaker-MonitoringSchedule::Update";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -31,11 +37,14 @@ public class UpdateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
-                        proxy.initiate("AWS-SageMaker-MonitoringSchedule::Update", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(TranslatorForRequest::translateToUpdateRequest)
-                                .makeServiceCall(this::updateResource)
-                                .stabilize(this::stabilizedOnUpdate)
-                                .progress())
+                        StabilizationMetrics.emf(logger).track(CALL_GRAPH,
+                                callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(TranslatorForRequest::translateToUpdateRequest)
+                                    .makeServiceCall(this::updateResource)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnUpdate))
+                                    .progress()))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
@@ -79,6 +88,7 @@ public class UpdateHandler extends BaseHandlerStd {
         final ScheduleStatus monitoringScheduleState = proxyClient.injectCredentialsAndInvokeV2(
                 TranslatorForRequest.translateToReadRequest(model),
                 proxyClient.client()::describeMonitoringSchedule).monitoringScheduleStatus();
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), monitoringScheduleState.toString());
 
         switch (monitoringScheduleState) {
             case SCHEDULED:
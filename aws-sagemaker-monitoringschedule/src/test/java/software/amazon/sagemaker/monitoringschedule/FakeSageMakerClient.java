@@ -0,0 +1,110 @@
+package software.amazon.sagemaker.monitoringschedule;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.sagemaker.model.CreateMonitoringScheduleRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateMonitoringScheduleResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteMonitoringScheduleRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteMonitoringScheduleResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeMonitoringScheduleRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeMonitoringScheduleResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListMonitoringSchedulesRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListMonitoringSchedulesResponse;
+import software.amazon.awssdk.services.sagemaker.model.MonitoringScheduleSummary;
+import software.amazon.awssdk.services.sagemaker.model.ScheduleStatus;
+import software.amazon.awssdk.services.sagemaker.model.UpdateMonitoringScheduleRequest;
+import software.amazon.awssdk.services.sagemaker.model.UpdateMonitoringScheduleResponse;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for monitoring schedules: creates and updates stay Pending until Scheduled, deletes stay
+ * Pending until not found.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    static final Duration TRANSITION_TIME = Duration.ofSeconds(20);
+
+    private final FakeResourceTable<DescribeMonitoringScheduleResponse> schedules;
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.schedules = new FakeResourceTable<>(service, "MonitoringSchedule", TRANSITION_TIME);
+    }
+
+    public FakeResourceTable<DescribeMonitoringScheduleResponse> getSchedules() {
+        return schedules;
+    }
+
+    @Override
+    public CreateMonitoringScheduleResponse createMonitoringSchedule(final CreateMonitoringScheduleRequest request) {
+        return service.call("CreateMonitoringSchedule", () -> {
+            final String arn = "arn:aws:sagemaker:us-west-2:123456789012:monitoring-schedule/"
+                    + request.monitoringScheduleName();
+            schedules.create(request.monitoringScheduleName(), arn, DescribeMonitoringScheduleResponse.builder()
+                    .monitoringScheduleName(request.monitoringScheduleName())
+                    .monitoringScheduleArn(arn)
+                    .monitoringScheduleConfig(request.monitoringScheduleConfig())
+                    .build(), ScheduleStatus.PENDING.toString(), ScheduleStatus.SCHEDULED.toString());
+            service.tag(arn, tagMap(request.tags()));
+            return CreateMonitoringScheduleResponse.builder().monitoringScheduleArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeMonitoringScheduleResponse describeMonitoringSchedule(
+            final DescribeMonitoringScheduleRequest request) {
+        return service.call("DescribeMonitoringSchedule", () ->
+                toDescribeResponse(schedules.describe(request.monitoringScheduleName())));
+    }
+
+    @Override
+    public UpdateMonitoringScheduleResponse updateMonitoringSchedule(final UpdateMonitoringScheduleRequest request) {
+        return service.call("UpdateMonitoringSchedule", () -> {
+            final FakeResource<DescribeMonitoringScheduleResponse> schedule = schedules.update(
+                    request.monitoringScheduleName(),
+                    state -> state.toBuilder().monitoringScheduleConfig(request.monitoringScheduleConfig()).build(),
+                    ScheduleStatus.PENDING.toString(), ScheduleStatus.SCHEDULED.toString());
+            return UpdateMonitoringScheduleResponse.builder().monitoringScheduleArn(schedule.getArn()).build();
+        });
+    }
+
+    @Override
+    public DeleteMonitoringScheduleResponse deleteMonitoringSchedule(final DeleteMonitoringScheduleRequest request) {
+        return service.call("DeleteMonitoringSchedule", () -> {
+            schedules.delete(request.monitoringScheduleName(), ScheduleStatus.PENDING.toString(), null);
+            return DeleteMonitoringScheduleResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListMonitoringSchedulesResponse listMonitoringSchedules(final ListMonitoringSchedulesRequest request) {
+        return service.call("ListMonitoringSchedules", () -> ListMonitoringSchedulesResponse.builder()
+                .monitoringScheduleSummaries(schedules.list().stream()
+                        .map(schedule -> MonitoringScheduleSummary.builder()
+                                .monitoringScheduleName(schedule.getName())
+                                .monitoringScheduleArn(schedule.getArn())
+                                .monitoringScheduleStatus(schedule.getStatus())
+                                .monitoringType(schedule.getState().monitoringScheduleConfig().monitoringType())
+                                .monitoringJobDefinitionName(
+                                        schedule.getState().monitoringScheduleConfig().monitoringJobDefinitionName())
+                                .creationTime(schedule.getCreationTime())
+                                .lastModifiedTime(schedule.getLastModifiedTime())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    private static DescribeMonitoringScheduleResponse toDescribeResponse(
+            final FakeResource<DescribeMonitoringScheduleResponse> schedule) {
+        return schedule.getState().toBuilder()
+                .monitoringScheduleStatus(schedule.getStatus())
+                .monitoringType(schedule.getState().monitoringScheduleConfig().monitoringType())
+                .creationTime(schedule.getCreationTime())
+                .lastModifiedTime(schedule.getLastModifiedTime())
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package software.amazon.sagemaker.monitoringschedule;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.model.CreateMonitoringScheduleRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeMonitoringScheduleResponse;
+import software.amazon.awssdk.services.sagemaker.model.ExecutionStatus;
+import software.amazon.awssdk.services.sagemaker.model.ScheduleStatus;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Translates a model into a create request and the describe response SageMaker would answer with back into a model.
+ */
+public class TranslatorRoundTripTest extends AbstractTestBase {
+
+    @Test
+    public void testRoundTrip_AllProperties() {
+        final MonitoringScheduleConfig config = MonitoringScheduleConfig.builder()
+                .monitoringType(TEST_MONITORING_TYPE)
+                .scheduleConfig(ScheduleConfig.builder().scheduleExpression("cron(0 * ? * * *)").build())
+                .monitoringJobDefinition(MonitoringJobDefinition.builder()
+                        .roleArn(TEST_ARN)
+                        .environment(Collections.singletonMap("KEY", "value"))
+                        .baselineConfig(BaselineConfig.builder()
+                                .constraintsResource(ConstraintsResource.builder()
+                                        .s3Uri("s3://bucket/constraints")
+                                        .build())
+                                .statisticsResource(StatisticsResource.builder()
+                                        .s3Uri("s3://bucket/statistics")
+                                        .build())
+                                .build())
+                        .monitoringAppSpecification(MonitoringAppSpecification.builder()
+                                .imageUri("012345678912.dkr.ecr.us-west-2.amazonaws.com/analyzer:latest")
+                                .containerArguments(Collections.singletonList("--verbose"))
+                                .containerEntrypoint(Collections.singletonList("analyze"))
+                                .postAnalyticsProcessorSourceUri("s3://bucket/post.py")
+                                .recordPreprocessorSourceUri("s3://bucket/pre.py")
+                                .build())
+                        .monitoringInputs(Collections.singletonList(MonitoringInput.builder()
+                                .endpointInput(EndpointInput.builder()
+                                        .endpointName(TEST_ENDPOINT_NAME)
+                                        .localPath("/opt/ml/processing/endpointdata")
+                                        .s3DataDistributionType("FullyReplicated")
+                                        .s3InputMode("File")
+                                        .build())
+                                .build()))
+                        .monitoringOutputConfig(MonitoringOutputConfig.builder()
+                                .kmsKeyId("outputKey")
+                                .monitoringOutputs(Collections.singletonList(MonitoringOutput.builder()
+                                        .s3Output(S3Output.builder()
+                                                .localPath("/opt/ml/processing/output")
+                                                .s3UploadMode("EndOfJob")
+                                                .s3Uri("s3://bucket/output")
+                                                .build())
+                                        .build()))
+                                .build())
+                        .monitoringResources(MonitoringResources.builder()
+                                .clusterConfig(ClusterConfig.builder()
+                                        .instanceCount(1)
+                                        .instanceType("ml.m5.large")
+                                        .volumeKmsKeyId("volumeKey")
+                                        .volumeSizeInGB(20)
+                                        .build())
+                                .build())
+                        .networkConfig(NetworkConfig.builder()
+                                .enableInterContainerTrafficEncryption(true)
+                                .enableNetworkIsolation(false)
+                                .vpcConfig(VpcConfig.builder()
+                                        .securityGroupIds(Collections.singletonList("sg-1"))
+                                        .subnets(Collections.singletonList("subnet-1"))
+                                        .build())
+                                .build())
+                        .stoppingCondition(StoppingCondition.builder().maxRuntimeInSeconds(1800).build())
+                        .build())
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .monitoringScheduleName(TEST_SCHEDULE_NAME)
+                .monitoringScheduleConfig(config)
+                .build();
+
+        final ResourceModel translated = roundTrip(model, software.amazon.awssdk.services.sagemaker.model
+                .MonitoringExecutionSummary.builder()
+                .creationTime(TEST_TIME)
+                .lastModifiedTime(TEST_TIME)
+                .scheduledTime(TEST_TIME)
+                .monitoringExecutionStatus(ExecutionStatus.COMPLETED)
+                .monitoringScheduleName(TEST_SCHEDULE_NAME)
+                .endpointName(TEST_ENDPOINT_NAME)
+                .build());
+
+        assertThat(translated.getMonitoringScheduleConfig()).isEqualTo(config);
+        assertThat(translated.getLastMonitoringExecutionSummary().getMonitoringExecutionStatus())
+                .isEqualTo(ExecutionStatus.COMPLETED.toString());
+        assertThat(translated.getLastMonitoringExecutionSummary().getScheduledTime()).isEqualTo(TEST_TIME.toString());
+    }
+
+    @Test
+    public void testRoundTrip_OptionalPropertiesOmitted() {
+        final ResourceModel model = ResourceModel.builder()
+                .monitoringScheduleName(TEST_SCHEDULE_NAME)
+                .monitoringScheduleConfig(MonitoringScheduleConfig.builder()
+                        .monitoringType(TEST_MONITORING_TYPE)
+                        .monitoringJobDefinitionName(TEST_JOB_DEFINITION_NAME)
+                        .monitoringJobDefinition(MonitoringJobDefinition.builder()
+                                .baselineConfig(BaselineConfig.builder().build())
+                                .monitoringResources(MonitoringResources.builder().build())
+                                .networkConfig(NetworkConfig.builder().build())
+                                .monitoringInputs(Collections.singletonList(MonitoringInput.builder().build()))
+                                .monitoringOutputConfig(MonitoringOutputConfig.builder()
+                                        .monitoringOutputs(Collections.singletonList(MonitoringOutput.builder()
+                                                .build()))
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+
+        final ResourceModel translated = roundTrip(model, null);
+
+        final MonitoringJobDefinition jobDefinition = translated.getMonitoringScheduleConfig()
+                .getMonitoringJobDefinition();
+        assertThat(translated.getLastMonitoringExecutionSummary()).isNull();
+        assertThat(translated.getMonitoringScheduleConfig().getScheduleConfig()).isNull();
+        assertThat(translated.getMonitoringScheduleConfig().getMonitoringJobDefinitionName())
+                .isEqualTo(TEST_JOB_DEFINITION_NAME);
+        assertThat(jobDefinition.getMonitoringAppSpecification()).isNull();
+        assertThat(jobDefinition.getStoppingCondition()).isNull();
+        assertThat(jobDefinition.getBaselineConfig().getConstraintsResource()).isNull();
+        assertThat(jobDefinition.getBaselineConfig().getStatisticsResource()).isNull();
+        assertThat(jobDefinition.getMonitoringResources().getClusterConfig()).isNull();
+        assertThat(jobDefinition.getNetworkConfig().getVpcConfig()).isNull();
+        assertThat(jobDefinition.getMonitoringInputs().get(0).getEndpointInput()).isNull();
+        assertThat(jobDefinition.getMonitoringOutputConfig().getMonitoringOutputs().get(0).getS3Output()).isNull();
+    }
+
+    private static ResourceModel roundTrip(
+            final ResourceModel model,
+            final software.amazon.awssdk.services.sagemaker.model.MonitoringExecutionSummary lastExecution) {
+        final CreateMonitoringScheduleRequest request = TranslatorForRequest.translateToCreateRequest(model);
+        return TranslatorForResponse.translateFromReadResponse(DescribeMonitoringScheduleResponse.builder()
+                .monitoringScheduleArn(TEST_SCHEDULE_ARN)
+                .monitoringScheduleName(request.monitoringScheduleName())
+                .monitoringScheduleConfig(request.monitoringScheduleConfig())
+                .monitoringScheduleStatus(ScheduleStatus.SCHEDULED)
+                .lastMonitoringExecutionSummary(lastExecution)
+                .creationTime(TEST_TIME)
+                .lastModifiedTime(TEST_TIME)
+                .build());
+    }
+}
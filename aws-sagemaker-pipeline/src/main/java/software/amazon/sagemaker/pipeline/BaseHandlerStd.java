@@ -6,25 +6,81 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.ApiRateLimiter;
+
+import java.util.Map;
 
 /**
  * Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
  */
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
+    /**
+     * Name of the metric counting the executions listed by an update or delete before they act on the pipeline.
+     */
+    static final String EXECUTIONS_SCANNED = "PipelineExecutionsScanned";
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger
-        );
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final ApiRateLimiter rateLimiter = ApiRateLimiter.forRequest(request);
+        final ProxyClient<SageMakerClient> proxyClient = rateLimiter.limit(proxy.newProxy(ClientBuilder::getClient));
+        if (!reschedulesOnThrottle()) {
+            return handleRequest(proxy, request, context, proxyClient, logger);
+        }
+        return rateLimiter.rescheduleOnThrottle(
+                () -> handleRequest(proxy, request, context, proxyClient, logger),
+                request.getDesiredResourceState(), context, logger);
+    }
+
+    /**
+     * Resolves the pipeline definition of the model into the body sent to SageMaker: the definition is fetched from
+     * S3 when given by location, merged with its fragments if any, and its placeholders are substituted by the
+     * PipelineDefinitionSubstitutions. The model keeps the definition as declared.
+     *
+     * @param model desired model
+     * @param request the handler request
+     * @param proxy proxy injecting the caller credentials
+     * @param logger logger
+     * @return the definition body
+     * @throws software.amazon.cloudformation.exceptions.CfnInvalidRequestException if the substituted definition is
+     *         no longer well-formed JSON or exceeds the maximum definition length
+     */
+    protected static String resolvePipelineDefinition(
+            final ResourceModel model,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final AmazonWebServicesClientProxy proxy,
+            final Logger logger) {
+        final PipelineDefinition definition = model.getPipelineDefinition();
+        final Map<String, String> substitutions = model.getPipelineDefinitionSubstitutions();
+        final PipelineDefinitionTemplate template;
+        if (definition.getPipelineDefinitionS3Location() != null) {
+            template = S3ClientWrapper.getTemplateFromS3(
+                    definition.getPipelineDefinitionS3Location(),
+                    definition.getPipelineDefinitionS3Fragments(),
+                    request.getAwsAccountId(),
+                    request.getRegion(),
+                    ClientBuilder::getS3Client,
+                    proxy,
+                    logger);
+        } else if (substitutions != null && !substitutions.isEmpty()) {
+            template = PipelineDefinitionTemplate.compile(definition.getPipelineDefinitionBody());
+        } else {
+            return definition.getPipelineDefinitionBody();
+        }
+        return template.renderDefinition(substitutions);
+    }
+
+    /**
+     * @return whether a throttled invocation is called back later instead of failing; handlers that CloudFormation
+     * cannot call back, like Read and List, return false
+     */
+    protected boolean reschedulesOnThrottle() {
+        return true;
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
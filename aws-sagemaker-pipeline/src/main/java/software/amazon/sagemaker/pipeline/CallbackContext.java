@@ -1,7 +1,13 @@
 package software.amazon.sagemaker.pipeline;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.sagemaker.common.StabilizationHistory;
 
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
-}
\ No newline at end of file
+    private StabilizationHistory stabilizationHistory = new StabilizationHistory();
+    private boolean executionsStopped;
+}
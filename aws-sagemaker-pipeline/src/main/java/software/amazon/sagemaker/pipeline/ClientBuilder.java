@@ -1,16 +1,47 @@
 package software.amazon.sagemaker.pipeline;
 
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.sagemaker.common.SageMakerClientProvider;
 
-import java.net.URI;
-import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides APIs to build service client.
  */
 public class ClientBuilder {
 
-    public static SageMakerClient getClient()  {
-        return SageMakerClient.create();
+    private static final Map<String, S3Client> S3_CLIENTS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the client shared by every handler running in this process.
+     *
+     * @return SageMaker client
+     */
+    public static SageMakerClient getClient() {
+        return SageMakerClientProvider.getClient();
+    }
+
+    /**
+     * Returns the S3 client of the region, shared by every handler running in this process. The clients use the
+     * connection pool of the SageMaker client and have no credentials of their own: the caller credentials are
+     * injected per request by the proxy, so a request that is not made through the proxy is sent unsigned.
+     *
+     * @param region region of the bucket
+     * @return S3 client
+     */
+    public static S3Client getS3Client(final String region) {
+        return S3_CLIENTS.computeIfAbsent(region, r -> s3ClientBuilder(r).build());
+    }
+
+    static S3ClientBuilder s3ClientBuilder(final String region) {
+        return S3Client.builder()
+                .region(Region.of(region))
+                .httpClient(SageMakerClientProvider.getHttpClient())
+                .credentialsProvider(AnonymousCredentialsProvider.create());
     }
-}
\ No newline at end of file
+}
@@ -26,22 +26,14 @@ public class CreateHandler extends BaseHandlerStd {
         this.logger = logger;
         final ResourceModel model = request.getDesiredResourceState();
 
-        if (model.getPipelineDefinition().getPipelineDefinitionS3Location() != null) {
-            String pipelineDefinition = S3ClientWrapper.getBodyFromS3(
-                    model.getPipelineDefinition().getPipelineDefinitionS3Location(),
-                    proxy,
-                    logger
-            );
-            model.setPipelineDefinition(PipelineDefinition.builder()
-                    .pipelineDefinitionBody(pipelineDefinition)
-                    .build()
-            );
-        }
+        final String definitionBody = resolvePipelineDefinition(model, request, proxy, logger);
+        model.setPipelineDefinitionDigest(PipelineDefinitionDigest.of(definitionBody));
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
                         proxy.initiate(OPERATION, proxyClient, model, callbackContext)
-                                .translateToServiceRequest(TranslatorForRequest::translateToCreateRequest)
+                                .translateToServiceRequest(resourceModel ->
+                                        TranslatorForRequest.translateToCreateRequest(resourceModel, definitionBody))
                                 .makeServiceCall(this::createResource)
                                 .progress())
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
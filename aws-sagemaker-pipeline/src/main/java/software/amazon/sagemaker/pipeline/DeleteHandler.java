@@ -2,10 +2,19 @@ package software.amazon.sagemaker.pipeline;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.ConflictException;
 import software.amazon.awssdk.services.sagemaker.model.DeletePipelineRequest;
 import software.amazon.awssdk.services.sagemaker.model.DeletePipelineResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribePipelineRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribePipelineResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListPipelineExecutionsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListPipelineExecutionsResponse;
+import software.amazon.awssdk.services.sagemaker.model.PipelineExecutionStatus;
+import software.amazon.awssdk.services.sagemaker.model.PipelineExecutionSummary;
 import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.sagemaker.model.StopPipelineExecutionRequest;
 import software.amazon.cloudformation.Action;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -13,12 +22,58 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.BackoffProfile;
+import software.amazon.sagemaker.common.StabilizationHistory;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class DeleteHandler extends BaseHandlerStd {
 
     private static final String OPERATION = "AWS-SageMaker-Pipeline::Delete";
+    private static final String WAIT_OPERATION = "AWS-SageMaker-Pipeline::WaitForStoppedExecutions";
+
+    static final int DEFAULT_MAX_CONCURRENT_EXECUTION_STOPS = 10;
+    static final String EXECUTIONS_STOPPED = "PipelineExecutionsStopped";
+    private static final String DELETING = "Deleting";
+    // Observed once no execution is running, so that scans without a wait are reported as well
+    private static final String NO_RUNNING_EXECUTIONS = "Idle";
+
+    // Stopped executions are Stopping for seconds, as is the pipeline while it is deleted
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder()
+            .profile(PipelineExecutionStatus.EXECUTING.toString(), BackoffProfile.SHORT_POLL)
+            .profile(PipelineExecutionStatus.STOPPING.toString(), BackoffProfile.SHORT_POLL)
+            .profile(DELETING, BackoffProfile.SHORT_POLL)
+            .build();
+
+    // Shared by all invocations; each invocation bounds its own parallelism by the number of workers it submits
+    private static final ExecutorService stopExecutor = Executors.newCachedThreadPool(r -> {
+        final Thread thread = new Thread(r, "pipeline-execution-stop");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final StabilizationScheduler stabilizationScheduler;
     private Logger logger;
 
+    public DeleteHandler() {
+        this(STABILIZATION_SCHEDULER);
+    }
+
+    public DeleteHandler(final StabilizationScheduler stabilizationScheduler) {
+        this.stabilizationScheduler = stabilizationScheduler;
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             AmazonWebServicesClientProxy proxy,
@@ -30,14 +85,30 @@ public class DeleteHandler extends BaseHandlerStd {
         this.logger = logger;
         final ResourceModel model = request.getDesiredResourceState();
 
+        if (!Boolean.TRUE.equals(model.getStopExecutionsOnDelete())) {
+            return ProgressEvent.progress(model, callbackContext)
+                    .then(progress ->
+                            proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(TranslatorForRequest::translateToDeleteRequest)
+                                    .makeServiceCall(this::deleteResource)
+                                    .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
+                                            .status(OperationStatus.SUCCESS)
+                                            .build()));
+        }
+
+        final StabilizationHistory history = callbackContext.getStabilizationHistory();
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress ->
+                .then(progress -> stopRunningExecutions(proxyClient, request.getClientRequestToken(), progress))
+                .then(progress -> waitForStoppedExecutions(proxy, proxyClient, progress))
+                .then(progress -> StabilizationMetrics.emf(logger).track(OPERATION, history, () ->
                         proxy.initiate(OPERATION, proxyClient, model, callbackContext)
                                 .translateToServiceRequest(TranslatorForRequest::translateToDeleteRequest)
+                                .backoffDelay(stabilizationScheduler.delay(history))
                                 .makeServiceCall(this::deleteResource)
+                                .stabilize(StabilizationMetrics.countThrottles(history, this::stabilizedOnDelete))
                                 .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
                                         .status(OperationStatus.SUCCESS)
-                                        .build()));
+                                        .build())));
     }
 
     /**
@@ -64,4 +135,248 @@ public class DeleteHandler extends BaseHandlerStd {
 
         return response;
     }
+
+    /**
+     * Stops the executions of the pipeline that are Executing, at most MaxConcurrentExecutionStops at a time. The
+     * executions are stopped once per operation; callbacks of the stabilization do not list them again.
+     * @param proxyClient the aws service client to make the calls
+     * @param clientRequestToken token of the handler request, from which the idempotency tokens of the stops derive
+     * @param progress event of the preceding step
+     * @return progressEvent continuing with the delete
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> stopRunningExecutions(
+            final ProxyClient<SageMakerClient> proxyClient,
+            final String clientRequestToken,
+            final ProgressEvent<ResourceModel, CallbackContext> progress
+    ) {
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        if (callbackContext.isExecutionsStopped()) {
+            return progress;
+        }
+
+        final List<String> running = listRunningExecutions(model, proxyClient, callbackContext);
+        final int parallelism = model.getMaxConcurrentExecutionStops() == null
+                ? DEFAULT_MAX_CONCURRENT_EXECUTION_STOPS : model.getMaxConcurrentExecutionStops();
+        final String tokenPrefix = clientRequestToken != null ? clientRequestToken : UUID.randomUUID().toString();
+        logger.log(String.format("%s [%s] stopping %d executions, %d at a time",
+                ResourceModel.TYPE_NAME, model.getPipelineName(), running.size(), parallelism));
+
+        final Queue<String> pending = new ConcurrentLinkedQueue<>(running);
+        final List<Future<?>> workers = new ArrayList<>();
+        try {
+            for (int i = 0; i < Math.min(parallelism, running.size()); i++) {
+                workers.add(stopExecutor.submit(() -> {
+                    for (String executionArn = pending.poll(); executionArn != null; executionArn = pending.poll()) {
+                        stopExecution(model.getPipelineName(), executionArn, tokenPrefix, proxyClient);
+                    }
+                }));
+            }
+            for (final Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CfnGeneralServiceException(e.getCause().getMessage(), e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CfnGeneralServiceException("Interrupted while stopping pipeline executions", e);
+        } finally {
+            pending.clear();
+            workers.forEach(worker -> worker.cancel(true));
+        }
+
+        callbackContext.getStabilizationHistory().count(EXECUTIONS_STOPPED, running.size());
+        callbackContext.setExecutionsStopped(true);
+        return progress;
+    }
+
+    /**
+     * Waits until no execution of the pipeline is Executing or Stopping, since SageMaker rejects the deletion of a
+     * pipeline whose executions are still stopping. The executions are scanned again with the backoff of the
+     * scheduler.
+     * @param proxy Amazon webservice proxy to inject credentials correctly
+     * @param proxyClient the aws service client to make the calls
+     * @param progress event of the preceding step
+     * @return progressEvent continuing once no execution runs, or waiting for a callback
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> waitForStoppedExecutions(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<SageMakerClient> proxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress
+    ) {
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        final StabilizationHistory history = callbackContext.getStabilizationHistory();
+        return StabilizationMetrics.emf(logger).track(WAIT_OPERATION, history, () ->
+                proxy.initiate(WAIT_OPERATION, proxyClient, model, callbackContext)
+                        .translateToServiceRequest(TranslatorForRequest::translateToListExecutionsRequest)
+                        .backoffDelay(stabilizationScheduler.delay(history))
+                        .makeServiceCall((awsRequest, client) -> scanForRunningExecution(awsRequest, client, history))
+                        .stabilize(StabilizationMetrics.countThrottles(history,
+                                (awsRequest, running, client, resourceModel, context) ->
+                                        !running || !scanForRunningExecution(awsRequest, client, history)))
+                        .progress());
+    }
+
+    /**
+     * Scans the executions newest first and stops at the first one that is Executing or Stopping, so that only a
+     * pipeline without running executions is scanned to its end.
+     * @param awsRequest request for the first page of executions
+     * @param proxyClient the aws service client to make the calls
+     * @param history stabilization history recording the scanned executions and the observed status
+     * @return true if an execution is running
+     */
+    private boolean scanForRunningExecution(
+            final ListPipelineExecutionsRequest awsRequest,
+            final ProxyClient<SageMakerClient> proxyClient,
+            final StabilizationHistory history
+    ) {
+        PipelineExecutionSummary running = null;
+        long scanned = 0;
+        String nextToken = null;
+        do {
+            final ListPipelineExecutionsResponse page =
+                    listExecutions(awsRequest.toBuilder().nextToken(nextToken).build(), proxyClient);
+            for (final PipelineExecutionSummary execution : page.pipelineExecutionSummaries()) {
+                scanned++;
+                if (execution.pipelineExecutionStatus() == PipelineExecutionStatus.EXECUTING
+                        || execution.pipelineExecutionStatus() == PipelineExecutionStatus.STOPPING) {
+                    running = execution;
+                    break;
+                }
+            }
+            nextToken = page.nextToken();
+        } while (running == null && nextToken != null);
+        history.count(EXECUTIONS_SCANNED, scanned);
+
+        if (running == null) {
+            stabilizationScheduler.observe(history, NO_RUNNING_EXECUTIONS);
+            stabilizationScheduler.complete(history);
+            logger.log(String.format("%s [%s] has no running executions after scanning %d",
+                    ResourceModel.TYPE_NAME, awsRequest.pipelineName(), scanned));
+            return false;
+        }
+        stabilizationScheduler.observe(history, running.pipelineExecutionStatusAsString());
+        logger.log(String.format("%s [%s] is waiting for execution %s, which is %s",
+                ResourceModel.TYPE_NAME, awsRequest.pipelineName(), running.pipelineExecutionArn(),
+                running.pipelineExecutionStatusAsString()));
+        return true;
+    }
+
+    /**
+     * Pages through all executions of the pipeline, since an execution started long ago may still be running.
+     * @param model resource model
+     * @param proxyClient the aws service client to make the calls
+     * @param callbackContext context recording the number of executions scanned
+     * @return arns of the executions that are Executing
+     */
+    private List<String> listRunningExecutions(
+            final ResourceModel model,
+            final ProxyClient<SageMakerClient> proxyClient,
+            final CallbackContext callbackContext
+    ) {
+        final ListPipelineExecutionsRequest firstPage = TranslatorForRequest.translateToListExecutionsRequest(model);
+        final List<String> running = new ArrayList<>();
+        long scanned = 0;
+        String nextToken = null;
+        do {
+            final ListPipelineExecutionsResponse page =
+                    listExecutions(firstPage.toBuilder().nextToken(nextToken).build(), proxyClient);
+            for (final PipelineExecutionSummary execution : page.pipelineExecutionSummaries()) {
+                scanned++;
+                if (execution.pipelineExecutionStatus() == PipelineExecutionStatus.EXECUTING) {
+                    running.add(execution.pipelineExecutionArn());
+                }
+            }
+            nextToken = page.nextToken();
+        } while (nextToken != null);
+        callbackContext.getStabilizationHistory().count(EXECUTIONS_SCANNED, scanned);
+        return running;
+    }
+
+    private ListPipelineExecutionsResponse listExecutions(
+            final ListPipelineExecutionsRequest awsRequest,
+            final ProxyClient<SageMakerClient> proxyClient
+    ) {
+        ListPipelineExecutionsResponse response = null;
+        try {
+            response = proxyClient.injectCredentialsAndInvokeV2(awsRequest,
+                    proxyClient.client()::listPipelineExecutions);
+        } catch (final ResourceNotFoundException e) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, awsRequest.pipelineName());
+        } catch (final AwsServiceException e) {
+            Translator.throwCfnException(Action.DELETE.toString(),
+                    ResourceModel.TYPE_NAME, awsRequest.pipelineName(), e);
+        }
+        return response;
+    }
+
+    /**
+     * Stops one execution. The idempotency token is derived from the handler request and the execution, so a
+     * retried invocation repeats the same stop while every execution has its own token.
+     * @param pipelineName name of the pipeline
+     * @param executionArn arn of the execution
+     * @param tokenPrefix token of the handler request
+     * @param proxyClient the aws service client to make the call
+     */
+    private void stopExecution(
+            final String pipelineName,
+            final String executionArn,
+            final String tokenPrefix,
+            final ProxyClient<SageMakerClient> proxyClient
+    ) {
+        final String clientRequestToken = UUID.nameUUIDFromBytes(
+                (tokenPrefix + executionArn).getBytes(StandardCharsets.UTF_8)).toString();
+        final StopPipelineExecutionRequest awsRequest =
+                TranslatorForRequest.translateToStopExecutionRequest(executionArn, clientRequestToken);
+        try {
+            proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::stopPipelineExecution);
+        } catch (final ResourceNotFoundException | ConflictException e) {
+            // the execution finished or is already stopping since it was listed
+            logger.log(String.format("%s [%s] did not stop execution %s: %s",
+                    ResourceModel.TYPE_NAME, pipelineName, executionArn, e.getMessage()));
+        } catch (final AwsServiceException e) {
+            Translator.throwCfnException(Action.DELETE.toString(), ResourceModel.TYPE_NAME, pipelineName, e);
+        }
+    }
+
+    /**
+     * Checks whether the pipeline is gone.
+     * @param awsRequest the aws service request to delete a resource
+     * @param awsResponse the aws service response of the delete
+     * @param proxyClient the aws service client to make the call
+     * @param model resource model
+     * @param callbackContext callback context
+     * @return true once DescribePipeline reports the pipeline as not found
+     */
+    private boolean stabilizedOnDelete(
+            final DeletePipelineRequest awsRequest,
+            final DeletePipelineResponse awsResponse,
+            final ProxyClient<SageMakerClient> proxyClient,
+            final ResourceModel model,
+            final CallbackContext callbackContext
+    ) {
+        final StabilizationHistory history = callbackContext.getStabilizationHistory();
+        final DescribePipelineRequest describeRequest = TranslatorForRequest.translateToReadRequest(model);
+        try {
+            final DescribePipelineResponse response =
+                    proxyClient.injectCredentialsAndInvokeV2(describeRequest, proxyClient.client()::describePipeline);
+            stabilizationScheduler.observe(history, response.pipelineStatusAsString());
+            logger.log(String.format("%s [%s] deletion has not stabilized, status %s",
+                    ResourceModel.TYPE_NAME, model.getPipelineName(), response.pipelineStatusAsString()));
+            return false;
+        } catch (final ResourceNotFoundException e) {
+            stabilizationScheduler.complete(history);
+            logger.log(String.format("%s [%s] deletion has stabilized",
+                    ResourceModel.TYPE_NAME, model.getPipelineName()));
+            return true;
+        } catch (final AwsServiceException e) {
+            Translator.throwCfnException(Action.DELETE.toString(),
+                    ResourceModel.TYPE_NAME, model.getPipelineName(), e);
+        }
+        return false;
+    }
 }
@@ -0,0 +1,234 @@
+package software.amazon.sagemaker.pipeline;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Pipeline definition bodies downloaded from S3, keyed by caller account, bucket, key, version and ETag. The
+ * account keeps one account's objects from being served to handlers invoked for another.
+ *
+ * <p>A location pinned by {@code Version} or {@code ETag} names immutable content, so a cached body is returned
+ * without calling S3. An unpinned location is revalidated with a conditional GET carrying the cached ETag in
+ * {@code If-None-Match}; a {@code 304 Not Modified} answer serves the cached body, anything else replaces it.
+ *
+ * <p>Downloaded objects are streamed through {@link PipelineDefinitionReader}, so only bounded, well-formed
+ * definitions are cached, each compiled once into a {@link PipelineDefinitionTemplate}. The cache is bounded by the
+ * length of the bodies it holds and evicts the least recently used ones first; a body longer than the bound is
+ * never cached. Downloads run outside the lock, so concurrent misses for the same location may both download it.
+ */
+public final class PipelineDefinitionCache {
+
+    private static final int NOT_MODIFIED = 304;
+
+    private final long maxLength;
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long length;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+
+    /**
+     * @param maxLength upper bound of the summed length of the cached bodies
+     */
+    public PipelineDefinitionCache(final long maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the definition body stored at the location, downloading it only when it is not cached or changed.
+     *
+     * @param accountId account of the caller whose credentials download the object
+     * @param s3Location bucket, key and optional version and ETag of the definition
+     * @param getObject opens the object for the request
+     * @return the definition body
+     */
+    public String get(final String accountId,
+                      final S3Location s3Location,
+                      final Function<GetObjectRequest, ResponseInputStream<GetObjectResponse>> getObject) {
+        return getTemplate(accountId, s3Location, getObject).getDefinition();
+    }
+
+    /**
+     * Returns the compiled definition stored at the location, downloading it only when it is not cached or changed.
+     * Exceptions thrown by the download are not cached; a stream that fails validation is aborted.
+     *
+     * @param accountId account of the caller whose credentials download the object
+     * @param s3Location bucket, key and optional version and ETag of the definition
+     * @param getObject opens the object for the request
+     * @return the compiled definition
+     * @throws software.amazon.cloudformation.exceptions.CfnInvalidRequestException if the object is not a valid
+     *     definition
+     * @throws UncheckedIOException if reading the object fails
+     */
+    PipelineDefinitionTemplate getTemplate(
+            final String accountId,
+            final S3Location s3Location,
+            final Function<GetObjectRequest, ResponseInputStream<GetObjectResponse>> getObject) {
+        final Key key = new Key(accountId, s3Location.getBucket(), s3Location.getKey(),
+                s3Location.getVersion(), unquote(s3Location.getETag()));
+        final Entry cached = lookup(key);
+        final GetObjectRequest.Builder request = GetObjectRequest.builder()
+                .bucket(key.bucket)
+                .key(key.key)
+                .versionId(key.version)
+                .ifMatch(s3Location.getETag());
+
+        if (cached != null && key.isPinned()) {
+            hits.incrementAndGet();
+            return cached.template;
+        }
+        final boolean revalidate = cached != null && cached.eTag != null;
+        if (revalidate) {
+            revalidations.incrementAndGet();
+            request.ifNoneMatch(cached.eTag);
+        }
+
+        final ResponseInputStream<GetObjectResponse> response;
+        try {
+            response = getObject.apply(request.build());
+        } catch (final S3Exception e) {
+            if (revalidate && e.statusCode() == NOT_MODIFIED) {
+                hits.incrementAndGet();
+                return cached.template;
+            }
+            throw e;
+        }
+        misses.incrementAndGet();
+        final PipelineDefinitionTemplate template = PipelineDefinitionTemplate.compile(
+                read(response, String.format("s3://%s/%s", key.bucket, key.key)));
+        store(key, new Entry(template, response.response().eTag()));
+        return template;
+    }
+
+    /**
+     * @return definitions served without downloading them, including revalidated ones
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return definitions downloaded from S3
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * @return conditional GETs sent to revalidate unpinned definitions
+     */
+    public long getRevalidations() {
+        return revalidations.get();
+    }
+
+    /**
+     * @return summed length of the cached bodies
+     */
+    public synchronized long getLength() {
+        return length;
+    }
+
+    private static String read(final ResponseInputStream<GetObjectResponse> response, final String source) {
+        try (ResponseInputStream<GetObjectResponse> in = response) {
+            try {
+                return PipelineDefinitionReader.read(in, in.response().contentLength(), source);
+            } catch (final RuntimeException | IOException e) {
+                // closing a partially read stream would drain the rest of the object first
+                in.abort();
+                throw e;
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized Entry lookup(final Key key) {
+        return entries.get(key);
+    }
+
+    private synchronized void store(final Key key, final Entry entry) {
+        final Entry replaced = entries.remove(key);
+        if (replaced != null) {
+            length -= replaced.template.getDefinition().length();
+        }
+        if (entry.template.getDefinition().length() > maxLength) {
+            return;
+        }
+        entries.put(key, entry);
+        length += entry.template.getDefinition().length();
+        final Iterator<Entry> eldest = entries.values().iterator();
+        while (length > maxLength) {
+            length -= eldest.next().template.getDefinition().length();
+            eldest.remove();
+        }
+    }
+
+    // S3 returns ETags in quotes, templates may reference them with or without
+    private static String unquote(final String eTag) {
+        if (eTag != null && eTag.length() > 1 && eTag.startsWith("\"") && eTag.endsWith("\"")) {
+            return eTag.substring(1, eTag.length() - 1);
+        }
+        return eTag;
+    }
+
+    private static final class Key {
+        private final String accountId;
+        private final String bucket;
+        private final String key;
+        private final String version;
+        private final String eTag;
+
+        private Key(final String accountId, final String bucket, final String key, final String version,
+                    final String eTag) {
+            this.accountId = accountId;
+            this.bucket = bucket;
+            this.key = key;
+            this.version = version;
+            this.eTag = eTag;
+        }
+
+        private boolean isPinned() {
+            return version != null || eTag != null;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return Objects.equals(accountId, other.accountId) && Objects.equals(bucket, other.bucket)
+                    && Objects.equals(key, other.key) && Objects.equals(version, other.version) && Objects.equals(eTag, other.eTag);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(accountId, bucket, key, version, eTag);
+        }
+    }
+
+    private static final class Entry {
+        private final PipelineDefinitionTemplate template;
+        private final String eTag;
+
+        private Entry(final PipelineDefinitionTemplate template, final String eTag) {
+            this.template = template;
+            this.eTag = eTag;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package software.amazon.sagemaker.pipeline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256 digest of a pipeline definition in canonical form: the JSON is parsed and written back with object keys
+ * sorted and without insignificant whitespace, so that reformatting or reordering a definition does not change its
+ * digest. A body that is not valid JSON is digested as is.
+ */
+final class PipelineDefinitionDigest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private PipelineDefinitionDigest() {}
+
+    /**
+     * @param definition pipeline definition body, may be null
+     * @return lower case hex digest of the canonical definition, null for a null definition
+     */
+    static String of(final String definition) {
+        if (definition == null) {
+            return null;
+        }
+        final byte[] digest = sha256().digest(canonicalize(definition));
+        final char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[2 * i] = HEX[(digest[i] >> 4) & 0xf];
+            hex[2 * i + 1] = HEX[digest[i] & 0xf];
+        }
+        return new String(hex);
+    }
+
+    private static byte[] canonicalize(final String definition) {
+        try {
+            return MAPPER.writeValueAsBytes(MAPPER.readValue(definition, Object.class));
+        } catch (final IOException e) {
+            return definition.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package software.amazon.sagemaker.pipeline;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merges pipeline definition fragments into a base definition. Members of objects are merged recursively, arrays are
+ * concatenated, and a member with a different scalar value in two documents is rejected. Fragments are applied in
+ * the order given and members keep the order in which they first appear, so the same inputs always produce the same
+ * definition.
+ */
+final class PipelineDefinitionMerger {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private PipelineDefinitionMerger() {}
+
+    /**
+     * @param base the base definition, a JSON object
+     * @param fragments definitions merged into the base in order, each a JSON object
+     * @return the merged definition
+     * @throws CfnInvalidRequestException if a document is not an object, values conflict or the merged definition
+     *         exceeds the maximum definition length
+     */
+    static String merge(final String base, final List<String> fragments) {
+        final ObjectNode merged = parse(base, "base");
+        for (int i = 0; i < fragments.size(); i++) {
+            mergeInto(merged, parse(fragments.get(i), "fragment " + (i + 1)), "");
+        }
+
+        final String definition;
+        try {
+            definition = MAPPER.writeValueAsString(merged);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        if (definition.length() > PipelineDefinitionReader.MAX_DEFINITION_LENGTH) {
+            throw new CfnInvalidRequestException(String.format(
+                    "Merged pipeline definition exceeds the maximum length of %d characters",
+                    PipelineDefinitionReader.MAX_DEFINITION_LENGTH));
+        }
+        return definition;
+    }
+
+    private static ObjectNode parse(final String definition, final String name) {
+        final JsonNode node;
+        try {
+            node = MAPPER.readTree(definition);
+        } catch (final JsonProcessingException e) {
+            throw new CfnInvalidRequestException(String.format(
+                    "Pipeline definition %s is not valid JSON: %s", name, e.getOriginalMessage()), e);
+        }
+        if (!(node instanceof ObjectNode)) {
+            throw new CfnInvalidRequestException(String.format(
+                    "Pipeline definition %s is not a JSON object", name));
+        }
+        return (ObjectNode) node;
+    }
+
+    private static void mergeInto(final ObjectNode target, final ObjectNode source, final String path) {
+        final Iterator<Map.Entry<String, JsonNode>> members = source.fields();
+        while (members.hasNext()) {
+            final Map.Entry<String, JsonNode> member = members.next();
+            final String memberPath = path + "/" + member.getKey();
+            final JsonNode existing = target.get(member.getKey());
+            final JsonNode value = member.getValue();
+            if (existing == null) {
+                target.set(member.getKey(), value);
+            } else if (existing.isObject() && value.isObject()) {
+                mergeInto((ObjectNode) existing, (ObjectNode) value, memberPath);
+            } else if (existing.isArray() && value.isArray()) {
+                ((ArrayNode) existing).addAll((ArrayNode) value);
+            } else if (!existing.equals(value)) {
+                throw new CfnInvalidRequestException(String.format(
+                        "Pipeline definition fragments set different values for %s", memberPath));
+            }
+        }
+    }
+}
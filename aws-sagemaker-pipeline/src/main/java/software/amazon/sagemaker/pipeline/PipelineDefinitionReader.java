@@ -0,0 +1,138 @@
+package software.amazon.sagemaker.pipeline;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads a pipeline definition from a stream in the fixed-size chunks of Jackson's streaming parser, which checks
+ * while reading that the definition is a single well-formed JSON value. Reading stops at the definition size limit
+ * of SageMaker, and the stream is decoded straight into the resulting string without an intermediate byte array.
+ */
+final class PipelineDefinitionReader {
+
+    /** Maximum length of {@code PipelineDefinition} accepted by CreatePipeline and UpdatePipeline. */
+    static final int MAX_DEFINITION_LENGTH = 1024 * 1024;
+
+    // A UTF-8 encoded character takes at most 4 bytes
+    private static final long MAX_DEFINITION_BYTES = 4L * MAX_DEFINITION_LENGTH;
+    private static final int DEFAULT_CAPACITY = 8 * 1024;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private PipelineDefinitionReader() {}
+
+    /**
+     * @param in stream of the UTF-8 encoded definition
+     * @param contentLength length of the stream in bytes if known, used to reject oversized definitions up front
+     * @param source description of the definition location for error messages
+     * @return the definition
+     * @throws CfnInvalidRequestException if the definition is too large, not UTF-8 or not well-formed JSON
+     * @throws IOException if reading the stream fails
+     */
+    static String read(final InputStream in, final Long contentLength, final String source) throws IOException {
+        if (contentLength != null && contentLength > MAX_DEFINITION_BYTES) {
+            throw tooLarge(source);
+        }
+        final StringBuilder definition = new StringBuilder(contentLength == null
+                ? DEFAULT_CAPACITY : (int) Math.min(contentLength, MAX_DEFINITION_LENGTH));
+        final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+
+        try (JsonParser parser = JSON_FACTORY.createParser(
+                new CapturingReader(new InputStreamReader(in, decoder), definition, source))) {
+            parseDocument(parser, source);
+        } catch (final CharacterCodingException e) {
+            throw new CfnInvalidRequestException(String.format(
+                    "Pipeline definition %s is not UTF-8 encoded", source), e);
+        }
+        return definition.toString();
+    }
+
+    /**
+     * Checks a definition built in memory, like one whose placeholders were substituted, the way a definition read
+     * from a stream is checked.
+     *
+     * @param definition the definition
+     * @param source description of the definition for error messages
+     * @return the definition
+     * @throws CfnInvalidRequestException if the definition is too large or not well-formed JSON
+     */
+    static String validate(final String definition, final String source) {
+        if (definition.length() > MAX_DEFINITION_LENGTH) {
+            throw tooLarge(source);
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(definition)) {
+            parseDocument(parser, source);
+        } catch (final IOException e) {
+            // a string source cannot fail to read, only to parse
+            throw new UncheckedIOException(e);
+        }
+        return definition;
+    }
+
+    // Skipping the children still tokenizes them, so the whole document is checked without building a tree
+    private static void parseDocument(final JsonParser parser, final String source) throws IOException {
+        try {
+            if (parser.nextToken() == null) {
+                throw new CfnInvalidRequestException(String.format("Pipeline definition %s is empty", source));
+            }
+            parser.skipChildren();
+            if (parser.nextToken() != null) {
+                throw new CfnInvalidRequestException(String.format(
+                        "Pipeline definition %s has content after the JSON document", source));
+            }
+        } catch (final JsonProcessingException e) {
+            throw new CfnInvalidRequestException(String.format(
+                    "Pipeline definition %s is not valid JSON: %s", source, e.getOriginalMessage()), e);
+        }
+    }
+
+    private static CfnInvalidRequestException tooLarge(final String source) {
+        return new CfnInvalidRequestException(String.format(
+                "Pipeline definition %s exceeds the maximum length of %d characters", source, MAX_DEFINITION_LENGTH));
+    }
+
+    /**
+     * Appends every character handed to the parser to the definition and stops reading at the size limit.
+     */
+    private static final class CapturingReader extends Reader {
+        private final Reader delegate;
+        private final StringBuilder definition;
+        private final String source;
+
+        private CapturingReader(final Reader delegate, final StringBuilder definition, final String source) {
+            this.delegate = delegate;
+            this.definition = definition;
+            this.source = source;
+        }
+
+        @Override
+        public int read(final char[] buffer, final int offset, final int length) throws IOException {
+            final int read = delegate.read(buffer, offset, length);
+            if (read > 0) {
+                if (definition.length() + read > MAX_DEFINITION_LENGTH) {
+                    throw tooLarge(source);
+                }
+                definition.append(buffer, offset, read);
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package software.amazon.sagemaker.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pipeline definition with the positions of its {@code ${Name}} placeholders, found in a single scan when the
+ * template is compiled. Rendering copies the text between placeholders and the substituted values once, so a
+ * template shared by many pipelines is rendered in time linear in its length without scanning it again.
+ *
+ * <p>A name consists of 1 to 256 letters, digits, {@code _}, {@code .} and {@code -}. Placeholders without a
+ * substitution are rendered as they are. Values are inserted verbatim, not JSON escaped, so that a value can also
+ * stand for a number or a JSON fragment. Instances are immutable and can be shared between threads.
+ */
+final class PipelineDefinitionTemplate {
+
+    private static final String PLACEHOLDER_START = "${";
+    private static final char PLACEHOLDER_END = '}';
+    private static final int MAX_NAME_LENGTH = 256;
+
+    private final String definition;
+    // start and end (exclusive) offsets of each placeholder in the definition, and its name
+    private final int[] starts;
+    private final int[] ends;
+    private final String[] names;
+
+    private PipelineDefinitionTemplate(final String definition, final int[] starts, final int[] ends,
+                                       final String[] names) {
+        this.definition = definition;
+        this.starts = starts;
+        this.ends = ends;
+        this.names = names;
+    }
+
+    /**
+     * @param definition pipeline definition
+     * @return the compiled template
+     */
+    static PipelineDefinitionTemplate compile(final String definition) {
+        final List<Integer> starts = new ArrayList<>();
+        final List<String> names = new ArrayList<>();
+        int from = 0;
+        int start;
+        while ((start = definition.indexOf(PLACEHOLDER_START, from)) >= 0) {
+            final int nameStart = start + PLACEHOLDER_START.length();
+            final int end = definition.indexOf(PLACEHOLDER_END, nameStart);
+            if (end < 0) {
+                break;
+            }
+            if (isName(definition, nameStart, end)) {
+                starts.add(start);
+                names.add(definition.substring(nameStart, end));
+                from = end + 1;
+            } else {
+                // a placeholder may still start inside, as in "${a ${b}"
+                from = nameStart;
+            }
+        }
+
+        final int[] startOffsets = new int[starts.size()];
+        final int[] endOffsets = new int[starts.size()];
+        for (int i = 0; i < startOffsets.length; i++) {
+            startOffsets[i] = starts.get(i);
+            endOffsets[i] = startOffsets[i] + PLACEHOLDER_START.length() + names.get(i).length() + 1;
+        }
+        return new PipelineDefinitionTemplate(definition, startOffsets, endOffsets, names.toArray(new String[0]));
+    }
+
+    /**
+     * @return the definition the template was compiled from
+     */
+    String getDefinition() {
+        return definition;
+    }
+
+    /**
+     * @return number of placeholders in the definition
+     */
+    int getPlaceholderCount() {
+        return names.length;
+    }
+
+    /**
+     * Replaces the placeholders by their substitutions.
+     *
+     * @param substitutions values by placeholder name, may be null
+     * @return the rendered definition
+     */
+    String render(final Map<String, String> substitutions) {
+        if (names.length == 0 || substitutions == null || substitutions.isEmpty()) {
+            return definition;
+        }
+        final String[] values = new String[names.length];
+        int length = definition.length();
+        for (int i = 0; i < names.length; i++) {
+            values[i] = substitutions.get(names[i]);
+            if (values[i] != null) {
+                length += values[i].length() - (ends[i] - starts[i]);
+            }
+        }
+
+        final StringBuilder rendered = new StringBuilder(length);
+        int copied = 0;
+        for (int i = 0; i < names.length; i++) {
+            if (values[i] != null) {
+                rendered.append(definition, copied, starts[i]).append(values[i]);
+                copied = ends[i];
+            }
+        }
+        return rendered.append(definition, copied, definition.length()).toString();
+    }
+
+    /**
+     * Replaces the placeholders by their substitutions and checks that the result is still a definition SageMaker
+     * accepts, since a value holding a quote or a brace changes the structure of the JSON around it.
+     *
+     * @param substitutions values by placeholder name, may be null
+     * @return the rendered definition
+     * @throws software.amazon.cloudformation.exceptions.CfnInvalidRequestException if the rendered definition
+     *         exceeds the maximum definition length or is not well-formed JSON
+     */
+    String renderDefinition(final Map<String, String> substitutions) {
+        final String rendered = render(substitutions);
+        // render hands back the definition itself when there was nothing to substitute
+        return rendered == definition ? rendered : PipelineDefinitionReader.validate(rendered, "after substitution");
+    }
+
+    private static boolean isName(final String definition, final int start, final int end) {
+        if (end == start || end - start > MAX_NAME_LENGTH) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            final char c = definition.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9'
+                    || c == '_' || c == '.' || c == '-')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
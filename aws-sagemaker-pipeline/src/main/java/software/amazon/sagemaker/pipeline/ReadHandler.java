@@ -18,6 +18,12 @@ public class ReadHandler extends BaseHandlerStd {
     private static final String OPERATION = "AWS-SageMaker-Pipeline::Read";
     private Logger logger;
 
+    @Override
+    protected boolean reschedulesOnThrottle() {
+        // Read has no callbacks, so it still fails when throttled
+        return false;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -33,7 +39,7 @@ public class ReadHandler extends BaseHandlerStd {
         return proxy.initiate(OPERATION, proxyClient, model, callbackContext)
                 .translateToServiceRequest(TranslatorForRequest::translateToReadRequest)
                 .makeServiceCall(this::readResource)
-                .done(this::constructResourceModelFromResponse);
+                .done(awsResponse -> constructResourceModelFromResponse(awsResponse, model));
     }
 
     /**
@@ -63,10 +69,13 @@ public class ReadHandler extends BaseHandlerStd {
      * initialised with caller credentials, correct region and retry settings
      *
      * @param awsResponse the aws service describe resource response
+     * @param model the model the handler was invoked with
      * @return progressEvent indicating success, in progress with delay callback or failed state
      */
     private ProgressEvent<ResourceModel, CallbackContext> constructResourceModelFromResponse(
-            final DescribePipelineResponse awsResponse) {
-        return ProgressEvent.defaultSuccessHandler(TranslatorForResponse.translateFromReadResponse(awsResponse));
+            final DescribePipelineResponse awsResponse,
+            final ResourceModel model) {
+        return ProgressEvent.defaultSuccessHandler(
+                TranslatorForResponse.translateFromReadResponse(awsResponse, model));
     }
 }
@@ -2,7 +2,6 @@ package software.amazon.sagemaker.pipeline;
 
 import com.amazonaws.AmazonServiceException;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
@@ -10,22 +9,98 @@ import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
 public class S3ClientWrapper {
 
-    private static final S3Client s3Client = S3Client.builder().build();
+    private static final int MOVED_PERMANENTLY = 301;
+    private static final String BUCKET_REGION_HEADER = "x-amz-bucket-region";
+
+    // Room for 16 definitions of the maximum length, a few hundred typical ones
+    private static final long DEFINITION_CACHE_LENGTH = 16L * PipelineDefinitionReader.MAX_DEFINITION_LENGTH;
+    private static final PipelineDefinitionCache definitionCache = new PipelineDefinitionCache(DEFINITION_CACHE_LENGTH);
+
+    // Fragments of a definition are fetched concurrently, at most this many at a time per process
+    private static final int MAX_CONCURRENT_FETCHES = 8;
+    private static final ExecutorService fetchExecutor = Executors.newFixedThreadPool(MAX_CONCURRENT_FETCHES, r -> {
+        final Thread thread = new Thread(r, "pipeline-definition-fetch");
+        thread.setDaemon(true);
+        return thread;
+    });
 
+    /**
+     * @return the definition cache shared by the handlers of this process
+     */
+    public static PipelineDefinitionCache getDefinitionCache() {
+        return definitionCache;
+    }
+
+    /**
+     * Fetches the pipeline definition with the caller credentials. The bucket is expected in the region of the
+     * request; a bucket in another region is fetched again from the region S3 redirects to.
+     *
+     * @param s3Location location of the definition
+     * @param accountId account of the caller
+     * @param region region of the request
+     * @param proxy proxy injecting the caller credentials
+     * @param logger logger
+     * @return the definition body
+     */
     public static String getBodyFromS3(
             S3Location s3Location,
+            String accountId,
+            String region,
             AmazonWebServicesClientProxy proxy,
             Logger logger
     ) {
-        try {
-            GetObjectRequest request = GetObjectRequest.builder().bucket(s3Location.getBucket())
-                    .ifMatch(s3Location.getETag()).versionId(s3Location.getVersion())
-                    .key(s3Location.getKey()).build();
-            logger.log("Fetching file from S3 with request:" + request.toString());
+        return getTemplateFromS3(s3Location, accountId, region, ClientBuilder::getS3Client, proxy, logger)
+                .getDefinition();
+    }
 
-            String response = proxy.injectCredentialsAndInvokeV2Bytes(request, s3Client::getObjectAsBytes).asUtf8String();
+    /**
+     * Fetches the pipeline definition like {@link #getBodyFromS3}, compiled for placeholder substitution.
+     *
+     * @param s3Location location of the definition
+     * @param accountId account of the caller
+     * @param region region of the request
+     * @param s3Clients S3 client by region
+     * @param proxy proxy injecting the caller credentials
+     * @param logger logger
+     * @return the compiled definition
+     */
+    static PipelineDefinitionTemplate getTemplateFromS3(
+            S3Location s3Location,
+            String accountId,
+            String region,
+            Function<String, S3Client> s3Clients,
+            AmazonWebServicesClientProxy proxy,
+            Logger logger
+    ) {
+        try {
+            PipelineDefinitionTemplate response = definitionCache.getTemplate(accountId, s3Location, request -> {
+                logger.log("Fetching file from S3 with request:" + request.toString());
+                try {
+                    return proxy.injectCredentialsAndInvokeV2InputStream(request, s3Clients.apply(region)::getObject);
+                } catch (S3Exception e) {
+                    final Optional<String> bucketRegion = bucketRegion(e);
+                    if (!bucketRegion.isPresent() || bucketRegion.get().equals(region)) {
+                        throw e;
+                    }
+                    logger.log(String.format("Bucket %s is in region %s", request.bucket(), bucketRegion.get()));
+                    return proxy.injectCredentialsAndInvokeV2InputStream(request,
+                            s3Clients.apply(bucketRegion.get())::getObject);
+                }
+            });
+            logger.log(String.format("Pipeline definition cache hits: %d, misses: %d",
+                    definitionCache.getHits(), definitionCache.getMisses()));
             return response;
         } catch (NoSuchKeyException nske) {
             String errorMsg = String.format("No such key %s/%s with version: %s",
@@ -35,6 +110,72 @@ public class S3ClientWrapper {
         } catch (S3Exception | AmazonServiceException se) {
             logger.log("Error while fetching file from S3 " + se.getMessage());
             throw new CfnGeneralServiceException(se.getMessage(), se);
+        } catch (UncheckedIOException ioe) {
+            logger.log("Error while reading file from S3 " + ioe.getMessage());
+            throw new CfnGeneralServiceException(ioe.getMessage(), ioe);
+        }
+    }
+
+    /**
+     * Fetches the base definition and its fragments concurrently and merges the fragments into the base in the
+     * order listed. Each object is fetched and cached like a single-object definition, so pinned fragments are
+     * served from the cache and unpinned ones are revalidated.
+     *
+     * @param base location of the base definition
+     * @param fragments locations of the fragments, may be null or empty
+     * @param accountId account of the caller
+     * @param region region of the request
+     * @param s3Clients S3 client by region
+     * @param proxy proxy injecting the caller credentials
+     * @param logger logger
+     * @return the compiled merged definition
+     */
+    static PipelineDefinitionTemplate getTemplateFromS3(
+            S3Location base,
+            List<S3Location> fragments,
+            String accountId,
+            String region,
+            Function<String, S3Client> s3Clients,
+            AmazonWebServicesClientProxy proxy,
+            Logger logger
+    ) {
+        if (fragments == null || fragments.isEmpty()) {
+            return getTemplateFromS3(base, accountId, region, s3Clients, proxy, logger);
+        }
+
+        final List<Future<PipelineDefinitionTemplate>> fetches = new ArrayList<>(fragments.size());
+        try {
+            for (final S3Location fragment : fragments) {
+                fetches.add(fetchExecutor.submit(
+                        () -> getTemplateFromS3(fragment, accountId, region, s3Clients, proxy, logger)));
+            }
+            final String baseDefinition = getTemplateFromS3(base, accountId, region, s3Clients, proxy, logger)
+                    .getDefinition();
+            final List<String> fragmentDefinitions = new ArrayList<>(fetches.size());
+            for (final Future<PipelineDefinitionTemplate> fetch : fetches) {
+                fragmentDefinitions.add(fetch.get().getDefinition());
+            }
+            logger.log(String.format("Merging %d pipeline definition fragments", fragmentDefinitions.size()));
+            return PipelineDefinitionTemplate.compile(
+                    PipelineDefinitionMerger.merge(baseDefinition, fragmentDefinitions));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CfnGeneralServiceException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CfnGeneralServiceException("Interrupted while fetching pipeline definition fragments", e);
+        } finally {
+            fetches.forEach(fetch -> fetch.cancel(true));
+        }
+    }
+
+    private static Optional<String> bucketRegion(final S3Exception e) {
+        if (e.statusCode() != MOVED_PERMANENTLY || e.awsErrorDetails() == null
+                || e.awsErrorDetails().sdkHttpResponse() == null) {
+            return Optional.empty();
         }
+        return e.awsErrorDetails().sdkHttpResponse().firstMatchingHeader(BUCKET_REGION_HEADER);
     }
 }
@@ -3,7 +3,11 @@ package software.amazon.sagemaker.pipeline;
 import software.amazon.awssdk.services.sagemaker.model.CreatePipelineRequest;
 import software.amazon.awssdk.services.sagemaker.model.DeletePipelineRequest;
 import software.amazon.awssdk.services.sagemaker.model.DescribePipelineRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListPipelineExecutionsRequest;
 import software.amazon.awssdk.services.sagemaker.model.ListPipelinesRequest;
+import software.amazon.awssdk.services.sagemaker.model.SortOrder;
+import software.amazon.awssdk.services.sagemaker.model.SortPipelineExecutionsBy;
+import software.amazon.awssdk.services.sagemaker.model.StopPipelineExecutionRequest;
 import software.amazon.awssdk.services.sagemaker.model.Tag;
 import software.amazon.awssdk.services.sagemaker.model.UpdatePipelineRequest;
 
@@ -17,18 +21,25 @@ import java.util.stream.Collectors;
  */
 final class TranslatorForRequest {
 
+    // Largest page size accepted by ListPipelineExecutions
+    private static final int MAX_EXECUTIONS_PAGE_SIZE = 100;
+
+    // Largest page size accepted by ListPipelines
+    static final int MAX_PIPELINES_PAGE_SIZE = 100;
+
     private TranslatorForRequest() {}
 
     /**
      * Request to create a resource
      * @param model resource model
+     * @param definitionBody the resolved pipeline definition
      * @return createPipelineRequest - service request to create a resource
      */
-    static CreatePipelineRequest translateToCreateRequest(final ResourceModel model) {
+    static CreatePipelineRequest translateToCreateRequest(final ResourceModel model, final String definitionBody) {
         return CreatePipelineRequest.builder()
                 .pipelineName(model.getPipelineName())
                 .pipelineDisplayName(model.getPipelineDisplayName())
-                .pipelineDefinition(model.getPipelineDefinition().getPipelineDefinitionBody())
+                .pipelineDefinition(definitionBody)
                 .pipelineDescription(model.getPipelineDescription())
                 .roleArn(model.getRoleArn())
                 .tags(Translator.streamOfOrEmpty(model.getTags())
@@ -49,6 +60,36 @@ final class TranslatorForRequest {
         return DescribePipelineRequest.builder().pipelineName(model.getPipelineName()).build();
     }
 
+    /**
+     * Request to list the executions of a pipeline, newest first so that running executions come early
+     * @param model resource model
+     * @return listPipelineExecutionsRequest the aws service request to list the executions of the pipeline
+     */
+    static ListPipelineExecutionsRequest translateToListExecutionsRequest(final ResourceModel model) {
+        return ListPipelineExecutionsRequest.builder()
+                .pipelineName(model.getPipelineName())
+                .sortBy(SortPipelineExecutionsBy.CREATION_TIME)
+                .sortOrder(SortOrder.DESCENDING)
+                .maxResults(MAX_EXECUTIONS_PAGE_SIZE)
+                .build();
+    }
+
+    /**
+     * Request to stop an execution of a pipeline
+     * @param executionArn arn of the execution
+     * @param clientRequestToken idempotency token of the stop
+     * @return stopPipelineExecutionRequest the aws service request to stop the execution
+     */
+    static StopPipelineExecutionRequest translateToStopExecutionRequest(
+            final String executionArn,
+            final String clientRequestToken
+    ) {
+        return StopPipelineExecutionRequest.builder()
+                .pipelineExecutionArn(executionArn)
+                .clientRequestToken(clientRequestToken)
+                .build();
+    }
+
     /**
      * Request to delete a resource
      * @param model resource model
@@ -61,14 +102,15 @@ final class TranslatorForRequest {
     /**
      * Request to update properties of a previously created resource
      * @param model resource model
+     * @param definitionBody the resolved pipeline definition
      * @return updatePipelineRequest the aws service request to modify a resource
      */
-    static UpdatePipelineRequest translateToUpdateRequest(final ResourceModel model) {
+    static UpdatePipelineRequest translateToUpdateRequest(final ResourceModel model, final String definitionBody) {
         return UpdatePipelineRequest.builder()
                 .pipelineName(model.getPipelineName())
                 .pipelineDisplayName(model.getPipelineDisplayName())
                 .pipelineDescription(model.getPipelineDescription())
-                .pipelineDefinition(model.getPipelineDefinition().getPipelineDefinitionBody())
+                .pipelineDefinition(definitionBody)
                 .roleArn(model.getRoleArn())
                 .build();
     }
@@ -79,7 +121,10 @@ final class TranslatorForRequest {
      * @return awsRequest the aws service request to describe resources within aws account
      */
     static ListPipelinesRequest translateToListRequest(final String nextToken) {
-        return ListPipelinesRequest.builder().nextToken(nextToken).build();
+        return ListPipelinesRequest.builder()
+                .nextToken(nextToken)
+                .maxResults(MAX_PIPELINES_PAGE_SIZE)
+                .build();
     }
 
 }
\ No newline at end of file
@@ -12,18 +12,28 @@ public class TranslatorForResponse {
     private TranslatorForResponse() {}
 
     /**
-     * Translates resource object from sdk into a resource model
+     * Translates resource object from sdk into a resource model. When the described definition still has the digest
+     * recorded in the declared model, the declared definition (an S3 location or an inline template) is returned in
+     * place of the deployed body, which keeps megabyte-sized bodies out of the progress event. Otherwise the deployed
+     * body is returned so that drift detection reports the difference.
      * @param awsResponse the aws service describe resource response
+     * @param declared model the handler was invoked with, may be null
      * @return model resource model
      */
-    static ResourceModel translateFromReadResponse(final DescribePipelineResponse awsResponse) {
+    static ResourceModel translateFromReadResponse(final DescribePipelineResponse awsResponse,
+                                                   final ResourceModel declared) {
+        final String digest = PipelineDefinitionDigest.of(awsResponse.pipelineDefinition());
+        final boolean unchanged = declared != null && declared.getPipelineDefinition() != null
+                && digest != null && digest.equals(declared.getPipelineDefinitionDigest());
         return ResourceModel.builder()
                 .pipelineName(awsResponse.pipelineName())
-                .pipelineDefinition(
-                        PipelineDefinition.builder()
+                .pipelineDefinition(unchanged
+                        ? declared.getPipelineDefinition()
+                        : PipelineDefinition.builder()
                                 .pipelineDefinitionBody(awsResponse.pipelineDefinition())
                                 .build()
                 )
+                .pipelineDefinitionDigest(digest)
                 .pipelineDescription(awsResponse.pipelineDescription())
                 .pipelineDisplayName(awsResponse.pipelineDisplayName())
                 .roleArn(awsResponse.roleArn())
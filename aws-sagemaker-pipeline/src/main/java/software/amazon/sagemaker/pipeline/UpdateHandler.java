@@ -2,22 +2,59 @@ package software.amazon.sagemaker.pipeline;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.DescribePipelineRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribePipelineResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListPipelineExecutionsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListPipelineExecutionsResponse;
+import software.amazon.awssdk.services.sagemaker.model.PipelineExecutionStatus;
+import software.amazon.awssdk.services.sagemaker.model.PipelineExecutionSummary;
 import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.sagemaker.model.UpdatePipelineRequest;
 import software.amazon.awssdk.services.sagemaker.model.UpdatePipelineResponse;
 import software.amazon.cloudformation.Action;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.BackoffProfile;
+import software.amazon.sagemaker.common.StabilizationHistory;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
+
+import java.time.Duration;
+import java.util.Map;
 
 public class UpdateHandler extends BaseHandlerStd {
 
     private static final String OPERATION = "AWS-SageMaker-Pipeline::Update";
+    private static final String WAIT_OPERATION = "AWS-SageMaker-Pipeline::WaitForExecutions";
+
+    static final String WAIT_FOR_EXECUTIONS = "Wait";
+    static final String FAIL_ON_EXECUTIONS = "Fail";
+    // Observed once no execution is running, so that scans without a wait are reported as well
+    private static final String NO_RUNNING_EXECUTIONS = "Idle";
+
+    // Executions run for minutes to hours, while stopping usually takes seconds
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder()
+            .timeout(Duration.ofHours(1))
+            .profile(PipelineExecutionStatus.EXECUTING.toString(), BackoffProfile.LONG_POLL)
+            .profile(PipelineExecutionStatus.STOPPING.toString(), BackoffProfile.SHORT_POLL)
+            .build();
+
+    private final StabilizationScheduler stabilizationScheduler;
     private Logger logger;
 
+    public UpdateHandler() {
+        this(STABILIZATION_SCHEDULER);
+    }
+
+    public UpdateHandler(final StabilizationScheduler stabilizationScheduler) {
+        this.stabilizationScheduler = stabilizationScheduler;
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             AmazonWebServicesClientProxy proxy,
@@ -30,27 +67,186 @@ public class UpdateHandler extends BaseHandlerStd {
         this.logger = logger;
         final ResourceModel model = request.getDesiredResourceState();
 
-        if (model.getPipelineDefinition().getPipelineDefinitionS3Location() != null) {
-            String pipelineDefinition = S3ClientWrapper.getBodyFromS3(
-                    model.getPipelineDefinition().getPipelineDefinitionS3Location(),
-                    proxy,
-                    logger
-            );
-            model.setPipelineDefinition(PipelineDefinition.builder()
-                    .pipelineDefinitionBody(pipelineDefinition)
-                    .build()
-            );
+        final String definitionBody = resolvePipelineDefinition(model, request, proxy, logger);
+        model.setPipelineDefinitionDigest(PipelineDefinitionDigest.of(definitionBody));
+
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        if (previousModel != null) {
+            final DescribePipelineResponse deployed = hasDefinitionBody(previousModel)
+                    ? null : describeResource(TranslatorForRequest.translateToReadRequest(model), proxyClient);
+            final ResourceModel deployedModel = deployed == null
+                    ? previousModel : TranslatorForResponse.translateFromReadResponse(deployed, model);
+            if (!hasChanges(deployedModel, model)) {
+                logger.log(String.format("%s [%s] is unchanged, skipping UpdatePipeline",
+                        ResourceModel.TYPE_NAME, model.getPipelineName()));
+                return deployed == null
+                        ? new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger)
+                        : ProgressEvent.defaultSuccessHandler(deployedModel);
+            }
         }
 
         return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> waitForRunningExecutions(proxy, proxyClient, progress))
                 .then(progress ->
                         proxy.initiate(OPERATION, proxyClient, model, callbackContext)
-                                .translateToServiceRequest(TranslatorForRequest::translateToUpdateRequest)
+                                .translateToServiceRequest(resourceModel ->
+                                        TranslatorForRequest.translateToUpdateRequest(resourceModel, definitionBody))
                                 .makeServiceCall(this::updateResource)
                                 .progress())
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
+    /**
+     * Applies the RunningExecutionsPolicy before the update: with Wait the executions are scanned again with the
+     * backoff of the scheduler until none is Executing or Stopping, with Fail a running execution fails the update.
+     * @param proxy Amazon webservice proxy to inject credentials correctly
+     * @param proxyClient the aws service client to make the call
+     * @param progress event of the preceding step
+     * @return progressEvent continuing once no execution runs, or waiting for a callback
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> waitForRunningExecutions(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<SageMakerClient> proxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress
+    ) {
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        final String policy = model.getRunningExecutionsPolicy();
+        if (!WAIT_FOR_EXECUTIONS.equals(policy) && !FAIL_ON_EXECUTIONS.equals(policy)) {
+            return progress;
+        }
+
+        final StabilizationHistory history = callbackContext.getStabilizationHistory();
+        return StabilizationMetrics.emf(logger).track(WAIT_OPERATION, history, () ->
+                proxy.initiate(WAIT_OPERATION, proxyClient, model, callbackContext)
+                        .translateToServiceRequest(TranslatorForRequest::translateToListExecutionsRequest)
+                        .backoffDelay(stabilizationScheduler.delay(history))
+                        .makeServiceCall((awsRequest, client) -> scanForRunningExecution(awsRequest, client, history,
+                                FAIL_ON_EXECUTIONS.equals(policy)))
+                        .stabilize(StabilizationMetrics.countThrottles(history,
+                                (awsRequest, running, client, resourceModel, context) ->
+                                        !running || !scanForRunningExecution(awsRequest, client, history, false)))
+                        .progress());
+    }
+
+    /**
+     * Scans the executions newest first and stops at the first one that is Executing or Stopping, so that only a
+     * pipeline without running executions is scanned to its end.
+     * @param awsRequest request for the first page of executions
+     * @param proxyClient the aws service client to make the call
+     * @param history stabilization history recording the scanned executions and the observed status
+     * @param failFast whether a running execution fails the update
+     * @return true if an execution is running
+     */
+    private boolean scanForRunningExecution(
+            final ListPipelineExecutionsRequest awsRequest,
+            final ProxyClient<SageMakerClient> proxyClient,
+            final StabilizationHistory history,
+            final boolean failFast
+    ) {
+        PipelineExecutionSummary running = null;
+        long scanned = 0;
+        String nextToken = null;
+        do {
+            final ListPipelineExecutionsResponse page =
+                    listExecutions(awsRequest.toBuilder().nextToken(nextToken).build(), proxyClient);
+            for (final PipelineExecutionSummary execution : page.pipelineExecutionSummaries()) {
+                scanned++;
+                if (execution.pipelineExecutionStatus() == PipelineExecutionStatus.EXECUTING
+                        || execution.pipelineExecutionStatus() == PipelineExecutionStatus.STOPPING) {
+                    running = execution;
+                    break;
+                }
+            }
+            nextToken = page.nextToken();
+        } while (running == null && nextToken != null);
+        history.count(EXECUTIONS_SCANNED, scanned);
+
+        if (running == null) {
+            stabilizationScheduler.observe(history, NO_RUNNING_EXECUTIONS);
+            stabilizationScheduler.complete(history);
+            logger.log(String.format("%s [%s] has no running executions after scanning %d",
+                    ResourceModel.TYPE_NAME, awsRequest.pipelineName(), scanned));
+            return false;
+        }
+        stabilizationScheduler.observe(history, running.pipelineExecutionStatusAsString());
+        if (failFast) {
+            throw new CfnResourceConflictException(ResourceModel.TYPE_NAME, awsRequest.pipelineName(),
+                    String.format("execution %s is %s", running.pipelineExecutionArn(),
+                            running.pipelineExecutionStatusAsString()));
+        }
+        logger.log(String.format("%s [%s] is waiting for execution %s, which is %s",
+                ResourceModel.TYPE_NAME, awsRequest.pipelineName(), running.pipelineExecutionArn(),
+                running.pipelineExecutionStatusAsString()));
+        return true;
+    }
+
+    private ListPipelineExecutionsResponse listExecutions(
+            final ListPipelineExecutionsRequest awsRequest,
+            final ProxyClient<SageMakerClient> proxyClient
+    ) {
+        ListPipelineExecutionsResponse response = null;
+        try {
+            response = proxyClient.injectCredentialsAndInvokeV2(awsRequest,
+                    proxyClient.client()::listPipelineExecutions);
+        } catch (final ResourceNotFoundException e) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, awsRequest.pipelineName(), e);
+        } catch (final AwsServiceException e) {
+            Translator.throwCfnException(Action.UPDATE.toString(), ResourceModel.TYPE_NAME, awsRequest.pipelineName(), e);
+        }
+        return response;
+    }
+
+    /**
+     * Compares the mutable properties that an update request would send. A property left out of the desired model
+     * is not sent, so it never counts as a change; definitions are compared by their canonical digest.
+     * @param deployed model of the deployed pipeline, either the previous resource state or the described pipeline
+     * @param desired desired model with the digest of its resolved definition
+     * @return true if UpdatePipeline has to be called
+     */
+    static boolean hasChanges(final ResourceModel deployed, final ResourceModel desired) {
+        return changed(deployed.getPipelineDisplayName(), desired.getPipelineDisplayName())
+                || changed(deployed.getPipelineDescription(), desired.getPipelineDescription())
+                || changed(deployed.getRoleArn(), desired.getRoleArn())
+                || changed(deployedDigest(deployed), desired.getPipelineDefinitionDigest());
+    }
+
+    // The previous resource state holds the definition before its placeholders were substituted
+    private static String deployedDigest(final ResourceModel deployed) {
+        if (deployed.getPipelineDefinitionDigest() != null) {
+            return deployed.getPipelineDefinitionDigest();
+        }
+        final String definition = deployed.getPipelineDefinition().getPipelineDefinitionBody();
+        final Map<String, String> substitutions = deployed.getPipelineDefinitionSubstitutions();
+        return PipelineDefinitionDigest.of(substitutions == null || substitutions.isEmpty()
+                ? definition : PipelineDefinitionTemplate.compile(definition).render(substitutions));
+    }
+
+    private static boolean changed(final String deployed, final String desired) {
+        return desired != null && !desired.equals(deployed);
+    }
+
+    // A previous state with an S3 location does not tell which definition the object held when it was deployed
+    private static boolean hasDefinitionBody(final ResourceModel model) {
+        return model.getPipelineDefinition() != null
+                && model.getPipelineDefinition().getPipelineDefinitionBody() != null;
+    }
+
+    private DescribePipelineResponse describeResource(
+            final DescribePipelineRequest awsRequest,
+            final ProxyClient<SageMakerClient> proxyClient
+    ) {
+        DescribePipelineResponse response = null;
+        try {
+            response = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describePipeline);
+        } catch (final ResourceNotFoundException e) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, awsRequest.pipelineName(), e);
+        } catch (final AwsServiceException e) {
+            Translator.throwCfnException(Action.UPDATE.toString(), ResourceModel.TYPE_NAME, awsRequest.pipelineName(), e);
+        }
+        return response;
+    }
+
     /**
      * Client invocation of the update request through the proxyClient, which is already initialised with
      * caller credentials, region and retry settings
@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
@@ -31,11 +32,14 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Slf4j
@@ -91,6 +95,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .pipelineName(TEST_PIPELINE_NAME)
                 .pipelineDefinition(PipelineDefinition.builder()
                         .pipelineDefinitionBody(TEST_PIPELINE_DEFINITION).build())
+                .pipelineDefinitionDigest(PipelineDefinitionDigest.of(TEST_PIPELINE_DEFINITION))
                 .pipelineDescription(TEST_PIPELINE_DESCRIPTION)
                 .roleArn(TEST_ROLE_ARN)
                 .pipelineDisplayName(TEST_PIPELINE_DISPLAY_NAME)
@@ -104,6 +109,56 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void testCreateHandler_SimpleSuccess_PipelineDefinitionSubstitutions() {
+        final String template = "{\"Version\": \"2020-12-01\", \"Metadata\": {\"Env\": \"${Env}\"}}";
+        final String rendered = "{\"Version\": \"2020-12-01\", \"Metadata\": {\"Env\": \"prod\"}}";
+        final ResourceModel model = getResourceModel();
+        model.setPipelineDefinition(PipelineDefinition.builder().pipelineDefinitionBody(template).build());
+        model.setPipelineDefinitionSubstitutions(Collections.singletonMap("Env", "prod"));
+
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenReturn(DescribePipelineResponse.builder()
+                        .pipelineArn(TEST_PIPELINE_ARN)
+                        .pipelineName(TEST_PIPELINE_NAME)
+                        .pipelineDefinition(rendered)
+                        .roleArn(TEST_ROLE_ARN)
+                        .build());
+        when(proxyClient.client().createPipeline(any(CreatePipelineRequest.class)))
+                .thenReturn(CreatePipelineResponse.builder().pipelineArn(TEST_PIPELINE_ARN).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(request);
+
+        final ArgumentCaptor<CreatePipelineRequest> captor = ArgumentCaptor.forClass(CreatePipelineRequest.class);
+        verify(proxyClient.client()).createPipeline(captor.capture());
+        assertThat(captor.getValue().pipelineDefinition()).isEqualTo(rendered);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // the deployed definition matches the declared one, so the template is returned instead of the body
+        assertThat(response.getResourceModel().getPipelineDefinition().getPipelineDefinitionBody())
+                .isEqualTo(template);
+        assertThat(response.getResourceModel().getPipelineDefinitionDigest())
+                .isEqualTo(PipelineDefinitionDigest.of(rendered));
+    }
+
+    @Test
+    public void testCreateHandler_SubstitutionBreaksDefinition() {
+        final ResourceModel model = getResourceModel();
+        model.setPipelineDefinition(PipelineDefinition.builder()
+                .pipelineDefinitionBody("{\"Version\": \"2020-12-01\", \"Metadata\": {\"Env\": \"${Env}\"}}")
+                .build());
+        model.setPipelineDefinitionSubstitutions(Collections.singletonMap("Env", "prod\"}"));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThrows(CfnInvalidRequestException.class, () -> invokeHandleRequest(request));
+        verify(proxyClient.client(), never()).createPipeline(any(CreatePipelineRequest.class));
+    }
+
     @Test
     public void testCreateHandler_ServiceInternalException() {
         final AwsServiceException serviceInternalException = SageMakerException.builder()
@@ -11,8 +11,16 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
 import software.amazon.awssdk.services.sagemaker.model.DeletePipelineRequest;
 import software.amazon.awssdk.services.sagemaker.model.DeletePipelineResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribePipelineRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribePipelineResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListPipelineExecutionsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListPipelineExecutionsResponse;
+import software.amazon.awssdk.services.sagemaker.model.PipelineExecutionStatus;
+import software.amazon.awssdk.services.sagemaker.model.PipelineExecutionSummary;
 import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.sagemaker.model.SageMakerException;
+import software.amazon.awssdk.services.sagemaker.model.StopPipelineExecutionRequest;
+import software.amazon.awssdk.services.sagemaker.model.StopPipelineExecutionResponse;
 import software.amazon.cloudformation.Action;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -25,11 +33,20 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Slf4j
@@ -111,6 +128,110 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 ResourceModel.TYPE_NAME, TEST_PIPELINE_NAME));
     }
 
+    @Test
+    public void testDeleteHandler_StopsRunningExecutionsAndWaitsForDeletion() {
+        when(proxyClient.client().listPipelineExecutions(any(ListPipelineExecutionsRequest.class)))
+                .thenReturn(executionsPage("1", PipelineExecutionStatus.EXECUTING, PipelineExecutionStatus.SUCCEEDED))
+                .thenReturn(executionsPage(null, PipelineExecutionStatus.STOPPING, PipelineExecutionStatus.EXECUTING))
+                .thenReturn(executionsPage(null, PipelineExecutionStatus.STOPPING, PipelineExecutionStatus.STOPPED))
+                .thenReturn(executionsPage(null, PipelineExecutionStatus.STOPPED, PipelineExecutionStatus.STOPPED));
+        when(proxyClient.client().stopPipelineExecution(any(StopPipelineExecutionRequest.class)))
+                .thenReturn(StopPipelineExecutionResponse.builder().build());
+        when(proxyClient.client().deletePipeline(any(DeletePipelineRequest.class)))
+                .thenReturn(DeletePipelineResponse.builder().pipelineArn(TEST_PIPELINE_ARN).build());
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenReturn(DescribePipelineResponse.builder().pipelineStatus("Deleting").build())
+                .thenThrow(ResourceNotFoundException.class);
+
+        final ResourceModel model = getResourceModel();
+        model.setStopExecutionsOnDelete(true);
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(model, callbackContext);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNull();
+        verify(sdkClient, times(2)).stopPipelineExecution(any(StopPipelineExecutionRequest.class));
+        // the pipeline is deleted only once the scan after the stops finds no execution Stopping
+        verify(sdkClient, times(4)).listPipelineExecutions(any(ListPipelineExecutionsRequest.class));
+        verify(sdkClient, times(2)).describePipeline(any(DescribePipelineRequest.class));
+        assertThat(callbackContext.isExecutionsStopped()).isTrue();
+        assertThat(callbackContext.getStabilizationHistory().getCounters())
+                .containsEntry(DeleteHandler.EXECUTIONS_SCANNED, 7L)
+                .containsEntry(DeleteHandler.EXECUTIONS_STOPPED, 2L);
+    }
+
+    @Test
+    public void testDeleteHandler_BoundsConcurrentStops() {
+        final PipelineExecutionStatus[] statuses = new PipelineExecutionStatus[12];
+        Arrays.fill(statuses, PipelineExecutionStatus.EXECUTING);
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final List<String> tokens = new CopyOnWriteArrayList<>();
+        when(proxyClient.client().listPipelineExecutions(any(ListPipelineExecutionsRequest.class)))
+                .thenReturn(executionsPage(null, statuses))
+                .thenReturn(executionsPage(null, PipelineExecutionStatus.STOPPED));
+        when(proxyClient.client().stopPipelineExecution(any(StopPipelineExecutionRequest.class)))
+                .thenAnswer(invocation -> {
+                    tokens.add(invocation.<StopPipelineExecutionRequest>getArgument(0).clientRequestToken());
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Thread.sleep(20);
+                    inFlight.decrementAndGet();
+                    return StopPipelineExecutionResponse.builder().build();
+                });
+        when(proxyClient.client().deletePipeline(any(DeletePipelineRequest.class)))
+                .thenReturn(DeletePipelineResponse.builder().pipelineArn(TEST_PIPELINE_ARN).build());
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenThrow(ResourceNotFoundException.class);
+
+        final ResourceModel model = getResourceModel();
+        model.setStopExecutionsOnDelete(true);
+        model.setMaxConcurrentExecutionStops(3);
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                invokeHandleRequest(model, new CallbackContext());
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(sdkClient, times(12)).stopPipelineExecution(any(StopPipelineExecutionRequest.class));
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+        // every execution is stopped with its own idempotency token
+        assertThat(tokens).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void testDeleteHandler_DefaultDoesNotStopExecutions() {
+        when(proxyClient.client().deletePipeline(any(DeletePipelineRequest.class)))
+                .thenReturn(DeletePipelineResponse.builder().pipelineArn(TEST_PIPELINE_ARN).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                invokeHandleRequest(getResourceModel(), new CallbackContext());
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(sdkClient, never()).listPipelineExecutions(any(ListPipelineExecutionsRequest.class));
+        verify(sdkClient, never()).describePipeline(any(DescribePipelineRequest.class));
+    }
+
+    private static ListPipelineExecutionsResponse executionsPage(
+            final String nextToken, final PipelineExecutionStatus... statuses) {
+        return ListPipelineExecutionsResponse.builder()
+                .pipelineExecutionSummaries(IntStream.range(0, statuses.length)
+                        .mapToObj(i -> PipelineExecutionSummary.builder()
+                                .pipelineExecutionArn(TEST_PIPELINE_ARN + "/execution/" + nextToken + "-" + i)
+                                .pipelineExecutionStatus(statuses[i])
+                                .build())
+                        .collect(Collectors.toList()))
+                .nextToken(nextToken)
+                .build();
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> invokeHandleRequest(
+            final ResourceModel model, final CallbackContext callbackContext) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .clientRequestToken("test-client-request-token")
+                .build();
+        return new DeleteHandler(TEST_STABILIZATION_SCHEDULER)
+                .handleRequest(proxy, request, callbackContext, proxyClient, logger);
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> invokeHandleRequest(ResourceHandlerRequest<ResourceModel> request) {
         final software.amazon.sagemaker.pipeline.DeleteHandler handler = new DeleteHandler();
         return handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
@@ -0,0 +1,125 @@
+package software.amazon.sagemaker.pipeline;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.CreatePipelineRequest;
+import software.amazon.awssdk.services.sagemaker.model.PipelineExecutionStatus;
+import software.amazon.awssdk.services.sagemaker.model.StartPipelineExecutionRequest;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs the handlers against the in-memory {@link FakeSageMakerService} instead of call by call mocks.
+ */
+public class EndToEndTest extends AbstractTestBase {
+
+    private FakeSageMakerService service;
+    private FakeSageMakerClient sageMakerClient;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<SageMakerClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        service = new FakeSageMakerService();
+        sageMakerClient = new FakeSageMakerClient(service);
+        proxy = service.newProxy();
+        proxyClient = proxy.newProxy(() -> sageMakerClient);
+    }
+
+    @Test
+    public void testLifecycle() {
+        final ProgressEvent<ResourceModel, CallbackContext> created = run(new CreateHandler(), getResourceModel());
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(created.getResourceModel().getPipelineDefinition().getPipelineDefinitionBody())
+                .isEqualTo(TEST_PIPELINE_DEFINITION);
+
+        final ResourceModel updatedModel = getResourceModel();
+        updatedModel.setPipelineDefinition(PipelineDefinition.builder()
+                .pipelineDefinitionBody("{\"Version\": \"2020-12-01\"}")
+                .build());
+        assertThat(run(new UpdateHandler(), updatedModel).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(run(new ReadHandler(), getResourceModel()).getResourceModel()
+                .getPipelineDefinition().getPipelineDefinitionBody()).isEqualTo("{\"Version\": \"2020-12-01\"}");
+
+        assertThat(run(new ListHandler(), getResourceModel()).getResourceModels())
+                .extracting(ResourceModel::getPipelineName)
+                .containsExactly(TEST_PIPELINE_NAME);
+
+        assertThat(run(new DeleteHandler(), getResourceModel()).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(sageMakerClient.getPipelines().describe(TEST_PIPELINE_NAME).getStatus()).isEqualTo("Deleting");
+        service.advance(FakeSageMakerClient.TRANSITION_TIME);
+        assertThrows(CfnNotFoundException.class, () -> run(new ReadHandler(), getResourceModel()));
+        assertThat(service.callCounts()).containsEntry("CreatePipeline", 1L).containsEntry("UpdatePipeline", 1L);
+    }
+
+    @Test
+    public void testListPages() {
+        for (int i = 0; i <= TranslatorForRequest.MAX_PIPELINES_PAGE_SIZE; i++) {
+            sageMakerClient.createPipeline(CreatePipelineRequest.builder()
+                    .pipelineName(String.format("listed-%03d", i))
+                    .build());
+            service.advance(Duration.ofSeconds(1));
+        }
+
+        final ProgressEvent<ResourceModel, CallbackContext> first = run(new ListHandler(), getResourceModel());
+        final ProgressEvent<ResourceModel, CallbackContext> second = new ListHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(getResourceModel())
+                        .nextToken(first.getNextToken())
+                        .build(),
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(first.getResourceModels()).hasSize(TranslatorForRequest.MAX_PIPELINES_PAGE_SIZE);
+        assertThat(first.getNextToken()).isNotNull();
+        assertThat(second.getResourceModels()).extracting(ResourceModel::getPipelineName)
+                .containsExactly(String.format("listed-%03d", TranslatorForRequest.MAX_PIPELINES_PAGE_SIZE));
+        assertThat(second.getNextToken()).isNull();
+        assertThat(service.calls("ListPipelines")).isEqualTo(2);
+    }
+
+    @Test
+    public void testDeleteStopsExecutions() {
+        run(new CreateHandler(), getResourceModel());
+        for (int i = 0; i < 3; i++) {
+            sageMakerClient.startPipelineExecution(StartPipelineExecutionRequest.builder()
+                    .pipelineName(TEST_PIPELINE_NAME)
+                    .build());
+        }
+        final ResourceModel model = getResourceModel();
+        model.setStopExecutionsOnDelete(true);
+        model.setMaxConcurrentExecutionStops(2);
+
+        assertThat(run(new DeleteHandler(), model).getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        // the delete returns once the pipeline is gone rather than while it is Deleting
+        assertThrows(CfnNotFoundException.class, () -> run(new ReadHandler(), getResourceModel()));
+        assertThat(sageMakerClient.getExecutions().list()).extracting(FakeResource::getStatus)
+                .containsOnly(PipelineExecutionStatus.STOPPED.toString());
+        // the executions are listed once to stop them and again while they are Stopping, before a single delete
+        assertThat(service.callCounts()).containsEntry("StopPipelineExecution", 3L)
+                .containsEntry("DeletePipeline", 1L);
+        assertThat(service.callCounts().get("ListPipelineExecutions")).isGreaterThan(2L);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceModel model) {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        return service.drive(context -> handler.handleRequest(proxy, request, context, proxyClient, logger),
+                new CallbackContext());
+    }
+}
@@ -0,0 +1,227 @@
+package software.amazon.sagemaker.pipeline;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.sagemaker.model.CreatePipelineRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreatePipelineResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeletePipelineRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeletePipelineResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribePipelineRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribePipelineResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListPipelineExecutionsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListPipelineExecutionsResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListPipelinesRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListPipelinesResponse;
+import software.amazon.awssdk.services.sagemaker.model.PipelineExecutionStatus;
+import software.amazon.awssdk.services.sagemaker.model.PipelineExecutionSummary;
+import software.amazon.awssdk.services.sagemaker.model.PipelineStatus;
+import software.amazon.awssdk.services.sagemaker.model.PipelineSummary;
+import software.amazon.awssdk.services.sagemaker.model.StartPipelineExecutionRequest;
+import software.amazon.awssdk.services.sagemaker.model.StartPipelineExecutionResponse;
+import software.amazon.awssdk.services.sagemaker.model.StopPipelineExecutionRequest;
+import software.amazon.awssdk.services.sagemaker.model.StopPipelineExecutionResponse;
+import software.amazon.awssdk.services.sagemaker.model.UpdatePipelineRequest;
+import software.amazon.awssdk.services.sagemaker.model.UpdatePipelineResponse;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for pipelines: created and updated pipelines are Active right away, deleted ones are not
+ * found once the short deletion completed, and a pipeline with an execution that is Executing or Stopping cannot be
+ * deleted. Started executions run for the execution time, stopped ones are Stopping for the stop time.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    static final Duration TRANSITION_TIME = Duration.ofSeconds(5);
+    static final Duration EXECUTION_TIME = Duration.ofHours(1);
+    static final Duration STOP_TIME = Duration.ofSeconds(30);
+
+    private static final String DELETING = "Deleting";
+
+    private final FakeResourceTable<DescribePipelineResponse> pipelines;
+    private final FakeResourceTable<StartPipelineExecutionRequest> executions;
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.pipelines = new FakeResourceTable<>(service, "Pipeline", TRANSITION_TIME);
+        this.executions = new FakeResourceTable<>(service, "PipelineExecution", EXECUTION_TIME);
+    }
+
+    public FakeResourceTable<DescribePipelineResponse> getPipelines() {
+        return pipelines;
+    }
+
+    /**
+     * @return executions keyed by arn
+     */
+    public FakeResourceTable<StartPipelineExecutionRequest> getExecutions() {
+        return executions;
+    }
+
+    @Override
+    public CreatePipelineResponse createPipeline(final CreatePipelineRequest request) {
+        return service.call("CreatePipeline", () -> {
+            final String arn = "arn:aws:sagemaker:us-west-2:123456789012:pipeline/" + request.pipelineName();
+            final String active = PipelineStatus.ACTIVE.toString();
+            pipelines.create(request.pipelineName(), arn, DescribePipelineResponse.builder()
+                    .pipelineArn(arn)
+                    .pipelineName(request.pipelineName())
+                    .pipelineDisplayName(request.pipelineDisplayName())
+                    .pipelineDescription(request.pipelineDescription())
+                    .pipelineDefinition(request.pipelineDefinition())
+                    .roleArn(request.roleArn())
+                    .build(), active, active);
+            service.tag(arn, tagMap(request.tags()));
+            return CreatePipelineResponse.builder().pipelineArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribePipelineResponse describePipeline(final DescribePipelineRequest request) {
+        return service.call("DescribePipeline",
+                () -> toDescribeResponse(pipelines.describe(request.pipelineName())));
+    }
+
+    @Override
+    public UpdatePipelineResponse updatePipeline(final UpdatePipelineRequest request) {
+        return service.call("UpdatePipeline", () -> {
+            final String active = PipelineStatus.ACTIVE.toString();
+            final FakeResource<DescribePipelineResponse> pipeline = pipelines.update(request.pipelineName(),
+                    state -> {
+                        final DescribePipelineResponse.Builder builder = state.toBuilder();
+                        if (request.pipelineDisplayName() != null) {
+                            builder.pipelineDisplayName(request.pipelineDisplayName());
+                        }
+                        if (request.pipelineDescription() != null) {
+                            builder.pipelineDescription(request.pipelineDescription());
+                        }
+                        if (request.pipelineDefinition() != null) {
+                            builder.pipelineDefinition(request.pipelineDefinition());
+                        }
+                        if (request.roleArn() != null) {
+                            builder.roleArn(request.roleArn());
+                        }
+                        return builder.build();
+                    }, active, active);
+            return UpdatePipelineResponse.builder().pipelineArn(pipeline.getArn()).build();
+        });
+    }
+
+    @Override
+    public DeletePipelineResponse deletePipeline(final DeletePipelineRequest request) {
+        return service.call("DeletePipeline", () -> {
+            pipelines.describe(request.pipelineName());
+            executions.list().stream()
+                    .filter(execution -> execution.getState().pipelineName().equals(request.pipelineName()))
+                    .filter(execution -> isRunning(execution.getStatus()))
+                    .findFirst()
+                    .ifPresent(execution -> {
+                        throw FakeSageMakerService.conflict(String.format("Pipeline %s has execution %s that is %s.",
+                                request.pipelineName(), execution.getArn(), execution.getStatus()));
+                    });
+            final FakeResource<DescribePipelineResponse> pipeline =
+                    pipelines.delete(request.pipelineName(), DELETING, null);
+            return DeletePipelineResponse.builder().pipelineArn(pipeline.getArn()).build();
+        });
+    }
+
+    /**
+     * Lists the pipelines oldest first, honouring MaxResults. The next token is the index of the first pipeline of
+     * the next page.
+     */
+    @Override
+    public ListPipelinesResponse listPipelines(final ListPipelinesRequest request) {
+        return service.call("ListPipelines", () -> {
+            final List<PipelineSummary> summaries = pipelines.list().stream()
+                    .map(FakeSageMakerClient::toDescribeResponse)
+                    .map(pipeline -> PipelineSummary.builder()
+                            .pipelineArn(pipeline.pipelineArn())
+                            .pipelineName(pipeline.pipelineName())
+                            .pipelineDisplayName(pipeline.pipelineDisplayName())
+                            .pipelineDescription(pipeline.pipelineDescription())
+                            .roleArn(pipeline.roleArn())
+                            .creationTime(pipeline.creationTime())
+                            .lastModifiedTime(pipeline.lastModifiedTime())
+                            .build())
+                    .collect(Collectors.toList());
+            final int from = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+            final int to = request.maxResults() == null
+                    ? summaries.size() : Math.min(summaries.size(), from + request.maxResults());
+            return ListPipelinesResponse.builder()
+                    .pipelineSummaries(summaries.subList(from, to))
+                    .nextToken(to < summaries.size() ? String.valueOf(to) : null)
+                    .build();
+        });
+    }
+
+    @Override
+    public StartPipelineExecutionResponse startPipelineExecution(final StartPipelineExecutionRequest request) {
+        return service.call("StartPipelineExecution", () -> {
+            final String arn = pipelines.describe(request.pipelineName()).getArn() + "/execution/" + executions.size();
+            executions.create(arn, arn, request, PipelineExecutionStatus.EXECUTING.toString(),
+                    PipelineExecutionStatus.SUCCEEDED.toString());
+            return StartPipelineExecutionResponse.builder().pipelineExecutionArn(arn).build();
+        });
+    }
+
+    @Override
+    public StopPipelineExecutionResponse stopPipelineExecution(final StopPipelineExecutionRequest request) {
+        return service.call("StopPipelineExecution", () -> {
+            final FakeResource<StartPipelineExecutionRequest> execution =
+                    executions.describe(request.pipelineExecutionArn());
+            if (PipelineExecutionStatus.EXECUTING.toString().equals(execution.getStatus())) {
+                executions.update(request.pipelineExecutionArn(), state -> state,
+                        PipelineExecutionStatus.STOPPING.toString(), PipelineExecutionStatus.STOPPED.toString(),
+                        STOP_TIME);
+            }
+            return StopPipelineExecutionResponse.builder().pipelineExecutionArn(request.pipelineExecutionArn()).build();
+        });
+    }
+
+    /**
+     * Lists the executions of a pipeline newest first, ignoring the sort parameters. The next token is the index of
+     * the first execution of the next page.
+     */
+    @Override
+    public ListPipelineExecutionsResponse listPipelineExecutions(final ListPipelineExecutionsRequest request) {
+        return service.call("ListPipelineExecutions", () -> {
+            pipelines.describe(request.pipelineName());
+            final List<PipelineExecutionSummary> summaries = executions.list().stream()
+                    .filter(execution -> execution.getState().pipelineName().equals(request.pipelineName()))
+                    .sorted(Comparator.comparing((FakeResource<StartPipelineExecutionRequest> execution) ->
+                            execution.getCreationTime()).thenComparing(FakeResource::getName).reversed())
+                    .map(execution -> PipelineExecutionSummary.builder()
+                            .pipelineExecutionArn(execution.getArn())
+                            .pipelineExecutionStatus(execution.getStatus())
+                            .startTime(execution.getCreationTime())
+                            .build())
+                    .collect(Collectors.toList());
+            final int from = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+            final int to = request.maxResults() == null
+                    ? summaries.size() : Math.min(summaries.size(), from + request.maxResults());
+            return ListPipelineExecutionsResponse.builder()
+                    .pipelineExecutionSummaries(summaries.subList(from, to))
+                    .nextToken(to < summaries.size() ? String.valueOf(to) : null)
+                    .build();
+        });
+    }
+
+    private static boolean isRunning(final String executionStatus) {
+        return PipelineExecutionStatus.EXECUTING.toString().equals(executionStatus)
+                || PipelineExecutionStatus.STOPPING.toString().equals(executionStatus);
+    }
+
+    private static DescribePipelineResponse toDescribeResponse(
+            final FakeResource<DescribePipelineResponse> pipeline) {
+        return pipeline.getState().toBuilder()
+                .pipelineStatus(pipeline.getStatus())
+                .creationTime(pipeline.getCreationTime())
+                .lastModifiedTime(pipeline.getLastModifiedTime())
+                .build();
+    }
+}
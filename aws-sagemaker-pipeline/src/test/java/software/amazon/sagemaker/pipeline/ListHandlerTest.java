@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
@@ -30,6 +31,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Slf4j
@@ -146,6 +148,22 @@ public class ListHandlerTest extends AbstractTestBase {
                 serviceInternalException.awsErrorDetails().errorMessage()));
     }
 
+    @Test
+    public void testListHandler_RequestsFullPages() {
+        when(proxyClient.client().listPipelines(any(ListPipelinesRequest.class)))
+                .thenReturn(ListPipelinesResponse.builder().build());
+
+        new ListHandler().handleRequest(proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getResourceModel())
+                .nextToken(TEST_TOKEN)
+                .build(), new CallbackContext(), proxyClient, logger);
+
+        final ArgumentCaptor<ListPipelinesRequest> captor = ArgumentCaptor.forClass(ListPipelinesRequest.class);
+        verify(proxyClient.client()).listPipelines(captor.capture());
+        assertThat(captor.getValue().nextToken()).isEqualTo(TEST_TOKEN);
+        assertThat(captor.getValue().maxResults()).isEqualTo(TranslatorForRequest.MAX_PIPELINES_PAGE_SIZE);
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> invokeHandleRequest(ResourceHandlerRequest<ResourceModel> request) {
         final software.amazon.sagemaker.pipeline.ListHandler handler = new ListHandler();
         return handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
@@ -0,0 +1,167 @@
+package software.amazon.sagemaker.pipeline;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PipelineDefinitionCacheTest {
+
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String BUCKET = "test-bucket";
+    private static final String KEY = "test-key";
+    private static final String TEST_BODY_1 = "{\"Version\": \"2020-12-01\", \"Steps\": [1]}";
+    private static final String TEST_BODY_2 = "{\"Version\": \"2020-12-01\", \"Steps\": [2]}";
+
+    private final List<GetObjectRequest> requests = new ArrayList<>();
+    private String body;
+    private String eTag;
+
+    @BeforeEach
+    public void setup() {
+        requests.clear();
+        body = TEST_BODY_1;
+        eTag = "\"etag-1\"";
+    }
+
+    @Test
+    public void testGet_PinnedVersionServedFromCache() {
+        final PipelineDefinitionCache cache = new PipelineDefinitionCache(1024);
+        final S3Location location = S3Location.builder().bucket(BUCKET).key(KEY).version("v1").build();
+
+        assertThat(cache.get(ACCOUNT_ID, location, this::getObject)).isEqualTo(TEST_BODY_1);
+        body = TEST_BODY_2;
+        assertThat(cache.get(ACCOUNT_ID, location, this::getObject)).isEqualTo(TEST_BODY_1);
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).versionId()).isEqualTo("v1");
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getRevalidations()).isZero();
+    }
+
+    @Test
+    public void testGet_PinnedETagIsQuoteInsensitive() {
+        final PipelineDefinitionCache cache = new PipelineDefinitionCache(1024);
+
+        cache.get(ACCOUNT_ID, S3Location.builder().bucket(BUCKET).key(KEY).eTag("\"etag-1\"").build(), this::getObject);
+        cache.get(ACCOUNT_ID, S3Location.builder().bucket(BUCKET).key(KEY).eTag("etag-1").build(), this::getObject);
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).ifMatch()).isEqualTo("\"etag-1\"");
+        assertThat(cache.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGet_UnpinnedRevalidatedWithIfNoneMatch() {
+        final PipelineDefinitionCache cache = new PipelineDefinitionCache(1024);
+        final S3Location location = S3Location.builder().bucket(BUCKET).key(KEY).build();
+
+        assertThat(cache.get(ACCOUNT_ID, location, this::getObject)).isEqualTo(TEST_BODY_1);
+        assertThat(cache.get(ACCOUNT_ID, location, this::getObject)).isEqualTo(TEST_BODY_1);
+        assertThat(requests.get(1).ifNoneMatch()).isEqualTo("\"etag-1\"");
+        assertThat(cache.getHits()).isEqualTo(1);
+
+        body = TEST_BODY_2;
+        eTag = "\"etag-2\"";
+        assertThat(cache.get(ACCOUNT_ID, location, this::getObject)).isEqualTo(TEST_BODY_2);
+        assertThat(requests.get(2).ifNoneMatch()).isEqualTo("\"etag-1\"");
+
+        assertThat(requests).hasSize(3);
+        assertThat(cache.getMisses()).isEqualTo(2);
+        assertThat(cache.getRevalidations()).isEqualTo(2);
+        assertThat(cache.getLength()).isEqualTo(TEST_BODY_2.length());
+    }
+
+    @Test
+    public void testGet_ScopedByAccount() {
+        final PipelineDefinitionCache cache = new PipelineDefinitionCache(1024);
+        final S3Location location = S3Location.builder().bucket(BUCKET).key(KEY).version("v1").build();
+
+        cache.get(ACCOUNT_ID, location, this::getObject);
+        cache.get("210987654321", location, this::getObject);
+
+        assertThat(requests).hasSize(2);
+        assertThat(cache.getHits()).isZero();
+    }
+
+    @Test
+    public void testGet_EvictsLeastRecentlyUsedWhenFull() {
+        final PipelineDefinitionCache cache = new PipelineDefinitionCache(2 * TEST_BODY_1.length());
+        final S3Location first = S3Location.builder().bucket(BUCKET).key(KEY).version("v1").build();
+        final S3Location second = S3Location.builder().bucket(BUCKET).key(KEY).version("v2").build();
+        final S3Location third = S3Location.builder().bucket(BUCKET).key(KEY).version("v3").build();
+
+        cache.get(ACCOUNT_ID, first, this::getObject);
+        cache.get(ACCOUNT_ID, second, this::getObject);
+        cache.get(ACCOUNT_ID, first, this::getObject);
+        cache.get(ACCOUNT_ID, third, this::getObject);
+        cache.get(ACCOUNT_ID, first, this::getObject);
+        cache.get(ACCOUNT_ID, second, this::getObject);
+
+        assertThat(requests).extracting(GetObjectRequest::versionId).containsExactly("v1", "v2", "v3", "v2");
+        assertThat(cache.getLength()).isEqualTo(2 * TEST_BODY_1.length());
+    }
+
+    @Test
+    public void testGet_BodyLargerThanCacheIsNotCached() {
+        final PipelineDefinitionCache cache = new PipelineDefinitionCache(TEST_BODY_1.length() - 1);
+        final S3Location location = S3Location.builder().bucket(BUCKET).key(KEY).version("v1").build();
+
+        cache.get(ACCOUNT_ID, location, this::getObject);
+        cache.get(ACCOUNT_ID, location, this::getObject);
+
+        assertThat(requests).hasSize(2);
+        assertThat(cache.getLength()).isZero();
+    }
+
+    @Test
+    public void testGet_FailureIsNotCached() {
+        final PipelineDefinitionCache cache = new PipelineDefinitionCache(1024);
+        final S3Location location = S3Location.builder().bucket(BUCKET).key(KEY).version("v1").build();
+        final Function<GetObjectRequest, ResponseInputStream<GetObjectResponse>> failing = request -> {
+            throw S3Exception.builder().statusCode(403).build();
+        };
+
+        assertThrows(S3Exception.class, () -> cache.get(ACCOUNT_ID, location, failing));
+        assertThat(cache.get(ACCOUNT_ID, location, this::getObject)).isEqualTo(TEST_BODY_1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGet_InvalidDefinitionIsNotCached() {
+        final PipelineDefinitionCache cache = new PipelineDefinitionCache(1024);
+        final S3Location location = S3Location.builder().bucket(BUCKET).key(KEY).version("v1").build();
+        body = "{\"Version\": ";
+
+        assertThrows(CfnInvalidRequestException.class, () -> cache.get(ACCOUNT_ID, location, this::getObject));
+        assertThat(cache.getLength()).isZero();
+        body = TEST_BODY_1;
+        assertThat(cache.get(ACCOUNT_ID, location, this::getObject)).isEqualTo(TEST_BODY_1);
+        assertThat(requests).hasSize(2);
+    }
+
+    private ResponseInputStream<GetObjectResponse> getObject(final GetObjectRequest request) {
+        requests.add(request);
+        if (eTag.equals(request.ifNoneMatch())) {
+            throw S3Exception.builder().statusCode(304).build();
+        }
+        final byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        return new ResponseInputStream<>(
+                GetObjectResponse.builder().eTag(eTag).contentLength((long) content.length).build(),
+                AbortableInputStream.create(new ByteArrayInputStream(content)));
+    }
+}
@@ -0,0 +1,30 @@
+package software.amazon.sagemaker.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PipelineDefinitionDigestTest {
+
+    @Test
+    public void testOf_IgnoresKeyOrderAndWhitespace() {
+        assertThat(PipelineDefinitionDigest.of("{\"b\": [1, {\"y\": 2, \"x\": 1}], \"a\": \"v\"}"))
+                .isEqualTo(PipelineDefinitionDigest.of("{\n  \"a\":\"v\",\n  \"b\":[1,{\"x\":1,\"y\":2}]\n}"))
+                .hasSize(64);
+    }
+
+    @Test
+    public void testOf_DetectsChangedValuesAndArrayOrder() {
+        final String digest = PipelineDefinitionDigest.of("{\"a\": [1, 2]}");
+
+        assertThat(PipelineDefinitionDigest.of("{\"a\": [2, 1]}")).isNotEqualTo(digest);
+        assertThat(PipelineDefinitionDigest.of("{\"a\": [1, 3]}")).isNotEqualTo(digest);
+    }
+
+    @Test
+    public void testOf_InvalidJsonAndNull() {
+        assertThat(PipelineDefinitionDigest.of("not json")).isEqualTo(PipelineDefinitionDigest.of("not json"));
+        assertThat(PipelineDefinitionDigest.of("not json")).isNotEqualTo(PipelineDefinitionDigest.of("not  json"));
+        assertThat(PipelineDefinitionDigest.of(null)).isNull();
+    }
+}
@@ -0,0 +1,46 @@
+package software.amazon.sagemaker.pipeline;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PipelineDefinitionMergerTest {
+
+    private static final String BASE = "{\"Version\": \"2020-12-01\", \"Metadata\": {\"Team\": \"ml\"}, "
+            + "\"Parameters\": [{\"Name\": \"InputData\", \"Type\": \"String\"}], \"Steps\": []}";
+
+    @Test
+    public void testMerge_ConcatenatesArraysInFragmentOrder() {
+        final String merged = PipelineDefinitionMerger.merge(BASE, Arrays.asList(
+                "{\"Steps\": [{\"Name\": \"Train\"}]}",
+                "{\"Parameters\": [{\"Name\": \"Epochs\", \"Type\": \"Integer\"}], \"Steps\": [{\"Name\": \"Eval\"}]}",
+                "{\"Version\": \"2020-12-01\", \"Metadata\": {\"Owner\": \"me\"}}"));
+
+        assertThat(merged).isEqualTo("{\"Version\":\"2020-12-01\",\"Metadata\":{\"Team\":\"ml\",\"Owner\":\"me\"},"
+                + "\"Parameters\":[{\"Name\":\"InputData\",\"Type\":\"String\"},"
+                + "{\"Name\":\"Epochs\",\"Type\":\"Integer\"}],"
+                + "\"Steps\":[{\"Name\":\"Train\"},{\"Name\":\"Eval\"}]}");
+    }
+
+    @Test
+    public void testMerge_ConflictingValues() {
+        final CfnInvalidRequestException exception = assertThrows(CfnInvalidRequestException.class,
+                () -> PipelineDefinitionMerger.merge(BASE,
+                        Collections.singletonList("{\"Metadata\": {\"Team\": \"data\"}}")));
+
+        assertThat(exception.getMessage()).contains("/Metadata/Team");
+    }
+
+    @Test
+    public void testMerge_FragmentNotAnObject() {
+        final CfnInvalidRequestException exception = assertThrows(CfnInvalidRequestException.class,
+                () -> PipelineDefinitionMerger.merge(BASE, Arrays.asList("{}", "[]")));
+
+        assertThat(exception.getMessage()).contains("fragment 2 is not a JSON object");
+    }
+}
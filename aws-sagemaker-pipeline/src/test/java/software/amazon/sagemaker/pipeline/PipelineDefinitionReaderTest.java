@@ -0,0 +1,91 @@
+package software.amazon.sagemaker.pipeline;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PipelineDefinitionReaderTest {
+
+    private static final String SOURCE = "s3://test-bucket/test-key";
+
+    @Test
+    public void testRead_ReturnsDefinitionUnchanged() throws IOException {
+        final String definition = "{\n  \"Version\": \"2020-12-01\",\n  \"Steps\": [{\"Name\": \"étape\"}]\n}\n";
+
+        assertThat(read(definition.getBytes(StandardCharsets.UTF_8))).isEqualTo(definition);
+    }
+
+    @Test
+    public void testRead_LargeDefinitionWithoutContentLength() throws IOException {
+        final StringBuilder definition = new StringBuilder("[");
+        while (definition.length() < 100_000) {
+            definition.append("{\"Name\": \"step\"},");
+        }
+        definition.append("{}]");
+        final byte[] content = definition.toString().getBytes(StandardCharsets.UTF_8);
+
+        assertThat(PipelineDefinitionReader.read(new ByteArrayInputStream(content), null, SOURCE))
+                .isEqualTo(definition.toString());
+    }
+
+    @Test
+    public void testRead_MalformedJson() {
+        final CfnInvalidRequestException exception = assertThrows(CfnInvalidRequestException.class,
+                () -> read("{\"Version\": \"2020-12-01\",}".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(exception.getMessage()).contains("is not valid JSON");
+    }
+
+    @Test
+    public void testRead_EmptyAndTrailingContent() {
+        assertThrows(CfnInvalidRequestException.class, () -> read(" \n".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(CfnInvalidRequestException.class, () -> read("{} {}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testRead_InvalidUtf8() {
+        final byte[] content = {'{', '"', 'a', '"', ':', '"', (byte) 0xc3, (byte) 0x28, '"', '}'};
+
+        final CfnInvalidRequestException exception = assertThrows(CfnInvalidRequestException.class,
+                () -> read(content));
+
+        assertThat(exception.getMessage()).contains("is not UTF-8 encoded");
+    }
+
+    @Test
+    public void testRead_OversizedContentLengthFailsBeforeReading() {
+        final InputStream unread = new InputStream() {
+            @Override
+            public int read() {
+                throw new AssertionError("the stream must not be read");
+            }
+        };
+
+        assertThrows(CfnInvalidRequestException.class, () -> PipelineDefinitionReader.read(unread,
+                4L * PipelineDefinitionReader.MAX_DEFINITION_LENGTH + 1, SOURCE));
+    }
+
+    @Test
+    public void testRead_OversizedStreamStopsAtLimit() {
+        final char[] value = new char[PipelineDefinitionReader.MAX_DEFINITION_LENGTH];
+        Arrays.fill(value, 'a');
+        final byte[] content = ("\"" + new String(value) + "\"").getBytes(StandardCharsets.UTF_8);
+
+        final CfnInvalidRequestException exception = assertThrows(CfnInvalidRequestException.class,
+                () -> PipelineDefinitionReader.read(new ByteArrayInputStream(content), null, SOURCE));
+
+        assertThat(exception.getMessage()).contains("exceeds the maximum length");
+    }
+
+    private static String read(final byte[] content) throws IOException {
+        return PipelineDefinitionReader.read(new ByteArrayInputStream(content), (long) content.length, SOURCE);
+    }
+}
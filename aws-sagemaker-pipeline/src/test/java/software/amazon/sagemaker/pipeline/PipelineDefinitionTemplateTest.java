@@ -0,0 +1,99 @@
+package software.amazon.sagemaker.pipeline;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PipelineDefinitionTemplateTest {
+
+    @Test
+    public void testRender_SubstitutesEveryOccurrence() {
+        final PipelineDefinitionTemplate template = PipelineDefinitionTemplate.compile(
+                "{\"Bucket\": \"${Bucket}\", \"Uri\": \"s3://${Bucket}/${Env}/model\", \"Role\": \"${Role_Arn-1.0}\"}");
+        final Map<String, String> substitutions = new HashMap<>();
+        substitutions.put("Bucket", "my-bucket");
+        substitutions.put("Env", "prod");
+        substitutions.put("Role_Arn-1.0", "arn:aws:iam::123456789012:role/r");
+
+        assertThat(template.getPlaceholderCount()).isEqualTo(4);
+        assertThat(template.render(substitutions)).isEqualTo("{\"Bucket\": \"my-bucket\", "
+                + "\"Uri\": \"s3://my-bucket/prod/model\", \"Role\": \"arn:aws:iam::123456789012:role/r\"}");
+    }
+
+    @Test
+    public void testRender_KeepsPlaceholdersWithoutValue() {
+        final PipelineDefinitionTemplate template = PipelineDefinitionTemplate.compile("${A}-${B}-${A}");
+
+        assertThat(template.render(Collections.singletonMap("B", "b"))).isEqualTo("${A}-b-${A}");
+        assertThat(template.render(Collections.emptyMap())).isSameAs(template.getDefinition());
+        assertThat(template.render(null)).isSameAs(template.getDefinition());
+    }
+
+    @Test
+    public void testCompile_IgnoresInvalidPlaceholders() {
+        final PipelineDefinitionTemplate template =
+                PipelineDefinitionTemplate.compile("${} ${a b} ${x ${Name} $Name {Name} ${Name");
+
+        assertThat(template.getPlaceholderCount()).isEqualTo(1);
+        assertThat(template.render(Collections.singletonMap("Name", "v")))
+                .isEqualTo("${} ${a b} ${x v $Name {Name} ${Name");
+    }
+
+    @Test
+    public void testRender_ValuesAreNotScannedAgain() {
+        final PipelineDefinitionTemplate template = PipelineDefinitionTemplate.compile("${A}${B}");
+        final Map<String, String> substitutions = new HashMap<>();
+        substitutions.put("A", "${B}");
+        substitutions.put("B", "b");
+
+        assertThat(template.render(substitutions)).isEqualTo("${B}b");
+    }
+
+    @Test
+    public void testRenderDefinition_ValueStandsForNumber() {
+        final PipelineDefinitionTemplate template =
+                PipelineDefinitionTemplate.compile("{\"Name\": \"${Name}\", \"Retries\": ${Retries}}");
+        final Map<String, String> substitutions = new HashMap<>();
+        substitutions.put("Name", "train");
+        substitutions.put("Retries", "3");
+
+        assertThat(template.renderDefinition(substitutions)).isEqualTo("{\"Name\": \"train\", \"Retries\": 3}");
+    }
+
+    @Test
+    public void testRenderDefinition_NothingToSubstitute() {
+        final PipelineDefinitionTemplate template = PipelineDefinitionTemplate.compile("not json ${A}");
+
+        assertThat(template.renderDefinition(null)).isSameAs(template.getDefinition());
+    }
+
+    @Test
+    public void testRenderDefinition_ValueBreaksJson() {
+        final PipelineDefinitionTemplate template = PipelineDefinitionTemplate.compile("{\"Name\": \"${Name}\"}");
+
+        final Exception exception = assertThrows(CfnInvalidRequestException.class,
+                () -> template.renderDefinition(Collections.singletonMap("Name", "a\"b")));
+        assertThat(exception.getMessage()).contains("after substitution");
+        assertThrows(CfnInvalidRequestException.class,
+                () -> template.renderDefinition(Collections.singletonMap("Name", "a\"} {\"b")));
+        // a value escaped by the author keeps the definition intact
+        assertThat(template.renderDefinition(Collections.singletonMap("Name", "a\\\"b")))
+                .isEqualTo("{\"Name\": \"a\\\"b\"}");
+    }
+
+    @Test
+    public void testRenderDefinition_TooLong() {
+        final PipelineDefinitionTemplate template = PipelineDefinitionTemplate.compile("{\"Name\": \"${Name}\"}");
+        final String value = String.join("", Collections.nCopies(PipelineDefinitionReader.MAX_DEFINITION_LENGTH, "a"));
+
+        final Exception exception = assertThrows(CfnInvalidRequestException.class,
+                () -> template.renderDefinition(Collections.singletonMap("Name", value)));
+        assertThat(exception.getMessage()).contains("maximum length");
+    }
+}
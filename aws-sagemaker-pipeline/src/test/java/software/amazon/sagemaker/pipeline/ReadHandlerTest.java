@@ -78,6 +78,7 @@ public class ReadHandlerTest extends AbstractTestBase {
                 .pipelineName(TEST_PIPELINE_NAME)
                 .pipelineDefinition(PipelineDefinition.builder()
                         .pipelineDefinitionBody(TEST_PIPELINE_DEFINITION).build())
+                .pipelineDefinitionDigest(PipelineDefinitionDigest.of(TEST_PIPELINE_DEFINITION))
                 .pipelineDescription(TEST_PIPELINE_DESCRIPTION)
                 .roleArn(TEST_ROLE_ARN)
                 .pipelineDisplayName(TEST_PIPELINE_DISPLAY_NAME)
@@ -91,6 +92,40 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void testReadHandler_UnchangedS3DefinitionReturnsLocation() {
+        final S3Location location = S3Location.builder().bucket("bucket").key("definition.json").build();
+        final ResourceModel model = getResourceModel();
+        model.setPipelineDefinition(PipelineDefinition.builder().pipelineDefinitionS3Location(location).build());
+        model.setPipelineDefinitionDigest(PipelineDefinitionDigest.of(TEST_PIPELINE_DEFINITION));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = readDefinition(model, TEST_PIPELINE_DEFINITION);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getPipelineDefinition())
+                .isEqualTo(PipelineDefinition.builder().pipelineDefinitionS3Location(location).build());
+        assertThat(response.getResourceModel().getPipelineDefinitionDigest())
+                .isEqualTo(PipelineDefinitionDigest.of(TEST_PIPELINE_DEFINITION));
+    }
+
+    @Test
+    public void testReadHandler_ChangedS3DefinitionReturnsBody() {
+        final String changed = "{\"Version\": \"2020-12-01\", \"Steps\": [{\"Name\": \"a\"}]}";
+        final ResourceModel model = getResourceModel();
+        model.setPipelineDefinition(PipelineDefinition.builder()
+                .pipelineDefinitionS3Location(S3Location.builder().bucket("bucket").key("definition.json").build())
+                .build());
+        model.setPipelineDefinitionDigest(PipelineDefinitionDigest.of(TEST_PIPELINE_DEFINITION));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = readDefinition(model, changed);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getPipelineDefinition())
+                .isEqualTo(PipelineDefinition.builder().pipelineDefinitionBody(changed).build());
+        assertThat(response.getResourceModel().getPipelineDefinitionDigest())
+                .isEqualTo(PipelineDefinitionDigest.of(changed));
+    }
+
     @Test
     public void testReadHandler_ServiceInternalException() {
         final AwsServiceException serviceInternalException = SageMakerException.builder()
@@ -128,6 +163,17 @@ public class ReadHandlerTest extends AbstractTestBase {
                 ResourceModel.TYPE_NAME, TEST_PIPELINE_NAME));
     }
 
+    private ProgressEvent<ResourceModel, CallbackContext> readDefinition(final ResourceModel model,
+                                                                         final String deployedDefinition) {
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenReturn(DescribePipelineResponse.builder()
+                        .pipelineName(TEST_PIPELINE_NAME)
+                        .pipelineDefinition(deployedDefinition)
+                        .roleArn(TEST_ROLE_ARN)
+                        .build());
+        return invokeHandleRequest(ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build());
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> invokeHandleRequest(ResourceHandlerRequest<ResourceModel> request) {
         final software.amazon.sagemaker.pipeline.ReadHandler handler = new ReadHandler();
         return handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
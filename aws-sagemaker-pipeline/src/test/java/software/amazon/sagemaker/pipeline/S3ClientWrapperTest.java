@@ -0,0 +1,225 @@
+package software.amazon.sagemaker.pipeline;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Fetches definitions with the S3 clients of {@link ClientBuilder} from a local fake S3 endpoint.
+ */
+public class S3ClientWrapperTest extends AbstractTestBase {
+
+    private static final String REGION = "us-west-2";
+    private static final String BUCKET = "test-bucket";
+    private static final String MOVED_BUCKET = "moved-bucket";
+    private static final String MOVED_BUCKET_REGION = "eu-west-1";
+    private static final String DEFINITION = "{\"Version\": \"2020-12-01\", \"Steps\": []}";
+
+    private static HttpServer server;
+    private static final Map<String, String> objects = new ConcurrentHashMap<>();
+    private static final List<String> requests = new CopyOnWriteArrayList<>();
+    private static final Map<String, S3Client> s3Clients = new ConcurrentHashMap<>();
+
+    private final AmazonWebServicesClientProxy proxy =
+            new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+    private String accountId;
+
+    @BeforeAll
+    public static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", S3ClientWrapperTest::handle);
+        server.start();
+    }
+
+    @AfterAll
+    public static void stopServer() {
+        server.stop(0);
+        s3Clients.values().forEach(S3Client::close);
+    }
+
+    @BeforeEach
+    public void setup() {
+        objects.clear();
+        requests.clear();
+        // the definition cache is shared by the process, a new account keeps tests apart
+        accountId = String.valueOf(System.nanoTime());
+    }
+
+    @Test
+    public void testGetBodyFromS3_RevalidatesWithConditionalGet() {
+        objects.put("/" + BUCKET + "/definition.json", DEFINITION);
+        final S3Location location = S3Location.builder().bucket(BUCKET).key("definition.json").build();
+        final long hits = S3ClientWrapper.getDefinitionCache().getHits();
+
+        assertThat(getBodyFromS3(location)).isEqualTo(DEFINITION);
+        assertThat(getBodyFromS3(location)).isEqualTo(DEFINITION);
+
+        assertThat(requests).containsExactly(
+                "GET /test-bucket/definition.json " + REGION,
+                "GET /test-bucket/definition.json " + REGION + " If-None-Match");
+        assertThat(S3ClientWrapper.getDefinitionCache().getHits() - hits).isEqualTo(1);
+    }
+
+    @Test
+    public void testGetBodyFromS3_FollowsBucketRegion() {
+        objects.put("/" + MOVED_BUCKET + "/definition.json", DEFINITION);
+        final S3Location location = S3Location.builder().bucket(MOVED_BUCKET).key("definition.json").build();
+
+        assertThat(getBodyFromS3(location)).isEqualTo(DEFINITION);
+
+        assertThat(requests).containsExactly(
+                "GET /moved-bucket/definition.json " + REGION,
+                "GET /moved-bucket/definition.json " + MOVED_BUCKET_REGION);
+    }
+
+    @Test
+    public void testGetBodyFromS3_NoSuchKey() {
+        final S3Location location = S3Location.builder().bucket(BUCKET).key("missing.json").build();
+
+        final CfnInvalidRequestException exception =
+                assertThrows(CfnInvalidRequestException.class, () -> getBodyFromS3(location));
+
+        assertThat(exception.getMessage()).contains("No such key test-bucket/missing.json");
+    }
+
+    @Test
+    public void testGetBodyFromS3_MalformedDefinition() {
+        objects.put("/" + BUCKET + "/malformed.json", "{\"Version\": ");
+        final S3Location location = S3Location.builder().bucket(BUCKET).key("malformed.json").build();
+
+        final CfnInvalidRequestException exception =
+                assertThrows(CfnInvalidRequestException.class, () -> getBodyFromS3(location));
+
+        assertThat(exception.getMessage()).contains("is not valid JSON");
+    }
+
+    @Test
+    public void testGetTemplateFromS3_MergesFragments() {
+        objects.put("/" + BUCKET + "/base.json", DEFINITION);
+        final String train = "{\"Steps\": [{\"Name\": \"Train\"}]}";
+        objects.put("/" + BUCKET + "/train.json", train);
+        objects.put("/" + BUCKET + "/eval.json", "{\"Steps\": [{\"Name\": \"Eval\"}]}");
+        final S3Location base = S3Location.builder().bucket(BUCKET).key("base.json").build();
+        final List<S3Location> fragments = Arrays.asList(
+                S3Location.builder().bucket(BUCKET).key("train.json").eTag(eTag(train)).build(),
+                S3Location.builder().bucket(BUCKET).key("eval.json").build());
+        final String merged = "{\"Version\":\"2020-12-01\",\"Steps\":[{\"Name\":\"Train\"},{\"Name\":\"Eval\"}]}";
+
+        assertThat(S3ClientWrapper.getTemplateFromS3(base, fragments, accountId, REGION, clients(), proxy, logger)
+                .getDefinition()).isEqualTo(merged);
+        assertThat(requests).containsExactlyInAnyOrder(
+                "GET /test-bucket/base.json " + REGION,
+                "GET /test-bucket/train.json " + REGION,
+                "GET /test-bucket/eval.json " + REGION);
+
+        // the pinned fragment is served from the cache, the others are revalidated
+        requests.clear();
+        assertThat(S3ClientWrapper.getTemplateFromS3(base, fragments, accountId, REGION, clients(), proxy, logger)
+                .getDefinition()).isEqualTo(merged);
+        assertThat(requests).containsExactlyInAnyOrder(
+                "GET /test-bucket/base.json " + REGION + " If-None-Match",
+                "GET /test-bucket/eval.json " + REGION + " If-None-Match");
+    }
+
+    @Test
+    public void testGetTemplateFromS3_MissingFragment() {
+        objects.put("/" + BUCKET + "/base.json", DEFINITION);
+        final S3Location base = S3Location.builder().bucket(BUCKET).key("base.json").build();
+        final List<S3Location> fragments =
+                Collections.singletonList(S3Location.builder().bucket(BUCKET).key("missing.json").build());
+
+        final CfnInvalidRequestException exception = assertThrows(CfnInvalidRequestException.class,
+                () -> S3ClientWrapper.getTemplateFromS3(base, fragments, accountId, REGION, clients(), proxy, logger));
+
+        assertThat(exception.getMessage()).contains("No such key test-bucket/missing.json");
+    }
+
+    private String getBodyFromS3(final S3Location location) {
+        return S3ClientWrapper.getTemplateFromS3(location, accountId, REGION, clients(), proxy, logger)
+                .getDefinition();
+    }
+
+    private static Function<String, S3Client> clients() {
+        return region -> s3Clients.computeIfAbsent(region,
+                r -> ClientBuilder.s3ClientBuilder(r)
+                        .endpointOverride(URI.create("http://localhost:" + server.getAddress().getPort()))
+                        .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                        .build());
+    }
+
+    private static void handle(final HttpExchange exchange) throws IOException {
+        final String path = exchange.getRequestURI().getPath();
+        // Credential=<access key>/<date>/<region>/s3/aws4_request
+        final String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        final String region = authorization.split("Credential=")[1].split("/")[2];
+        final String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        requests.add(String.format("%s %s %s%s", exchange.getRequestMethod(), path, region,
+                ifNoneMatch == null ? "" : " If-None-Match"));
+
+        final String body = objects.get(path);
+        if (path.startsWith("/" + MOVED_BUCKET + "/") && !MOVED_BUCKET_REGION.equals(region)) {
+            exchange.getResponseHeaders().add("x-amz-bucket-region", MOVED_BUCKET_REGION);
+            respond(exchange, 301, error("PermanentRedirect"));
+        } else if (body == null) {
+            respond(exchange, 404, error("NoSuchKey"));
+        } else if (eTag(body).equals(ifNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+        } else {
+            exchange.getResponseHeaders().add("ETag", eTag(body));
+            respond(exchange, 200, body);
+        }
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final String body) throws IOException {
+        final byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, content.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content);
+        }
+    }
+
+    private static String error(final String code) {
+        return String.format("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<Error><Code>%s</Code><Message>%s</Message></Error>", code, code);
+    }
+
+    private static String eTag(final String body) {
+        try {
+            final StringBuilder eTag = new StringBuilder("\"");
+            for (final byte b : MessageDigest.getInstance("MD5").digest(body.getBytes(StandardCharsets.UTF_8))) {
+                eTag.append(String.format("%02x", b));
+            }
+            return eTag.append('"').toString();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -11,6 +11,10 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
 import software.amazon.awssdk.services.sagemaker.model.DescribePipelineRequest;
 import software.amazon.awssdk.services.sagemaker.model.DescribePipelineResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListPipelineExecutionsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListPipelineExecutionsResponse;
+import software.amazon.awssdk.services.sagemaker.model.PipelineExecutionStatus;
+import software.amazon.awssdk.services.sagemaker.model.PipelineExecutionSummary;
 import software.amazon.awssdk.services.sagemaker.model.ResourceInUseException;
 import software.amazon.awssdk.services.sagemaker.model.ResourceLimitExceededException;
 import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
@@ -19,6 +23,7 @@ import software.amazon.awssdk.services.sagemaker.model.UpdatePipelineRequest;
 import software.amazon.awssdk.services.sagemaker.model.UpdatePipelineResponse;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
 import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -29,12 +34,17 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Slf4j
@@ -89,6 +99,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .pipelineDisplayName(TEST_PIPELINE_DISPLAY_NAME)
                 .pipelineDefinition(PipelineDefinition.builder()
                         .pipelineDefinitionBody(TEST_PIPELINE_DEFINITION).build())
+                .pipelineDefinitionDigest(PipelineDefinitionDigest.of(TEST_PIPELINE_DEFINITION))
                 .roleArn(TEST_ROLE_ARN)
                 .build();
 
@@ -178,6 +189,174 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 validationFailureException.awsErrorDetails().errorMessage()));
     }
 
+    @Test
+    public void testUpdateHandler_UnchangedDefinitionSkipsUpdate() {
+        final String definition =
+                "{\"Version\": \"2020-12-01\", \"Steps\": [{\"Name\": \"a\", \"Type\": \"Training\"}]}";
+        final String reformatted =
+                "{\n  \"Steps\": [{\"Type\": \"Training\", \"Name\": \"a\"}],\n  \"Version\": \"2020-12-01\"\n}";
+        final ResourceModel previousModel = getResourceModel();
+        previousModel.setPipelineDefinition(PipelineDefinition.builder().pipelineDefinitionBody(definition).build());
+        final ResourceModel desiredModel = getResourceModel();
+        desiredModel.setPipelineDefinition(PipelineDefinition.builder().pipelineDefinitionBody(reformatted).build());
+        desiredModel.setTags(Collections.singletonList(Tag.builder().key("key").value("value").build()));
+
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenReturn(describePipelineResponse(definition));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(desiredModel)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(request);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // the deployed definition has the digest of the declared one, which is returned as declared
+        assertThat(response.getResourceModel().getPipelineDefinition().getPipelineDefinitionBody())
+                .isEqualTo(reformatted);
+        assertThat(response.getResourceModel().getPipelineDefinitionDigest())
+                .isEqualTo(PipelineDefinitionDigest.of(definition));
+        verify(sdkClient, never()).updatePipeline(any(UpdatePipelineRequest.class));
+        verify(sdkClient, times(1)).describePipeline(any(DescribePipelineRequest.class));
+    }
+
+    @Test
+    public void testUpdateHandler_UnchangedS3DefinitionComparedWithDescribedPipeline() {
+        final ResourceModel previousModel = getResourceModel();
+        previousModel.setPipelineDefinition(PipelineDefinition.builder()
+                .pipelineDefinitionS3Location(S3Location.builder().bucket("bucket").key("key").build())
+                .build());
+
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenReturn(describePipelineResponse(TEST_PIPELINE_DEFINITION));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(getResourceModel())
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(request);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getPipelineDescription()).isEqualTo(TEST_PIPELINE_DESCRIPTION);
+        verify(sdkClient, never()).updatePipeline(any(UpdatePipelineRequest.class));
+        verify(sdkClient, times(1)).describePipeline(any(DescribePipelineRequest.class));
+    }
+
+    @Test
+    public void testUpdateHandler_ChangedDescriptionUpdates() {
+        final ResourceModel previousModel = getResourceModel();
+        previousModel.setPipelineDescription("previous-description");
+
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenReturn(describePipelineResponse(TEST_PIPELINE_DEFINITION));
+        when(proxyClient.client().updatePipeline(any(UpdatePipelineRequest.class)))
+                .thenReturn(UpdatePipelineResponse.builder().pipelineArn(TEST_PIPELINE_ARN).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .desiredResourceState(getResourceModel())
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(request);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(sdkClient, times(1)).updatePipeline(any(UpdatePipelineRequest.class));
+    }
+
+    @Test
+    public void testUpdateHandler_FailPolicyRejectsRunningExecution() {
+        when(proxyClient.client().listPipelineExecutions(any(ListPipelineExecutionsRequest.class)))
+                .thenReturn(executionsPage("page-2", PipelineExecutionStatus.SUCCEEDED))
+                .thenReturn(executionsPage(null, PipelineExecutionStatus.EXECUTING,
+                        PipelineExecutionStatus.SUCCEEDED));
+
+        final ResourceModel model = getResourceModel();
+        model.setRunningExecutionsPolicy(UpdateHandler.FAIL_ON_EXECUTIONS);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final CallbackContext callbackContext = new CallbackContext();
+        assertThrows(CfnResourceConflictException.class, () -> new UpdateHandler(TEST_STABILIZATION_SCHEDULER)
+                .handleRequest(proxy, request, callbackContext, proxyClient, logger));
+
+        verify(sdkClient, times(2)).listPipelineExecutions(any(ListPipelineExecutionsRequest.class));
+        verify(sdkClient, never()).updatePipeline(any(UpdatePipelineRequest.class));
+        // the scan stops at the running execution, the one after it is not counted
+        assertThat(callbackContext.getStabilizationHistory().getCounters())
+                .containsEntry(UpdateHandler.EXECUTIONS_SCANNED, 2L);
+    }
+
+    @Test
+    public void testUpdateHandler_WaitPolicyUpdatesOnceExecutionsFinish() {
+        when(proxyClient.client().listPipelineExecutions(any(ListPipelineExecutionsRequest.class)))
+                .thenReturn(executionsPage(null, PipelineExecutionStatus.EXECUTING))
+                .thenReturn(executionsPage(null, PipelineExecutionStatus.STOPPING))
+                .thenReturn(executionsPage(null, PipelineExecutionStatus.STOPPED));
+        when(proxyClient.client().updatePipeline(any(UpdatePipelineRequest.class)))
+                .thenReturn(UpdatePipelineResponse.builder().pipelineArn(TEST_PIPELINE_ARN).build());
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenReturn(describePipelineResponse(TEST_PIPELINE_DEFINITION));
+
+        final ResourceModel model = getResourceModel();
+        model.setRunningExecutionsPolicy(UpdateHandler.WAIT_FOR_EXECUTIONS);
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler(TEST_STABILIZATION_SCHEDULER)
+                .handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(sdkClient, times(3)).listPipelineExecutions(any(ListPipelineExecutionsRequest.class));
+        verify(sdkClient, times(1)).updatePipeline(any(UpdatePipelineRequest.class));
+        assertThat(callbackContext.getStabilizationHistory().getCounters())
+                .containsEntry(UpdateHandler.EXECUTIONS_SCANNED, 3L);
+        assertThat(callbackContext.getStabilizationHistory().getStatusMillis())
+                .containsKeys(PipelineExecutionStatus.EXECUTING.toString(),
+                        PipelineExecutionStatus.STOPPING.toString());
+    }
+
+    @Test
+    public void testUpdateHandler_DefaultPolicyDoesNotListExecutions() {
+        when(proxyClient.client().updatePipeline(any(UpdatePipelineRequest.class)))
+                .thenReturn(UpdatePipelineResponse.builder().pipelineArn(TEST_PIPELINE_ARN).build());
+        when(proxyClient.client().describePipeline(any(DescribePipelineRequest.class)))
+                .thenReturn(describePipelineResponse(TEST_PIPELINE_DEFINITION));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(getResourceModel())
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(request);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(sdkClient, never()).listPipelineExecutions(any(ListPipelineExecutionsRequest.class));
+    }
+
+    private static ListPipelineExecutionsResponse executionsPage(
+            final String nextToken, final PipelineExecutionStatus... statuses) {
+        return ListPipelineExecutionsResponse.builder()
+                .pipelineExecutionSummaries(Arrays.stream(statuses)
+                        .map(status -> PipelineExecutionSummary.builder()
+                                .pipelineExecutionArn(TEST_PIPELINE_ARN + "/execution/" + status)
+                                .pipelineExecutionStatus(status)
+                                .build())
+                        .toArray(PipelineExecutionSummary[]::new))
+                .nextToken(nextToken)
+                .build();
+    }
+
+    private static DescribePipelineResponse describePipelineResponse(final String definition) {
+        return DescribePipelineResponse.builder()
+                .pipelineArn(TEST_PIPELINE_ARN)
+                .pipelineName(TEST_PIPELINE_NAME)
+                .pipelineDefinition(definition)
+                .pipelineDescription(TEST_PIPELINE_DESCRIPTION)
+                .roleArn(TEST_ROLE_ARN)
+                .pipelineDisplayName(TEST_PIPELINE_DISPLAY_NAME)
+                .creationTime(Instant.now())
+                .build();
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> invokeHandleRequest(ResourceHandlerRequest<ResourceModel> request) {
         final software.amazon.sagemaker.pipeline.UpdateHandler handler = new UpdateHandler();
         return handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
@@ -1,12 +1,19 @@
 package software.amazon.sagemaker.project;
 
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.sagemaker.common.SageMakerClientProvider;
 
 /**
  * Provides APIs to build service client.
  */
 public class ClientBuilder {
+
+  /**
+   * Returns the client shared by every handler running in this process.
+   *
+   * @return SageMaker client
+   */
   public static SageMakerClient getClient() {
-    return SageMakerClient.builder().build();
+    return SageMakerClientProvider.getClient();
   }
 }
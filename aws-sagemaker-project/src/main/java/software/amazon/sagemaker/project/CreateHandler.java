@@ -18,11 +18,30 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.BackoffProfile;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 public class CreateHandler extends BaseHandlerStd {
 
+    private static final String OPERATION = "AWS-SageMaker-Project::Create";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder()
+            .profile(ProjectStatus.PENDING.toString(), BackoffProfile.SHORT_POLL)
+            .build();
+
+    private final StabilizationScheduler stabilizationScheduler;
+
     private Logger logger;
 
+    public CreateHandler() {
+        this(STABILIZATION_SCHEDULER);
+    }
+
+    public CreateHandler(final StabilizationScheduler stabilizationScheduler) {
+        this.stabilizationScheduler = stabilizationScheduler;
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -35,11 +54,14 @@ public class CreateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
-                        proxy.initiate("AWS-SageMaker-Project::Create", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(Translator::translateToCreateRequest)
-                                .makeServiceCall(this::createProject)
-                                .stabilize(this::stabilizedOnCreate)
-                                .progress()
+                        StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(Translator::translateToCreateRequest)
+                                    .backoffDelay(stabilizationScheduler.delay(callbackContext.getStabilizationHistory()))
+                                    .makeServiceCall(this::createProject)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnCreate))
+                                    .progress())
                 )
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
 
@@ -91,6 +113,7 @@ public class CreateHandler extends BaseHandlerStd {
                 proxyClient.client()::describeProject);
 
         final ProjectStatus projectStatus = response.projectStatus();
+        stabilizationScheduler.observe(callbackContext.getStabilizationHistory(), projectStatus.toString());
 
         switch (projectStatus) {
             case CREATE_COMPLETED:
@@ -19,8 +19,15 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 public class DeleteHandler extends BaseHandlerStd {
+
+    private static final String OPERATION = "AWS-SageMaker-Project::Delete";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -34,11 +41,13 @@ public class DeleteHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
-                        proxy.initiate("AWS-SageMaker-Project::Delete", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(Translator::translateToDeleteRequest)
-                                .makeServiceCall(this::deleteResource)
-                                .stabilize(this::stabilizedOnDelete)
-                                .done(this::checkAndReturnDeleteStatus));
+                        StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(Translator::translateToDeleteRequest)
+                                    .makeServiceCall(this::deleteResource)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnDelete))
+                                    .done(this::checkAndReturnDeleteStatus)));
 
     }
 
@@ -117,6 +126,7 @@ public class DeleteHandler extends BaseHandlerStd {
             DescribeProjectResponse response = proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model),
                     proxyClient.client()::describeProject);
             final ProjectStatus projectStatus = response.projectStatus();
+            STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), projectStatus.toString());
 
             switch (projectStatus) {
                 case DELETE_IN_PROGRESS:
@@ -132,9 +142,11 @@ public class DeleteHandler extends BaseHandlerStd {
                     throw new CfnGeneralServiceException("Delete stabilizing of project: " + model.getProjectName());
             }
         } catch (final ResourceNotFoundException e) {
+            STABILIZATION_SCHEDULER.complete(callbackContext.getStabilizationHistory());
             return true;
         } catch (final SageMakerException e) {
             if (isExceptionFromDeletedProject(e)) {
+                STABILIZATION_SCHEDULER.complete(callbackContext.getStabilizationHistory());
                 return true;
             }
             throw e;
@@ -22,6 +22,12 @@ public class ReadHandler extends BaseHandlerStd {
     private Logger logger;
     private ProxyClient<SageMakerClient> proxyClient;
 
+    @Override
+    protected boolean reschedulesOnThrottle() {
+        // Read has no callbacks, so it still fails when throttled
+        return false;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -4,7 +4,6 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
 import software.amazon.awssdk.services.sagemaker.model.DescribeProjectResponse;
 import software.amazon.awssdk.services.sagemaker.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.sagemaker.model.Tag;
 import software.amazon.cloudformation.Action;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -13,13 +12,12 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import software.amazon.sagemaker.common.TagDiff;
+import software.amazon.sagemaker.common.TagUpdates;
 
 public class UpdateHandler extends BaseHandlerStd {
+    private static final String TAG_OPERATION = "AWS-SageMaker-Project::UpdateTags";
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -34,7 +32,7 @@ public class UpdateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress -> addProjectArnIfNotAvailable(proxyClient, model, callbackContext))
-                .then(progress -> updateTags(proxyClient, model, callbackContext))
+                .then(progress -> updateTags(proxyClient, request, callbackContext))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
@@ -76,14 +74,21 @@ public class UpdateHandler extends BaseHandlerStd {
      * Client invocation of the update tags request through the proxyClient, which is already initialised with
      * caller credentials, region and retry settings
      * @param proxyClient the aws service client to make the call
-     * @param model the resource model
+     * @param request the resource handler request
      * @param callbackContext the call back context
      * @return progressEvent, in progress with delay callback and model state
      */
     private ProgressEvent<ResourceModel, CallbackContext> updateTags(
             final ProxyClient<SageMakerClient> proxyClient,
-            final ResourceModel model,
+            final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext) {
+        final ResourceModel model = request.getDesiredResourceState();
+        if (!TagUpdates.shouldUpdateTags(request,
+                resourceModel -> TagDiff.toMap(Translator.cfnTagsToSdkTags(resourceModel.getTags())))) {
+            // ListTags is only needed to diff tags
+            TagUpdates.recordSkippedCalls(logger, TAG_OPERATION, 1);
+            return ProgressEvent.progress(model, callbackContext);
+        }
         try {
             handleTagging(proxyClient, model);
         } catch (ResourceNotFoundException e) {
@@ -101,19 +106,11 @@ public class UpdateHandler extends BaseHandlerStd {
      */
     private void handleTagging(final ProxyClient<SageMakerClient> proxyClient,
                                final ResourceModel model) {
-        final Set<software.amazon.awssdk.services.sagemaker.model.Tag> newTags = new HashSet<>(Translator.cfnTagsToSdkTags(model.getTags()));
-        final Set<software.amazon.awssdk.services.sagemaker.model.Tag> existingTags
-                = new HashSet<>(proxyClient.injectCredentialsAndInvokeV2(
-                Translator.translateToListTagsRequest(model), proxyClient.client()::listTags).tags());
-
-        final List<String> tagsToRemove = existingTags.stream()
-                .filter(tag -> !newTags.contains(tag))
-                .map(tag -> tag.key())
-                .collect(Collectors.toList());
-        final List<Tag> tagsToAdd = newTags.stream()
-                .filter(tag -> !existingTags.contains(tag))
-                .collect(Collectors.toList());
-        if (false == (tagsToRemove.isEmpty() && tagsToAdd.isEmpty())) {
+        final TagDiff tagDiff = TagDiff.between(
+                proxyClient.injectCredentialsAndInvokeV2(
+                        Translator.translateToListTagsRequest(model), proxyClient.client()::listTags).tags(),
+                Translator.cfnTagsToSdkTags(model.getTags()));
+        if (!tagDiff.isEmpty()) {
             throw new CfnInvalidRequestException("Tag update not supported");
         }
     }
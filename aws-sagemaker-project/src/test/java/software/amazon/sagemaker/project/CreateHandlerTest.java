@@ -414,7 +414,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     }
 
     private ProgressEvent<ResourceModel, software.amazon.sagemaker.project.CallbackContext> invokeHandleRequest(ResourceHandlerRequest<ResourceModel> request) {
-        final software.amazon.sagemaker.project.CreateHandler handler = new software.amazon.sagemaker.project.CreateHandler();
+        final software.amazon.sagemaker.project.CreateHandler handler = new software.amazon.sagemaker.project.CreateHandler(TEST_STABILIZATION_SCHEDULER);
         return handler.handleRequest(proxy, request, new software.amazon.sagemaker.project.CallbackContext(), proxyClient, logger);
     }
 }
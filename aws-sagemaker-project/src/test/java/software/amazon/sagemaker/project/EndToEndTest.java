@@ -0,0 +1,180 @@
+package software.amazon.sagemaker.project;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.ProjectStatus;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.BackoffProfile;
+import software.amazon.sagemaker.common.StabilizationScheduler;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Runs the handlers against the in-memory {@link FakeSageMakerService} instead of call by call mocks.
+ */
+public class EndToEndTest extends AbstractTestBase {
+
+    private FakeSageMakerService service;
+    private FakeSageMakerClient sageMakerClient;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<SageMakerClient> proxyClient;
+    private StabilizationScheduler createScheduler;
+
+    @BeforeEach
+    public void setup() {
+        service = new FakeSageMakerService();
+        sageMakerClient = new FakeSageMakerClient(service);
+        proxy = service.newProxy();
+        proxyClient = proxy.newProxy(() -> sageMakerClient);
+        createScheduler = StabilizationScheduler.builder()
+                .clock(service.clock())
+                .profile(ProjectStatus.PENDING.toString(), BackoffProfile.SHORT_POLL)
+                .build();
+    }
+
+    @Test
+    public void testLifecycle() {
+        final ResourceModel created = run(new CreateHandler(createScheduler), request(desiredModel(), null))
+                .getResourceModel();
+
+        assertThat(created.getProjectArn()).endsWith("project/" + TEST_PROJECT_NAME);
+        assertThat(created.getProjectStatus()).isEqualTo("CreateCompleted");
+        assertThat(created.getServiceCatalogProvisioningDetails())
+                .isEqualTo(desiredModel().getServiceCatalogProvisioningDetails());
+        assertThat(created.getTags()).isEqualTo(TEST_CFN_MODEL_TAGS);
+
+        // Tags are unchanged, so the update only reads the project back
+        final ResourceModel updated = run(new UpdateHandler(), request(desiredModel(), created)).getResourceModel();
+        assertThat(updated.getProjectArn()).isEqualTo(created.getProjectArn());
+        assertThat(service.calls("ListTags")).isEqualTo(2);
+
+        assertThat(run(new ListHandler(), request(ResourceModel.builder().build(), null)).getResourceModels())
+                .extracting(ResourceModel::getProjectName)
+                .containsExactly(TEST_PROJECT_NAME);
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted =
+                run(new DeleteHandler(), request(desiredModel(), null));
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(sageMakerClient.getProjects().describe(TEST_PROJECT_NAME).getStatus())
+                .isEqualTo("DeleteCompleted");
+        assertThrows(CfnNotFoundException.class, () -> run(new ReadHandler(), request(desiredModel(), null)));
+        assertThat(run(new ListHandler(), request(ResourceModel.builder().build(), null)).getResourceModels())
+                .isEmpty();
+    }
+
+    @Test
+    public void testUpdate_TagsChanged() {
+        final ResourceModel created = run(new CreateHandler(createScheduler), request(desiredModel(), null))
+                .getResourceModel();
+        final ResourceModel model = desiredModel();
+        model.setTags(Collections.singletonList(Tag.builder().key("key2").value("value2").build()));
+
+        assertThrows(CfnInvalidRequestException.class, () -> run(new UpdateHandler(), request(model, created)));
+        assertThat(service.tags(created.getProjectArn())).containsOnlyKeys("key1");
+    }
+
+    @Test
+    public void testCreate_AlreadyExists() {
+        run(new CreateHandler(createScheduler), request(desiredModel(), null));
+
+        assertThrows(ResourceAlreadyExistsException.class,
+                () -> run(new CreateHandler(createScheduler), request(desiredModel(), null)));
+    }
+
+    @Test
+    public void testCreate_ThrottledInvocationIsRescheduled() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(desiredModel());
+        final AmazonWebServicesClientProxy entryProxy = entryProxy();
+        service.throttleNextCalls(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> throttled =
+                new CreateHandler(createScheduler).handleRequest(entryProxy, request, null, logger);
+
+        assertThat(throttled.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(throttled.getCallbackDelaySeconds()).isPositive();
+        assertThat(service.throttledCalls()).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress = service.drive(
+                context -> new CreateHandler(createScheduler).handleRequest(entryProxy, request, context, logger),
+                throttled.getCallbackContext());
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(sageMakerClient.getProjects().size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testList_ThrottledInvocationFails() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(ResourceModel.builder().build());
+        service.throttleNextCalls(1);
+
+        assertThrows(CfnThrottlingException.class,
+                () -> new ListHandler().handleRequest(entryProxy(), request, null, logger));
+    }
+
+    /**
+     * A proxy handing the fake client to the handlers' entry point, which builds its proxy client from
+     * {@link ClientBuilder}, so throttles pass through the rate limiter and the reschedule of {@link BaseHandlerStd}.
+     */
+    private AmazonWebServicesClientProxy entryProxy() {
+        final AmazonWebServicesClientProxy entryProxy = spy(proxy);
+        doReturn(proxyClient).when(entryProxy).newProxy(any());
+        return entryProxy;
+    }
+
+    /**
+     * @return a request of its own account, so that the rate limiter buckets of other tests do not interfere
+     */
+    private static ResourceHandlerRequest<ResourceModel> throttledAccountRequest(final ResourceModel desired) {
+        final ResourceHandlerRequest<ResourceModel> request = request(desired, null);
+        request.setAwsAccountId("throttled-" + System.nanoTime());
+        request.setRegion("us-west-2");
+        return request;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request) {
+        return service.drive(context -> handler.handleRequest(proxy, request, context, proxyClient, logger),
+                new CallbackContext());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired,
+                                                                 final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .previousResourceState(previous)
+                .build();
+    }
+
+    private static ResourceModel desiredModel() {
+        return ResourceModel.builder()
+                .projectName(TEST_PROJECT_NAME)
+                .projectDescription("description")
+                .serviceCatalogProvisioningDetails(ServiceCatalogProvisioningDetails.builder()
+                        .productId(TEST_PRODUCT_ID)
+                        .pathId(TEST_PATH_ID)
+                        .provisioningArtifactId(TEST_PROVISIONING_ARTIFACT_ID)
+                        .provisioningParameters(Collections.singletonList(ProvisioningParameter.builder()
+                                .key("key")
+                                .value("value")
+                                .build()))
+                        .build())
+                .tags(TEST_CFN_MODEL_TAGS)
+                .build();
+    }
+}
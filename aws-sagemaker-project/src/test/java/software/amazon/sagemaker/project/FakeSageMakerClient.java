@@ -0,0 +1,95 @@
+package software.amazon.sagemaker.project;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.sagemaker.model.CreateProjectRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateProjectResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteProjectRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteProjectResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeProjectRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeProjectResponse;
+import software.amazon.awssdk.services.sagemaker.model.ListProjectsRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListProjectsResponse;
+import software.amazon.awssdk.services.sagemaker.model.ProjectStatus;
+import software.amazon.awssdk.services.sagemaker.model.ProjectSummary;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for projects: Pending settles into CreateCompleted, DeleteInProgress into DeleteCompleted,
+ * in which deleted projects stay visible like they do in SageMaker.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    static final Duration TRANSITION_TIME = Duration.ofMinutes(1);
+
+    private final FakeResourceTable<DescribeProjectResponse> projects;
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.projects = new FakeResourceTable<>(service, "Project", TRANSITION_TIME);
+    }
+
+    public FakeResourceTable<DescribeProjectResponse> getProjects() {
+        return projects;
+    }
+
+    @Override
+    public CreateProjectResponse createProject(final CreateProjectRequest request) {
+        return service.call("CreateProject", () -> {
+            final String arn = "arn:aws:sagemaker:us-west-2:123456789012:project/" + request.projectName();
+            projects.create(request.projectName(), arn, DescribeProjectResponse.builder()
+                    .projectName(request.projectName())
+                    .projectArn(arn)
+                    .projectId("p-" + Integer.toHexString(request.projectName().hashCode()))
+                    .projectDescription(request.projectDescription())
+                    .serviceCatalogProvisioningDetails(request.serviceCatalogProvisioningDetails())
+                    .build(), ProjectStatus.PENDING.toString(), ProjectStatus.CREATE_COMPLETED.toString());
+            service.tag(arn, tagMap(request.tags()));
+            return CreateProjectResponse.builder()
+                    .projectArn(arn)
+                    .projectId(projects.describe(request.projectName()).getState().projectId())
+                    .build();
+        });
+    }
+
+    @Override
+    public DescribeProjectResponse describeProject(final DescribeProjectRequest request) {
+        return service.call("DescribeProject", () -> toDescribeResponse(projects.describe(request.projectName())));
+    }
+
+    @Override
+    public DeleteProjectResponse deleteProject(final DeleteProjectRequest request) {
+        return service.call("DeleteProject", () -> {
+            projects.delete(request.projectName(), ProjectStatus.DELETE_IN_PROGRESS.toString(),
+                    ProjectStatus.DELETE_COMPLETED.toString());
+            return DeleteProjectResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListProjectsResponse listProjects(final ListProjectsRequest request) {
+        return service.call("ListProjects", () -> ListProjectsResponse.builder()
+                .projectSummaryList(projects.list().stream()
+                        .map(project -> ProjectSummary.builder()
+                                .projectName(project.getName())
+                                .projectArn(project.getArn())
+                                .projectId(project.getState().projectId())
+                                .projectDescription(project.getState().projectDescription())
+                                .projectStatus(project.getStatus())
+                                .creationTime(project.getCreationTime())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    private static DescribeProjectResponse toDescribeResponse(final FakeResource<DescribeProjectResponse> project) {
+        return project.getState().toBuilder()
+                .projectStatus(project.getStatus())
+                .creationTime(project.getCreationTime())
+                .build();
+    }
+}
@@ -14,14 +14,29 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
+import software.amazon.sagemaker.common.DomainPreflight;
 
 public class CreateHandler extends BaseHandlerStd {
 
     private static final String OPERATION = "AWS-SageMaker-Space::Create";
     private static final String READ_ONLY_PROPERTY_ERROR_MESSAGE = "The following property '%s' is not allowed to configured.";
 
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
+    private final DomainPreflight domainPreflight;
+
     private Logger logger;
 
+    public CreateHandler() {
+        this(DomainPreflight.shared());
+    }
+
+    public CreateHandler(final DomainPreflight domainPreflight) {
+        this.domainPreflight = domainPreflight;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -42,12 +57,18 @@ public class CreateHandler extends BaseHandlerStd {
         }
 
         return ProgressEvent.progress(model, callbackContext)
+                .then(progress -> callbackContext.callGraphs().isEmpty()
+                        ? domainPreflight.check(request, model.getDomainId(), proxyClient, progress,
+                                callbackContext.getDomainHistory(), ResourceModel.TYPE_NAME, logger)
+                        : progress)
                 .then(progress ->
-                        proxy.initiate(OPERATION, proxyClient, model, callbackContext)
-                                .translateToServiceRequest(TranslatorForRequest::translateToCreateRequest)
-                                .makeServiceCall(this::createResource)
-                                .stabilize(this::stabilizedOnCreate)
-                                .done(createResponse -> constructResourceModelFromResponse(model, createResponse))
+                        StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(TranslatorForRequest::translateToCreateRequest)
+                                    .makeServiceCall(this::createResource)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnCreate))
+                                    .done(createResponse -> constructResourceModelFromResponse(model, createResponse)))
                 );
     }
 
@@ -105,6 +126,7 @@ public class CreateHandler extends BaseHandlerStd {
             logger.log(String.format("Resource not found for %s, stabilizing.", model.getPrimaryIdentifier()));
             return false;
         }
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), SpaceStatus.toString());
 
         switch (SpaceStatus) {
             case IN_SERVICE:
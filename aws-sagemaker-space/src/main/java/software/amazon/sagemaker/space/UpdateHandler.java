@@ -12,12 +12,29 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.BackoffProfile;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 public class UpdateHandler extends BaseHandlerStd {
 
     private static final String OPERATION = "AWS-SageMaker-Space::Update";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder()
+            .profile(SpaceStatus.PENDING.toString(), BackoffProfile.SHORT_POLL)
+            .build();
+
+    private final StabilizationScheduler stabilizationScheduler;
     private Logger logger;
 
+    public UpdateHandler() {
+        this(STABILIZATION_SCHEDULER);
+    }
+
+    public UpdateHandler(final StabilizationScheduler stabilizationScheduler) {
+        this.stabilizationScheduler = stabilizationScheduler;
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             AmazonWebServicesClientProxy proxy,
@@ -31,11 +48,14 @@ public class UpdateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
-                        proxy.initiate(OPERATION, proxyClient, model, callbackContext)
-                                .translateToServiceRequest(TranslatorForRequest::translateToUpdateRequest)
-                                .makeServiceCall(this::updateResource)
-                                .stabilize(this::stabilizedOnUpdate)
-                                .done(updateResponse -> constructResourceModelFromResponse(model, updateResponse))
+                        StabilizationMetrics.emf(logger).track(OPERATION, callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(TranslatorForRequest::translateToUpdateRequest)
+                                    .backoffDelay(stabilizationScheduler.delay(callbackContext.getStabilizationHistory()))
+                                    .makeServiceCall(this::updateResource)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnUpdate))
+                                    .done(updateResponse -> constructResourceModelFromResponse(model, updateResponse)))
                 );
     }
 
@@ -75,6 +95,7 @@ public class UpdateHandler extends BaseHandlerStd {
         final SpaceStatus spaceStatus = proxyClient.injectCredentialsAndInvokeV2(
                 TranslatorForRequest.translateToReadRequest(model),
                 proxyClient.client()::describeSpace).status();
+        stabilizationScheduler.observe(callbackContext.getStabilizationHistory(), spaceStatus.toString());
 
         switch (spaceStatus) {
             case IN_SERVICE:
@@ -7,7 +7,10 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.sagemaker.common.BackoffProfile;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.function.Function;
 
@@ -27,6 +30,9 @@ public class AbstractTestBase {
     protected static final Instant TEST_TIME = Instant.now();
     protected static final Credentials MOCK_CREDENTIALS;
     protected static final LoggerProxy logger;
+    protected static final StabilizationScheduler TEST_STABILIZATION_SCHEDULER = StabilizationScheduler.builder()
+            .defaultProfile(BackoffProfile.fixed(Duration.ofMillis(1)))
+            .build();
 
     static {
         MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
@@ -0,0 +1,209 @@
+package software.amazon.sagemaker.space;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.SageMakerClient;
+import software.amazon.awssdk.services.sagemaker.model.DomainStatus;
+import software.amazon.awssdk.services.sagemaker.model.SpaceStatus;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.BackoffProfile;
+import software.amazon.sagemaker.common.DomainPreflight;
+import software.amazon.sagemaker.common.StabilizationScheduler;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Runs the handlers against the in-memory {@link FakeSageMakerService} instead of call by call mocks.
+ */
+public class EndToEndTest extends AbstractTestBase {
+
+    private FakeSageMakerService service;
+    private FakeSageMakerClient sageMakerClient;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<SageMakerClient> proxyClient;
+    private DomainPreflight domainPreflight;
+    private StabilizationScheduler updateScheduler;
+
+    @BeforeEach
+    public void setup() {
+        service = new FakeSageMakerService();
+        sageMakerClient = new FakeSageMakerClient(service);
+        sageMakerClient.addDomain(TEST_DOMAIN_ID);
+        sageMakerClient.getDomains().setStatus(TEST_DOMAIN_ID, DomainStatus.IN_SERVICE.toString());
+        proxy = service.newProxy();
+        proxyClient = proxy.newProxy(() -> sageMakerClient);
+        domainPreflight = new DomainPreflight(DomainPreflight.DEFAULT_MAX_AGE, service.clock(),
+                StabilizationScheduler.builder()
+                        .clock(service.clock())
+                        .timeout(Duration.ofMinutes(30))
+                        .profile(DomainStatus.PENDING.toString(), BackoffProfile.LONG_POLL)
+                        .build());
+        updateScheduler = StabilizationScheduler.builder()
+                .clock(service.clock())
+                .profile(SpaceStatus.PENDING.toString(), BackoffProfile.SHORT_POLL)
+                .build();
+    }
+
+    @Test
+    public void testLifecycle() {
+        final ResourceModel created = run(new CreateHandler(domainPreflight), request(desiredModel()))
+                .getResourceModel();
+
+        assertThat(created.getSpaceArn()).endsWith("space/" + TEST_DOMAIN_ID + "/" + TEST_SPACE_NAME);
+        assertThat(sageMakerClient.getSpaces().describe(TEST_DOMAIN_ID + "/" + TEST_SPACE_NAME).getStatus())
+                .isEqualTo("InService");
+        assertThat(service.tags(created.getSpaceArn())).containsEntry("key", "value");
+        assertThat(domainPreflight.getDescribes()).isEqualTo(1);
+
+        final ResourceModel updatedModel = desiredModel();
+        updatedModel.setSpaceSettings(SpaceSettings.builder()
+                .jupyterServerAppSettings(JupyterServerAppSettings.builder()
+                        .defaultResourceSpec(ResourceSpec.builder().instanceType("ml.t3.large").build())
+                        .build())
+                .build());
+        run(new UpdateHandler(updateScheduler), request(updatedModel));
+
+        final ResourceModel read = run(new ReadHandler(), request(updatedModel)).getResourceModel();
+        assertThat(read.getSpaceSettings()).isEqualTo(updatedModel.getSpaceSettings());
+
+        assertThat(run(new ListHandler(), request(ResourceModel.builder().build())).getResourceModels())
+                .extracting(ResourceModel::getSpaceName)
+                .containsExactly(TEST_SPACE_NAME);
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = run(new DeleteHandler(), request(read));
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThrows(CfnNotFoundException.class, () -> run(new ReadHandler(), request(read)));
+        assertThat(service.callCounts())
+                .containsEntry("CreateSpace", 1L)
+                .containsEntry("UpdateSpace", 1L)
+                .containsEntry("DeleteSpace", 1L);
+    }
+
+    @Test
+    public void testCreate_HeldWhileDomainPending() {
+        sageMakerClient.getDomains().remove(TEST_DOMAIN_ID);
+        sageMakerClient.addDomain(TEST_DOMAIN_ID);
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress =
+                run(new CreateHandler(domainPreflight), request(desiredModel()));
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(service.now()).isAfterOrEqualTo(
+                sageMakerClient.getDomains().describe(TEST_DOMAIN_ID).getCreationTime()
+                        .plus(FakeSageMakerClient.DOMAIN_TRANSITION_TIME));
+        assertThat(service.handlerInvocations()).isGreaterThan(1);
+        assertThat(service.calls("DescribeDomain")).isEqualTo(domainPreflight.getDescribes());
+        assertThat(service.calls("CreateSpace")).isEqualTo(1);
+    }
+
+    @Test
+    public void testCreate_DomainNotFound() {
+        final ResourceModel model = desiredModel();
+        model.setDomainId("d-missing");
+
+        assertThrows(CfnInvalidRequestException.class,
+                () -> run(new CreateHandler(domainPreflight), request(model)));
+        assertThat(service.calls("CreateSpace")).isZero();
+    }
+
+    @Test
+    public void testCreate_AlreadyExists() {
+        run(new CreateHandler(domainPreflight), request(desiredModel()));
+
+        assertThrows(ResourceAlreadyExistsException.class,
+                () -> run(new CreateHandler(domainPreflight), request(desiredModel())));
+    }
+
+    @Test
+    public void testCreate_ThrottledInvocationIsRescheduled() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(desiredModel());
+        final AmazonWebServicesClientProxy entryProxy = entryProxy();
+        service.throttleNextCalls(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> throttled =
+                new CreateHandler(domainPreflight).handleRequest(entryProxy, request, null, logger);
+
+        assertThat(throttled.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(throttled.getCallbackDelaySeconds()).isPositive();
+        assertThat(service.throttledCalls()).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> progress = service.drive(
+                context -> new CreateHandler(domainPreflight).handleRequest(entryProxy, request, context, logger),
+                throttled.getCallbackContext());
+
+        assertThat(progress.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(service.calls("CreateSpace")).isEqualTo(1);
+    }
+
+    @Test
+    public void testList_ThrottledInvocationFails() {
+        final ResourceHandlerRequest<ResourceModel> request = throttledAccountRequest(ResourceModel.builder().build());
+        service.throttleNextCalls(1);
+
+        assertThrows(CfnThrottlingException.class,
+                () -> new ListHandler().handleRequest(entryProxy(), request, null, logger));
+    }
+
+    /**
+     * A proxy handing the fake client to the handlers' entry point, which builds its proxy client from
+     * {@link ClientBuilder}, so throttles pass through the rate limiter and the reschedule of {@link BaseHandlerStd}.
+     */
+    private AmazonWebServicesClientProxy entryProxy() {
+        final AmazonWebServicesClientProxy entryProxy = spy(proxy);
+        doReturn(proxyClient).when(entryProxy).newProxy(any());
+        return entryProxy;
+    }
+
+    /**
+     * @return a request of its own account, so that the rate limiter buckets of other tests do not interfere
+     */
+    private static ResourceHandlerRequest<ResourceModel> throttledAccountRequest(final ResourceModel desired) {
+        final ResourceHandlerRequest<ResourceModel> request = request(desired);
+        request.setAwsAccountId("throttled-" + System.nanoTime());
+        request.setRegion("us-west-2");
+        return request;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request) {
+        return service.drive(context -> handler.handleRequest(proxy, request, context, proxyClient, logger),
+                new CallbackContext());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(desired)
+                .awsAccountId("123456789012")
+                .region("us-west-2")
+                .build();
+    }
+
+    private static ResourceModel desiredModel() {
+        return ResourceModel.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .spaceName(TEST_SPACE_NAME)
+                .spaceSettings(SpaceSettings.builder()
+                        .jupyterServerAppSettings(JupyterServerAppSettings.builder()
+                                .defaultResourceSpec(ResourceSpec.builder().instanceType("ml.t3.medium").build())
+                                .build())
+                        .build())
+                .tags(Collections.singletonList(Tag.builder().key("key").value("value").build()))
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package software.amazon.sagemaker.space;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.sagemaker.model.CreateSpaceRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateSpaceResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteSpaceRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteSpaceResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDomainRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDomainResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeSpaceRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeSpaceResponse;
+import software.amazon.awssdk.services.sagemaker.model.DomainStatus;
+import software.amazon.awssdk.services.sagemaker.model.ListSpacesRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListSpacesResponse;
+import software.amazon.awssdk.services.sagemaker.model.SpaceDetails;
+import software.amazon.awssdk.services.sagemaker.model.SpaceStatus;
+import software.amazon.awssdk.services.sagemaker.model.UpdateSpaceRequest;
+import software.amazon.awssdk.services.sagemaker.model.UpdateSpaceResponse;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for spaces in the domains added with {@link #addDomain(String)}: a domain is Pending until
+ * InService, a space Pending or Updating until InService and Deleting until not found.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    static final Duration DOMAIN_TRANSITION_TIME = Duration.ofMinutes(5);
+    static final Duration TRANSITION_TIME = Duration.ofSeconds(30);
+
+    private final FakeResourceTable<String> domains;
+    private final FakeResourceTable<DescribeSpaceResponse> spaces;
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.domains = new FakeResourceTable<>(service, "Domain", DOMAIN_TRANSITION_TIME);
+        this.spaces = new FakeResourceTable<>(service, "Space", TRANSITION_TIME);
+    }
+
+    public FakeResourceTable<String> getDomains() {
+        return domains;
+    }
+
+    public FakeResourceTable<DescribeSpaceResponse> getSpaces() {
+        return spaces;
+    }
+
+    /**
+     * Adds a domain that is Pending until InService after {@link #DOMAIN_TRANSITION_TIME}.
+     */
+    public void addDomain(final String domainId) {
+        domains.create(domainId, "arn:aws:sagemaker:us-west-2:123456789012:domain/" + domainId, domainId,
+                DomainStatus.PENDING.toString(), DomainStatus.IN_SERVICE.toString());
+    }
+
+    @Override
+    public DescribeDomainResponse describeDomain(final DescribeDomainRequest request) {
+        return service.call("DescribeDomain", () -> {
+            final FakeResource<String> domain = domains.describe(request.domainId());
+            return DescribeDomainResponse.builder()
+                    .domainId(domain.getName())
+                    .domainArn(domain.getArn())
+                    .status(domain.getStatus())
+                    .build();
+        });
+    }
+
+    @Override
+    public CreateSpaceResponse createSpace(final CreateSpaceRequest request) {
+        return service.call("CreateSpace", () -> {
+            domains.describe(request.domainId());
+            final String arn = String.format("arn:aws:sagemaker:us-west-2:123456789012:space/%s/%s",
+                    request.domainId(), request.spaceName());
+            spaces.create(key(request.domainId(), request.spaceName()), arn, DescribeSpaceResponse.builder()
+                    .domainId(request.domainId())
+                    .spaceName(request.spaceName())
+                    .spaceArn(arn)
+                    .spaceSettings(request.spaceSettings())
+                    .build(), SpaceStatus.PENDING.toString(), SpaceStatus.IN_SERVICE.toString());
+            service.tag(arn, tagMap(request.tags()));
+            return CreateSpaceResponse.builder().spaceArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeSpaceResponse describeSpace(final DescribeSpaceRequest request) {
+        return service.call("DescribeSpace", () ->
+                toDescribeResponse(spaces.describe(key(request.domainId(), request.spaceName()))));
+    }
+
+    @Override
+    public UpdateSpaceResponse updateSpace(final UpdateSpaceRequest request) {
+        return service.call("UpdateSpace", () -> {
+            final FakeResource<DescribeSpaceResponse> space = spaces.update(
+                    key(request.domainId(), request.spaceName()),
+                    state -> state.toBuilder().spaceSettings(request.spaceSettings()).build(),
+                    SpaceStatus.UPDATING.toString(), SpaceStatus.IN_SERVICE.toString());
+            return UpdateSpaceResponse.builder().spaceArn(space.getArn()).build();
+        });
+    }
+
+    @Override
+    public DeleteSpaceResponse deleteSpace(final DeleteSpaceRequest request) {
+        return service.call("DeleteSpace", () -> {
+            spaces.delete(key(request.domainId(), request.spaceName()), SpaceStatus.DELETING.toString(), null);
+            return DeleteSpaceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListSpacesResponse listSpaces(final ListSpacesRequest request) {
+        return service.call("ListSpaces", () -> ListSpacesResponse.builder()
+                .spaces(spaces.list().stream()
+                        .filter(space -> request.domainIdEquals() == null
+                                || request.domainIdEquals().equals(space.getState().domainId()))
+                        .map(space -> SpaceDetails.builder()
+                                .domainId(space.getState().domainId())
+                                .spaceName(space.getState().spaceName())
+                                .status(space.getStatus())
+                                .creationTime(space.getCreationTime())
+                                .lastModifiedTime(space.getLastModifiedTime())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    private static String key(final String domainId, final String name) {
+        return domainId + "/" + name;
+    }
+
+    private static DescribeSpaceResponse toDescribeResponse(final FakeResource<DescribeSpaceResponse> space) {
+        return space.getState().toBuilder()
+                .status(space.getStatus())
+                .creationTime(space.getCreationTime())
+                .lastModifiedTime(space.getLastModifiedTime())
+                .build();
+    }
+}
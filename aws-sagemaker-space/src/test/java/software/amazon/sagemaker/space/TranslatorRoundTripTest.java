@@ -0,0 +1,94 @@
+package software.amazon.sagemaker.space;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.model.CreateSpaceRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeSpaceResponse;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Translates a model into a create request and the describe response SageMaker would answer with back into a model.
+ */
+public class TranslatorRoundTripTest extends AbstractTestBase {
+
+    @Test
+    public void testRoundTrip_AllSettings() {
+        final ResourceSpec resourceSpec = ResourceSpec.builder()
+                .instanceType(TEST_INSTANCE_TYPE)
+                .sageMakerImageArn(TEST_IMAGE_ARN)
+                .sageMakerImageVersionArn(TEST_IMAGE_VERSION_ARN)
+                .build();
+        final SpaceSettings spaceSettings = SpaceSettings.builder()
+                .jupyterServerAppSettings(JupyterServerAppSettings.builder()
+                        .defaultResourceSpec(resourceSpec)
+                        .build())
+                .kernelGatewayAppSettings(KernelGatewayAppSettings.builder()
+                        .defaultResourceSpec(resourceSpec)
+                        .customImages(Collections.singletonList(CustomImage.builder()
+                                .appImageConfigName(TEST_APP_IMAGE_CONFIG_NAME)
+                                .imageName(TEST_IMAGE_NAME)
+                                .imageVersionNumber(TEST_IMAGE_VERSION_NUMBER)
+                                .build()))
+                        .build())
+                .build();
+
+        final ResourceModel translated = roundTrip(ResourceModel.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .spaceName(TEST_SPACE_NAME)
+                .spaceSettings(spaceSettings)
+                .build());
+
+        assertThat(translated.getSpaceSettings()).isEqualTo(spaceSettings);
+        assertThat(translated.getSpaceArn()).isEqualTo(TEST_SPACE_ARN);
+    }
+
+    @Test
+    public void testRoundTrip_OptionalSettingsOmitted() {
+        final ResourceModel translated = roundTrip(ResourceModel.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .spaceName(TEST_SPACE_NAME)
+                .spaceSettings(SpaceSettings.builder()
+                        .jupyterServerAppSettings(JupyterServerAppSettings.builder().build())
+                        .kernelGatewayAppSettings(KernelGatewayAppSettings.builder().build())
+                        .build())
+                .build());
+
+        assertThat(translated.getSpaceSettings().getJupyterServerAppSettings().getDefaultResourceSpec()).isNull();
+        assertThat(translated.getSpaceSettings().getKernelGatewayAppSettings().getDefaultResourceSpec()).isNull();
+        assertThat(translated.getSpaceSettings().getKernelGatewayAppSettings().getCustomImages()).isNull();
+    }
+
+    @Test
+    public void testRoundTrip_EmptySettings() {
+        final ResourceModel translated = roundTrip(ResourceModel.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .spaceName(TEST_SPACE_NAME)
+                .spaceSettings(SpaceSettings.builder().build())
+                .build());
+
+        assertThat(translated.getSpaceSettings().getJupyterServerAppSettings()).isNull();
+        assertThat(translated.getSpaceSettings().getKernelGatewayAppSettings()).isNull();
+    }
+
+    @Test
+    public void testRoundTrip_NoSettings() {
+        final ResourceModel translated = roundTrip(ResourceModel.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .spaceName(TEST_SPACE_NAME)
+                .build());
+
+        assertThat(translated.getSpaceSettings()).isNull();
+    }
+
+    private static ResourceModel roundTrip(final ResourceModel model) {
+        final CreateSpaceRequest request = TranslatorForRequest.translateToCreateRequest(model);
+        return TranslatorForResponse.translateFromReadResponse(DescribeSpaceResponse.builder()
+                .spaceArn(TEST_SPACE_ARN)
+                .domainId(request.domainId())
+                .spaceName(request.spaceName())
+                .spaceSettings(request.spaceSettings())
+                .build());
+    }
+}
@@ -223,7 +223,7 @@ public class UpdateHandlerTest extends software.amazon.sagemaker.space.AbstractT
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> invokeHandleRequest(ResourceHandlerRequest<ResourceModel> request) {
-        final UpdateHandler handler = new UpdateHandler();
+        final UpdateHandler handler = new UpdateHandler(TEST_STABILIZATION_SCHEDULER);
         return handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
     }
 }
\ No newline at end of file
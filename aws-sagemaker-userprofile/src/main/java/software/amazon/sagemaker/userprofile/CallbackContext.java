@@ -1,10 +1,13 @@
 package software.amazon.sagemaker.userprofile;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.sagemaker.common.StabilizationHistory;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    private StabilizationHistory domainHistory = new StabilizationHistory();
+    private StabilizationHistory stabilizationHistory = new StabilizationHistory();
 }
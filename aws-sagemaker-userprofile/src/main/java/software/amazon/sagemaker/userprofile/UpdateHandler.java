@@ -12,10 +12,15 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.StabilizationMetrics;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
 public class UpdateHandler extends BaseHandlerStd {
 
     private static final String OPERATION = "AWS-SageMaker-UserProfile::Update";
+
+    private static final StabilizationScheduler STABILIZATION_SCHEDULER = StabilizationScheduler.builder().build();
+
     private Logger logger;
 
     @Override
@@ -31,11 +36,14 @@ public class UpdateHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
-                        proxy.initiate(OPERATION, proxyClient, model, callbackContext)
-                                .translateToServiceRequest(TranslatorForRequest::translateToUpdateRequest)
-                                .makeServiceCall(this::updateResource)
-                                .stabilize(this::stabilizedOnUpdate)
-                                .done(updateResponse -> constructResourceModelFromResponse(model, updateResponse))
+                        StabilizationMetrics.emf(logger).track(OPERATION,
+                                callbackContext.getStabilizationHistory(), () ->
+                            proxy.initiate(OPERATION, proxyClient, model, callbackContext)
+                                    .translateToServiceRequest(TranslatorForRequest::translateToUpdateRequest)
+                                    .makeServiceCall(this::updateResource)
+                                    .stabilize(StabilizationMetrics.countThrottles(
+                                            callbackContext.getStabilizationHistory(), this::stabilizedOnUpdate))
+                                    .done(updateResponse -> constructResourceModelFromResponse(model, updateResponse)))
                 );
     }
 
@@ -75,6 +83,7 @@ public class UpdateHandler extends BaseHandlerStd {
         final UserProfileStatus UserProfileState = proxyClient.injectCredentialsAndInvokeV2(
                 TranslatorForRequest.translateToReadRequest(model),
                 proxyClient.client()::describeUserProfile).status();
+        STABILIZATION_SCHEDULER.observe(callbackContext.getStabilizationHistory(), UserProfileState.toString());
 
         switch (UserProfileState) {
             case IN_SERVICE:
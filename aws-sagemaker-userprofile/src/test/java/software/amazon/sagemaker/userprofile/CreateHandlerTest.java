@@ -10,8 +10,11 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.sagemaker.SageMakerClient;
 import software.amazon.awssdk.services.sagemaker.model.CreateUserProfileRequest;
 import software.amazon.awssdk.services.sagemaker.model.CreateUserProfileResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDomainRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDomainResponse;
 import software.amazon.awssdk.services.sagemaker.model.DescribeUserProfileRequest;
 import software.amazon.awssdk.services.sagemaker.model.DescribeUserProfileResponse;
+import software.amazon.awssdk.services.sagemaker.model.DomainStatus;
 import software.amazon.awssdk.services.sagemaker.model.ResourceInUseException;
 import software.amazon.awssdk.services.sagemaker.model.ResourceLimitExceededException;
 import software.amazon.awssdk.services.sagemaker.model.SageMakerException;
@@ -20,6 +23,7 @@ import software.amazon.cloudformation.Action;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
 import software.amazon.cloudformation.exceptions.ResourceAlreadyExistsException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -28,13 +32,19 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.sagemaker.common.DomainPreflight;
+import software.amazon.sagemaker.common.StabilizationScheduler;
 
+import java.time.Clock;
 import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,11 +64,17 @@ public class CreateHandlerTest extends software.amazon.sagemaker.userprofile.Abs
     @Mock
     SageMakerClient sdkClient;
 
+    private DomainPreflight domainPreflight;
+
     @BeforeEach
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         sdkClient = mock(SageMakerClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
+        domainPreflight = new DomainPreflight(DomainPreflight.DEFAULT_MAX_AGE, Clock.systemUTC(),
+                StabilizationScheduler.builder().build());
+        lenient().when(sdkClient.describeDomain(any(DescribeDomainRequest.class)))
+                .thenReturn(DescribeDomainResponse.builder().status(DomainStatus.IN_SERVICE).build());
     }
 
     @Test
@@ -290,8 +306,40 @@ public class CreateHandlerTest extends software.amazon.sagemaker.userprofile.Abs
                 isEqualTo(String.format(HandlerErrorCode.NotStabilized.getMessage(), ResourceModel.TYPE_NAME, TEST_USER_PROFILE_NAME));
     }
 
+    @Test
+    public void testCreateHandler_HeldWhileDomainPending() {
+        when(proxyClient.client().describeDomain(any(DescribeDomainRequest.class)))
+                .thenReturn(DescribeDomainResponse.builder().status(DomainStatus.PENDING).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(REQUEST_MODEL)
+                .build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = invokeHandleRequest(request);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isPositive();
+        assertThat(response.getCallbackContext().getDomainHistory().getStatus())
+                .isEqualTo(DomainStatus.PENDING.toString());
+        verify(sdkClient, never()).createUserProfile(any(CreateUserProfileRequest.class));
+    }
+
+    @Test
+    public void testCreateHandler_FailsWhileDomainDeleting() {
+        when(proxyClient.client().describeDomain(any(DescribeDomainRequest.class)))
+                .thenReturn(DescribeDomainResponse.builder().status(DomainStatus.DELETING).build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(REQUEST_MODEL)
+                .build();
+
+        Exception exception = assertThrows(CfnResourceConflictException.class, () -> invokeHandleRequest(request));
+
+        assertThat(exception.getMessage()).contains("Domain " + TEST_DOMAIN_ID + " is Deleting");
+        verify(sdkClient, never()).createUserProfile(any(CreateUserProfileRequest.class));
+    }
+
     private ProgressEvent<ResourceModel, CallbackContext> invokeHandleRequest(ResourceHandlerRequest<ResourceModel> request) {
-        final CreateHandler handler = new CreateHandler();
+        final CreateHandler handler = new CreateHandler(domainPreflight);
         return handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
     }
 }
\ No newline at end of file
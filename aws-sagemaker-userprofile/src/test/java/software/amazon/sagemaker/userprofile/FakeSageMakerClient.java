@@ -0,0 +1,147 @@
+package software.amazon.sagemaker.userprofile;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.services.sagemaker.model.CreateUserProfileRequest;
+import software.amazon.awssdk.services.sagemaker.model.CreateUserProfileResponse;
+import software.amazon.awssdk.services.sagemaker.model.DeleteUserProfileRequest;
+import software.amazon.awssdk.services.sagemaker.model.DeleteUserProfileResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDomainRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeDomainResponse;
+import software.amazon.awssdk.services.sagemaker.model.DescribeUserProfileRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeUserProfileResponse;
+import software.amazon.awssdk.services.sagemaker.model.DomainStatus;
+import software.amazon.awssdk.services.sagemaker.model.ListUserProfilesRequest;
+import software.amazon.awssdk.services.sagemaker.model.ListUserProfilesResponse;
+import software.amazon.awssdk.services.sagemaker.model.UserProfileDetails;
+import software.amazon.awssdk.services.sagemaker.model.UserProfileStatus;
+import software.amazon.awssdk.services.sagemaker.model.UpdateUserProfileRequest;
+import software.amazon.awssdk.services.sagemaker.model.UpdateUserProfileResponse;
+import software.amazon.sagemaker.common.fake.AbstractFakeSageMakerClient;
+import software.amazon.sagemaker.common.fake.FakeResource;
+import software.amazon.sagemaker.common.fake.FakeResourceTable;
+import software.amazon.sagemaker.common.fake.FakeSageMakerService;
+
+/**
+ * Fake SageMaker client for user profiles in the domains added with {@link #addDomain(String)}: a domain is Pending
+ * until InService, a user profile Pending or Updating until InService and Deleting until not found.
+ */
+public class FakeSageMakerClient extends AbstractFakeSageMakerClient {
+
+    static final Duration DOMAIN_TRANSITION_TIME = Duration.ofMinutes(5);
+    static final Duration TRANSITION_TIME = Duration.ofSeconds(30);
+
+    private final FakeResourceTable<String> domains;
+    private final FakeResourceTable<DescribeUserProfileResponse> userProfiles;
+
+    public FakeSageMakerClient(final FakeSageMakerService service) {
+        super(service);
+        this.domains = new FakeResourceTable<>(service, "Domain", DOMAIN_TRANSITION_TIME);
+        this.userProfiles = new FakeResourceTable<>(service, "UserProfile", TRANSITION_TIME);
+    }
+
+    public FakeResourceTable<String> getDomains() {
+        return domains;
+    }
+
+    public FakeResourceTable<DescribeUserProfileResponse> getUserProfiles() {
+        return userProfiles;
+    }
+
+    /**
+     * Adds a domain that is Pending until InService after {@link #DOMAIN_TRANSITION_TIME}.
+     */
+    public void addDomain(final String domainId) {
+        domains.create(domainId, "arn:aws:sagemaker:us-west-2:123456789012:domain/" + domainId, domainId,
+                DomainStatus.PENDING.toString(), DomainStatus.IN_SERVICE.toString());
+    }
+
+    @Override
+    public DescribeDomainResponse describeDomain(final DescribeDomainRequest request) {
+        return service.call("DescribeDomain", () -> {
+            final FakeResource<String> domain = domains.describe(request.domainId());
+            return DescribeDomainResponse.builder()
+                    .domainId(domain.getName())
+                    .domainArn(domain.getArn())
+                    .status(domain.getStatus())
+                    .build();
+        });
+    }
+
+    @Override
+    public CreateUserProfileResponse createUserProfile(final CreateUserProfileRequest request) {
+        return service.call("CreateUserProfile", () -> {
+            domains.describe(request.domainId());
+            final String arn = String.format("arn:aws:sagemaker:us-west-2:123456789012:user-profile/%s/%s",
+                    request.domainId(), request.userProfileName());
+            userProfiles.create(key(request.domainId(), request.userProfileName()), arn, DescribeUserProfileResponse
+                    .builder()
+                    .domainId(request.domainId())
+                    .userProfileName(request.userProfileName())
+                    .userProfileArn(arn)
+                    .singleSignOnUserIdentifier(request.singleSignOnUserIdentifier())
+                    .singleSignOnUserValue(request.singleSignOnUserValue())
+                    .userSettings(request.userSettings())
+                    .build(), UserProfileStatus.PENDING.toString(), UserProfileStatus.IN_SERVICE.toString());
+            service.tag(arn, tagMap(request.tags()));
+            return CreateUserProfileResponse.builder().userProfileArn(arn).build();
+        });
+    }
+
+    @Override
+    public DescribeUserProfileResponse describeUserProfile(final DescribeUserProfileRequest request) {
+        return service.call("DescribeUserProfile", () ->
+                toDescribeResponse(userProfiles.describe(key(request.domainId(), request.userProfileName()))));
+    }
+
+    @Override
+    public UpdateUserProfileResponse updateUserProfile(final UpdateUserProfileRequest request) {
+        return service.call("UpdateUserProfile", () -> {
+            final FakeResource<DescribeUserProfileResponse> userProfile = userProfiles.update(
+                    key(request.domainId(), request.userProfileName()),
+                    state -> state.toBuilder().userSettings(request.userSettings()).build(),
+                    UserProfileStatus.UPDATING.toString(), UserProfileStatus.IN_SERVICE.toString());
+            return UpdateUserProfileResponse.builder().userProfileArn(userProfile.getArn()).build();
+        });
+    }
+
+    @Override
+    public DeleteUserProfileResponse deleteUserProfile(final DeleteUserProfileRequest request) {
+        return service.call("DeleteUserProfile", () -> {
+            userProfiles.delete(key(request.domainId(), request.userProfileName()),
+                    UserProfileStatus.DELETING.toString(), null);
+            return DeleteUserProfileResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListUserProfilesResponse listUserProfiles(final ListUserProfilesRequest request) {
+        return service.call("ListUserProfiles", () -> ListUserProfilesResponse.builder()
+                .userProfiles(userProfiles.list().stream()
+                        .filter(userProfile -> request.domainIdEquals() == null
+                                || request.domainIdEquals().equals(userProfile.getState().domainId()))
+                        .map(userProfile -> UserProfileDetails.builder()
+                                .domainId(userProfile.getState().domainId())
+                                .userProfileName(userProfile.getState().userProfileName())
+                                .status(userProfile.getStatus())
+                                .creationTime(userProfile.getCreationTime())
+                                .lastModifiedTime(userProfile.getLastModifiedTime())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build());
+    }
+
+    private static String key(final String domainId, final String name) {
+        return domainId + "/" + name;
+    }
+
+    private static DescribeUserProfileResponse toDescribeResponse(
+            final FakeResource<DescribeUserProfileResponse> userProfile) {
+        return userProfile.getState().toBuilder()
+                .status(userProfile.getStatus())
+                .creationTime(userProfile.getCreationTime())
+                .lastModifiedTime(userProfile.getLastModifiedTime())
+                .build();
+    }
+}
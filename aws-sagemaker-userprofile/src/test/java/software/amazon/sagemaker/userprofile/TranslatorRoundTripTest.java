@@ -0,0 +1,109 @@
+package software.amazon.sagemaker.userprofile;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sagemaker.model.CreateUserProfileRequest;
+import software.amazon.awssdk.services.sagemaker.model.DescribeUserProfileResponse;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Translates a model into a create request and the describe response SageMaker would answer with back into a model.
+ */
+public class TranslatorRoundTripTest extends AbstractTestBase {
+
+    @Test
+    public void testRoundTrip_AllSettings() {
+        final ResourceSpec resourceSpec = ResourceSpec.builder()
+                .instanceType(TEST_INSTANCE_TYPE)
+                .sageMakerImageArn(TEST_IMAGE_ARN)
+                .sageMakerImageVersionArn(TEST_IMAGE_VERSION_ARN)
+                .build();
+        final UserSettings userSettings = UserSettings.builder()
+                .executionRole(TEST_ROLE)
+                .securityGroups(Collections.singletonList(TEST_SECURITY_GROUP))
+                .sharingSettings(SharingSettings.builder()
+                        .notebookOutputOption(TEST_NB_OUTPUT)
+                        .s3KmsKeyId(TEST_S3_KMS)
+                        .s3OutputPath(TEST_S3_OUTPUT)
+                        .build())
+                .jupyterServerAppSettings(JupyterServerAppSettings.builder()
+                        .defaultResourceSpec(resourceSpec)
+                        .build())
+                .kernelGatewayAppSettings(KernelGatewayAppSettings.builder()
+                        .defaultResourceSpec(resourceSpec)
+                        .customImages(Collections.singletonList(CustomImage.builder()
+                                .appImageConfigName(TEST_APP_IMAGE_CONFIG_NAME)
+                                .imageName(TEST_IMAGE_NAME)
+                                .imageVersionNumber(TEST_IMAGE_VERSION_NUMBER)
+                                .build()))
+                        .build())
+                .build();
+
+        final ResourceModel translated = roundTrip(ResourceModel.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .userProfileName(TEST_USER_PROFILE_NAME)
+                .singleSignOnUserIdentifier(TEST_SSO_ID)
+                .singleSignOnUserValue(TEST_SSO_VALUE)
+                .userSettings(userSettings)
+                .build());
+
+        assertThat(translated.getUserSettings()).isEqualTo(userSettings);
+        assertThat(translated.getSingleSignOnUserIdentifier()).isEqualTo(TEST_SSO_ID);
+        assertThat(translated.getUserProfileArn()).isEqualTo(TEST_USER_PROFILE_ARN);
+    }
+
+    @Test
+    public void testRoundTrip_OptionalSettingsOmitted() {
+        final ResourceModel translated = roundTrip(ResourceModel.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .userProfileName(TEST_USER_PROFILE_NAME)
+                .userSettings(UserSettings.builder()
+                        .jupyterServerAppSettings(JupyterServerAppSettings.builder().build())
+                        .kernelGatewayAppSettings(KernelGatewayAppSettings.builder().build())
+                        .build())
+                .build());
+
+        final UserSettings userSettings = translated.getUserSettings();
+        assertThat(userSettings.getSecurityGroups()).isNull();
+        assertThat(userSettings.getSharingSettings()).isNull();
+        assertThat(userSettings.getJupyterServerAppSettings().getDefaultResourceSpec()).isNull();
+        assertThat(userSettings.getKernelGatewayAppSettings().getDefaultResourceSpec()).isNull();
+        assertThat(userSettings.getKernelGatewayAppSettings().getCustomImages()).isNull();
+    }
+
+    @Test
+    public void testRoundTrip_EmptySettings() {
+        final ResourceModel translated = roundTrip(ResourceModel.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .userProfileName(TEST_USER_PROFILE_NAME)
+                .userSettings(UserSettings.builder().build())
+                .build());
+
+        assertThat(translated.getUserSettings().getJupyterServerAppSettings()).isNull();
+        assertThat(translated.getUserSettings().getKernelGatewayAppSettings()).isNull();
+    }
+
+    @Test
+    public void testRoundTrip_NoSettings() {
+        final ResourceModel translated = roundTrip(ResourceModel.builder()
+                .domainId(TEST_DOMAIN_ID)
+                .userProfileName(TEST_USER_PROFILE_NAME)
+                .build());
+
+        assertThat(translated.getUserSettings()).isNull();
+    }
+
+    private static ResourceModel roundTrip(final ResourceModel model) {
+        final CreateUserProfileRequest request = TranslatorForRequest.translateToCreateRequest(model);
+        return TranslatorForResponse.translateFromReadResponse(DescribeUserProfileResponse.builder()
+                .userProfileArn(TEST_USER_PROFILE_ARN)
+                .domainId(request.domainId())
+                .userProfileName(request.userProfileName())
+                .singleSignOnUserIdentifier(request.singleSignOnUserIdentifier())
+                .singleSignOnUserValue(request.singleSignOnUserValue())
+                .userSettings(request.userSettings())
+                .build());
+    }
+}